@@ -0,0 +1,61 @@
+-- Migrazione una tantum degli oggetti di supporto alle prestazioni sulle tabelle Issue e Project.
+-- Da eseguire a mano, una volta per database e fuori dall'avvio dell'applicazione:
+--
+--     psql "$DATABASE_URL" -f backend/db/performance-migration.sql
+--
+-- Le istruzioni sono idempotenti, ma non vanno eseguite a ogni avvio: aggiungere colonne generate STORED
+-- riscrive l'intera tabella Issue sotto un lock ACCESS EXCLUSIVE. Per questo tutte le modifiche alle colonne
+-- sono raccolte in un solo ALTER TABLE (una sola riscrittura), da eseguire in un momento di basso traffico.
+-- Gli indici sono costruiti con CONCURRENTLY, senza bloccare le scritture: psql esegue ogni istruzione
+-- in autocommit, come richiesto da CREATE INDEX CONCURRENTLY (non ammesso dentro una transazione).
+-- Se una costruzione concorrente si interrompe lascia un indice INVALID, che IF NOT EXISTS non ricostruisce:
+-- va eliminato con DROP INDEX CONCURRENTLY prima di rieseguire lo script.
+
+-- Colonne di supporto, in un'unica riscrittura della tabella:
+--  * search_vector: ricerca full-text su titolo (peso A) e descrizione (peso B). La colonna generata resta
+--    allineata a ogni INSERT/UPDATE senza trigger; configurazione 'simple' perché titoli e descrizioni
+--    mescolano italiano, inglese e identificatori di codice.
+--  * tag_list: versione indicizzabile della colonna testuale 'tags' (separata da ';'), che resta la fonte
+--    di verità: minuscola, senza spazi né elementi vuoti.
+--  * issue_image: EXTERNAL (TOAST senza compressione), perché le immagini sono già compresse e substring()
+--    può leggerne solo la fetta richiesta, così lo streaming a blocchi non decomprime ogni volta il valore intero.
+--  * issue_image_md5: impronta del contenuto usata come ETag, calcolata una volta in scrittura.
+--  * row_version: cambia a ogni modifica della issue, per gli ETag delle risposte.
+ALTER TABLE Issue
+    ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(issue_description, '')), 'B')
+    ) STORED,
+    ADD COLUMN IF NOT EXISTS tag_list text[] GENERATED ALWAYS AS (
+        array_remove(regexp_split_to_array(btrim(lower(coalesce(tags, ''))), '\s*;\s*'), '')
+    ) STORED,
+    ADD COLUMN IF NOT EXISTS issue_image_md5 text GENERATED ALWAYS AS (md5(issue_image)) STORED,
+    ADD COLUMN IF NOT EXISTS row_version BIGINT NOT NULL DEFAULT 0,
+    ALTER COLUMN issue_image SET STORAGE EXTERNAL;
+
+-- Cambia a ogni modifica di una issue del progetto (o del suo aggregato mensile), per gli ETag di ricerca
+-- e dashboard. Con un DEFAULT costante la colonna viene aggiunta senza riscrivere la tabella.
+ALTER TABLE Project ADD COLUMN IF NOT EXISTS change_count BIGINT NOT NULL DEFAULT 0;
+
+-- Paginazione keyset della ricerca issue: ORDER BY (issue_priority, issue_id) filtrato per progetto
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issue_project_priority_id ON Issue (project_id, issue_priority, issue_id);
+
+-- Ricerca full-text
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issue_search_vector ON Issue USING GIN (search_vector);
+
+-- Tag: serve sia @> (tutti i tag) sia && (almeno un tag)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issue_tag_list ON Issue USING GIN (tag_list);
+
+-- Issue per sviluppatore assegnato: il report dei team unisce Issue ai membri del team su resolver_id e la
+-- ricerca filtra le issue assegnate a uno sviluppatore. Serve anche alla chiave esterna verso User_.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issue_resolver_id ON Issue (resolver_id);
+
+-- Dashboard e report aggregati leggono Issue_monthly_rollup invece di raggruppare le issue per resolver_id:
+-- le colonne INCLUDE dell'indice costruito per quel GROUP BY non servono più. Va eliminato solo dopo aver
+-- creato idx_issue_resolver_id, che lo sostituisce per i filtri su resolver_id.
+DROP INDEX CONCURRENTLY IF EXISTS idx_issue_resolver_times;
+
+-- Report dei team su intervalli semiaperti [from, to): ogni ramo dell'OR ha il proprio indice
+-- e il planner li combina con un BitmapOr. Il filtro per resolver_id usa idx_issue_resolver_id.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issue_project_report_time ON Issue (project_id, report_time);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_issue_project_resolution_time ON Issue (project_id, resolution_time);
@@ -0,0 +1,138 @@
+package backend.benchmark;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DataSource finto per i benchmark dei DAO: ogni query restituisce le stesse righe preparate in memoria.
+ * <p>
+ * Connessioni, statement e ResultSet sono proxy JDK: i parametri degli statement vengono ignorati e
+ * i getter del ResultSet leggono le colonne per nome dalla tabella indicata. Così il benchmark misura
+ * solo il codice dei DAO (costruzione della query e mappatura delle righe nei DTO), senza rete né database.
+ * </p>
+ */
+final class FakeJdbc {
+
+    private FakeJdbc() {
+    }
+
+    /**
+     * Tabella in memoria: nomi delle colonne e righe (i valori nell'ordine delle colonne, {@code null} ammesso).
+     */
+    record Table(Map<String, Integer> columns, List<Object[]> rows) {
+
+        Table(List<String> columnNames, List<Object[]> rows) {
+            this(indexOf(columnNames), rows);
+        }
+
+        private static Map<String, Integer> indexOf(List<String> columnNames) {
+
+            Map<String, Integer> columns = new HashMap<>();
+
+            for (int i = 0; i < columnNames.size(); i++)
+                columns.put(columnNames.get(i), i);
+
+            return columns;
+        }
+    }
+
+    /**
+     * Crea un DataSource le cui query restituiscono tutte le righe della tabella.
+     *
+     * @param table La tabella da restituire.
+     * @return Il DataSource finto.
+     */
+    static DataSource dataSource(Table table) {
+
+        PreparedStatement statement = proxy(PreparedStatement.class, (proxy, method, args) -> switch (method.getName()) {
+            case "executeQuery" -> resultSet(table);
+            case "executeUpdate" -> 0;
+            default -> defaultValue(method.getReturnType());
+        });
+
+        Connection connection = proxy(Connection.class, (proxy, method, args) -> switch (method.getName()) {
+            case "prepareStatement" -> statement;
+            case "getAutoCommit" -> true;
+            default -> defaultValue(method.getReturnType());
+        });
+
+        return proxy(DataSource.class, (proxy, method, args) ->
+                method.getName().equals("getConnection") ? connection : defaultValue(method.getReturnType()));
+    }
+
+    /**
+     * Crea un ResultSet posizionato prima della prima riga della tabella.
+     *
+     * @param table La tabella da scorrere.
+     * @return Il ResultSet finto.
+     */
+    static ResultSet resultSet(Table table) {
+
+        int[] cursor = {-1};
+        boolean[] wasNull = {false};
+
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+
+            String name = method.getName();
+
+            if (name.equals("next"))
+                return ++cursor[0] < table.rows().size();
+
+            if (name.equals("wasNull"))
+                return wasNull[0];
+
+            if (!name.startsWith("get") || args == null || args.length == 0)
+                return defaultValue(method.getReturnType());
+
+            Object value = table.rows().get(cursor[0])[args[0] instanceof Integer index ? index - 1 : table.columns().get((String) args[0])];
+            wasNull[0] = value == null;
+
+            if (value == null)
+                return defaultValue(method.getReturnType());
+
+            return switch (name) {
+                case "getString" -> value.toString();
+                case "getBigDecimal" -> value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+                case "getTimestamp" -> (Timestamp) value;
+                default -> value;
+            };
+        });
+    }
+
+    /**
+     * Valore restituito dai metodi non simulati: zero, {@code false} o {@code null} secondo il tipo.
+     */
+    private static Object defaultValue(Class<?> type) {
+
+        if (type == boolean.class)
+            return false;
+
+        if (type == int.class)
+            return 0;
+
+        if (type == long.class)
+            return 0L;
+
+        if (type == float.class)
+            return 0f;
+
+        if (type == double.class)
+            return 0d;
+
+        return null;
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(FakeJdbc.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+}
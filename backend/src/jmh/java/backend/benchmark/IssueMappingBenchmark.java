@@ -0,0 +1,87 @@
+package backend.benchmark;
+
+import backend.database.implinmemory.InMemoryStatisticsRollupDAO;
+import backend.database.implneondb.IssueDAOImpl;
+import backend.dto.IssueDTO;
+import backend.dto.IssuePageDTO;
+import backend.dto.IssueSortDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark della mappatura delle righe nei DTO in {@link IssueDAOImpl}, su un ResultSet finto.
+ * <p>
+ * Misura la ricerca (lista e pagina) su {@code rows} righe e il caricamento del dettaglio di una issue
+ * con la cache dei dettagli disabilitata, così ogni invocazione percorre la mappatura completa.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IssueMappingBenchmark {
+
+    private static final List<String> COLUMNS = List.of(
+            "issue_id", "title", "issue_status", "issue_priority", "sort_key", "issue_description", "issue_type",
+            "tags", "report_time", "resolution_time", "reporter_id", "resolver_id", "project_id", "has_image",
+            "row_version", "reporter_email", "resolver_email", "project_name");
+
+    @Param({"100", "10000"})
+    private int rows;
+
+    private IssueDAOImpl searchDAO;
+
+    private IssueDAOImpl detailDAO;
+
+    private final IssueDTO filter = new IssueDTO();
+
+    @Setup
+    public void setup() {
+
+        List<Object[]> table = new ArrayList<>(rows);
+        Timestamp reportTime = new Timestamp(System.currentTimeMillis() - Duration.ofDays(3).toMillis());
+        Timestamp resolutionTime = new Timestamp(System.currentTimeMillis());
+
+        for (int i = 0; i < rows; i++) {
+
+            boolean resolved = i % 3 == 0;
+
+            table.add(new Object[]{
+                    rows - i, "Issue title " + i, resolved ? "RESOLVED" : "ASSIGNED", 5 - i % 5, 5 - i % 5,
+                    "Description of issue " + i, "BUG", "ui;backend", reportTime, resolved ? resolutionTime : null,
+                    7, 11, 1, false, 3L, "reporter@example.com", "developer@example.com", "Project"});
+        }
+
+        filter.setTitle("title");
+        filter.setTags("ui");
+
+        searchDAO = new IssueDAOImpl(FakeJdbc.dataSource(new FakeJdbc.Table(COLUMNS, table)),
+                new InMemoryStatisticsRollupDAO(), 0, Duration.ofMinutes(5));
+        detailDAO = new IssueDAOImpl(FakeJdbc.dataSource(new FakeJdbc.Table(COLUMNS, table.subList(0, 1))),
+                new InMemoryStatisticsRollupDAO(), 0, Duration.ofMinutes(5));
+    }
+
+    @Benchmark
+    public List<IssueDTO> searchIssues() throws SQLException {
+        return searchDAO.searchIssues(filter, null, null, 1);
+    }
+
+    @Benchmark
+    public IssuePageDTO searchIssuesPage() throws SQLException {
+        return searchDAO.searchIssuesPage(filter, null, null, 1, false, null, IssueSortDTO.PRIORITY_DESC, null, rows);
+    }
+
+    @Benchmark
+    public IssueDTO getIssueById() throws SQLException {
+        return detailDAO.getIssueById(1);
+    }
+
+}
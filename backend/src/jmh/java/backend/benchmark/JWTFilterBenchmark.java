@@ -0,0 +1,123 @@
+package backend.benchmark;
+
+import backend.config.JWTRequestFilter;
+import backend.config.JWTService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.NonNull;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark di {@link JWTRequestFilter} su richieste con token validi.
+ * <p>
+ * {@code users} utenti ripetono le richieste con il proprio token; {@code cacheSize} pari a 0 disabilita
+ * la cache dei token verificati, così ogni richiesta ricontrolla la firma.
+ * </p>
+ * <p>
+ * {@link #doFilterLegacy} misura come riferimento la verifica com'era prima di {@link JWTService}: chiave e
+ * parser ricostruiti e firma ricontrollata a ogni richiesta (per questa variante {@code cacheSize} non conta).
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+    @Param({"0", "10000"})
+    private int cacheSize;
+
+    @Param({"1000"})
+    private int users;
+
+    private JWTRequestFilter filter;
+
+    private final LegacyJWTRequestFilter legacyFilter = new LegacyJWTRequestFilter();
+
+    private MockHttpServletRequest[] requests;
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private int next;
+
+    @Setup
+    public void setup() {
+
+        JWTService service = new JWTService(SECRET, cacheSize);
+
+        filter = new JWTRequestFilter(service);
+        requests = new MockHttpServletRequest[users];
+
+        for (int i = 0; i < users; i++) {
+            requests[i] = new MockHttpServletRequest();
+            requests[i].addHeader("Authorization", "Bearer " + service.createToken("user" + i + "@example.com", Duration.ofHours(1)));
+        }
+    }
+
+    @Benchmark
+    public void doFilter() throws ServletException, IOException {
+
+        next = next + 1 == users ? 0 : next + 1;
+
+        filter.doFilter(requests[next], response, NO_OP_CHAIN);
+
+        // Every request starts unauthenticated, as on a fresh Tomcat thread
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void doFilterLegacy() throws ServletException, IOException {
+
+        next = next + 1 == users ? 0 : next + 1;
+
+        legacyFilter.doFilter(requests[next], response, NO_OP_CHAIN);
+
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Il filtro JWT com'era in origine: a ogni richiesta costruisce la chiave e il parser.
+     */
+    private static final class LegacyJWTRequestFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                        @NonNull FilterChain chain) throws ServletException, IOException {
+
+            String username = Jwts.parserBuilder()
+                    .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                    .build()
+                    .parseClaimsJws(request.getHeader("Authorization").substring(7))
+                    .getBody()
+                    .getSubject();
+
+            if (SecurityContextHolder.getContext().getAuthentication() == null)
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(username, null, new ArrayList<>()));
+
+            chain.doFilter(request, response);
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package backend.benchmark;
+
+import backend.dto.*;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark della serializzazione JSON (Jackson) dei DTO più grandi restituiti dai controller.
+ * <p>
+ * {@code IssueDTO} viene serializzato senza immagine e con un'immagine di {@code imageKiB} KiB (codificata
+ * in base64); {@code StatisticDTO} contiene {@code statisticIssues} issue tra aperte e chiuse e 50 sviluppatori.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private static final int DEVELOPERS = 50;
+
+    @Param({"1000"})
+    private int statisticIssues;
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+
+    private StatisticDTO statistics;
+
+    /**
+     * Issue di dettaglio da serializzare, in uno stato a parte perché solo lei dipende dalla dimensione dell'immagine.
+     */
+    @State(Scope.Benchmark)
+    public static class IssueState {
+
+        @Param({"0", "256"})
+        private int imageKiB;
+
+        private IssueDTO issue;
+
+        @Setup
+        public void setup() {
+
+            issue = new IssueDTO();
+            issue.setId(1);
+            issue.setTitle("Login fails after session timeout");
+            issue.setDescription("After the session expires the login page shows an empty error message.");
+            issue.setType(IssueTypeDTO.BUG);
+            issue.setStatus(IssueStatusDTO.ASSIGNED);
+            issue.setTags("ui;backend");
+            issue.setPriority(3);
+            issue.setReportDate(new Date());
+            issue.setReportingUser(user(1));
+            issue.setAssignedDeveloper(user(2));
+            issue.setRelatedProject(new ProjectDTO(1, "Project"));
+
+            if (imageKiB > 0) {
+                byte[] image = new byte[imageKiB * 1024];
+                new Random(42).nextBytes(image);
+                issue.setImage(image);
+                issue.setHasImage(true);
+            }
+        }
+    }
+
+    @Setup
+    public void setup() {
+
+        Random random = new Random(42);
+
+        statistics = new StatisticDTO();
+
+        for (int i = 0; i < statisticIssues; i++) {
+
+            IssueDTO entry = new IssueDTO();
+            entry.setId(i);
+            entry.setReportDate(new Date());
+            entry.setAssignedDeveloper(user(i % DEVELOPERS));
+
+            if (i % 2 == 0) {
+                entry.setResolutionDate(new Date());
+                statistics.getClosedIssues().add(entry);
+            } else {
+                statistics.getOpenIssues().add(entry);
+            }
+        }
+
+        for (int i = 0; i < DEVELOPERS; i++) {
+            statistics.getDevelopers().add(user(i));
+            statistics.getNumOpenIssues().add(random.nextInt(100));
+            statistics.getNumClosedIssues().add(random.nextInt(100));
+            statistics.getAverageResolutionDurations().add(Duration.ofMinutes(random.nextInt(100_000)));
+        }
+    }
+
+    private static UserDTO user(int id) {
+
+        UserDTO user = new UserDTO();
+        user.setId(id);
+        user.setEmail("user" + id + "@example.com");
+
+        return user;
+    }
+
+    @Benchmark
+    public byte[] serializeIssue(IssueState state) {
+        return mapper.writeValueAsBytes(state.issue);
+    }
+
+    @Benchmark
+    public byte[] serializeStatistics() {
+        return mapper.writeValueAsBytes(statistics);
+    }
+
+}
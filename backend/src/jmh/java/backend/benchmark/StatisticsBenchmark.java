@@ -0,0 +1,91 @@
+package backend.benchmark;
+
+import backend.database.implneondb.ProjectDAOImpl;
+import backend.database.implneondb.StatisticsAccumulator;
+import backend.dto.StatisticDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark delle statistiche di {@link ProjectDAOImpl} da 1k a 1M issue, su ResultSet finti.
+ * <p>
+ * {@code generateDashboard} mappa una riga per issue e le accumula per sviluppatore;
+ * {@code addAggregateRows} somma le righe dell'aggregato mensile (una ogni dieci issue).
+ * Le issue sono distribuite su {@code developers} sviluppatori, un decimo non assegnate e metà risolte.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StatisticsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int issues;
+
+    @Param({"10", "1000", "50000"})
+    private int developers;
+
+    private ProjectDAOImpl projectDAO;
+
+    private FakeJdbc.Table rollupRows;
+
+    @Setup
+    public void setup() {
+
+        SplittableRandom random = new SplittableRandom(42);
+        long now = System.currentTimeMillis();
+
+        List<Object[]> issueRows = new ArrayList<>(issues);
+
+        for (int i = 0; i < issues; i++) {
+
+            Integer resolverId = random.nextInt(10) == 0 ? null : random.nextInt(developers);
+            Timestamp reportTime = new Timestamp(now - random.nextLong(365L * 24 * 3600 * 1000));
+            Timestamp resolutionTime = random.nextBoolean() ? new Timestamp(reportTime.getTime() + random.nextLong(30L * 24 * 3600 * 1000)) : null;
+
+            issueRows.add(new Object[]{i, resolverId, reportTime, resolutionTime, resolverId == null ? null : "dev" + resolverId + "@example.com"});
+        }
+
+        List<Object[]> aggregateRows = new ArrayList<>(issues / 10);
+
+        for (int i = 0; i < issues / 10; i++) {
+
+            Integer resolverId = random.nextInt(10) == 0 ? null : random.nextInt(developers);
+
+            aggregateRows.add(new Object[]{resolverId, resolverId == null ? null : "dev" + resolverId + "@example.com",
+                    random.nextInt(10), random.nextInt(10), BigDecimal.valueOf(random.nextLong(10_000_000), 3)});
+        }
+
+        projectDAO = new ProjectDAOImpl(FakeJdbc.dataSource(new FakeJdbc.Table(
+                List.of("issue_id", "resolver_id", "report_time", "resolution_time", "resolver_email"), issueRows)));
+
+        rollupRows = new FakeJdbc.Table(
+                List.of("resolver_id", "resolver_email", "open_count", "closed_count", "resolution_seconds"), aggregateRows);
+    }
+
+    @Benchmark
+    public StatisticDTO generateDashboard() throws SQLException {
+        return projectDAO.generateDashboard();
+    }
+
+    @Benchmark
+    public StatisticDTO addAggregateRows() throws SQLException {
+
+        StatisticDTO statistics = new StatisticDTO();
+
+        ProjectDAOImpl.addAggregateRows(FakeJdbc.resultSet(rollupRows), new StatisticsAccumulator()).fill(statistics);
+
+        return statistics;
+    }
+
+}
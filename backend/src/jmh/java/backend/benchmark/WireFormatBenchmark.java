@@ -0,0 +1,176 @@
+package backend.benchmark;
+
+import backend.config.SmileConfiguration;
+import backend.dto.*;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Confronto tra JSON e Smile per le risposte più frequenti dei controller: una pagina di ricerca
+ * ({@code pageSize} issue complete), il dettaglio di una issue con un'immagine di 256 KiB e la dashboard
+ * completa ({@code 1000} issue tra aperte e chiuse, 50 sviluppatori).
+ * <p>
+ * Misura il tempo di serializzazione e di deserializzazione; la dimensione del corpo di ogni combinazione
+ * viene stampata nel setup, prima delle misure.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final int DEVELOPERS = 50;
+
+    private static final int DASHBOARD_ISSUES = 1000;
+
+    private static final int IMAGE_KIB = 256;
+
+    private static final String[] WORDS = {"login", "crash", "timeout", "dashboard", "export", "search", "session", "upload"};
+
+    @Param({"json", "smile"})
+    private String format;
+
+    @Param({"search", "detail", "dashboard"})
+    private String response;
+
+    @Param({"100"})
+    private int pageSize;
+
+    private ObjectMapper mapper;
+
+    private JavaType type;
+
+    private Object value;
+
+    private byte[] body;
+
+    @Setup
+    public void setup() {
+
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+
+        mapper = format.equals("smile") ? SmileConfiguration.smileMapperLike(jsonMapper) : jsonMapper;
+
+        Random random = new Random(42);
+
+        switch (response) {
+            case "search" -> {
+                List<IssueDTO> page = new ArrayList<>();
+
+                for (int i = 0; i < pageSize; i++)
+                    page.add(issue(random, i));
+
+                value = page;
+                type = mapper.getTypeFactory().constructType(new TypeReference<List<IssueDTO>>() {});
+            }
+            case "detail" -> {
+                IssueDTO issue = issue(random, 1);
+                byte[] image = new byte[IMAGE_KIB * 1024];
+                random.nextBytes(image);
+                issue.setImage(image);
+                issue.setHasImage(true);
+
+                value = issue;
+                type = mapper.constructType(IssueDTO.class);
+            }
+            default -> {
+                value = dashboard(random);
+                type = mapper.constructType(StatisticDTO.class);
+            }
+        }
+
+        body = mapper.writeValueAsBytes(value);
+
+        System.out.printf("%n%s %s: %d bytes%n", response, format, body.length);
+    }
+
+    private static IssueDTO issue(Random random, int id) {
+
+        IssueDTO issue = new IssueDTO();
+        issue.setId(id);
+        issue.setTitle(words(random, 5));
+        issue.setDescription(words(random, 25));
+        issue.setType(IssueTypeDTO.values()[random.nextInt(IssueTypeDTO.values().length)]);
+        issue.setStatus(IssueStatusDTO.values()[random.nextInt(IssueStatusDTO.values().length)]);
+        issue.setTags("ui;backend");
+        issue.setPriority(1 + random.nextInt(5));
+        issue.setReportDate(new Date());
+        issue.setReportingUser(user(random.nextInt(DEVELOPERS)));
+        issue.setAssignedDeveloper(user(random.nextInt(DEVELOPERS)));
+        issue.setRelatedProject(new ProjectDTO(1, "Project"));
+
+        return issue;
+    }
+
+    private static StatisticDTO dashboard(Random random) {
+
+        StatisticDTO statistics = new StatisticDTO();
+
+        for (int i = 0; i < DASHBOARD_ISSUES; i++) {
+
+            IssueDTO entry = new IssueDTO();
+            entry.setId(i);
+            entry.setReportDate(new Date());
+            entry.setAssignedDeveloper(user(i % DEVELOPERS));
+
+            if (i % 2 == 0) {
+                entry.setResolutionDate(new Date());
+                statistics.getClosedIssues().add(entry);
+            } else {
+                statistics.getOpenIssues().add(entry);
+            }
+        }
+
+        for (int i = 0; i < DEVELOPERS; i++) {
+            statistics.getDevelopers().add(user(i));
+            statistics.getNumOpenIssues().add(random.nextInt(100));
+            statistics.getNumClosedIssues().add(random.nextInt(100));
+            statistics.getAverageResolutionDurations().add(Duration.ofMinutes(random.nextInt(100_000)));
+        }
+
+        return statistics;
+    }
+
+    private static UserDTO user(int id) {
+
+        UserDTO user = new UserDTO();
+        user.setId(id);
+        user.setEmail("user" + id + "@example.com");
+
+        return user;
+    }
+
+    private static String words(Random random, int count) {
+
+        StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < count; i++)
+            text.append(i > 0 ? " " : "").append(WORDS[random.nextInt(WORDS.length)]);
+
+        return text.toString();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return mapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return mapper.readValue(body, type);
+    }
+
+}
@@ -0,0 +1,247 @@
+package backend.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache in memoria limitata per numero di voci e per durata (TTL), con politica LRU.
+ * <p>
+ * Le voci sono conservate in una {@link LinkedHashMap} in ordine di accesso: quando la cache supera
+ * la dimensione massima viene rimossa la voce usata meno di recente; una voce più vecchia del TTL
+ * viene scartata alla prima lettura. Tutte le operazioni sono sincronizzate sull'istanza e costano O(1).
+ * </p>
+ * <p>
+ * Per l'uso <i>read-through</i> è previsto il protocollo {@link #stamp()} / {@link #putIfNotInvalidated}:
+ * chi legge dal database prende il timbro prima della lettura e inserisce il valore solo se nel frattempo
+ * non c'è stata alcuna invalidazione. In questo modo una lettura lenta non può reinserire in cache un valore
+ * già superato da una scrittura concorrente.
+ * </p>
+ * <p>
+ * La cache tiene i contatori di successi, mancati successi, rimozioni per dimensione, scadenze e invalidazioni.
+ * </p>
+ *
+ * @param <K> Il tipo delle chiavi.
+ * @param <V> Il tipo dei valori.
+ */
+public class ExpiringCache<K, V> {
+
+    /**
+     * Voce della cache: il valore e l'istante (in nanosecondi) in cui è stato inserito.
+     */
+    private record Entry<V>(V value, long insertedAt) {}
+
+    /**
+     * Numero massimo di voci.
+     */
+    private final int maxSize;
+
+    /**
+     * Durata di validità di una voce, in nanosecondi.
+     */
+    private final long ttlNanos;
+
+    /**
+     * Sorgente del tempo (sostituibile nei test).
+     */
+    private final LongSupplier nanoClock;
+
+    /**
+     * Voci in ordine di accesso, dalla meno recente alla più recente.
+     */
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    /**
+     * Numero di invalidazioni eseguite, usato come timbro dalle letture read-through.
+     */
+    private long invalidationCount;
+
+    /**
+     * Letture servite dalla cache.
+     */
+    private long hits;
+
+    /**
+     * Letture non servite dalla cache (voce assente o scaduta).
+     */
+    private long misses;
+
+    /**
+     * Voci rimosse per rispettare la dimensione massima.
+     */
+    private long evictions;
+
+    /**
+     * Voci scartate perché più vecchie del TTL.
+     */
+    private long expirations;
+
+    /**
+     * Crea una cache con la dimensione massima e la durata indicate.
+     *
+     * @param maxSize Il numero massimo di voci (0 disabilita la cache).
+     * @param ttl     La durata di validità di una voce.
+     * @param unit    L'unità di misura di {@code ttl}.
+     */
+    public ExpiringCache(int maxSize, long ttl, TimeUnit unit) {
+        this(maxSize, ttl, unit, System::nanoTime);
+    }
+
+    /**
+     * Crea una cache con una sorgente del tempo personalizzata.
+     *
+     * @param maxSize   Il numero massimo di voci (0 disabilita la cache).
+     * @param ttl       La durata di validità di una voce.
+     * @param unit      L'unità di misura di {@code ttl}.
+     * @param nanoClock La sorgente del tempo, in nanosecondi.
+     */
+    public ExpiringCache(int maxSize, long ttl, TimeUnit unit, LongSupplier nanoClock) {
+
+        this.maxSize = maxSize;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.nanoClock = nanoClock;
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+
+                boolean evict = size() > ExpiringCache.this.maxSize;
+
+                if (evict)
+                    evictions++;
+
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * Restituisce il valore associato alla chiave, se presente e non scaduto.
+     *
+     * @param key La chiave da cercare.
+     * @return Il valore in cache, oppure {@code null}.
+     */
+    public synchronized V get(K key) {
+
+        Entry<V> entry = entries.get(key);
+
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+
+        if (nanoClock.getAsLong() - entry.insertedAt() >= ttlNanos) {
+            entries.remove(key);
+            expirations++;
+            misses++;
+            return null;
+        }
+
+        hits++;
+
+        return entry.value();
+    }
+
+    /**
+     * Restituisce il timbro corrente, da prendere prima di leggere il valore dalla sorgente.
+     *
+     * @return Il timbro da passare a {@link #putIfNotInvalidated}.
+     */
+    public synchronized long stamp() {
+        return invalidationCount;
+    }
+
+    /**
+     * Inserisce un valore letto dalla sorgente, a meno che dopo {@code stamp} ci sia stata un'invalidazione.
+     *
+     * @param key   La chiave.
+     * @param value Il valore (non {@code null}).
+     * @param stamp Il timbro preso con {@link #stamp()} prima della lettura.
+     * @return {@code true} se il valore è stato inserito.
+     */
+    public synchronized boolean putIfNotInvalidated(K key, V value, long stamp) {
+
+        if (stamp != invalidationCount || maxSize <= 0)
+            return false;
+
+        entries.put(key, new Entry<>(value, nanoClock.getAsLong()));
+
+        return true;
+    }
+
+    /**
+     * Rimuove la voce associata alla chiave.
+     *
+     * @param key La chiave da invalidare.
+     */
+    public synchronized void invalidate(K key) {
+
+        invalidationCount++;
+        entries.remove(key);
+    }
+
+    /**
+     * Rimuove tutte le voci.
+     */
+    public synchronized void invalidateAll() {
+
+        invalidationCount++;
+        entries.clear();
+    }
+
+    /**
+     * Restituisce il numero di voci attualmente in cache (comprese quelle scadute non ancora lette).
+     *
+     * @return Il numero di voci.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Restituisce il numero di letture servite dalla cache.
+     *
+     * @return Il numero di successi.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Restituisce il numero di letture non servite dalla cache (voce assente o scaduta).
+     *
+     * @return Il numero di mancati successi.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Restituisce il numero di voci rimosse per far spazio a voci nuove.
+     *
+     * @return Il numero di rimozioni per dimensione.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Restituisce il numero di voci scartate perché più vecchie del TTL.
+     *
+     * @return Il numero di scadenze.
+     */
+    public synchronized long getExpirations() {
+        return expirations;
+    }
+
+    /**
+     * Restituisce il numero di invalidazioni eseguite.
+     *
+     * @return Il numero di invalidazioni.
+     */
+    public synchronized long getInvalidations() {
+        return invalidationCount;
+    }
+
+}
@@ -0,0 +1,57 @@
+package backend.config;
+
+import backend.database.dao.UserDAO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.SQLException;
+
+/**
+ * Caricamento periodico dell'indice in memoria per l'autocompletamento delle email.
+ * <p>
+ * L'indice viene caricato all'avvio e aggiornato a ogni registrazione e modifica dei membri di un team;
+ * il caricamento completo, ripetuto a intervalli regolari ({@code users.autocomplete.reload-delay}),
+ * recepisce le modifiche eseguite direttamente sul database (ad esempio i membri dei progetti o i ruoli).
+ * </p>
+ */
+@Configuration
+public class EmailAutocompleteScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailAutocompleteScheduler.class);
+
+    /**
+     * DAO degli utenti che carica l'indice.
+     */
+    private final UserDAO userDAO;
+
+    /**
+     * Costruttore per l'iniezione delle dipendenze.
+     *
+     * @param userDAO Il DAO degli utenti.
+     */
+    public EmailAutocompleteScheduler(UserDAO userDAO) {
+        this.userDAO = userDAO;
+    }
+
+    /**
+     * Ricarica l'indice dal database.
+     * <p>
+     * Un errore viene solo registrato nel log: fino al primo caricamento riuscito l'autocompletamento
+     * usa la ricerca sul database.
+     * </p>
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${users.autocomplete.reload-delay:PT15M}")
+    public void reloadIndex() {
+
+        try {
+
+            userDAO.reloadAutocompleteIndex();
+
+        } catch (SQLException e) {
+            logger.warn("Autocomplete index reload failed", e);
+        }
+    }
+
+}
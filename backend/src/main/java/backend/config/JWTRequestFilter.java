@@ -5,13 +5,10 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.jspecify.annotations.NonNull;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,15 +35,19 @@ public class JWTRequestFilter extends OncePerRequestFilter {
     private static final Logger jwtLogger = LoggerFactory.getLogger(JWTRequestFilter.class);
 
     /**
-     * La chiave segreta utilizzata per firmare e verificare i token JWT.
-     * Deve corrispondere alla chiave utilizzata durante la fase di generazione del token.
-     * <p>
-     * Nota: In un ambiente di produzione, questa chiave dovrebbe essere molto più complessa
-     * e caricata da variabili d'ambiente o file di configurazione sicuri.
-     * </p>
+     * Servizio che verifica i token JWT, con chiave e parser costruiti una sola volta
+     * e una cache dei token già verificati.
      */
-    @Value("${jwt.secret}")
-    private String secret;
+    private final JWTService jwtService;
+
+    /**
+     * Costruttore per l'iniezione delle dipendenze.
+     *
+     * @param jwtService Il servizio di verifica dei token.
+     */
+    public JWTRequestFilter(JWTService jwtService) {
+        this.jwtService = jwtService;
+    }
 
     /**
      * Esegue la logica di filtraggio per ogni richiesta HTTP.
@@ -55,7 +56,7 @@ public class JWTRequestFilter extends OncePerRequestFilter {
      * </p>
      * <ol>
      * <li>Controlla l'header "Authorization" per verificare la presenza del prefisso "Bearer ".</li>
-     * <li>Estrae il token JWT e lo analizza per ottenere lo username (subject).</li>
+     * <li>Estrae il token JWT e lo verifica tramite {@link JWTService} per ottenere lo username (subject).</li>
      * <li>Se lo username è valido e non c'è già un'autenticazione in corso, carica i dettagli dell'utente dal DB.</li>
      * <li>Verifica la validità del token (corrispondenza username e data di scadenza).</li>
      * <li>Se il token è valido, crea un oggetto di autenticazione e lo imposta nel {@link SecurityContextHolder},
@@ -80,12 +81,7 @@ public class JWTRequestFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             jwt = authHeader.substring(7);
             try {
-                username = Jwts.parserBuilder()
-                        .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes(java.nio.charset.StandardCharsets.UTF_8)))
-                        .build()
-                        .parseClaimsJws(jwt)
-                        .getBody()
-                        .getSubject();
+                username = jwtService.verify(jwt);
             } catch (Exception e) {
                 jwtLogger.warn("Token not valid or expired: {}", e.getMessage());
             }
@@ -0,0 +1,180 @@
+package backend.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Servizio per la creazione e la verifica dei token JWT.
+ * <p>
+ * La chiave HMAC e il parser vengono costruiti una sola volta all'avvio, invece che a ogni richiesta.
+ * I token già verificati sono conservati in una cache limitata, indicizzata dall'impronta SHA-256 del token
+ * (il token in chiaro non viene mai memorizzato): le richieste successive con lo stesso token evitano
+ * la decodifica e il controllo della firma. Ogni voce scade insieme al token a cui si riferisce.
+ * </p>
+ * <p>
+ * Quando la cache è piena vengono prima rimosse le voci scadute e, se non basta, un quarto delle voci
+ * presenti: un token rimosso viene semplicemente verificato di nuovo alla richiesta successiva.
+ * </p>
+ */
+@Component
+public class JWTService {
+
+    /**
+     * Chiave HMAC derivata dal segreto di configurazione.
+     */
+    private final SecretKey signingKey;
+
+    /**
+     * Parser dei token, immutabile e thread-safe.
+     */
+    private final JwtParser parser;
+
+    /**
+     * Numero massimo di token verificati conservati in cache.
+     */
+    private final int maxCachedTokens;
+
+    /**
+     * Token già verificati, indicizzati dall'impronta del token.
+     */
+    private final ConcurrentHashMap<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * Un token verificato: il suo soggetto e l'istante di scadenza in millisecondi.
+     */
+    private record VerifiedToken(String subject, long expiresAtMillis) {}
+
+    /**
+     * Costruttore per l'iniezione delle dipendenze.
+     *
+     * @param secret          Il segreto condiviso per la firma dei token ({@code jwt.secret}).
+     * @param maxCachedTokens Il numero massimo di token verificati da tenere in cache.
+     */
+    public JWTService(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.verified-cache.max-size:10000}") int maxCachedTokens) {
+
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.maxCachedTokens = maxCachedTokens;
+    }
+
+    /**
+     * Crea un token firmato per l'utente indicato.
+     *
+     * @param subject  Il soggetto del token (l'email dell'utente).
+     * @param validity La durata di validità del token.
+     * @return Il token compatto.
+     */
+    public String createToken(String subject, Duration validity) {
+
+        long now = System.currentTimeMillis();
+
+        return Jwts.builder()
+                .setSubject(subject)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + validity.toMillis()))
+                .signWith(signingKey)
+                .compact();
+    }
+
+    /**
+     * Verifica un token e ne restituisce il soggetto.
+     * <p>
+     * Se il token è già stato verificato e non è ancora scaduto, il soggetto viene letto dalla cache;
+     * altrimenti il token viene decodificato e ne viene controllata la firma.
+     * </p>
+     *
+     * @param token Il token compatto ricevuto dal client.
+     * @return Il soggetto del token.
+     * @throws JwtException             Se il token non è valido, è scaduto o ha una firma errata.
+     * @throws IllegalArgumentException Se il token è vuoto.
+     */
+    public String verify(String token) {
+
+        String key = fingerprint(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedTokens.get(key);
+
+        if (cached != null) {
+
+            if (now < cached.expiresAtMillis())
+                return cached.subject();
+
+            verifiedTokens.remove(key, cached);
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+
+        // Tokens without an expiration are not cached: the entry would never go away on its own
+        if (claims.getExpiration() != null)
+            cache(key, new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime()), now);
+
+        return claims.getSubject();
+    }
+
+    /**
+     * Restituisce il numero di token attualmente in cache.
+     *
+     * @return Il numero di voci della cache.
+     */
+    public int cachedTokenCount() {
+        return verifiedTokens.size();
+    }
+
+    /**
+     * Inserisce un token verificato, facendo spazio se la cache è piena.
+     */
+    private void cache(String key, VerifiedToken token, long now) {
+
+        if (verifiedTokens.size() >= maxCachedTokens) {
+
+            verifiedTokens.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+
+            // Still full of live tokens: drop an arbitrary quarter of them
+            int toEvict = verifiedTokens.size() - maxCachedTokens * 3 / 4;
+            Iterator<String> keys = verifiedTokens.keySet().iterator();
+
+            while (toEvict-- > 0 && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+
+        if (maxCachedTokens > 0)
+            verifiedTokens.put(key, token);
+    }
+
+    /**
+     * Calcola l'impronta SHA-256 del token, usata come chiave della cache.
+     */
+    private static String fingerprint(String token) {
+
+        try {
+
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getEncoder().encodeToString(digest);
+
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,195 @@
+package backend.config;
+
+import backend.exception.ServiceOverloaded;
+import backend.metrics.TimerStatistics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Esecutore dedicato per l'hashing e la verifica delle password.
+ * <p>
+ * BCrypt è volutamente costoso in CPU: eseguito sui thread di Tomcat, un picco di login
+ * (ad esempio tutto il supporto che accede alle 9:00) occupa tutti i core e rallenta ogni altro endpoint.
+ * Qui le operazioni vengono eseguite su un pool con un thread per core e una coda limitata; i controller
+ * restituiscono un {@link CompletableFuture}, quindi il thread della richiesta viene liberato mentre l'hash
+ * è in coda o in calcolo.
+ * </p>
+ * <p>
+ * Se la coda è piena la richiesta viene rifiutata subito con {@link ServiceOverloaded} (503 con
+ * {@code Retry-After} stimato dal tempo medio di hashing), invece di accumulare attese senza limite.
+ * Il tempo di attesa in coda e il tempo di hashing sono registrati in due {@link TimerStatistics}.
+ * </p>
+ */
+@Component
+public class PasswordHashingService {
+
+    /**
+     * Encoder delle password (BCrypt) le cui operazioni vengono eseguite sul pool.
+     */
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Pool di thread dedicato all'hashing, con coda limitata e rifiuto immediato quando è piena.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Tempo trascorso in coda prima che l'hashing inizi.
+     */
+    private final TimerStatistics queueWait = new TimerStatistics();
+
+    /**
+     * Tempo impiegato dall'hashing o dalla verifica di una password.
+     */
+    private final TimerStatistics hashTime = new TimerStatistics();
+
+    /**
+     * Numero di richieste rifiutate perché la coda era piena.
+     */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Costruttore per l'iniezione delle dipendenze.
+     *
+     * @param passwordEncoder L'encoder delle password.
+     * @param threads         Il numero di thread del pool; se minore o uguale a 0, uno per core.
+     * @param queueCapacity   Il numero massimo di operazioni in attesa.
+     */
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${password-hashing.threads:0}") int threads,
+                                  @Value("${password-hashing.queue-capacity:64}") int queueCapacity) {
+
+        this.passwordEncoder = passwordEncoder;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Verifica una password in chiaro rispetto al suo hash.
+     *
+     * @param rawPassword     La password fornita dall'utente.
+     * @param encodedPassword L'hash memorizzato.
+     * @return Un future completato con {@code true} se la password corrisponde.
+     * @throws ServiceOverloaded Se la coda del pool è piena.
+     */
+    public CompletableFuture<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Calcola l'hash di una password in chiaro.
+     *
+     * @param rawPassword La password da codificare.
+     * @return Un future completato con l'hash della password.
+     * @throws ServiceOverloaded Se la coda del pool è piena.
+     */
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Restituisce le statistiche del tempo di attesa in coda.
+     *
+     * @return Le statistiche di attesa.
+     */
+    public TimerStatistics getQueueWait() {
+        return queueWait;
+    }
+
+    /**
+     * Restituisce le statistiche del tempo di hashing.
+     *
+     * @return Le statistiche di hashing.
+     */
+    public TimerStatistics getHashTime() {
+        return hashTime;
+    }
+
+    /**
+     * Restituisce il numero di richieste rifiutate per coda piena.
+     *
+     * @return Il numero di rifiuti.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Restituisce il numero di operazioni attualmente in coda.
+     *
+     * @return La lunghezza della coda.
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Arresta il pool alla chiusura del contesto applicativo.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Accoda un'operazione di hashing misurandone l'attesa e la durata.
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> operation) {
+
+        long enqueuedAt = System.nanoTime();
+
+        try {
+
+            return CompletableFuture.supplyAsync(() -> {
+
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - enqueuedAt);
+
+                try {
+                    return operation.get();
+                } finally {
+                    hashTime.record(System.nanoTime() - startedAt);
+                }
+
+            }, executor);
+
+        } catch (RejectedExecutionException e) {
+
+            rejected.increment();
+
+            throw new ServiceOverloaded("Too many concurrent authentication requests", retryAfterSeconds());
+        }
+    }
+
+    /**
+     * Stima dopo quanti secondi la coda attuale sarà smaltita (almeno 1).
+     */
+    private long retryAfterSeconds() {
+
+        long queuedNanos = (executor.getQueue().size() + (long) executor.getMaximumPoolSize()) * hashTime.getAverageNanos();
+
+        return TimeUnit.NANOSECONDS.toSeconds(queuedNanos / executor.getMaximumPoolSize()) + 1;
+    }
+
+}
@@ -0,0 +1,93 @@
+package backend.config;
+
+import backend.metrics.InstrumentedDataSource;
+import backend.metrics.PersistenceMetrics;
+import backend.metrics.RepositoryMetricsInterceptor;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Strumentazione dello strato di persistenza.
+ * <p>
+ * Registra due post-processori di Spring, così i DAO in {@code backend.database.implneondb} restano invariati:
+ * </p>
+ * <ul>
+ * <li>il DataSource (pool HikariCP) viene avvolto in un {@link InstrumentedDataSource}, che misura l'attesa
+ * delle connessioni, la durata degli statement, le righe lette e scrive nel log le query lente
+ * (soglia {@code persistence.slow-query-threshold});</li>
+ * <li>ai bean {@code @Repository} viene applicato un {@link RepositoryMetricsInterceptor}, che misura
+ * ogni metodo dei DAO.</li>
+ * </ul>
+ * <p>
+ * Le misure sono raccolte in {@link PersistenceMetrics} ed esposte da {@code GET /metrics}.
+ * I metodi sono statici perché i post-processori vengono creati prima degli altri bean.
+ * </p>
+ */
+@Configuration
+public class PersistenceInstrumentation {
+
+    /**
+     * Registro delle metriche dello strato di persistenza.
+     *
+     * @return Il registro condiviso.
+     */
+    @Bean
+    public static PersistenceMetrics persistenceMetrics() {
+        return new PersistenceMetrics();
+    }
+
+    /**
+     * Avvolge ogni DataSource dell'applicazione in un {@link InstrumentedDataSource}.
+     *
+     * @param persistenceMetrics Il registro delle metriche.
+     * @param slowQueryThreshold La durata oltre la quale uno statement viene scritto nel log delle query lente.
+     * @return Il post-processore.
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceInstrumentation(PersistenceMetrics persistenceMetrics,
+                                                              @Value("${persistence.slow-query-threshold:PT0.2S}") Duration slowQueryThreshold) {
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource))
+                    return new InstrumentedDataSource(dataSource, persistenceMetrics, slowQueryThreshold);
+
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Applica il {@link RepositoryMetricsInterceptor} ai metodi dei bean annotati con {@link Repository @Repository}.
+     *
+     * @param persistenceMetrics Il registro delle metriche.
+     * @return Il post-processore.
+     */
+    @Bean
+    public static AbstractBeanFactoryAwareAdvisingPostProcessor repositoryInstrumentation(PersistenceMetrics persistenceMetrics) {
+
+        AbstractBeanFactoryAwareAdvisingPostProcessor postProcessor = new AbstractBeanFactoryAwareAdvisingPostProcessor() {
+            {
+                this.advisor = new DefaultPointcutAdvisor(RepositoryMetricsInterceptor.POINTCUT,
+                        new RepositoryMetricsInterceptor(persistenceMetrics));
+            }
+        };
+
+        postProcessor.setBeforeExistingAdvisors(true);
+        // Class-based proxies keep the concrete DAO types injectable (e.g. for the detail cache metrics)
+        postProcessor.setProxyTargetClass(true);
+
+        return postProcessor;
+    }
+
+}
@@ -44,6 +44,7 @@ public class Security {
      * <ul>
      * <li>Disabilita CSRF (non necessario per JWT/Stateless).</li>
      * <li>Autorizza liberamente gli endpoint di autenticazione (/auth/**).</li>
+     * <li>Lascia senza token l'endpoint delle metriche (/metrics), che accetta solo richieste locali.</li>
      * <li>Richiede autenticazione per tutte le altre richieste.</li>
      * <li>Imposta la gestione della sessione su STATELESS.</li>
      * <li>Inserisce il {@code JWTRequestFilter} prima del filtro di autenticazione standard.</li>
@@ -64,6 +65,7 @@ public class Security {
                 // Authorization rules
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/**").permitAll() // Login and registration public
+                        .requestMatchers("/metrics").permitAll()   // scraped without a token, local requests only
                         .anyRequest().authenticated()               // others require a token
                 )
 
@@ -0,0 +1,112 @@
+package backend.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.cfg.DatatypeFeature;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.cfg.EnumFeature;
+import tools.jackson.databind.cfg.JsonNodeFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import tools.jackson.dataformat.smile.SmileWriteFeature;
+
+/**
+ * Formato binario Smile (JSON binario di Jackson) in alternativa al JSON testuale.
+ * <p>
+ * Il formato è scelto dal client: con {@code Accept: }{@value #SMILE_VALUE} le risposte dei controller vengono
+ * serializzate in Smile, con {@code Content-Type: }{@value #SMILE_VALUE} il corpo delle richieste viene letto
+ * come Smile. Senza questi header nulla cambia. Smile è più compatto e più veloce da leggere e scrivere:
+ * numeri e date non passano da testo, i nomi dei campi ripetuti (es. in una lista di issue) vengono scritti
+ * una volta sola e gli array di byte (l'immagine di una issue) viaggiano così come sono invece che in base64.
+ * </p>
+ * <p>
+ * Il mapper Smile riprende le impostazioni del mapper JSON configurato da Spring Boot ({@code spring.jackson.*}),
+ * così i due formati rappresentano i DTO allo stesso modo.
+ * </p>
+ */
+@Configuration
+public class SmileConfiguration {
+
+    /**
+     * Tipo di contenuto Smile.
+     */
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    /**
+     * Tipo di contenuto Smile, come {@link MediaType}.
+     */
+    public static final MediaType SMILE = MediaType.parseMediaType(SMILE_VALUE);
+
+    /**
+     * Nome del bean del mapper Smile, da indicare con {@code @Qualifier} per riceverlo.
+     */
+    public static final String SMILE_MAPPER = "smileMapper";
+
+    /**
+     * Mapper Smile con le stesse impostazioni del mapper JSON dell'applicazione.
+     * <p>
+     * Non è un candidato predefinito: chi chiede un {@link ObjectMapper} continua a ricevere il mapper JSON.
+     * </p>
+     *
+     * @param jsonMapper Il mapper JSON configurato da Spring Boot.
+     * @return Il mapper Smile.
+     */
+    @Bean(name = SMILE_MAPPER, defaultCandidate = false)
+    public SmileMapper smileMapper(JsonMapper jsonMapper) {
+        return smileMapperLike(jsonMapper);
+    }
+
+    /**
+     * Registra il convertitore Smile dei controller al posto di quello predefinito, che userebbe un mapper
+     * con le impostazioni di base di Jackson.
+     *
+     * @param smileMapper Il mapper Smile dell'applicazione.
+     * @return Il customizer dei convertitori dei controller.
+     */
+    @Bean
+    public ServerHttpMessageConvertersCustomizer smileHttpMessageConverter(@Qualifier(SMILE_MAPPER) SmileMapper smileMapper) {
+        return builder -> builder.withSmileConverter(new JacksonSmileHttpMessageConverter(smileMapper));
+    }
+
+    /**
+     * Crea un mapper Smile con le stesse funzionalità (abilitate o disabilitate) del mapper indicato.
+     * <p>
+     * Gli array di byte vengono scritti così come sono, senza la codifica a 7 bit che Smile usa di default
+     * (HTTP trasporta byte qualsiasi), e anche i valori stringa brevi ripetuti (es. email degli sviluppatori
+     * nella dashboard) vengono scritti una volta sola.
+     * </p>
+     *
+     * @param objectMapper Il mapper da cui copiare le impostazioni.
+     * @return Il mapper Smile.
+     */
+    public static SmileMapper smileMapperLike(ObjectMapper objectMapper) {
+
+        SmileMapper.Builder builder = SmileMapper.builder()
+                .disable(SmileWriteFeature.ENCODE_BINARY_AS_7BIT)
+                .enable(SmileWriteFeature.CHECK_SHARED_STRING_VALUES);
+
+        for (MapperFeature feature : MapperFeature.values())
+            builder.configure(feature, objectMapper.isEnabled(feature));
+
+        for (SerializationFeature feature : SerializationFeature.values())
+            builder.configure(feature, objectMapper.isEnabled(feature));
+
+        for (DeserializationFeature feature : DeserializationFeature.values())
+            builder.configure(feature, objectMapper.isEnabled(feature));
+
+        for (DatatypeFeature[] features : new DatatypeFeature[][]{DateTimeFeature.values(), EnumFeature.values(), JsonNodeFeature.values()})
+            for (DatatypeFeature feature : features)
+                builder.configure(feature, objectMapper.isEnabled(feature));
+
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,78 @@
+package backend.config;
+
+import backend.database.dao.StatisticsRollupDAO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.SQLException;
+
+/**
+ * Aggiornamento e ricostruzione periodici dell'aggregato mensile delle statistiche.
+ * <p>
+ * Le scritture sulle issue segnalano i mesi da ricalcolare, che vengono aggiornati insieme a intervalli brevi
+ * ({@code statistics.rollup.refresh-delay}). La ricostruzione completa, eseguita
+ * all'avvio e poi a intervalli regolari ({@code statistics.rollup.rebuild-delay}), riallinea i dati
+ * nel caso in cui un aggiornamento incrementale sia fallito o le issue siano state modificate
+ * direttamente sul database.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+public class StatisticsRollupScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsRollupScheduler.class);
+
+    /**
+     * DAO dell'aggregato mensile da ricostruire.
+     */
+    private final StatisticsRollupDAO statisticsRollupDAO;
+
+    /**
+     * Costruttore per l'iniezione delle dipendenze.
+     *
+     * @param statisticsRollupDAO Il DAO dell'aggregato mensile.
+     */
+    public StatisticsRollupScheduler(StatisticsRollupDAO statisticsRollupDAO) {
+        this.statisticsRollupDAO = statisticsRollupDAO;
+    }
+
+    /**
+     * Ricalcola i mesi dell'aggregato segnalati dalle scritture sulle issue.
+     * <p>
+     * Un errore viene solo registrato nel log: i mesi restano in attesa e vengono ritentati alla scadenza successiva.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${statistics.rollup.refresh-delay:PT5S}")
+    public void refreshPendingMonths() {
+
+        try {
+
+            statisticsRollupDAO.refreshPendingMonths();
+
+        } catch (SQLException e) {
+            logger.warn("Statistics rollup refresh failed", e);
+        }
+    }
+
+    /**
+     * Ricostruisce l'intero aggregato mensile a partire dalle issue.
+     * <p>
+     * Un errore viene solo registrato nel log: la ricostruzione verrà ritentata alla scadenza successiva.
+     * </p>
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${statistics.rollup.rebuild-delay:PT6H}")
+    public void rebuildRollup() {
+
+        try {
+
+            statisticsRollupDAO.rebuild();
+
+        } catch (SQLException e) {
+            logger.warn("Statistics rollup rebuild failed", e);
+        }
+    }
+
+}
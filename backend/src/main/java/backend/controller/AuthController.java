@@ -1,25 +1,26 @@
 package backend.controller;
 
+import backend.config.JWTService;
+import backend.config.PasswordHashingService;
 import backend.database.dao.UserDAO;
 import backend.dto.UserDTO;
-
-
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import backend.exception.ServiceOverloaded;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.sql.SQLException;
-import java.util.Date;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * Controller REST per la gestione dell'autenticazione degli utenti.
@@ -43,26 +44,40 @@ public class AuthController {
      * Componente per la codifica e la verifica delle password.
      * Utilizzato per confrontare la password fornita nel login con l' hash salvato
      * e per effettuare l' hashing della password di un nuovo utente prima del salvataggio.
+     * Le operazioni vengono eseguite su un pool dedicato, non sui thread delle richieste.
+     */
+    private final PasswordHashingService passwordHashing;
+
+    /**
+     * Servizio per la firma dei token JWT, con la chiave derivata una sola volta all'avvio.
+     */
+    private final JWTService jwtService;
+
+    /**
+     * Esecutore delle operazioni sul database che seguono l'hashing (l'esecutore dei task dell'applicazione),
+     * così i thread del pool di hashing restano dedicati al calcolo degli hash.
      */
-    private final PasswordEncoder passwordEncoder;
+    private final Executor databaseExecutor;
 
     /**
-     * Chiave segreta utilizzata per la firma e la verifica dei token JWT.
-     * Il valore viene iniettato automaticamente dal file di configurazione (application.properties)
-     * tramite l'annotazione {@code @Value}.
+     * Durata di validità dei token emessi al login.
      */
-    @Value("${jwt.secret}")
-    private String secret;
+    private static final Duration TOKEN_VALIDITY = Duration.ofHours(24);
 
     /**
      * Costruttore per l'iniezione delle dipendenze.
      *
      * @param userDao         DAO per l'accesso ai dati utente.
-     * @param passwordEncoder Encoder per la gestione sicura delle password.
+     * @param passwordHashing Servizio per l'hashing e la verifica delle password.
+     * @param jwtService      Servizio per la firma dei token JWT.
+     * @param databaseExecutor Esecutore dei task dell'applicazione, usato per l'inserimento dei nuovi utenti.
      */
-    public AuthController(UserDAO userDao, PasswordEncoder passwordEncoder) {
+    public AuthController(UserDAO userDao, PasswordHashingService passwordHashing, JWTService jwtService,
+                          @Qualifier("applicationTaskExecutor") Executor databaseExecutor) {
         this.userDao = userDao;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashing = passwordHashing;
+        this.jwtService = jwtService;
+        this.databaseExecutor = databaseExecutor;
     }
 
     /**
@@ -71,33 +86,36 @@ public class AuthController {
      * Verifica se l'email esiste nel database e se la password fornita corrisponde all' hash memorizzato.
      * Se le credenziali sono valide, genera un token JWT firmato valido per 24 ore.
      * </p>
+     * <p>
+     * La verifica della password avviene sul pool di {@link PasswordHashingService}: la risposta viene
+     * completata in modo asincrono e il thread della richiesta resta libero per gli altri endpoint.
+     * </p>
      *
      * @param request Oggetto contenente email e password dell'utente.
-     * @return ResponseEntity contenente il token JWT e i dati dell'utente se il login ha successo.
+     * @return Future della ResponseEntity contenente il token JWT e i dati dell'utente se il login ha successo.
      * @throws SQLException In caso di errori di accesso al database.
      * @throws ResponseStatusException Con stato 401 (UNAUTHORIZED) se le credenziali sono errate.
+     * @throws ServiceOverloaded Con stato 503 (SERVICE_UNAVAILABLE) se il pool di hashing è saturo.
      */
     @PostMapping("/auth/login")
-    public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest request) throws SQLException {
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@RequestBody LoginRequest request) throws SQLException {
 
         Optional<UserDTO> userOpt = Optional.ofNullable(userDao.searchUserByMail(request.getEmail()));
 
         if (userOpt.isPresent()) {
             UserDTO userDto = userOpt.get();
 
-            if (passwordEncoder.matches(request.getPassword(), userDto.getPassword())) {
+            return passwordHashing.matches(request.getPassword(), userDto.getPassword()).thenApply(matches -> {
 
-                String token = Jwts.builder()
-                        .setSubject(userDto.getEmail())
-                        .setIssuedAt(new Date())
-                        .setExpiration(new Date(System.currentTimeMillis() + 86400000)) // 24 hours
-                        .signWith(Keys.hmacShaKeyFor(secret.getBytes()))
-                        .compact();
+                if (!matches)
+                    throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials");
+
+                String token = jwtService.createToken(userDto.getEmail(), TOKEN_VALIDITY);
 
                 userDto.setPassword(null);
 
                 return ResponseEntity.ok(new AuthResponse(token, userDto));
-            }
+            });
         }
 
         throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials");
@@ -136,27 +154,40 @@ public class AuthController {
      * Verifica che l'email non sia già presente nel sistema, esegue l' hashing della password
      * e salva il nuovo utente tramite il DAO.
      * </p>
+     * <p>
+     * Come per il login, l'hashing avviene sul pool di {@link PasswordHashingService} e la risposta viene
+     * completata in modo asincrono. L'inserimento nel database prosegue poi sull'esecutore dei task
+     * dell'applicazione: il pool di hashing, dimensionato sui core, resta riservato al calcolo degli hash.
+     * </p>
      *
      * @param request Oggetto contenente email, password e ruolo del nuovo utente.
-     * @return ResponseEntity con un messaggio di successo o errore (400) se l'email è già in uso.
+     * @return Future della ResponseEntity con un messaggio di successo o errore (400) se l'email è già in uso.
      * @throws SQLException In caso di errori durante il salvataggio nel database.
+     * @throws ServiceOverloaded Con stato 503 (SERVICE_UNAVAILABLE) se il pool di hashing è saturo.
      */
     @PostMapping("/auth/register")
-    public ResponseEntity<String> register(@RequestBody RegisterRequest request) throws SQLException {
+    public CompletableFuture<ResponseEntity<String>> register(@RequestBody RegisterRequest request) throws SQLException {
 
         if (userDao.searchUserByMail(request.getEmail()) != null) {
-            return ResponseEntity.badRequest().body("Error: email already used!");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Error: email already used!"));
         }
 
-        String hashedPassword = passwordEncoder.encode(request.getPassword());
+        return passwordHashing.encode(request.getPassword()).thenApplyAsync(hashedPassword -> {
 
-        UserDTO newUser = new UserDTO();
-        newUser.setEmail(request.getEmail());
-        newUser.setPassword(hashedPassword);
-        newUser.setRole(request.getRole());
-        userDao.registerNewUser(newUser);
+            UserDTO newUser = new UserDTO();
+            newUser.setEmail(request.getEmail());
+            newUser.setPassword(hashedPassword);
+            newUser.setRole(request.getRole());
+
+            try {
+                userDao.registerNewUser(newUser);
+            } catch (SQLException e) {
+                // Unwrapped by Spring MVC and handled as a database error
+                throw new CompletionException(e);
+            }
 
-        return ResponseEntity.ok("Registration success!");
+            return ResponseEntity.ok("Registration success!");
+        }, databaseExecutor);
 
     }
 
@@ -0,0 +1,150 @@
+package backend.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Metodi di supporto per le risposte condizionali (ETag / If-None-Match) dei controller.
+ * <p>
+ * Gli ETag derivano da contatori di versione mantenuti dal database (versione della issue,
+ * contatore delle modifiche del progetto), quindi si calcolano senza leggere né serializzare i dati:
+ * se il client ha già la rappresentazione corrente, la risposta è un 304 senza corpo.
+ * </p>
+ * <p>
+ * Sono ETag deboli ({@code W/"..."}): la stessa versione dei dati può viaggiare compressa con gzip o no,
+ * e i due corpi non sono identici byte per byte. Con un ETag forte Tomcat non comprimerebbe la risposta;
+ * la verifica di {@code If-None-Match} usa comunque il confronto debole.
+ * </p>
+ * <p>
+ * La stessa risorsa può essere servita in JSON o in Smile a seconda dell'header {@code Accept}:
+ * il formato fa parte dell'ETag e le risposte dichiarano {@code Vary: Accept}, così né il client né una cache
+ * intermedia scambiano una rappresentazione per l'altra.
+ * </p>
+ */
+final class ETags {
+
+    /**
+     * Politica di cache comune: il client può conservare la risposta, ma deve sempre rivalidarla.
+     */
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    /**
+     * Compone un ETag debole dalle parti indicate.
+     *
+     * @param parts Le parti che identificano la rappresentazione (tipo di risorsa, contatori, parametri).
+     * @return L'ETag con prefisso {@code W/} e tra virgolette, pronto per l'header.
+     */
+    static String of(Object... parts) {
+
+        StringBuilder eTag = new StringBuilder("W/\"");
+
+        for (int i = 0; i < parts.length; i++) {
+
+            if (i > 0)
+                eTag.append('-');
+
+            eTag.append(parts[i]);
+        }
+
+        return eTag.append('"').toString();
+    }
+
+    /**
+     * Riassume un valore di lunghezza arbitraria (es. la query string di una ricerca) in una parte di ETag.
+     * <p>
+     * Usa i primi 128 bit dello SHA-256 del valore: a differenza di {@code hashCode()}, a 32 bit,
+     * due valori diversi non producono in pratica lo stesso ETag, quindi una ricerca non riceve mai
+     * un 304 valido per un'altra.
+     * </p>
+     *
+     * @param value Il valore da riassumere.
+     * @return Il digest in esadecimale (32 caratteri).
+     */
+    static String digest(String value) {
+
+        try {
+
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+
+            return HexFormat.of().formatHex(Arrays.copyOf(hash, 16));
+
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Inizia una risposta 200 OK con ETag, Cache-Control, Vary e il formato del corpo indicato.
+     *
+     * @param eTag   L'ETag della rappresentazione, che deve includere il formato.
+     * @param format Il formato del corpo (JSON o Smile), vedi {@link JsonStreams#responseFormat}.
+     * @return Il builder della risposta, a cui manca solo il corpo.
+     */
+    static ResponseEntity.BodyBuilder ok(String eTag, MediaType format) {
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format);
+    }
+
+    /**
+     * Costruisce la risposta 204 No Content per l'ETag indicato.
+     *
+     * @param eTag L'ETag della rappresentazione corrente.
+     * @param <T>  Il tipo del corpo (assente) della risposta.
+     * @return La risposta 204 con ETag, Cache-Control e Vary.
+     */
+    static <T> ResponseEntity<T> noContent(String eTag) {
+
+        return ResponseEntity.noContent()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
+    }
+
+    /**
+     * Imposta Cache-Control e Vary sulle risposte scritte direttamente in streaming,
+     * prima della verifica di {@code If-None-Match}.
+     *
+     * @param response La risposta HTTP.
+     */
+    static void setCacheHeaders(HttpServletResponse response) {
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+
+    /**
+     * Costruisce la risposta 304 Not Modified per l'ETag indicato.
+     *
+     * @param eTag L'ETag della rappresentazione corrente.
+     * @param <T>  Il tipo del corpo (assente) della risposta.
+     * @return La risposta 304 con ETag, Cache-Control e Vary.
+     */
+    static <T> ResponseEntity<T> notModified(String eTag) {
+
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
+    }
+
+}
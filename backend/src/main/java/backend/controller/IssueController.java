@@ -1,24 +1,59 @@
 package backend.controller;
 
+import backend.config.SmileConfiguration;
 import backend.database.dao.IssueDAO;
+import backend.database.dao.ProjectDAO;
+import backend.database.dao.StatisticsRollupDAO;
 
 import backend.dto.IssueDTO;
+import backend.dto.IssueAssignmentDTO;
+import backend.dto.IssueBulkResultDTO;
+import backend.dto.IssueImageDTO;
+import backend.dto.IssueImportResultDTO;
+import backend.dto.IssuePageDTO;
+import backend.dto.IssueSortDTO;
+import backend.dto.IssueStatusChangeDTO;
 import backend.dto.IssueStatusDTO;
 
 import backend.dto.IssueTypeDTO;
 import backend.dto.UserDTO;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
-
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Controller REST per la gestione delle segnalazioni (Issue).
@@ -39,13 +74,87 @@ public class IssueController {
      */
     private final IssueDAO issueDAO;
 
+    /**
+     * DAO dei progetti, usato per leggere il contatore delle modifiche da cui derivano gli ETag della ricerca.
+     */
+    private final ProjectDAO projectDAO;
+
+    /**
+     * DAO dell'aggregato mensile delle statistiche, a cui vengono segnalati i mesi toccati da un'importazione massiva.
+     */
+    private final StatisticsRollupDAO statisticsRollupDAO;
+
+    /**
+     * Lettore JSON delle issue, usato per le righe dell'importazione massiva.
+     */
+    private final ObjectReader issueReader;
+
+    /**
+     * Mapper JSON dell'applicazione, usato per scrivere in streaming i risultati della ricerca.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Mapper Smile dell'applicazione, usato per i risultati in streaming chiesti in Smile.
+     */
+    private final SmileMapper smileMapper;
+
+    /**
+     * Numero di issue salvate con un singolo batch durante l'importazione massiva.
+     */
+    private final int importBatchSize;
+
+    /**
+     * Oltre questo numero di partizioni (progetto, mese) toccate da un'importazione, l'aggregato mensile
+     * viene ricostruito per intero invece di ricalcolare le partizioni una per una.
+     */
+    private static final int MAX_PARTITIONS_TO_MARK = 200;
+
+    /**
+     * Tipo di contenuto JSON Lines: un oggetto JSON per riga.
+     */
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    /**
+     * Logger per il riepilogo delle importazioni massive.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(IssueController.class);
+
+    /**
+     * Header HTTP in cui viene restituito il token per richiedere la pagina successiva della ricerca.
+     */
+    public static final String NEXT_PAGE_TOKEN_HEADER = "X-Next-Page-Token";
+
+    /**
+     * Dimensione massima consentita per una pagina di risultati.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Numero massimo di elementi accettati da un aggiornamento massivo di stato o di assegnazione.
+     */
+    public static final int MAX_BULK_SIZE = 1000;
+
     /**
      * Costruttore per l'iniezione delle dipendenze.
      *
-     * @param issueDAO Il DAO per la gestione delle issue.
+     * @param issueDAO            Il DAO per la gestione delle issue.
+     * @param projectDAO          Il DAO per la gestione dei progetti.
+     * @param statisticsRollupDAO Il DAO dell'aggregato mensile delle statistiche.
+     * @param objectMapper        Il mapper JSON configurato dall'applicazione.
+     * @param smileMapper         Il mapper Smile configurato dall'applicazione.
+     * @param importBatchSize     Il numero di issue per batch nell'importazione massiva.
      */
-    public IssueController(IssueDAO issueDAO) {
+    public IssueController(IssueDAO issueDAO, ProjectDAO projectDAO, StatisticsRollupDAO statisticsRollupDAO,
+                           ObjectMapper objectMapper, @Qualifier(SmileConfiguration.SMILE_MAPPER) SmileMapper smileMapper,
+                           @Value("${issues.import.batch-size:1000}") int importBatchSize) {
         this.issueDAO = issueDAO;
+        this.projectDAO = projectDAO;
+        this.statisticsRollupDAO = statisticsRollupDAO;
+        this.issueReader = objectMapper.readerFor(IssueDTO.class);
+        this.objectMapper = objectMapper;
+        this.smileMapper = smileMapper;
+        this.importBatchSize = importBatchSize;
     }
 
     /**
@@ -55,7 +164,7 @@ public class IssueController {
      * @return ResponseEntity con un messaggio di conferma in caso di successo.
      * @throws SQLException In caso di errori durante il salvataggio nel database.
      */
-    @PostMapping
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<String> reportIssue(@RequestBody IssueDTO issueToReport) throws SQLException {
 
         issueDAO.reportIssue(issueToReport);
@@ -64,82 +173,479 @@ public class IssueController {
 
     }
 
+    /**
+     * Crea e registra una nuova segnalazione ricevuta come multipart/form-data.
+     * <p>
+     * La parte {@code issue} contiene il JSON della segnalazione, la parte opzionale {@code image}
+     * il file allegato in formato binario (senza codifica base64). Il file viene salvato su disco
+     * dal container durante la ricezione e poi copiato in streaming nel database.
+     * </p>
+     *
+     * @param issueToReport DTO contenente i dati della segnalazione da creare.
+     * @param image         (Opzionale) L'immagine allegata.
+     * @return ResponseEntity con un messaggio di conferma in caso di successo.
+     * @throws SQLException In caso di errori durante il salvataggio nel database.
+     * @throws IOException  In caso di errori di lettura del file ricevuto.
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<String> reportIssueMultipart(
+            @RequestPart("issue") IssueDTO issueToReport,
+            @RequestPart(value = "image", required = false) MultipartFile image) throws SQLException, IOException {
+
+        if (image == null || image.isEmpty()) {
+
+            issueToReport.setImage(null);
+            issueDAO.reportIssue(issueToReport, null, 0);
+
+        } else {
+
+            try (InputStream imageStream = image.getInputStream()) {
+                issueDAO.reportIssue(issueToReport, imageStream, image.getSize());
+            }
+
+        }
+
+        return ResponseEntity.ok("Report success!");
+
+    }
+
+    /**
+     * Importa in blocco le segnalazioni contenute nel corpo della richiesta, in formato JSON Lines.
+     * <p>
+     * Ogni riga è il JSON di una issue (campi come in {@code POST /issues}, più {@code reportDate},
+     * {@code resolutionDate} e {@code assignedDeveloper.id} facoltativi per conservare la storia).
+     * Il corpo viene letto riga per riga mentre arriva e le issue vengono salvate a blocchi di
+     * {@code issues.import.batch-size}, ciascuno con un batch JDBC in un'unica transazione: la memoria usata
+     * non dipende dalla dimensione del file.
+     * </p>
+     * <p>
+     * Le righe non valide o rifiutate dal database vengono riportate nella risposta senza interrompere
+     * l'importazione. Al termine i mesi toccati vengono segnalati all'aggregato mensile delle statistiche,
+     * che li ricalcola in background.
+     * </p>
+     *
+     * @param request La richiesta, da cui viene letto il corpo in streaming.
+     * @return ResponseEntity con il riepilogo dell'importazione (issue salvate, scartate e velocità).
+     * @throws SQLException In caso di errori di connessione al database.
+     * @throws IOException  In caso di errori di lettura del corpo della richiesta.
+     */
+    @PostMapping(value = "/import", consumes = NDJSON_VALUE)
+    public ResponseEntity<IssueImportResultDTO> importIssues(HttpServletRequest request) throws SQLException, IOException {
+
+        long start = System.nanoTime();
+
+        IssueImportResultDTO result = new IssueImportResultDTO();
+        Set<RollupPartition> partitions = new HashSet<>();
+
+        List<IssueDTO> batch = new ArrayList<>(importBatchSize);
+        List<Long> batchLines = new ArrayList<>(importBatchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+
+            String line;
+            long lineNumber = 0;
+
+            while ((line = reader.readLine()) != null) {
+
+                lineNumber++;
+
+                if (line.isBlank())
+                    continue;
+
+                IssueDTO issue;
+
+                try {
+                    issue = issueReader.readValue(line);
+                } catch (JacksonException e) {
+                    result.addError(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                    continue;
+                }
+
+                String invalidField = missingImportField(issue);
+
+                if (invalidField != null) {
+                    result.addError(lineNumber, "Missing " + invalidField);
+                    continue;
+                }
+
+                batch.add(issue);
+                batchLines.add(lineNumber);
+
+                if (batch.size() == importBatchSize)
+                    importBatch(batch, batchLines, result, partitions);
+            }
+        }
+
+        importBatch(batch, batchLines, result, partitions);
+
+        markImportedPartitions(partitions);
+
+        long elapsedNanos = System.nanoTime() - start;
+        long processed = result.getImported() + result.getFailed();
+
+        result.setElapsedMillis(elapsedNanos / 1_000_000);
+        result.setRowsPerSecond(elapsedNanos == 0 ? 0 : processed * 1e9 / elapsedNanos);
+
+        logger.info("Imported {} issues ({} rejected) at {} rows/s",
+                result.getImported(), result.getFailed(), Math.round(result.getRowsPerSecond()));
+
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Partizione dell'aggregato mensile (progetto, mese di segnalazione) toccata da un'importazione.
+     */
+    private record RollupPartition(int projectId, LocalDate month) {}
+
+    /**
+     * Restituisce il nome del primo campo obbligatorio mancante di una issue da importare, oppure {@code null}.
+     */
+    private static String missingImportField(IssueDTO issue) {
+
+        if (issue.getTitle() == null || issue.getTitle().isBlank())
+            return "title";
+        if (issue.getPriority() == null)
+            return "priority";
+        if (issue.getType() == null)
+            return "type";
+        if (issue.getStatus() == null)
+            return "status";
+        if (issue.getReportingUser() == null || issue.getReportingUser().getId() == null)
+            return "reportingUser.id";
+        if (issue.getRelatedProject() == null || issue.getRelatedProject().getId() == null)
+            return "relatedProject.id";
+
+        return null;
+    }
+
+    /**
+     * Salva un blocco di issue, registra l'esito nel riepilogo e svuota il blocco.
+     */
+    private void importBatch(List<IssueDTO> batch, List<Long> batchLines, IssueImportResultDTO result,
+                             Set<RollupPartition> partitions) throws SQLException {
+
+        if (batch.isEmpty())
+            return;
+
+        List<String> errors = issueDAO.reportIssues(batch);
+
+        for (int i = 0; i < batch.size(); i++) {
+
+            if (errors.get(i) != null) {
+                result.addError(batchLines.get(i), errors.get(i));
+                continue;
+            }
+
+            result.setImported(result.getImported() + 1);
+
+            IssueDTO issue = batch.get(i);
+            LocalDate reportDay = issue.getReportDate() != null
+                    ? issue.getReportDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate()
+                    : LocalDate.now();
+
+            partitions.add(new RollupPartition(issue.getRelatedProject().getId(), reportDay.withDayOfMonth(1)));
+        }
+
+        batch.clear();
+        batchLines.clear();
+    }
+
+    /**
+     * Segnala all'aggregato mensile le partizioni toccate dall'importazione.
+     * <p>
+     * Il ricalcolo avviene in background, fuori dalla richiesta: oltre {@value #MAX_PARTITIONS_TO_MARK} partizioni
+     * viene chiesta una ricostruzione completa, anch'essa eseguita dal ricalcolo periodico.
+     * </p>
+     */
+    private void markImportedPartitions(Set<RollupPartition> partitions) {
+
+        if (partitions.size() > MAX_PARTITIONS_TO_MARK) {
+            statisticsRollupDAO.markRebuildPending();
+            return;
+        }
+
+        for (RollupPartition partition : partitions)
+            statisticsRollupDAO.markPending(partition.projectId(), partition.month());
+    }
+
     /**
      * Effettua una ricerca avanzata delle segnalazioni in base a molteplici criteri.
      * <p>
      * Permette di filtrare le issue per titolo, stato, tag, tipo, priorità,
      * e in base agli utenti coinvolti (reporter o risolutore).
      * </p>
+     * <p>
+     * Se viene specificato {@code pageSize}, la ricerca è paginata a cursore (keyset) su (priorità, id):
+     * la risposta contiene al più {@code pageSize} issue e, se esistono altri risultati, l'header
+     * {@value #NEXT_PAGE_TOKEN_HEADER} con il token opaco da passare come {@code pageToken}
+     * per ottenere la pagina successiva. Senza {@code pageSize} vengono restituiti tutti i risultati.
+     * </p>
+     * <p>
+     * Il parametro {@code text} attiva la ricerca full-text su titolo e descrizione (indice GIN sul database);
+     * in questo caso la ricerca è sempre paginata e, con {@code sort=relevance}, i risultati sono ordinati
+     * dal più pertinente al meno pertinente.
+     * </p>
+     * <p>
+     * La risposta porta un ETag derivato dal contatore delle modifiche del progetto e dai parametri della
+     * richiesta: se il client invia un {@code If-None-Match} corrispondente, la risposta è 304 Not Modified
+     * e la ricerca non viene eseguita.
+     * </p>
      *
      * @param title      (Opzionale) Titolo o parte del titolo da cercare.
      * @param status     (Opzionale) Stato della segnalazione (es. OPEN, CLOSED).
-     * @param tags       (Opzionale) Tag associati alla segnalazione.
+     * @param tags       (Opzionale) Tag associati alla segnalazione, separati da ';'.
+     * @param tagMatch   (Opzionale) "any" per le issue con almeno uno dei tag, altrimenti devono averli tutti.
      * @param type       (Opzionale) Tipologia di segnalazione (es. BUG, FEATURE).
      * @param priority   (Opzionale) Livello di priorità.
      * @param resolverId (Opzionale) ID dello sviluppatore assegnato.
      * @param reporterId (Opzionale) ID dell'utente che ha aperto la segnalazione.
      * @param projectId  ID del progetto (obbligatorio) in cui effettuare la ricerca.
-     * @return ResponseEntity contenente la lista delle segnalazioni trovate o 204 No Content se vuota.
-     * @throws SQLException In caso di errori durante la lettura dal database.
+     * @param pageSize   (Opzionale) Numero massimo di issue per pagina (da 1 a {@value #MAX_PAGE_SIZE}).
+     * @param pageToken  (Opzionale) Token di continuazione restituito dalla pagina precedente.
+     * @param order      (Opzionale) "asc" per priorità crescente, altrimenti decrescente. Usato solo con la paginazione.
+     * @param text       (Opzionale) Testo da cercare in titolo e descrizione (sintassi web: "frase", -escluso, OR).
+     * @param sort       (Opzionale) "relevance" per ordinare per pertinenza rispetto a {@code text}, altrimenti per priorità.
+     * @param webRequest La richiesta corrente, usata per la verifica dell'ETag.
+     * @return ResponseEntity contenente la lista delle segnalazioni trovate, 204 No Content se vuota
+     *         o 304 Not Modified se i risultati non sono cambiati.
+     * @throws SQLException            In caso di errori durante la lettura dal database.
+     * @throws ResponseStatusException 400 Bad Request se {@code pageSize} è fuori intervallo, il token non è valido
+     *                                 o si richiede l'ordinamento per pertinenza senza {@code text}.
      */
     @GetMapping("/search")
     public ResponseEntity<List<IssueDTO>> searchIssues(
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String tags,
+            @RequestParam(required = false) String tagMatch,
             @RequestParam(required = false) String type,
             @RequestParam(required = false) Integer priority,
             @RequestParam(required = false) Integer resolverId,
             @RequestParam(required = false) Integer reporterId,
-            @RequestParam Integer projectId
+            @RequestParam Integer projectId,
+            @RequestParam(required = false) Integer pageSize,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(required = false) String order,
+            @RequestParam(required = false) String text,
+            @RequestParam(required = false) String sort,
+            ServletWebRequest webRequest
     ) throws SQLException{
 
-            IssueDTO issueToSearch = new IssueDTO();
-            issueToSearch.setTitle(title);
-            if(status != null && !status.isEmpty())
-                issueToSearch.setStatus(IssueStatusDTO.valueOf(status));
-            else
-                issueToSearch.setStatus(null);
+            IssueDTO issueToSearch = searchFilterOf(title, status, tags, type, priority);
+
+            IssueSortDTO issueSort;
 
-            issueToSearch.setTags(tags);
+            if ("relevance".equalsIgnoreCase(sort)) {
+
+                if (text == null || text.isBlank())
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Relevance sort requires a text query");
+
+                issueSort = IssueSortDTO.RELEVANCE;
+
+            } else {
+                issueSort = "asc".equalsIgnoreCase(order) ? IssueSortDTO.PRIORITY_ASC : IssueSortDTO.PRIORITY_DESC;
+            }
 
-            if(type != null && !type.isEmpty())
-                issueToSearch.setType(IssueTypeDTO.valueOf(type));
-            else
-                issueToSearch.setType(null);
+            boolean fullText = text != null && !text.isBlank();
+            boolean matchAnyTag = "any".equalsIgnoreCase(tagMatch);
 
-            issueToSearch.setPriority(priority);
+            // Read before searching: a change committed in between moves the counter and the next request refetches
+            MediaType format = JsonStreams.responseFormat(webRequest.getRequest());
+            String queryString = String.valueOf(webRequest.getRequest().getQueryString());
+            String eTag = ETags.of("search", format.getSubtype(), projectId, projectDAO.getChangeCount(projectId),
+                    ETags.digest(queryString));
 
+            if (webRequest.checkNotModified(eTag)) {
+                return ETags.notModified(eTag);
+            }
 
+            if (pageSize != null || fullText) {
+                // Full-text results are always paged: an unbounded ranked result set is what we want to avoid
+                return searchIssuesPage(issueToSearch, resolverId, reporterId, projectId, matchAnyTag,
+                        pageSize != null ? pageSize : MAX_PAGE_SIZE, pageToken, text, issueSort, eTag, format);
+            }
 
-            List<IssueDTO> searchResults = issueDAO.searchIssues(issueToSearch, resolverId, reporterId, projectId);
+            List<IssueDTO> searchResults = issueDAO.searchIssues(issueToSearch, resolverId, reporterId, projectId, matchAnyTag);
 
             if ( searchResults == null || searchResults.isEmpty()) {
                 // If searchResults is null or empty, return 204 No Content
-                return ResponseEntity.noContent().build();
+                return ETags.noContent(eTag);
             }
 
             //If there are data, return 200 OK with searchResult
-            return ResponseEntity.ok(searchResults);
+            return ETags.ok(eTag, format).body(searchResults);
+
+
+    }
+
+    /**
+     * Effettua la ricerca non paginata delle segnalazioni scrivendo i risultati in streaming.
+     * <p>
+     * Accetta gli stessi filtri di {@link #searchIssues} e restituisce le stesse issue nello stesso ordine,
+     * ma senza materializzarle: ogni riga letta dal cursore del database viene serializzata subito sulla risposta,
+     * quindi la memoria usata non dipende dal numero di risultati. Il corpo è un array JSON oppure, se il client
+     * invia {@code Accept: }{@value #NDJSON_VALUE}, una issue per riga (con {@value SmileConfiguration#SMILE_VALUE}, lo stesso
+     * array in Smile). Un risultato vuoto produce un array vuoto
+     * (o nessuna riga) con stato 200.
+     * </p>
+     * <p>
+     * Come per la ricerca normale, la risposta porta un ETag derivato dal contatore delle modifiche del progetto
+     * e un {@code If-None-Match} corrispondente produce 304 Not Modified senza eseguire la ricerca.
+     * </p>
+     *
+     * @param title      (Opzionale) Titolo o parte del titolo da cercare.
+     * @param status     (Opzionale) Stato della segnalazione.
+     * @param tags       (Opzionale) Tag associati alla segnalazione, separati da ';'.
+     * @param tagMatch   (Opzionale) "any" per le issue con almeno uno dei tag, altrimenti devono averli tutti.
+     * @param type       (Opzionale) Tipologia di segnalazione.
+     * @param priority   (Opzionale) Livello di priorità.
+     * @param resolverId (Opzionale) ID dello sviluppatore assegnato.
+     * @param reporterId (Opzionale) ID dell'utente che ha aperto la segnalazione.
+     * @param projectId  ID del progetto (obbligatorio) in cui effettuare la ricerca.
+     * @param webRequest La richiesta corrente, usata per la verifica dell'ETag e per il formato richiesto.
+     * @param response   La risposta HTTP su cui scrivere i risultati.
+     * @throws SQLException In caso di errori durante la lettura dal database.
+     * @throws IOException  In caso di errori di scrittura della risposta.
+     */
+    @GetMapping(value = "/search/stream", produces = {MediaType.APPLICATION_JSON_VALUE, NDJSON_VALUE, SmileConfiguration.SMILE_VALUE})
+    public void streamSearchIssues(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) String tagMatch,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Integer priority,
+            @RequestParam(required = false) Integer resolverId,
+            @RequestParam(required = false) Integer reporterId,
+            @RequestParam Integer projectId,
+            ServletWebRequest webRequest,
+            HttpServletResponse response
+    ) throws SQLException, IOException {
+
+        IssueDTO issueToSearch = searchFilterOf(title, status, tags, type, priority);
+        boolean ndjson = JsonStreams.acceptsNdjson(webRequest.getRequest());
+        boolean smile = !ndjson && JsonStreams.acceptsSmile(webRequest.getRequest());
+
+        // Read before searching: a change committed in between moves the counter and the next request refetches
+        String queryString = String.valueOf(webRequest.getRequest().getQueryString());
+        String eTag = ETags.of("search-stream", ndjson ? "ndjson" : smile ? "smile" : "json", projectId, projectDAO.getChangeCount(projectId),
+                ETags.digest(queryString));
+
+        ETags.setCacheHeaders(response);
+
+        if (webRequest.checkNotModified(eTag)) {
+            // 304 Not Modified and ETag header are already set
+            return;
+        }
+
+        JsonGenerator generator = smile ? JsonStreams.openSmile(smileMapper, response) : JsonStreams.open(objectMapper, response, ndjson);
+
+        if (!ndjson)
+            generator.writeStartArray();
+
+        issueDAO.streamIssues(issueToSearch, resolverId, reporterId, projectId, "any".equalsIgnoreCase(tagMatch),
+                generator::writePOJO);
+
+        if (ndjson)
+            generator.writeRaw('\n');
+        else
+            generator.writeEndArray();
+
+        // Only on success: see JsonStreams
+        generator.close();
+    }
+
+    /**
+     * Costruisce il DTO con i filtri di ricerca indicati nei parametri della richiesta.
+     */
+    private static IssueDTO searchFilterOf(String title, String status, String tags, String type, Integer priority) {
+
+        IssueDTO issueToSearch = new IssueDTO();
+        issueToSearch.setTitle(title);
+        if(status != null && !status.isEmpty())
+            issueToSearch.setStatus(IssueStatusDTO.valueOf(status));
+        else
+            issueToSearch.setStatus(null);
+
+        issueToSearch.setTags(tags);
+
+        if(type != null && !type.isEmpty())
+            issueToSearch.setType(IssueTypeDTO.valueOf(type));
+        else
+            issueToSearch.setType(null);
+
+        issueToSearch.setPriority(priority);
+
+        return issueToSearch;
+    }
+
+    /**
+     * Esegue la variante paginata della ricerca e costruisce la risposta.
+     * <p>
+     * Il token per la pagina successiva viaggia nell'header {@value #NEXT_PAGE_TOKEN_HEADER},
+     * così il corpo della risposta resta una semplice lista di issue, identica a quella non paginata.
+     * </p>
+     */
+    private ResponseEntity<List<IssueDTO>> searchIssuesPage(IssueDTO issueToSearch, Integer resolverId, Integer reporterId, Integer projectId, boolean matchAnyTag,
+                                                            int pageSize, String pageToken, String text, IssueSortDTO sort,
+                                                            String eTag, MediaType format) throws SQLException {
+
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
 
+        IssuePageDTO page;
 
+        try {
+
+            page = issueDAO.searchIssuesPage(issueToSearch, resolverId, reporterId, projectId,
+                    matchAnyTag, text, sort, pageToken, pageSize);
+
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page token");
+        }
+
+        if (page.getIssues().isEmpty()) {
+            return ETags.noContent(eTag);
+        }
+
+        ResponseEntity.BodyBuilder response = ETags.ok(eTag, format);
+
+        if (page.getNextPageToken() != null) {
+            response.header(NEXT_PAGE_TOKEN_HEADER, page.getNextPageToken());
+        }
+
+        return response.body(page.getIssues());
     }
 
     /**
      * Recupera i dettagli completi di una specifica segnalazione tramite il suo ID.
+     * <p>
+     * L'ETag della risposta deriva dalla versione della issue, incrementata a ogni modifica: se il client
+     * invia un {@code If-None-Match} corrispondente, la risposta è 304 Not Modified senza corpo.
+     * </p>
      *
-     * @param id L'identificativo univoco della segnalazione.
-     * @return ResponseEntity con il DTO della segnalazione se trovata, altrimenti 404 Not Found.
+     * @param id         L'identificativo univoco della segnalazione.
+     * @param webRequest La richiesta corrente, usata per la verifica dell'ETag.
+     * @return ResponseEntity con il DTO della segnalazione se trovata, 304 Not Modified se invariata,
+     *         altrimenti 404 Not Found.
      * @throws SQLException In caso di errori di accesso al database.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<IssueDTO> getIssueById(@PathVariable("id") int id) throws SQLException{
+    public ResponseEntity<IssueDTO> getIssueById(@PathVariable("id") int id, ServletWebRequest webRequest) throws SQLException{
 
         IssueDTO issue = issueDAO.getIssueById(id);
 
         if (issue != null) {
 
-            return ResponseEntity.ok(issue);
+            MediaType format = JsonStreams.responseFormat(webRequest.getRequest());
+            String eTag = ETags.of("issue", format.getSubtype(), id, issue.getVersion());
+
+            if (webRequest.checkNotModified(eTag)) {
+                return ETags.notModified(eTag);
+            }
+
+            return ETags.ok(eTag, format).body(issue);
 
         } else {
 
@@ -149,6 +655,45 @@ public class IssueController {
 
     }
 
+    /**
+     * Restituisce l'immagine allegata a una segnalazione.
+     * <p>
+     * I byte vengono trasferiti in streaming dal database alla risposta, con Content-Type e
+     * Content-Length già noti. L'ETag (forte) è l'impronta MD5 del contenuto: se il client invia
+     * un {@code If-None-Match} corrispondente, la risposta è 304 Not Modified e l'immagine non viene letta.
+     * </p>
+     *
+     * @param id         L'identificativo univoco della segnalazione.
+     * @param webRequest La richiesta corrente, usata per la verifica dell'ETag.
+     * @param response   La risposta HTTP su cui scrivere l'immagine.
+     * @throws SQLException            In caso di errori di accesso al database.
+     * @throws IOException             In caso di errori di scrittura della risposta.
+     * @throws ResponseStatusException 404 Not Found se la issue non esiste o non ha un'immagine allegata.
+     */
+    @GetMapping("/{id}/image")
+    public void getIssueImage(@PathVariable("id") int id, ServletWebRequest webRequest,
+                              HttpServletResponse response) throws SQLException, IOException {
+
+        IssueImageDTO imageInfo = issueDAO.getIssueImageInfo(id);
+
+        if (imageInfo == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Image not found");
+        }
+
+        // Cacheable by the client only, and always revalidated through the ETag
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        if (webRequest.checkNotModified("\"" + imageInfo.getChecksum() + "\"")) {
+            // 304 Not Modified and ETag header are already set
+            return;
+        }
+
+        response.setContentType(imageInfo.getContentType());
+        response.setContentLengthLong(imageInfo.getSize());
+
+        issueDAO.writeIssueImage(id, response.getOutputStream());
+    }
+
     /**
      * Aggiorna lo stato di avanzamento di una segnalazione.
      *
@@ -221,5 +766,72 @@ public class IssueController {
 
     }
 
+    /**
+     * Aggiorna lo stato di più segnalazioni con una sola richiesta (es. chiusura di uno sprint).
+     * <p>
+     * Tutti i cambi vengono applicati in un'unica transazione; la risposta riporta l'esito di ciascuno,
+     * nello stesso ordine della richiesta. I cambi rifiutati dal database (es. la risoluzione di una issue
+     * non assegnata) non annullano gli altri e vengono riportati con il motivo del rifiuto.
+     * </p>
+     *
+     * @param changes Le coppie (issueId, newStatus) da applicare, al massimo {@value #MAX_BULK_SIZE}.
+     * @return ResponseEntity con l'esito di ogni cambio di stato.
+     * @throws SQLException            In caso di errori durante l'aggiornamento nel database.
+     * @throws ResponseStatusException 400 Bad Request se un elemento è incompleto o gli elementi sono troppi.
+     */
+    @PutMapping("/status")
+    public ResponseEntity<List<IssueBulkResultDTO>> updateIssueStatuses(
+            @RequestBody List<IssueStatusChangeDTO> changes) throws SQLException{
+
+        checkBulkSize(changes.size());
+
+        for (IssueStatusChangeDTO change : changes) {
+            if (change.getIssueId() == null || change.getNewStatus() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Status error: missing issueId or newStatus");
+            }
+        }
+
+        return ResponseEntity.ok(issueDAO.updateStatuses(changes));
+
+    }
+
+    /**
+     * Assegna più segnalazioni ai rispettivi sviluppatori con una sola richiesta (es. ribilanciamento di un team).
+     * <p>
+     * Tutte le assegnazioni vengono applicate in un'unica transazione; la risposta riporta l'esito di ciascuna,
+     * nello stesso ordine della richiesta, con lo sviluppatore assegnato.
+     * Le assegnazioni rifiutate dal database non annullano le altre.
+     * </p>
+     *
+     * @param assignments Le coppie (issueId, resolverEmail) da applicare, al massimo {@value #MAX_BULK_SIZE}.
+     * @return ResponseEntity con l'esito di ogni assegnazione.
+     * @throws SQLException            In caso di errori nel database.
+     * @throws ResponseStatusException 400 Bad Request se un elemento è incompleto o gli elementi sono troppi.
+     */
+    @PutMapping("/resolver")
+    public ResponseEntity<List<IssueBulkResultDTO>> assignIssuesToDevelopers(
+            @RequestBody List<IssueAssignmentDTO> assignments) throws SQLException{
+
+        checkBulkSize(assignments.size());
+
+        for (IssueAssignmentDTO assignment : assignments) {
+            if (assignment.getIssueId() == null || assignment.getResolverEmail() == null || assignment.getResolverEmail().isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Assigning error: missing issueId or email");
+            }
+        }
+
+        return ResponseEntity.ok(issueDAO.assignIssuesToDevelopers(assignments));
+
+    }
+
+    /**
+     * Rifiuta gli aggiornamenti massivi con più di {@value #MAX_BULK_SIZE} elementi.
+     */
+    private static void checkBulkSize(int size) {
+
+        if (size > MAX_BULK_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Too many items: at most " + MAX_BULK_SIZE + " per request");
+        }
+    }
 
 }
@@ -0,0 +1,117 @@
+package backend.controller;
+
+import backend.config.SmileConfiguration;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * Supporto per le risposte JSON scritte in streaming, riga per riga, direttamente sul corpo della risposta.
+ * <p>
+ * Gli endpoint in streaming non costruiscono né la lista dei risultati né il JSON completo: ogni riga letta
+ * dal database viene serializzata subito dal generatore, che scrive sullo stream della risposta a blocchi.
+ * Il corpo può essere un array JSON oppure JSON Lines ({@value IssueController#NDJSON_VALUE}), un oggetto per riga;
+ * se il client lo chiede, lo stesso contenuto dell'array JSON viene scritto in Smile ({@value SmileConfiguration#SMILE_VALUE}).
+ * </p>
+ * <p>
+ * Una volta iniziata la scrittura lo stato HTTP non può più cambiare: se la lettura fallisce a metà,
+ * il generatore non va chiuso, così array e oggetti restano aperti e il client riceve un JSON non valido
+ * invece di un risultato parziale che sembra completo.
+ * </p>
+ */
+final class JsonStreams {
+
+    /**
+     * Tipo di contenuto JSON Lines.
+     */
+    static final MediaType NDJSON = MediaType.parseMediaType(IssueController.NDJSON_VALUE);
+
+    private JsonStreams() {
+    }
+
+    /**
+     * Verifica se il client chiede esplicitamente JSON Lines nell'header {@code Accept}.
+     *
+     * @param request La richiesta corrente.
+     * @return {@code true} per JSON Lines, {@code false} per un array JSON.
+     */
+    static boolean acceptsNdjson(HttpServletRequest request) {
+        return accepts(request, NDJSON);
+    }
+
+    /**
+     * Verifica se il client chiede esplicitamente Smile nell'header {@code Accept}.
+     *
+     * @param request La richiesta corrente.
+     * @return {@code true} per Smile, {@code false} per JSON.
+     */
+    static boolean acceptsSmile(HttpServletRequest request) {
+        return accepts(request, SmileConfiguration.SMILE);
+    }
+
+    /**
+     * Restituisce il formato della risposta scelto dall'header {@code Accept}: Smile se richiesto esplicitamente,
+     * altrimenti JSON.
+     * <p>
+     * Le risposte con ETag impostano questo formato come {@code Content-Type} e lo includono nell'ETag,
+     * così lo stesso ETag corrisponde sempre alla stessa rappresentazione.
+     * </p>
+     *
+     * @param request La richiesta corrente.
+     * @return {@link SmileConfiguration#SMILE} oppure {@link MediaType#APPLICATION_JSON}.
+     */
+    static MediaType responseFormat(HttpServletRequest request) {
+        return acceptsSmile(request) ? SmileConfiguration.SMILE : MediaType.APPLICATION_JSON;
+    }
+
+    private static boolean accepts(HttpServletRequest request, MediaType mediaType) {
+
+        return MediaType.parseMediaTypes(Collections.list(request.getHeaders(HttpHeaders.ACCEPT))).stream()
+                .anyMatch(mediaType::equalsTypeAndSubtype);
+    }
+
+    /**
+     * Imposta il tipo di contenuto e apre un generatore JSON sul corpo della risposta.
+     * <p>
+     * In JSON Lines i valori scritti alla radice sono separati da un a capo.
+     * </p>
+     *
+     * @param objectMapper Il mapper JSON configurato dall'applicazione.
+     * @param response     La risposta su cui scrivere.
+     * @param ndjson       {@code true} per JSON Lines, {@code false} per JSON.
+     * @return Il generatore, da chiudere solo se la scrittura è andata a buon fine.
+     * @throws IOException In caso di errori di apertura dello stream della risposta.
+     */
+    static JsonGenerator open(ObjectMapper objectMapper, HttpServletResponse response, boolean ndjson) throws IOException {
+
+        response.setContentType(ndjson ? IssueController.NDJSON_VALUE : MediaType.APPLICATION_JSON_VALUE);
+
+        ObjectWriter writer = ndjson ? objectMapper.writer().withRootValueSeparator("\n") : objectMapper.writer();
+
+        return writer.createGenerator(response.getOutputStream());
+    }
+
+    /**
+     * Imposta il tipo di contenuto Smile e apre un generatore Smile sul corpo della risposta.
+     *
+     * @param smileMapper Il mapper Smile configurato dall'applicazione.
+     * @param response    La risposta su cui scrivere.
+     * @return Il generatore, da chiudere solo se la scrittura è andata a buon fine.
+     * @throws IOException In caso di errori di apertura dello stream della risposta.
+     */
+    static JsonGenerator openSmile(SmileMapper smileMapper, HttpServletResponse response) throws IOException {
+
+        response.setContentType(SmileConfiguration.SMILE_VALUE);
+
+        return smileMapper.createGenerator(response.getOutputStream());
+    }
+
+}
@@ -0,0 +1,256 @@
+package backend.controller;
+
+import backend.cache.ExpiringCache;
+import backend.config.JWTService;
+import backend.config.PasswordHashingService;
+import backend.database.implneondb.IssueDAOImpl;
+import backend.metrics.PersistenceMetrics;
+import backend.metrics.PrometheusTextWriter;
+import backend.search.EmailAutocompleteIndex;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.sql.DataSource;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.Map;
+
+import static backend.metrics.PrometheusTextWriter.labels;
+
+/**
+ * Controller REST che espone le metriche del server in formato testuale, pronto per uno scraper (Prometheus).
+ * <p>
+ * Raccoglie in un'unica risposta:
+ * </p>
+ * <ul>
+ * <li>latenza, righe lette ed errori di ogni metodo dei DAO, attesa delle connessioni e durata degli statement
+ * ({@link PersistenceMetrics});</li>
+ * <li>connessioni attive, inattive e in attesa del pool HikariCP;</li>
+ * <li>attesa in coda, durata e rifiuti dell'hashing delle password;</li>
+ * <li>contatori della cache dei dettagli delle issue, dimensione della cache dei token JWT e dell'indice
+ * di autocompletamento.</li>
+ * </ul>
+ * <p>
+ * L'endpoint non richiede un token ma, salvo {@code metrics.allow-remote=true}, risponde solo alle
+ * richieste provenienti dalla macchina locale.
+ * </p>
+ */
+@RestController
+public class MetricsController {
+
+    /**
+     * Metriche dello strato di persistenza.
+     */
+    private final PersistenceMetrics persistenceMetrics;
+
+    /**
+     * DataSource dell'applicazione, da cui si ricava il pool HikariCP (assente nel profilo {@code in-memory}).
+     */
+    private final ObjectProvider<DataSource> dataSource;
+
+    /**
+     * Servizio di hashing delle password, con i suoi timer.
+     */
+    private final PasswordHashingService passwordHashingService;
+
+    /**
+     * Servizio dei token JWT, con la cache dei token verificati.
+     */
+    private final JWTService jwtService;
+
+    /**
+     * Indice di autocompletamento delle email.
+     */
+    private final EmailAutocompleteIndex autocompleteIndex;
+
+    /**
+     * DAO delle issue, da cui si leggono i contatori della cache dei dettagli (se presente).
+     */
+    private final ObjectProvider<IssueDAOImpl> issueDAO;
+
+    /**
+     * {@code true} se l'endpoint risponde anche alle richieste non locali.
+     */
+    private final boolean allowRemote;
+
+    /**
+     * Costruttore per l'iniezione delle dipendenze.
+     *
+     * @param persistenceMetrics     Le metriche dello strato di persistenza.
+     * @param dataSource             Il DataSource dell'applicazione (pool HikariCP), se presente.
+     * @param passwordHashingService Il servizio di hashing delle password.
+     * @param jwtService             Il servizio dei token JWT.
+     * @param autocompleteIndex      L'indice di autocompletamento delle email.
+     * @param issueDAO               Il DAO delle issue su database.
+     * @param allowRemote            Se {@code true}, l'endpoint risponde anche alle richieste non locali.
+     */
+    public MetricsController(PersistenceMetrics persistenceMetrics, ObjectProvider<DataSource> dataSource,
+                             PasswordHashingService passwordHashingService, JWTService jwtService,
+                             EmailAutocompleteIndex autocompleteIndex, ObjectProvider<IssueDAOImpl> issueDAO,
+                             @Value("${metrics.allow-remote:false}") boolean allowRemote) {
+        this.persistenceMetrics = persistenceMetrics;
+        this.dataSource = dataSource;
+        this.passwordHashingService = passwordHashingService;
+        this.jwtService = jwtService;
+        this.autocompleteIndex = autocompleteIndex;
+        this.issueDAO = issueDAO;
+        this.allowRemote = allowRemote;
+    }
+
+    /**
+     * Restituisce tutte le metriche nel formato testuale di esposizione ({@code text/plain; version=0.0.4}).
+     *
+     * @param request La richiesta, usata per verificare che provenga dalla macchina locale.
+     * @return ResponseEntity con le metriche.
+     * @throws ResponseStatusException 404 Not Found se la richiesta non è locale e l'accesso remoto è disabilitato.
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<String> getMetrics(HttpServletRequest request) {
+
+        if (!allowRemote && !isLoopback(request.getRemoteAddr())) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+
+        PrometheusTextWriter writer = new PrometheusTextWriter();
+
+        writeDaoMetrics(writer);
+        writePoolMetrics(writer);
+        writeServiceMetrics(writer);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, PrometheusTextWriter.CONTENT_TYPE)
+                .body(writer.toString());
+    }
+
+    /**
+     * Scrive le metriche per metodo dei DAO, delle connessioni e degli statement.
+     */
+    private void writeDaoMetrics(PrometheusTextWriter writer) {
+
+        Map<PersistenceMetrics.MethodKey, PersistenceMetrics.MethodMetrics> methods = persistenceMetrics.getMethods();
+
+        Iterable<PersistenceMetrics.MethodKey> keys = methods.keySet().stream()
+                .sorted(Comparator.comparing(PersistenceMetrics.MethodKey::dao).thenComparing(PersistenceMetrics.MethodKey::method))
+                .toList();
+
+        writer.family("dao_method_duration_seconds", "histogram", "Duration of DAO method calls.");
+        for (PersistenceMetrics.MethodKey key : keys)
+            writer.histogram("dao_method_duration_seconds", labels("dao", key.dao(), "method", key.method()), methods.get(key).getLatency());
+
+        writer.family("dao_method_rows_total", "counter", "Rows read from result sets by DAO method calls.");
+        for (PersistenceMetrics.MethodKey key : keys)
+            writer.sample("dao_method_rows_total", labels("dao", key.dao(), "method", key.method()), methods.get(key).getRows());
+
+        writer.family("dao_method_errors_total", "counter", "DAO method calls that threw an exception.");
+        for (PersistenceMetrics.MethodKey key : keys)
+            writer.sample("dao_method_errors_total", labels("dao", key.dao(), "method", key.method()), methods.get(key).getErrors());
+
+        writer.family("db_connection_acquire_seconds", "histogram", "Time spent waiting for a pooled connection.")
+                .histogram("db_connection_acquire_seconds", "", persistenceMetrics.getConnectionAcquire());
+
+        writer.family("db_statement_duration_seconds", "histogram", "Execution time of SQL statements.")
+                .histogram("db_statement_duration_seconds", "", persistenceMetrics.getStatementExecution());
+
+        writer.family("db_slow_queries_total", "counter", "SQL statements slower than the slow query threshold.")
+                .sample("db_slow_queries_total", "", persistenceMetrics.getSlowQueries());
+    }
+
+    /**
+     * Scrive lo stato del pool di connessioni, se esiste un DataSource ed è un pool HikariCP già avviato.
+     */
+    private void writePoolMetrics(PrometheusTextWriter writer) {
+
+        DataSource pooledDataSource = dataSource.getIfAvailable();
+
+        if (pooledDataSource == null)
+            return;
+
+        HikariPoolMXBean pool;
+
+        try {
+            pool = pooledDataSource.isWrapperFor(HikariDataSource.class) ? pooledDataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean() : null;
+        } catch (SQLException e) {
+            pool = null;
+        }
+
+        if (pool == null)
+            return;
+
+        writer.family("db_pool_connections", "gauge", "Connections in the pool by state.")
+                .sample("db_pool_connections", labels("state", "active"), pool.getActiveConnections())
+                .sample("db_pool_connections", labels("state", "idle"), pool.getIdleConnections())
+                .sample("db_pool_connections", labels("state", "total"), pool.getTotalConnections());
+
+        writer.family("db_pool_pending_threads", "gauge", "Threads waiting for a pooled connection.")
+                .sample("db_pool_pending_threads", "", pool.getThreadsAwaitingConnection());
+    }
+
+    /**
+     * Scrive le metriche già raccolte dai servizi: hashing delle password, cache e indici in memoria.
+     */
+    private void writeServiceMetrics(PrometheusTextWriter writer) {
+
+        writer.family("password_hashing_queue_wait_seconds", "summary", "Time password hashing tasks wait in the queue.")
+                .summary("password_hashing_queue_wait_seconds", "", passwordHashingService.getQueueWait());
+
+        writer.family("password_hashing_duration_seconds", "summary", "Time spent hashing or verifying a password.")
+                .summary("password_hashing_duration_seconds", "", passwordHashingService.getHashTime());
+
+        writer.family("password_hashing_rejected_total", "counter", "Password hashing requests rejected because the queue was full.")
+                .sample("password_hashing_rejected_total", "", passwordHashingService.getRejectedCount());
+
+        writer.family("password_hashing_queue_size", "gauge", "Password hashing tasks waiting in the queue.")
+                .sample("password_hashing_queue_size", "", passwordHashingService.getQueueSize());
+
+        IssueDAOImpl issues = issueDAO.getIfAvailable();
+
+        if (issues != null) {
+
+            ExpiringCache<Integer, ?> cache = issues.getIssueDetailCache();
+
+            writer.family("issue_detail_cache_requests_total", "counter", "Issue detail cache lookups by result.")
+                    .sample("issue_detail_cache_requests_total", labels("result", "hit"), cache.getHits())
+                    .sample("issue_detail_cache_requests_total", labels("result", "miss"), cache.getMisses());
+
+            writer.family("issue_detail_cache_removals_total", "counter", "Issue detail cache entries removed by cause.")
+                    .sample("issue_detail_cache_removals_total", labels("cause", "eviction"), cache.getEvictions())
+                    .sample("issue_detail_cache_removals_total", labels("cause", "expiration"), cache.getExpirations());
+
+            writer.family("issue_detail_cache_invalidations_total", "counter", "Issue detail cache invalidations caused by writes.")
+                    .sample("issue_detail_cache_invalidations_total", "", cache.getInvalidations());
+
+            writer.family("issue_detail_cache_size", "gauge", "Entries in the issue detail cache.")
+                    .sample("issue_detail_cache_size", "", cache.size());
+        }
+
+        writer.family("jwt_verified_cache_size", "gauge", "Verified JWT tokens kept in memory.")
+                .sample("jwt_verified_cache_size", "", jwtService.cachedTokenCount());
+
+        writer.family("email_autocomplete_index_users", "gauge", "Users in the e-mail autocomplete index.")
+                .sample("email_autocomplete_index_users", "", autocompleteIndex.size());
+    }
+
+    /**
+     * Verifica se l'indirizzo (numerico) del client appartiene alla macchina locale.
+     */
+    private static boolean isLoopback(String remoteAddress) {
+
+        try {
+            return InetAddress.getByName(remoteAddress).isLoopbackAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+
+}
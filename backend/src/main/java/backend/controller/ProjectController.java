@@ -1,13 +1,26 @@
 package backend.controller;
 
+import backend.config.SmileConfiguration;
 import backend.database.dao.ProjectDAO;
 import backend.dto.ProjectDTO;
 import backend.dto.StatisticDTO;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.ServletWebRequest;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controller REST per la gestione dei progetti.
@@ -29,13 +42,28 @@ public class ProjectController {
      */
     private final ProjectDAO projectDAO;
 
+    /**
+     * Mapper JSON dell'applicazione, usato per scrivere in streaming la dashboard.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Mapper Smile dell'applicazione, usato per la dashboard in streaming chiesta in Smile.
+     */
+    private final SmileMapper smileMapper;
+
     /**
      * Costruttore per l'iniezione delle dipendenze.
      *
-     * @param projectDAO Il DAO per la gestione dei progetti.
+     * @param projectDAO   Il DAO per la gestione dei progetti.
+     * @param objectMapper Il mapper JSON configurato dall'applicazione.
+     * @param smileMapper  Il mapper Smile configurato dall'applicazione.
      */
-    public ProjectController(ProjectDAO projectDAO) {
+    public ProjectController(ProjectDAO projectDAO, ObjectMapper objectMapper,
+                             @Qualifier(SmileConfiguration.SMILE_MAPPER) SmileMapper smileMapper) {
         this.projectDAO = projectDAO;
+        this.objectMapper = objectMapper;
+        this.smileMapper = smileMapper;
     }
 
     /**
@@ -88,22 +116,122 @@ public class ProjectController {
      * Restituisce un oggetto aggregato contenente statistiche generali del sistema
      * (come conteggi di progetti, issue, ecc) utili per la visualizzazione nella home page.
      * </p>
+     * <p>
+     * Per impostazione predefinita vengono restituiti solo i valori aggregati, calcolati direttamente
+     * dal database. Le liste complete delle issue aperte e chiuse vengono incluse solo se richieste
+     * esplicitamente con {@code includeIssues=true}.
+     * </p>
+     * <p>
+     * L'ETag della risposta deriva dalla somma dei contatori delle modifiche di tutti i progetti: se il client
+     * invia un {@code If-None-Match} corrispondente, la risposta è 304 Not Modified e le statistiche
+     * non vengono ricalcolate.
+     * </p>
      *
-     * @return ResponseEntity contenente il DTO delle statistiche o 404 Not Found se i dati non sono disponibili.
+     * @param includeIssues (Opzionale) {@code true} per includere anche le liste delle issue aperte e chiuse.
+     * @param webRequest    La richiesta corrente, usata per la verifica dell'ETag.
+     * @return ResponseEntity contenente il DTO delle statistiche, 304 Not Modified se invariate
+     *         o 404 Not Found se i dati non sono disponibili.
      * @throws SQLException In caso di errori nel recupero dei dati dal database.
      */
     @GetMapping("/dashboard")
-    public ResponseEntity<StatisticDTO> generateDashboard( ) throws SQLException {
+    public ResponseEntity<StatisticDTO> generateDashboard(@RequestParam(defaultValue = "false") boolean includeIssues,
+                                                          ServletWebRequest webRequest) throws SQLException {
 
+        // Read before the statistics: a change committed in between moves the counter and the next request refetches
+        MediaType format = JsonStreams.responseFormat(webRequest.getRequest());
+        String eTag = ETags.of("dashboard", includeIssues ? "full" : "summary", format.getSubtype(), projectDAO.getChangeCount(null));
 
-        StatisticDTO dashboardData = projectDAO.generateDashboard();
+        if (webRequest.checkNotModified(eTag)) {
+            return ETags.notModified(eTag);
+        }
+
+        StatisticDTO dashboardData = includeIssues ? projectDAO.generateDashboard() : projectDAO.generateDashboardSummary();
 
         if (dashboardData != null) {
-            return ResponseEntity.ok(dashboardData);
+            return ETags.ok(eTag, format).body(dashboardData);
         } else {
             return ResponseEntity.notFound().build();
         }
 
     }
 
+
+    /**
+     * Genera la dashboard completa (con le liste delle issue aperte e chiuse) scrivendola in streaming.
+     * <p>
+     * Il corpo ha lo stesso formato JSON di {@code /dashboard?includeIssues=true}, ma le issue vengono
+     * serializzate man mano che il database le restituisce invece di essere raccolte in un {@link StatisticDTO}:
+     * la memoria usata dipende dal numero di sviluppatori, non dal numero di issue. I dati aggregati,
+     * noti solo alla fine, seguono le due liste.
+     * </p>
+     * <p>
+     * La risposta porta lo stesso ETag della dashboard completa: un {@code If-None-Match} corrispondente
+     * produce 304 Not Modified senza leggere le issue.
+     * </p>
+     *
+     * @param webRequest La richiesta corrente, usata per la verifica dell'ETag e per il formato richiesto.
+     * @param response   La risposta HTTP su cui scrivere la dashboard.
+     * @throws SQLException In caso di errori nel recupero dei dati dal database.
+     * @throws IOException  In caso di errori di scrittura della risposta.
+     */
+    @GetMapping(value = "/dashboard/stream", produces = {MediaType.APPLICATION_JSON_VALUE, SmileConfiguration.SMILE_VALUE})
+    public void streamDashboard(ServletWebRequest webRequest, HttpServletResponse response) throws SQLException, IOException {
+
+        // Read before the statistics: a change committed in between moves the counter and the next request refetches
+        MediaType format = JsonStreams.responseFormat(webRequest.getRequest());
+        String eTag = ETags.of("dashboard", "full", format.getSubtype(), projectDAO.getChangeCount(null));
+
+        ETags.setCacheHeaders(response);
+
+        if (webRequest.checkNotModified(eTag)) {
+            // 304 Not Modified and ETag header are already set
+            return;
+        }
+
+        JsonGenerator generator = format.equals(SmileConfiguration.SMILE)
+                ? JsonStreams.openSmile(smileMapper, response)
+                : JsonStreams.open(objectMapper, response, false);
+
+        generator.writeStartObject();
+        generator.writeName("openIssues");
+        generator.writeStartArray();
+
+        // Open issues all come first: the first closed one ends their array
+        boolean[] closedStarted = {false};
+
+        StatisticDTO aggregates = projectDAO.streamDashboard(generator::writePOJO, closedIssue -> {
+
+            if (!closedStarted[0]) {
+                generator.writeEndArray();
+                generator.writeName("closedIssues");
+                generator.writeStartArray();
+                closedStarted[0] = true;
+            }
+
+            generator.writePOJO(closedIssue);
+        });
+
+        if (!closedStarted[0]) {
+            generator.writeEndArray();
+            generator.writeName("closedIssues");
+            generator.writeStartArray();
+        }
+
+        generator.writeEndArray();
+
+        // The remaining properties are small (one entry per developer): serialize them as the DTO would
+        ObjectNode aggregateFields = objectMapper.valueToTree(aggregates);
+        aggregateFields.remove(List.of("openIssues", "closedIssues"));
+
+        for (Map.Entry<String, JsonNode> property : aggregateFields.properties()) {
+            generator.writeName(property.getKey());
+            generator.writeTree(property.getValue());
+        }
+
+        generator.writeEndObject();
+
+        // Only on success: see JsonStreams
+        generator.close();
+    }
+
 }
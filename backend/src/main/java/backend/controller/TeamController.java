@@ -3,11 +3,15 @@ package backend.controller;
 import backend.database.dao.TeamDAO;
 import backend.dto.TeamDTO;
 import backend.dto.StatisticDTO;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.sql.SQLException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -15,7 +19,7 @@ import java.util.List;
  * <p>
  * Questa classe espone gli endpoint per l'amministrazione dei team, permettendo di:
  * creare nuovi gruppi di lavoro, aggiungere o rimuovere membri, ricercare team
- * e generare report statistici mensili sulle performance del gruppo.
+ * e generare report statistici (mensili o su un intervallo di date) sulle performance del gruppo.
  * Tutti gli endpoint sono mappati sotto il percorso base "/teams".
  * </p>
  */
@@ -128,25 +132,71 @@ public class TeamController {
     }
 
     /**
-     * Genera un report statistico mensile per un determinato team.
+     * Genera un report statistico per un determinato team.
      * <p>
-     * Calcola statistiche sulle attività del team (es issue risolte) per il mese e l'anno specificati.
+     * Calcola statistiche sulle attività del team (es issue risolte) per il mese e l'anno specificati
+     * oppure, in alternativa, per un intervallo arbitrario di date: in questo caso vengono considerate
+     * le issue create o risolte da {@code from} (incluso) a {@code to} (escluso).
+     * </p>
+     * <p>
+     * Per impostazione predefinita, se l'intervallo è composto da mesi interi, i dati vengono letti
+     * dall'aggregato mensile e il report contiene solo i valori aggregati. Con {@code includeIssues=true},
+     * o per intervalli che non iniziano e finiscono al primo giorno di un mese, il report viene calcolato
+     * dalle issue e include anche le liste delle issue aperte e chiuse.
      * </p>
      *
      * @param teamId L'identificativo del team di cui generare il report.
-     * @param month  Il mese di riferimento per il report.
-     * @param year   L'anno di riferimento per il report.
+     * @param month  (Opzionale) Il mese di riferimento per il report, in italiano (es. "gennaio").
+     * @param year   (Opzionale) L'anno di riferimento per il report.
+     * @param from   (Opzionale) Data di inizio dell'intervallo, inclusa (formato ISO, es. 2024-01-15).
+     * @param to     (Opzionale) Data di fine dell'intervallo, esclusa (formato ISO).
+     * @param includeIssues (Opzionale) {@code true} per includere le liste delle issue aperte e chiuse.
      * @return ResponseEntity contenente il DTO con le statistiche, o 404 Not Found se i dati non sono disponibili.
-     * @throws SQLException In caso di errori nel recupero dei dati dal database.
+     * @throws SQLException            In caso di errori nel recupero dei dati dal database.
+     * @throws ResponseStatusException 400 Bad Request se mancano sia mese/anno sia l'intervallo,
+     *                                 se il mese o l'anno non sono validi o se {@code from} non precede {@code to}.
      */
     @GetMapping("/{teamId}/report")
     public ResponseEntity<StatisticDTO> getTeamReport(
             @PathVariable Integer teamId,
-            @RequestParam String month,
-            @RequestParam String year) throws SQLException {
+            @RequestParam(required = false) String month,
+            @RequestParam(required = false) String year,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean includeIssues) throws SQLException {
+
+
+        if (month != null && year != null) {
+
+            int monthNumber = TeamDAO.monthNumber(month);
+
+            try {
+
+                if (monthNumber == 0)
+                    throw new IllegalArgumentException("Invalid month: " + month);
+
+                from = LocalDate.of(Integer.parseInt(year), monthNumber, 1);
+                to = from.plusMonths(1);
 
+            } catch (IllegalArgumentException | DateTimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid month or year");
+            }
 
-        StatisticDTO report = teamDAO.generateMonthlyReport(teamId, month, year);
+        } else if (from == null || to == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Specify either month and year or from and to");
+        }
+
+        if (!from.isBefore(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' must be before 'to'");
+        }
+
+        StatisticDTO report;
+
+        if (!includeIssues && from.getDayOfMonth() == 1 && to.getDayOfMonth() == 1) {
+            report = teamDAO.generateReportSummary(teamId, from, to);
+        } else {
+            report = teamDAO.generateReport(teamId, from.atStartOfDay(), to.atStartOfDay());
+        }
 
         if (report != null) {
             return ResponseEntity.ok(report);
@@ -2,6 +2,7 @@ package backend.controller;
 
 import backend.database.dao.UserDAO;
 import backend.dto.UserDTO;
+import backend.search.EmailAutocompleteIndex;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,13 +27,25 @@ public class UserController {
      */
     private final UserDAO userDAO;
 
+    /**
+     * Indice in memoria delle email, usato dall'autocompletamento.
+     */
+    private final EmailAutocompleteIndex autocompleteIndex;
+
+    /**
+     * Numero massimo di suggerimenti restituiti dall'autocompletamento.
+     */
+    public static final int MAX_AUTOCOMPLETE_RESULTS = 50;
+
     /**
      * Costruttore per l'iniezione delle dipendenze.
      *
-     * @param userDAO Il DAO per la gestione degli utenti.
+     * @param userDAO           Il DAO per la gestione degli utenti.
+     * @param autocompleteIndex L'indice in memoria per l'autocompletamento delle email.
      */
-    public UserController(UserDAO userDAO) {
+    public UserController(UserDAO userDAO, EmailAutocompleteIndex autocompleteIndex) {
         this.userDAO = userDAO;
+        this.autocompleteIndex = autocompleteIndex;
     }
 
     /**
@@ -89,4 +102,52 @@ public class UserController {
 
     }
 
+    /**
+     * Suggerisce sviluppatori o amministratori la cui email contiene il testo digitato.
+     * <p>
+     * Pensato per essere chiamato a ogni tasto premuto: risponde dall'indice in memoria
+     * {@link EmailAutocompleteIndex}, senza accedere al database, e restituisce al massimo {@code limit}
+     * utenti, a partire da quelli la cui email inizia con il testo cercato. I filtri {@code projectId}
+     * e {@code teamId} hanno lo stesso significato di {@code /developers/search}.
+     * Finché l'indice non è stato caricato la richiesta viene servita dal database.
+     * </p>
+     *
+     * @param q         Il testo (o parte dell'email) digitato.
+     * @param projectId (Opzionale) L'ID del progetto in cui limitare la ricerca.
+     * @param teamId    (Opzionale) L'ID del team in cui limitare la ricerca.
+     * @param limit     Il numero massimo di suggerimenti (predefinito 10, al massimo {@value #MAX_AUTOCOMPLETE_RESULTS}).
+     * @return ResponseEntity con i suggerimenti trovati, o 204 No Content se nessun utente corrisponde.
+     * @throws SQLException In caso di errori durante l'accesso al database (solo prima del caricamento dell'indice).
+     */
+    @GetMapping("/developers/autocomplete")
+    public ResponseEntity<List<UserDTO>> autocompleteDevOrAdminByEmail(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer projectId,
+            @RequestParam(required = false) Integer teamId,
+            @RequestParam(defaultValue = "10") int limit) throws SQLException {
+
+        int effectiveLimit = Math.max(1, Math.min(limit, MAX_AUTOCOMPLETE_RESULTS));
+
+        List<UserDTO> suggestions;
+
+        if (autocompleteIndex.isLoaded()) {
+
+            suggestions = autocompleteIndex.search(q, projectId, teamId, effectiveLimit);
+
+        } else {
+
+            ResponseEntity<List<UserDTO>> searchResponse = searchDevOrAdminByEmailAndProject(q, projectId, teamId);
+
+            suggestions = searchResponse.getBody() == null ? List.of() : searchResponse.getBody();
+            suggestions = suggestions.subList(0, Math.min(effectiveLimit, suggestions.size()));
+        }
+
+        if (suggestions.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+
+        return ResponseEntity.ok(suggestions);
+
+    }
+
 }
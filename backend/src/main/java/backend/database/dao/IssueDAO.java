@@ -1,9 +1,18 @@
 package backend.database.dao;
 
+import backend.dto.IssueAssignmentDTO;
+import backend.dto.IssueBulkResultDTO;
 import backend.dto.IssueDTO;
+import backend.dto.IssueImageDTO;
+import backend.dto.IssuePageDTO;
+import backend.dto.IssueSortDTO;
+import backend.dto.IssueStatusChangeDTO;
 import backend.dto.IssueStatusDTO;
 import backend.dto.UserDTO;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.sql.SQLException;
 import java.util.List;
 
@@ -29,6 +38,36 @@ public interface IssueDAO {
      */
     void reportIssue(IssueDTO issueToReport) throws SQLException;
 
+    /**
+     * Registra una nuova segnalazione leggendo l'immagine allegata da uno stream.
+     * <p>
+     * Pensato per gli upload multipart: l'immagine viene trasferita al database senza
+     * essere caricata per intero in memoria.
+     * </p>
+     *
+     * @param issueToReport Il DTO contenente le informazioni della segnalazione (senza immagine).
+     * @param image         Lo stream dell'immagine allegata, oppure {@code null} se assente.
+     * @param imageSize     La dimensione dell'immagine in byte.
+     * @throws SQLException In caso di errori durante l'operazione di inserimento nel database.
+     */
+    void reportIssue(IssueDTO issueToReport, InputStream image, long imageSize) throws SQLException;
+
+    /**
+     * Registra un gruppo di segnalazioni in un'unica transazione, con un solo batch di INSERT.
+     * <p>
+     * Pensato per l'importazione massiva: le issue possono indicare la data di segnalazione e di risoluzione
+     * e lo sviluppatore assegnato. Se una issue viene rifiutata dal database le altre vengono comunque salvate.
+     * L'aggregato mensile delle statistiche non viene aggiornato: se ne occupa il chiamante al termine
+     * dell'importazione.
+     * </p>
+     *
+     * @param issuesToReport Le segnalazioni da creare (il campo image viene ignorato).
+     * @return Per ogni segnalazione, nello stesso ordine, {@code null} se è stata salvata,
+     *         altrimenti il motivo del rifiuto.
+     * @throws SQLException In caso di errori di connessione o di transazione.
+     */
+    List<String> reportIssues(List<IssueDTO> issuesToReport) throws SQLException;
+
     /**
      * Esegue una ricerca filtrata delle segnalazioni.
      * <p>
@@ -44,7 +83,72 @@ public interface IssueDAO {
      * @return Una lista di {@code IssueDTO} che soddisfano i criteri di ricerca.
      * @throws SQLException In caso di errori durante l'esecuzione della query nel database.
      */
-    List<IssueDTO> searchIssues(IssueDTO issueToSearch, Integer resolverId, Integer reporterId, Integer projectId) throws SQLException;
+    default List<IssueDTO> searchIssues(IssueDTO issueToSearch, Integer resolverId, Integer reporterId, Integer projectId) throws SQLException {
+        return searchIssues(issueToSearch, resolverId, reporterId, projectId, false);
+    }
+
+    /**
+     * Esegue una ricerca filtrata delle segnalazioni, scegliendo come combinare i tag richiesti.
+     * <p>
+     * I tag vengono confrontati in modo esatto (case-insensitive): con {@code matchAnyTag} a {@code false}
+     * la issue deve avere tutti i tag indicati, altrimenti almeno uno.
+     * </p>
+     *
+     * @param issueToSearch Oggetto DTO usato come filtro per gli attributi della issue (es stato, tipo).
+     * @param resolverId    (Opzionale) L'ID dello sviluppatore assegnato alla risoluzione.
+     * @param reporterId    (Opzionale) L'ID dell'utente che ha aperto la segnalazione.
+     * @param projectId     L'ID del progetto in cui effettuare la ricerca.
+     * @param matchAnyTag   {@code true} se basta uno dei tag indicati, {@code false} se devono essere presenti tutti.
+     * @return Una lista di {@code IssueDTO} che soddisfano i criteri di ricerca.
+     * @throws SQLException In caso di errori durante l'esecuzione della query nel database.
+     */
+    List<IssueDTO> searchIssues(IssueDTO issueToSearch, Integer resolverId, Integer reporterId, Integer projectId,
+                                boolean matchAnyTag) throws SQLException;
+
+    /**
+     * Esegue una ricerca filtrata delle segnalazioni restituendo una sola pagina di risultati.
+     * <p>
+     * Applica gli stessi filtri di {@link #searchIssues}, ordina secondo {@code sort} e usa la paginazione
+     * a cursore (keyset): la pagina successiva parte dalla chiave codificata in {@code pageToken}.
+     * Se {@code textQuery} è valorizzato, vengono restituite solo le issue il cui titolo o descrizione
+     * corrispondono al testo (ricerca full-text).
+     * </p>
+     *
+     * @param issueToSearch Oggetto DTO usato come filtro per gli attributi della issue.
+     * @param resolverId    (Opzionale) L'ID dello sviluppatore assegnato alla risoluzione.
+     * @param reporterId    (Opzionale) L'ID dell'utente che ha aperto la segnalazione.
+     * @param projectId     L'ID del progetto in cui effettuare la ricerca.
+     * @param matchAnyTag   {@code true} se basta uno dei tag indicati, {@code false} se devono essere presenti tutti.
+     * @param textQuery     (Opzionale) Il testo da cercare in titolo e descrizione.
+     * @param sort          L'ordinamento dei risultati; {@link IssueSortDTO#RELEVANCE} richiede {@code textQuery}.
+     * @param pageToken     (Opzionale) Il token di continuazione restituito dalla pagina precedente.
+     * @param pageSize      Il numero massimo di issue da restituire.
+     * @return Un {@code IssuePageDTO} con le issue della pagina e l'eventuale token per la successiva.
+     * @throws SQLException In caso di errori durante l'esecuzione della query nel database.
+     */
+    IssuePageDTO searchIssuesPage(IssueDTO issueToSearch, Integer resolverId, Integer reporterId, Integer projectId,
+                                  boolean matchAnyTag, String textQuery, IssueSortDTO sort, String pageToken, int pageSize) throws SQLException;
+
+    /**
+     * Esegue la ricerca non paginata di {@link #searchIssues(IssueDTO, Integer, Integer, Integer, boolean)}
+     * passando le issue trovate al destinatario una alla volta, nello stesso ordine e nello stesso formato ridotto.
+     * <p>
+     * Le righe vengono lette da un cursore a blocchi e non vengono accumulate: la memoria usata non dipende
+     * dal numero di risultati.
+     * </p>
+     *
+     * @param issueToSearch DTO contenente i criteri di filtro.
+     * @param resolverId    ID dello sviluppatore assegnatario (opzionale).
+     * @param reporterId    ID dell'utente reporter (opzionale).
+     * @param projectId     ID del progetto (obbligatorio).
+     * @param matchAnyTag   {@code true} se basta uno dei tag indicati, {@code false} se devono essere presenti tutti.
+     * @param consumer      Il destinatario delle issue trovate.
+     * @return Il numero di issue passate al destinatario.
+     * @throws SQLException In caso di errori durante l'esecuzione della query.
+     * @throws IOException  Se il destinatario non riesce a scrivere una issue.
+     */
+    long streamIssues(IssueDTO issueToSearch, Integer resolverId, Integer reporterId, Integer projectId,
+                      boolean matchAnyTag, RowConsumer<IssueDTO> consumer) throws SQLException, IOException;
 
     /**
      * Recupera i dettagli completi di una singola segnalazione tramite il suo identificativo.
@@ -55,6 +159,26 @@ public interface IssueDAO {
      */
     IssueDTO getIssueById(Integer issueId) throws SQLException;
 
+    /**
+     * Recupera i metadati (dimensione, tipo, impronta) dell'immagine allegata a una segnalazione.
+     *
+     * @param issueId L'ID univoco della segnalazione.
+     * @return I metadati dell'immagine, oppure {@code null} se la issue non esiste o non ha un'immagine.
+     * @throws SQLException In caso di errori di accesso al database.
+     */
+    IssueImageDTO getIssueImageInfo(Integer issueId) throws SQLException;
+
+    /**
+     * Trasferisce in streaming l'immagine allegata a una segnalazione, senza caricarla per intero in memoria.
+     *
+     * @param issueId L'ID univoco della segnalazione.
+     * @param out     Lo stream di destinazione.
+     * @return Il numero di byte scritti.
+     * @throws SQLException In caso di errori di accesso al database.
+     * @throws IOException  In caso di errori di scrittura sullo stream.
+     */
+    long writeIssueImage(Integer issueId, OutputStream out) throws SQLException, IOException;
+
     /**
      * Aggiorna lo stato di avanzamento di una specifica segnalazione.
      *
@@ -79,4 +203,25 @@ public interface IssueDAO {
      */
     UserDTO assignIssueToDeveloperByEmail(Integer id, String resolverEmail) throws SQLException;
 
+    /**
+     * Aggiorna lo stato di più segnalazioni in un'unica transazione, con un solo batch di UPDATE.
+     *
+     * @param changes I cambi di stato da applicare.
+     * @return Per ogni cambio, nello stesso ordine, l'esito dell'aggiornamento (fallisce se la issue non esiste).
+     * @throws SQLException In caso di errori nel database; in tal caso nessuna modifica viene applicata.
+     */
+    List<IssueBulkResultDTO> updateStatuses(List<IssueStatusChangeDTO> changes) throws SQLException;
+
+    /**
+     * Assegna più segnalazioni ai rispettivi sviluppatori in un'unica transazione, con un solo batch di UPDATE.
+     * <p>
+     * Come per {@link #assignIssueToDeveloperByEmail}, ogni segnalazione assegnata passa allo stato ASSIGNED.
+     * </p>
+     *
+     * @param assignments Le assegnazioni da applicare.
+     * @return Per ogni assegnazione, nello stesso ordine, l'esito (fallisce se la issue o l'utente non esistono).
+     * @throws SQLException In caso di errori nel database; in tal caso nessuna modifica viene applicata.
+     */
+    List<IssueBulkResultDTO> assignIssuesToDevelopers(List<IssueAssignmentDTO> assignments) throws SQLException;
+
 }
@@ -1,8 +1,10 @@
 package backend.database.dao;
 
+import backend.dto.IssueDTO;
 import backend.dto.ProjectDTO;
 import backend.dto.StatisticDTO;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.List;
 
@@ -49,4 +51,46 @@ public interface ProjectDAO {
      */
     StatisticDTO generateDashboard() throws SQLException;
 
-}
+    /**
+     * Genera i soli dati aggregati della dashboard principale.
+     * <p>
+     * Restituisce gli stessi conteggi e le stesse durate medie di {@link #generateDashboard()},
+     * ma lascia vuote le liste delle issue aperte e chiuse: l'aggregazione avviene interamente nel database.
+     * </p>
+     *
+     * @return Un oggetto {@code StatisticDTO} contenente i soli dati aggregati.
+     * @throws SQLException In caso di errori durante il calcolo delle statistiche.
+     */
+    StatisticDTO generateDashboardSummary() throws SQLException;
+
+    /**
+     * Genera la dashboard di {@link #generateDashboard()} passando le issue ai destinatari una alla volta,
+     * invece di raccoglierle nelle liste del DTO.
+     * <p>
+     * Tutte le issue aperte vengono passate prima di quelle chiuse; le righe vengono lette da un cursore
+     * a blocchi, quindi la memoria usata dipende solo dal numero di sviluppatori.
+     * </p>
+     *
+     * @param openIssues   Il destinatario delle issue aperte.
+     * @param closedIssues Il destinatario delle issue chiuse.
+     * @return Un oggetto {@code StatisticDTO} con i soli dati aggregati (liste delle issue vuote).
+     * @throws SQLException In caso di errori durante il calcolo delle statistiche.
+     * @throws IOException  Se un destinatario non riesce a scrivere una issue.
+     */
+    StatisticDTO streamDashboard(RowConsumer<IssueDTO> openIssues, RowConsumer<IssueDTO> closedIssues) throws SQLException, IOException;
+
+
+    /**
+     * Restituisce il contatore delle modifiche di un progetto, o di tutti i progetti.
+     * <p>
+     * Il contatore aumenta a ogni creazione o modifica di una issue del progetto: se non è cambiato,
+     * non sono cambiati nemmeno i risultati di ricerca e la dashboard. Viene usato per calcolare gli ETag.
+     * </p>
+     *
+     * @param projectId L'ID del progetto, oppure {@code null} per la somma dei contatori di tutti i progetti.
+     * @return Il valore del contatore (0 se il progetto non esiste).
+     * @throws SQLException In caso di errori durante l'accesso al database.
+     */
+    long getChangeCount(Integer projectId) throws SQLException;
+
+}
\ No newline at end of file
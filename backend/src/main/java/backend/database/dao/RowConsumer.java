@@ -0,0 +1,26 @@
+package backend.database.dao;
+
+import java.io.IOException;
+
+/**
+ * Destinatario delle righe lette in streaming da un DAO.
+ * <p>
+ * Il DAO chiama {@link #accept} per ogni riga mentre scorre il cursore, senza accumulare i risultati:
+ * in memoria resta solo la riga corrente. Il destinatario tipicamente la serializza subito sulla risposta HTTP,
+ * per questo può sollevare {@link IOException}.
+ * </p>
+ *
+ * @param <T> Il tipo delle righe.
+ */
+@FunctionalInterface
+public interface RowConsumer<T> {
+
+    /**
+     * Riceve una riga del risultato.
+     *
+     * @param row La riga letta.
+     * @throws IOException In caso di errori di scrittura della riga.
+     */
+    void accept(T row) throws IOException;
+
+}
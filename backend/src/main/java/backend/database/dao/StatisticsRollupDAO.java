@@ -0,0 +1,77 @@
+package backend.database.dao;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * Interfaccia per il Data Access Object (DAO) relativo all'aggregato mensile delle statistiche sulle issue.
+ * <p>
+ * L'aggregato (tabella {@code Issue_monthly_rollup}) contiene, per progetto, sviluppatore, mese di segnalazione
+ * e mese di risoluzione, il numero di issue aperte e chiuse e la somma dei tempi di risoluzione.
+ * Ogni issue ricade in una sola riga, quindi dashboard e report possono sommare le righe
+ * invece di scansionare la tabella delle issue.
+ * </p>
+ * <p>
+ * Le righe di un mese vengono ricalcolate dopo che una sua issue viene creata, assegnata o cambia stato:
+ * le scritture segnalano il mese e un ricalcolo periodico aggiorna insieme tutti i mesi segnalati.
+ * Una ricostruzione completa periodica corregge eventuali modifiche avvenute fuori dall'applicazione.
+ * </p>
+ */
+public interface StatisticsRollupDAO {
+
+    /**
+     * Segna da ricalcolare le righe dell'aggregato per il progetto e il mese di segnalazione della issue indicata.
+     * <p>
+     * Il ricalcolo avviene con la successiva chiamata di {@link #refreshPendingMonths()}.
+     * </p>
+     *
+     * @param issueId L'ID della issue modificata.
+     * @throws SQLException In caso di errori di accesso al database.
+     */
+    void markIssueMonthPending(Integer issueId) throws SQLException;
+
+    /**
+     * Segna da ricalcolare le righe dell'aggregato per un progetto e un mese di segnalazione.
+     * <p>
+     * Come {@link #markIssueMonthPending(Integer)}, per le scritture che conoscono già la partizione coinvolta.
+     * </p>
+     *
+     * @param projectId L'ID del progetto.
+     * @param month     Un giorno qualsiasi del mese da ricalcolare.
+     */
+    void markPending(Integer projectId, LocalDate month);
+
+    /**
+     * Segna da ricostruire l'intero aggregato, al posto del ricalcolo dei singoli mesi.
+     * <p>
+     * La ricostruzione avviene con la successiva chiamata di {@link #refreshPendingMonths()}; è pensata per
+     * le scritture che toccano troppi mesi perché convenga ricalcolarli uno per uno.
+     * </p>
+     */
+    void markRebuildPending();
+
+    /**
+     * Ricalcola subito le righe dell'aggregato per un progetto e un mese di segnalazione.
+     *
+     * @param projectId L'ID del progetto.
+     * @param month     Un giorno qualsiasi del mese da ricalcolare.
+     * @throws SQLException In caso di errori di accesso al database.
+     */
+    void refreshProjectMonth(Integer projectId, LocalDate month) throws SQLException;
+
+    /**
+     * Ricalcola i mesi segnalati con {@link #markIssueMonthPending(Integer)} o {@link #markPending(Integer, LocalDate)}
+     * dopo l'ultima chiamata, oppure ricostruisce l'intero aggregato se è stato chiesto con {@link #markRebuildPending()}.
+     *
+     * @throws SQLException In caso di errori di accesso al database.
+     */
+    void refreshPendingMonths() throws SQLException;
+
+    /**
+     * Ricostruisce da zero l'intero aggregato a partire dalla tabella delle issue.
+     *
+     * @throws SQLException In caso di errori di accesso al database.
+     */
+    void rebuild() throws SQLException;
+
+}
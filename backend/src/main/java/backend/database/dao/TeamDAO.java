@@ -4,6 +4,8 @@ import backend.dto.TeamDTO;
 import backend.dto.StatisticDTO;
 
 import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -66,18 +68,60 @@ public interface TeamDAO {
     boolean removeMemberFromTeam(Integer teamId, String email) throws SQLException;
 
     /**
-     * Genera un report statistico mensile per un determinato team.
+     * Genera un report statistico per un determinato team su un intervallo di tempo arbitrario.
      * <p>
-     * Aggrega i dati sulle attività del team (es numero di issue risolte)
-     * per il mese e l'anno specificati, restituendo un oggetto statistico.
+     * Considera le issue create o risolte nell'intervallo semiaperto [{@code from}, {@code to}).
      * </p>
      *
-     * @param teamId L'identificativo del team oggetto del report.
-     * @param month  Il mese di riferimento (es. "January", "01").
-     * @param year   L'anno di riferimento (es. "2023").
-     * @return Un oggetto {@code StatisticDTO} con i dati del report.
-     * @throws SQLException In caso di errori durante l'elaborazione delle statistiche.
+     * @param teamId L'ID del team di cui generare il report.
+     * @param from   Inizio dell'intervallo (incluso).
+     * @param to     Fine dell'intervallo (esclusa).
+     * @return Un {@code StatisticDTO} contenente le metriche di performance del team nell'intervallo.
+     * @throws SQLException In caso di errori durante l'aggregazione dei dati.
      */
-    StatisticDTO generateMonthlyReport(Integer teamId, String month, String year) throws SQLException;
+    StatisticDTO generateReport(Integer teamId, LocalDateTime from, LocalDateTime to) throws SQLException;
+
+    /**
+     * Genera i soli dati aggregati del report di un team su un intervallo di mesi interi.
+     * <p>
+     * Legge l'aggregato mensile invece delle issue: restituisce gli stessi conteggi e le stesse durate di
+     * {@link #generateReport(Integer, LocalDateTime, LocalDateTime)}, ma senza le liste delle issue.
+     * </p>
+     *
+     * @param teamId    L'ID del team di cui generare il report.
+     * @param fromMonth Primo giorno del primo mese dell'intervallo (incluso).
+     * @param toMonth   Primo giorno del mese che chiude l'intervallo (escluso).
+     * @return Un {@code StatisticDTO} contenente i soli dati aggregati.
+     * @throws SQLException In caso di errori durante l'aggregazione dei dati.
+     */
+    StatisticDTO generateReportSummary(Integer teamId, LocalDate fromMonth, LocalDate toMonth) throws SQLException;
+
+    /**
+     * Converte il nome di un mese in italiano nel suo numero.
+     * <p>
+     * È l'unico formato accettato per il mese dei report mensili dei team.
+     * </p>
+     *
+     * @param monthName Il nome del mese, senza distinzione tra maiuscole e minuscole (es. "gennaio", "Gennaio").
+     * @return Il numero del mese (1-12), oppure 0 se il nome non è valido.
+     */
+    static int monthNumber(String monthName) {
+
+        return switch (monthName.toLowerCase()) {
+            case "gennaio" -> 1;
+            case "febbraio" -> 2;
+            case "marzo" -> 3;
+            case "aprile" -> 4;
+            case "maggio" -> 5;
+            case "giugno" -> 6;
+            case "luglio" -> 7;
+            case "agosto" -> 8;
+            case "settembre" -> 9;
+            case "ottobre" -> 10;
+            case "novembre" -> 11;
+            case "dicembre" -> 12;
+            default -> 0;
+        };
+    }
 
 }
@@ -80,4 +80,15 @@ public interface UserDAO {
      */
     List<UserDTO> searchDevOrAdminByEmail(String email) throws SQLException;
 
+    /**
+     * Ricarica dal database l'indice in memoria usato per l'autocompletamento delle email.
+     * <p>
+     * L'indice viene aggiornato in modo incrementale dalle registrazioni e dalle modifiche dei team;
+     * il caricamento completo lo allinea alle modifiche eseguite direttamente sul database.
+     * </p>
+     *
+     * @throws SQLException In caso di errori durante la lettura dal database.
+     */
+    void reloadAutocompleteIndex() throws SQLException;
+
 }
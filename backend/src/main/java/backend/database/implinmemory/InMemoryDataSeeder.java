@@ -0,0 +1,217 @@
+package backend.database.implinmemory;
+
+import backend.database.implinmemory.InMemoryStore.ProjectRow;
+import backend.database.implinmemory.InMemoryStore.TeamRow;
+import backend.database.implinmemory.InMemoryStore.UserRow;
+import backend.dto.IssueStatusDTO;
+import backend.dto.IssueTypeDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+/**
+ * Popola {@link InMemoryStore} all'avvio con dati generati, per i test di carico del profilo {@code in-memory}.
+ * <p>
+ * I dati dipendono solo dal seme configurato, quindi due esecuzioni con la stessa configurazione
+ * ricevono le stesse richieste sugli stessi dati. Vengono creati:
+ * </p>
+ * <ul>
+ * <li>un amministratore {@code admin@example.com} e gli utenti {@code user<n>@example.com} (due su tre
+ * sviluppatori, gli altri ospiti), tutti con la stessa password;</li>
+ * <li>i progetti, ognuno con i suoi team e alcuni sviluppatori membri (del progetto e di un suo team);</li>
+ * <li>le issue, distribuite tra i progetti nell'ultimo anno, con titoli, descrizioni e tag presi da un piccolo
+ * vocabolario; quelle assegnate o risolte hanno uno sviluppatore membro del progetto.</li>
+ * </ul>
+ * <p>
+ * La password viene hashata una sola volta e condivisa da tutti gli utenti generati: l'hashing BCrypt di
+ * migliaia di utenti allungherebbe l'avvio di minuti.
+ * </p>
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryDataSeeder {
+
+    /**
+     * Logger per il riepilogo dei dati generati.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryDataSeeder.class);
+
+    /**
+     * Vocabolario di titoli e descrizioni.
+     */
+    private static final String[] WORDS = {
+            "login", "crash", "timeout", "dashboard", "report", "export", "import", "search", "token", "session",
+            "upload", "image", "database", "cache", "query", "slow", "error", "null", "button", "layout",
+            "email", "password", "team", "project", "filter", "sort", "page", "network", "server", "client"
+    };
+
+    /**
+     * Vocabolario dei tag.
+     */
+    private static final String[] TAGS = {
+            "ui", "backend", "frontend", "security", "performance", "database", "api", "docs", "regression", "ux"
+    };
+
+    /**
+     * Finestra temporale in cui cadono le segnalazioni generate.
+     */
+    private static final Duration REPORT_WINDOW = Duration.ofDays(365);
+
+    /**
+     * Durata massima della risoluzione di una issue generata.
+     */
+    private static final Duration MAX_RESOLUTION = Duration.ofDays(30);
+
+    /**
+     * Genera i dati nel contenuto in memoria.
+     *
+     * @param store             Il contenuto in memoria da popolare.
+     * @param passwordEncoder   L'encoder con cui hashare la password comune degli utenti.
+     * @param users             Il numero di utenti oltre all'amministratore.
+     * @param projects          Il numero di progetti.
+     * @param teamsPerProject   Il numero di team per progetto.
+     * @param membersPerProject Il numero di sviluppatori membri di ogni progetto.
+     * @param issues            Il numero di issue.
+     * @param password          La password comune degli utenti generati.
+     * @param seed              Il seme del generatore casuale.
+     * @throws SQLException Se la configurazione produce dati che violano i vincoli delle tabelle.
+     */
+    public InMemoryDataSeeder(InMemoryStore store, PasswordEncoder passwordEncoder,
+                              @Value("${in-memory.seed.users:0}") int users,
+                              @Value("${in-memory.seed.projects:0}") int projects,
+                              @Value("${in-memory.seed.teams-per-project:0}") int teamsPerProject,
+                              @Value("${in-memory.seed.members-per-project:0}") int membersPerProject,
+                              @Value("${in-memory.seed.issues:0}") int issues,
+                              @Value("${in-memory.seed.password:password}") String password,
+                              @Value("${in-memory.seed.random-seed:42}") long seed) throws SQLException {
+
+        Random random = new Random(seed);
+        String hashedPassword = passwordEncoder.encode(password);
+
+        store.lock.writeLock().lock();
+
+        try {
+
+            List<UserRow> allUsers = new ArrayList<>();
+            List<UserRow> developers = new ArrayList<>();
+
+            UserRow admin = store.insertUser("admin@example.com", hashedPassword, 2);
+            allUsers.add(admin);
+            developers.add(admin);
+
+            for (int i = 1; i <= users; i++) {
+
+                UserRow user = store.insertUser("user" + i + "@example.com", hashedPassword, i % 3 == 0 ? 0 : 1);
+
+                allUsers.add(user);
+
+                if (user.role > 0)
+                    developers.add(user);
+            }
+
+            List<ProjectRow> projectRows = new ArrayList<>();
+            List<List<UserRow>> membersByProject = new ArrayList<>();
+
+            for (int p = 1; p <= projects; p++) {
+
+                ProjectRow project = store.insertProject("Project " + p);
+                projectRows.add(project);
+                List<TeamRow> teams = new ArrayList<>();
+                List<UserRow> members = new ArrayList<>();
+
+                for (int t = 1; t <= teamsPerProject; t++)
+                    teams.add(store.insertTeam("Team " + p + "." + t, project.id));
+
+                List<UserRow> candidates = new ArrayList<>(developers);
+                Collections.shuffle(candidates, random);
+
+                for (int m = 0; m < Math.min(membersPerProject, candidates.size()); m++) {
+
+                    UserRow member = candidates.get(m);
+
+                    store.addProjectMember(project.id, member.id);
+                    members.add(member);
+
+                    if (!teams.isEmpty())
+                        teams.get(m % teams.size()).members.add(member.id);
+                }
+
+                membersByProject.add(members);
+            }
+
+            Instant now = Instant.now();
+
+            for (int i = 0; i < issues && projects > 0; i++) {
+
+                int projectIndex = random.nextInt(projects);
+                List<UserRow> members = membersByProject.get(projectIndex);
+
+                IssueStatusDTO status = IssueStatusDTO.values()[random.nextInt(IssueStatusDTO.values().length)];
+                Instant reportTime = now.minusSeconds((long) (random.nextDouble() * REPORT_WINDOW.toSeconds()));
+                Instant resolutionTime = null;
+                Integer resolverId = null;
+
+                if (status != IssueStatusDTO.TODO && !members.isEmpty())
+                    resolverId = members.get(random.nextInt(members.size())).id;
+
+                if (status == IssueStatusDTO.RESOLVED) {
+
+                    resolutionTime = reportTime.plusSeconds((long) (random.nextDouble() * MAX_RESOLUTION.toSeconds()));
+
+                    if (resolutionTime.isAfter(now))
+                        resolutionTime = now;
+                }
+
+                store.insertIssue(words(random, 3 + random.nextInt(4)), words(random, 10 + random.nextInt(30)),
+                        1 + random.nextInt(5), IssueTypeDTO.values()[random.nextInt(IssueTypeDTO.values().length)], status,
+                        tags(random), reportTime, resolutionTime, allUsers.get(random.nextInt(allUsers.size())).id,
+                        resolverId, projectRows.get(projectIndex).id, null, null);
+            }
+
+        } finally {
+            store.lock.writeLock().unlock();
+        }
+
+        logger.info("In-memory store seeded: {} users, {} projects, {} teams, {} issues",
+                store.users.size(), store.projects.size(), store.teams.size(), store.issues.size());
+    }
+
+    /**
+     * Compone un testo di parole prese a caso dal vocabolario.
+     */
+    private static String words(Random random, int count) {
+
+        StringJoiner text = new StringJoiner(" ");
+
+        for (int i = 0; i < count; i++)
+            text.add(WORDS[random.nextInt(WORDS.length)]);
+
+        return text.toString();
+    }
+
+    /**
+     * Compone da zero a tre tag presi a caso dal vocabolario, nel formato separato da ';'.
+     */
+    private static String tags(Random random) {
+
+        StringJoiner tags = new StringJoiner(";");
+
+        for (int i = random.nextInt(4); i > 0; i--)
+            tags.add(TAGS[random.nextInt(TAGS.length)]);
+
+        return tags.toString();
+    }
+
+}
@@ -0,0 +1,794 @@
+package backend.database.implinmemory;
+
+import backend.database.dao.IssueDAO;
+import backend.database.dao.RowConsumer;
+import backend.database.implinmemory.InMemoryStore.IssueRow;
+import backend.database.implinmemory.InMemoryStore.UserRow;
+import backend.dto.*;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Implementazione in memoria del Data Access Object (DAO) per la gestione delle issue (profilo {@code in-memory}).
+ * <p>
+ * Riproduce il comportamento di {@code IssueDAOImpl} sui dati di {@link InMemoryStore}, senza database:
+ * stessi filtri di ricerca, stesso ordinamento e stessi token di paginazione, stessi contatori di versione
+ * (per gli ETag) e stessi messaggi per le operazioni massive.
+ * </p>
+ * <p>
+ * Una ricerca parte dall'insieme candidato più piccolo tra le issue del progetto e quelle degli indici per
+ * sviluppatore, segnalatore, tag e termine, e verifica su quei candidati gli altri filtri. Quando il candidato
+ * è l'indice del progetto (già in ordine di priorità) la pagina viene letta a partire dalla chiave del token,
+ * fermandosi alla prima riga oltre la pagina, come farebbe la paginazione keyset sull'indice del database.
+ * </p>
+ * <p>
+ * La ricerca testuale approssima {@code websearch_to_tsquery('simple', ...)}: tutte le parole devono essere
+ * presenti nel titolo o nella descrizione, quelle precedute da {@code -} devono mancare. La pertinenza pesa
+ * le occorrenze nel titolo (1.0) più di quelle nella descrizione (0.4), come i pesi A e B della colonna
+ * {@code search_vector}.
+ * </p>
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryIssueDAO implements IssueDAO {
+
+    /**
+     * Dimensione dei blocchi in cui l'immagine viene scritta sullo stream.
+     */
+    private static final int IMAGE_CHUNK_SIZE = 256 * 1024;
+
+    /**
+     * Numero di issue copiate a ogni acquisizione del lock di lettura nelle ricerche in streaming.
+     */
+    private static final int STREAM_BATCH_SIZE = 1000;
+
+    /**
+     * Peso delle occorrenze nel titolo per l'ordinamento per pertinenza.
+     */
+    private static final float TITLE_WEIGHT = 1.0f;
+
+    /**
+     * Peso delle occorrenze nella descrizione per l'ordinamento per pertinenza.
+     */
+    private static final float DESCRIPTION_WEIGHT = 0.4f;
+
+    /**
+     * Contenuto in memoria condiviso dai DAO.
+     */
+    private final InMemoryStore store;
+
+    /**
+     * Costruttore per l'iniezione delle dipendenze.
+     *
+     * @param store Il contenuto in memoria condiviso dai DAO.
+     */
+    public InMemoryIssueDAO(InMemoryStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Inserisce una nuova issue, con l'eventuale immagine già presente nel DTO.
+     *
+     * @param issueToReport L'oggetto IssueDTO contenente i dati della nuova segnalazione.
+     * @throws SQLException Se mancano campi obbligatori o il segnalatore o il progetto non esistono.
+     */
+    public void reportIssue(IssueDTO issueToReport) throws SQLException{
+
+        byte[] image = issueToReport.getImage();
+
+        insert(issueToReport, image);
+    }
+
+    /**
+     * Inserisce una nuova issue leggendo l'immagine dallo stream indicato.
+     *
+     * @param issueToReport L'oggetto IssueDTO contenente i dati della nuova segnalazione.
+     * @param image         Lo stream dell'immagine, oppure {@code null}.
+     * @param imageSize     La dimensione dell'immagine in byte.
+     * @throws SQLException Se la lettura dell'immagine fallisce o i dati violano i vincoli della tabella.
+     */
+    public void reportIssue(IssueDTO issueToReport, InputStream image, long imageSize) throws SQLException{
+
+        byte[] imageBytes = null;
+
+        if (image != null) {
+
+            try {
+                imageBytes = image.readNBytes((int) Math.min(imageSize, Integer.MAX_VALUE));
+            } catch (IOException e) {
+                throw new SQLException("Unable to read the issue image", e);
+            }
+        }
+
+        insert(issueToReport, imageBytes);
+    }
+
+    /**
+     * Inserisce una issue segnalata ora, senza sviluppatore assegnato.
+     */
+    private void insert(IssueDTO issueToReport, byte[] image) throws SQLException {
+
+        String imageMd5 = image == null ? null : md5Of(image);
+
+        store.lock.writeLock().lock();
+
+        try {
+
+            store.insertIssue(issueToReport.getTitle(), issueToReport.getDescription(), issueToReport.getPriority(),
+                    issueToReport.getType(), issueToReport.getStatus(), issueToReport.getTags(), Instant.now(), null,
+                    idOf(issueToReport.getReportingUser()), null, projectIdOf(issueToReport), image, imageMd5);
+
+        } finally {
+            store.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserisce un gruppo di issue importate. Come il batch su database, le issue che violano un vincolo
+     * vengono scartate con il loro codice SQLSTATE e le altre inserite.
+     *
+     * @param issuesToReport Le issue da inserire.
+     * @return Per ogni issue, {@code null} se inserita, altrimenti il motivo del rifiuto.
+     */
+    public List<String> reportIssues(List<IssueDTO> issuesToReport) throws SQLException{
+
+        List<String> errors = new ArrayList<>(Collections.nCopies(issuesToReport.size(), null));
+
+        store.lock.writeLock().lock();
+
+        try {
+
+            for (int i = 0; i < issuesToReport.size(); i++) {
+
+                IssueDTO issue = issuesToReport.get(i);
+
+                try {
+
+                    store.insertIssue(issue.getTitle(), issue.getDescription(), issue.getPriority(), issue.getType(),
+                            issue.getStatus(), issue.getTags(),
+                            issue.getReportDate() != null ? issue.getReportDate().toInstant() : Instant.now(),
+                            issue.getResolutionDate() != null ? issue.getResolutionDate().toInstant() : null,
+                            idOf(issue.getReportingUser()), idOf(issue.getAssignedDeveloper()), projectIdOf(issue),
+                            null, null);
+
+                } catch (SQLException e) {
+                    errors.set(i, "Rejected by the database (SQLSTATE " + e.getSQLState() + ")");
+                }
+            }
+
+        } finally {
+            store.lock.writeLock().unlock();
+        }
+
+        return errors;
+    }
+
+    /**
+     * Cerca le issue di un progetto con i filtri indicati, in ordine di priorità decrescente.
+     *
+     * @return Le issue trovate (ID, titolo e stato).
+     */
+    public List<IssueDTO> searchIssues(IssueDTO issueToSearch, Integer resolverId, Integer reporterId, Integer projectId,
+                                       boolean matchAnyTag) throws SQLException{
+
+        List<IssueDTO> searchResult = new ArrayList<>();
+
+        store.lock.readLock().lock();
+
+        try {
+
+            Predicate<IssueRow> filter = filterOf(issueToSearch, resolverId, reporterId, projectId, matchAnyTag, List.of(), List.of());
+
+            for (IssueRow issue : candidatesOf(issueToSearch, resolverId, reporterId, projectId, matchAnyTag, List.of()).descendingSet()) {
+
+                if (!filter.test(issue))
+                    continue;
+
+                IssueDTO issueFounded = new IssueDTO();
+
+                issueFounded.setId(issue.id);
+                issueFounded.setTitle(issue.title);
+                issueFounded.setStatus(issue.status);
+
+                searchResult.add(issueFounded);
+            }
+
+        } finally {
+            store.lock.readLock().unlock();
+        }
+
+        return searchResult;
+    }
+
+    /**
+     * Cerca le issue di un progetto come {@link #searchIssues}, passandole al destinatario a blocchi.
+     * <p>
+     * Ogni blocco di {@value #STREAM_BATCH_SIZE} issue viene copiato con il lock di lettura e scritto dopo
+     * averlo rilasciato, così un client lento non blocca le scritture. Il blocco successivo riparte dalla chiave
+     * (priorità, id) dell'ultima issue, come un cursore keyset: nessuna issue viene ripetuta o saltata.
+     * </p>
+     *
+     * @return Il numero di issue passate al destinatario.
+     */
+    public long streamIssues(IssueDTO issueToSearch, Integer resolverId, Integer reporterId, Integer projectId,
+                             boolean matchAnyTag, RowConsumer<IssueDTO> consumer) throws SQLException, IOException{
+
+        long streamed = 0;
+
+        Predicate<IssueRow> filter = filterOf(issueToSearch, resolverId, reporterId, projectId, matchAnyTag, List.of(), List.of());
+        NavigableSet<IssueRow> candidates;
+
+        store.lock.readLock().lock();
+
+        try {
+            candidates = candidatesOf(issueToSearch, resolverId, reporterId, projectId, matchAnyTag, List.of());
+        } finally {
+            store.lock.readLock().unlock();
+        }
+
+        List<IssueDTO> batch = new ArrayList<>(STREAM_BATCH_SIZE);
+        IssueRow lastKey = null;
+
+        do {
+
+            batch.clear();
+
+            store.lock.readLock().lock();
+
+            try {
+
+                for (IssueRow issue : (lastKey == null ? candidates : candidates.headSet(lastKey, false)).descendingSet()) {
+
+                    lastKey = issue;
+
+                    if (!filter.test(issue))
+                        continue;
+
+                    IssueDTO issueFounded = new IssueDTO();
+
+                    issueFounded.setId(issue.id);
+                    issueFounded.setTitle(issue.title);
+                    issueFounded.setStatus(issue.status);
+
+                    batch.add(issueFounded);
+
+                    if (batch.size() == STREAM_BATCH_SIZE)
+                        break;
+                }
+
+            } finally {
+                store.lock.readLock().unlock();
+            }
+
+            for (IssueDTO issue : batch)
+                consumer.accept(issue);
+
+            streamed += batch.size();
+
+        } while (batch.size() == STREAM_BATCH_SIZE);
+
+        return streamed;
+    }
+
+    /**
+     * Cerca una pagina di issue di un progetto, con ricerca testuale opzionale e paginazione keyset.
+     *
+     * @return La pagina di issue (ID, titolo, stato e priorità) con l'eventuale token della pagina successiva.
+     */
+    public IssuePageDTO searchIssuesPage(IssueDTO issueToSearch, Integer resolverId, Integer reporterId, Integer projectId,
+                                         boolean matchAnyTag, String textQuery, IssueSortDTO sort, String pageToken, int pageSize) throws SQLException{
+
+        List<String> includedTerms = new ArrayList<>();
+        List<String> excludedTerms = new ArrayList<>();
+
+        if (textQuery != null)
+            parseTextQuery(textQuery, includedTerms, excludedTerms);
+
+        boolean fullText = !includedTerms.isEmpty();
+
+        // Relevance only makes sense when there is a text to rank against
+        if (sort == IssueSortDTO.RELEVANCE && !fullText)
+            sort = IssueSortDTO.PRIORITY_DESC;
+
+        boolean ascending = sort == IssueSortDTO.PRIORITY_ASC;
+        boolean relevance = sort == IssueSortDTO.RELEVANCE;
+
+        IssuePageDTO.PageKey lastKey = pageToken != null && !pageToken.isEmpty() ? IssuePageDTO.decodePageToken(pageToken) : null;
+
+        IssuePageDTO page = new IssuePageDTO();
+
+        store.lock.readLock().lock();
+
+        try {
+
+            Predicate<IssueRow> filter = filterOf(issueToSearch, resolverId, reporterId, projectId, matchAnyTag, includedTerms, excludedTerms);
+            NavigableSet<IssueRow> candidates = candidatesOf(issueToSearch, resolverId, reporterId, projectId, matchAnyTag, includedTerms);
+
+            List<IssueRow> selected = new ArrayList<>(pageSize + 1);
+            List<Float> sortKeys = new ArrayList<>(pageSize + 1);
+
+            if (!relevance) {
+
+                // Priority order is the index order: start after the page key and stop one row past the page
+                if (lastKey != null) {
+
+                    IssueRow key = InMemoryStore.keyOf((int) lastKey.sortKey(), lastKey.issueId());
+
+                    candidates = ascending ? candidates.tailSet(key, false) : candidates.headSet(key, false);
+                }
+
+                for (IssueRow issue : ascending ? candidates : candidates.descendingSet()) {
+
+                    if (!filter.test(issue))
+                        continue;
+
+                    selected.add(issue);
+                    sortKeys.add((float) issue.priority);
+
+                    if (selected.size() > pageSize)
+                        break;
+                }
+
+            } else {
+
+                record Ranked(IssueRow issue, float rank) {}
+
+                List<Ranked> ranked = new ArrayList<>();
+
+                for (IssueRow issue : candidates) {
+
+                    if (!filter.test(issue))
+                        continue;
+
+                    float rank = rankOf(issue, includedTerms);
+
+                    if (lastKey == null || rankedBefore(rank, issue.id, lastKey))
+                        ranked.add(new Ranked(issue, rank));
+                }
+
+                ranked.sort(Comparator.comparingDouble(Ranked::rank).thenComparingInt(r -> r.issue().id).reversed());
+
+                for (Ranked match : ranked.subList(0, Math.min(ranked.size(), pageSize + 1))) {
+                    selected.add(match.issue());
+                    sortKeys.add(match.rank());
+                }
+            }
+
+            for (int i = 0; i < Math.min(selected.size(), pageSize); i++) {
+
+                IssueRow issue = selected.get(i);
+                IssueDTO issueFounded = new IssueDTO();
+
+                issueFounded.setId(issue.id);
+                issueFounded.setTitle(issue.title);
+                issueFounded.setStatus(issue.status);
+                issueFounded.setPriority(issue.priority);
+
+                page.getIssues().add(issueFounded);
+            }
+
+            if (selected.size() > pageSize) {
+                // A row beyond the page exists: the last returned row becomes the continuation key
+                page.setNextPageToken(IssuePageDTO.encodePageToken(sortKeys.get(pageSize - 1), selected.get(pageSize - 1).id));
+            }
+
+        } finally {
+            store.lock.readLock().unlock();
+        }
+
+        return page;
+    }
+
+    /**
+     * Verifica se la riga viene dopo la chiave del token nell'ordine per pertinenza decrescente, come il confronto
+     * tra tuple {@code (sort_key, issue_id) < (?, ?)}.
+     */
+    private static boolean rankedBefore(float rank, int issueId, IssuePageDTO.PageKey lastKey) {
+
+        // The token carries the float rank widened to double: narrowing it back restores the same value
+        int comparison = Float.compare(rank, (float) lastKey.sortKey());
+
+        return comparison < 0 || (comparison == 0 && issueId < lastKey.issueId());
+    }
+
+    /**
+     * Sceglie l'insieme candidato più piccolo tra l'indice del progetto e gli indici per sviluppatore,
+     * segnalatore, tag (solo se devono essere presenti tutti) e termine, restituendolo in ordine di priorità.
+     */
+    private NavigableSet<IssueRow> candidatesOf(IssueDTO issueToSearch, Integer resolverId, Integer reporterId,
+                                                Integer projectId, boolean matchAnyTag, List<String> includedTerms) {
+
+        NavigableSet<IssueRow> projectIssues = store.issuesByProject.get(projectId);
+
+        if (projectIssues == null)
+            return new TreeSet<>(InMemoryStore.PRIORITY_ORDER);
+
+        Set<IssueRow> smallest = projectIssues;
+
+        List<Set<IssueRow>> postings = new ArrayList<>();
+
+        if (resolverId != null)
+            postings.add(store.issuesByResolver.getOrDefault(resolverId, Set.of()));
+
+        if (reporterId != null)
+            postings.add(store.issuesByReporter.getOrDefault(reporterId, Set.of()));
+
+        if (!matchAnyTag && issueToSearch.getTags() != null) {
+
+            for (String tag : InMemoryStore.tagsOf(issueToSearch.getTags()))
+                postings.add(store.issuesByTag.getOrDefault(tag, Set.of()));
+        }
+
+        for (String term : includedTerms)
+            postings.add(store.issuesByTerm.getOrDefault(term, Set.of()));
+
+        for (Set<IssueRow> posting : postings) {
+
+            if (posting.size() < smallest.size())
+                smallest = posting;
+        }
+
+        if (smallest == projectIssues)
+            return projectIssues;
+
+        // Postings are unordered: the (few) candidates are sorted like the project index
+        NavigableSet<IssueRow> sorted = new TreeSet<>(InMemoryStore.PRIORITY_ORDER);
+        sorted.addAll(smallest);
+
+        return sorted;
+    }
+
+    /**
+     * Costruisce il filtro equivalente alla clausola WHERE della ricerca su database.
+     */
+    private static Predicate<IssueRow> filterOf(IssueDTO issueToSearch, Integer resolverId, Integer reporterId, Integer projectId,
+                                                boolean matchAnyTag, List<String> includedTerms, List<String> excludedTerms) {
+
+        String title = issueToSearch.getTitle();
+        IssueStatusDTO status = issueToSearch.getStatus();
+        IssueTypeDTO type = issueToSearch.getType();
+        Integer priority = issueToSearch.getPriority();
+        Set<String> tags = InMemoryStore.tagsOf(issueToSearch.getTags());
+
+        return issue -> Objects.equals(issue.projectId, projectId)
+                && (resolverId == null || resolverId.equals(issue.resolverId))
+                && (reporterId == null || reporterId == issue.reporterId)
+                && (title == null || title.isEmpty() || InMemoryStore.containsIgnoreCase(issue.title, title))
+                && (status == null || status == issue.status)
+                && (type == null || type == issue.type)
+                && (priority == null || priority == issue.priority)
+                && (tags.isEmpty() || (matchAnyTag ? !Collections.disjoint(issue.tagList, tags) : issue.tagList.containsAll(tags)))
+                && includedTerms.stream().allMatch(term -> containsTerm(issue, term))
+                && excludedTerms.stream().noneMatch(term -> containsTerm(issue, term));
+    }
+
+    /**
+     * Verifica se il termine compare nel titolo o nella descrizione della issue.
+     */
+    private static boolean containsTerm(IssueRow issue, String term) {
+        return issue.titleTerms.containsKey(term) || issue.descriptionTerms.containsKey(term);
+    }
+
+    /**
+     * Calcola la pertinenza di una issue: occorrenze dei termini cercati, pesate per titolo e descrizione.
+     */
+    private static float rankOf(IssueRow issue, List<String> includedTerms) {
+
+        float rank = 0;
+
+        for (String term : includedTerms) {
+            rank += TITLE_WEIGHT * issue.titleTerms.getOrDefault(term, 0);
+            rank += DESCRIPTION_WEIGHT * issue.descriptionTerms.getOrDefault(term, 0);
+        }
+
+        return rank;
+    }
+
+    /**
+     * Divide il testo cercato in termini da includere e da escludere (preceduti da {@code -}).
+     * Le virgolette e l'operatore {@code or} vengono ignorati: le frasi diventano parole da includere.
+     */
+    private static void parseTextQuery(String textQuery, List<String> includedTerms, List<String> excludedTerms) {
+
+        for (String word : textQuery.trim().split("\\s+")) {
+
+            boolean excluded = word.startsWith("-");
+
+            for (String term : InMemoryStore.termsOf(word).keySet()) {
+
+                if (term.equals("or"))
+                    continue;
+
+                (excluded ? excludedTerms : includedTerms).add(term);
+            }
+        }
+    }
+
+    /**
+     * Restituisce tutti i dettagli di una issue (esclusa l'immagine, servita a parte).
+     *
+     * @param issueId L'ID della issue.
+     * @return La issue trovata, oppure {@code null}.
+     */
+    public IssueDTO getIssueById(Integer issueId) throws SQLException{
+
+        store.lock.readLock().lock();
+
+        try {
+
+            IssueRow issue = store.issues.get(issueId);
+
+            if (issue == null)
+                return null;
+
+            IssueDTO searchResult = new IssueDTO();
+
+            searchResult.setId(issue.id);
+            searchResult.setTitle(issue.title);
+            searchResult.setDescription(issue.description);
+            searchResult.setPriority(issue.priority);
+            searchResult.setHasImage(issue.image != null);
+            searchResult.setVersion(issue.version);
+            searchResult.setType(issue.type);
+            searchResult.setStatus(issue.status);
+            searchResult.setTags(issue.tags);
+            searchResult.setReportDate(Date.from(issue.reportTime));
+
+            if (issue.resolutionTime != null)
+                searchResult.setResolutionDate(Date.from(issue.resolutionTime));
+
+            searchResult.setReportingUser(userOf(store.users.get(issue.reporterId)));
+            searchResult.setAssignedDeveloper(issue.resolverId == null ? null : userOf(store.users.get(issue.resolverId)));
+            searchResult.setRelatedProject(new ProjectDTO(issue.projectId, store.projects.get(issue.projectId).name));
+
+            return searchResult;
+
+        } finally {
+            store.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Restituisce dimensione, tipo e impronta dell'immagine di una issue.
+     *
+     * @param issueId L'ID della issue.
+     * @return Le informazioni sull'immagine, oppure {@code null} se la issue non esiste o non ha immagine.
+     */
+    public IssueImageDTO getIssueImageInfo(Integer issueId) throws SQLException{
+
+        store.lock.readLock().lock();
+
+        try {
+
+            IssueRow issue = store.issues.get(issueId);
+
+            if (issue == null || issue.image == null)
+                return null;
+
+            byte[] header = Arrays.copyOf(issue.image, Math.min(issue.image.length, IssueImageDTO.HEADER_LENGTH));
+
+            return new IssueImageDTO(issue.image.length, IssueImageDTO.detectContentType(header), issue.imageMd5);
+
+        } finally {
+            store.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scrive l'immagine di una issue sullo stream, a blocchi.
+     *
+     * @param issueId L'ID della issue.
+     * @param out     Lo stream di destinazione.
+     * @return Il numero di byte scritti.
+     * @throws IOException Se la scrittura sullo stream fallisce.
+     */
+    public long writeIssueImage(Integer issueId, OutputStream out) throws SQLException, IOException{
+
+        // The image array is never modified after insertion: it can be written outside the lock
+        byte[] image = imageOf(issueId);
+
+        if (image == null)
+            return 0;
+
+        for (int offset = 0; offset < image.length; offset += IMAGE_CHUNK_SIZE)
+            out.write(image, offset, Math.min(IMAGE_CHUNK_SIZE, image.length - offset));
+
+        return image.length;
+    }
+
+    /**
+     * Restituisce l'immagine di una issue, oppure {@code null}.
+     */
+    private byte[] imageOf(Integer issueId) {
+
+        store.lock.readLock().lock();
+
+        try {
+
+            IssueRow issue = store.issues.get(issueId);
+
+            return issue == null ? null : issue.image;
+
+        } finally {
+            store.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Aggiorna lo stato di una issue.
+     *
+     * @param id        L'ID della issue.
+     * @param newStatus Il nuovo stato.
+     * @return {@code true} se la issue esiste ed è stata aggiornata.
+     */
+    public boolean updateStatus(Integer id, IssueStatusDTO newStatus) throws SQLException{
+
+        store.lock.writeLock().lock();
+
+        try {
+
+            IssueRow issue = store.issues.get(id);
+
+            if (issue == null)
+                return false;
+
+            store.changeStatus(issue, newStatus);
+
+            return true;
+
+        } finally {
+            store.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Assegna una issue all'utente con l'email indicata e la porta nello stato {@code ASSIGNED}.
+     *
+     * @param id            L'ID della issue.
+     * @param resolverEmail L'email dello sviluppatore.
+     * @return Lo sviluppatore assegnato (ID ed email), oppure {@code null} se la issue o l'utente non esistono.
+     */
+    public UserDTO assignIssueToDeveloperByEmail(Integer id, String resolverEmail) throws SQLException{
+
+        store.lock.writeLock().lock();
+
+        try {
+
+            IssueRow issue = store.issues.get(id);
+            UserRow resolver = store.usersByEmail.get(resolverEmail);
+
+            if (issue == null || resolver == null)
+                return null;
+
+            store.assign(issue, resolver);
+
+            return userOf(resolver);
+
+        } finally {
+            store.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Aggiorna lo stato di più issue in un'unica operazione atomica.
+     *
+     * @param changes Le modifiche di stato.
+     * @return L'esito di ogni modifica, nello stesso ordine.
+     */
+    public List<IssueBulkResultDTO> updateStatuses(List<IssueStatusChangeDTO> changes) throws SQLException{
+
+        List<IssueBulkResultDTO> results = new ArrayList<>(changes.size());
+
+        store.lock.writeLock().lock();
+
+        try {
+
+            for (IssueStatusChangeDTO change : changes) {
+
+                IssueRow issue = store.issues.get(change.getIssueId());
+
+                if (issue == null) {
+                    results.add(new IssueBulkResultDTO(change.getIssueId(), false, "Issue not found", null));
+                    continue;
+                }
+
+                store.changeStatus(issue, change.getNewStatus());
+                results.add(new IssueBulkResultDTO(change.getIssueId(), true, null, null));
+            }
+
+        } finally {
+            store.lock.writeLock().unlock();
+        }
+
+        return results;
+    }
+
+    /**
+     * Assegna più issue ai rispettivi sviluppatori in un'unica operazione atomica.
+     *
+     * @param assignments Le assegnazioni.
+     * @return L'esito di ogni assegnazione, nello stesso ordine.
+     */
+    public List<IssueBulkResultDTO> assignIssuesToDevelopers(List<IssueAssignmentDTO> assignments) throws SQLException{
+
+        List<IssueBulkResultDTO> results = new ArrayList<>(assignments.size());
+
+        store.lock.writeLock().lock();
+
+        try {
+
+            for (IssueAssignmentDTO assignment : assignments) {
+
+                UserRow resolver = store.usersByEmail.get(assignment.getResolverEmail());
+                IssueRow issue = store.issues.get(assignment.getIssueId());
+
+                if (resolver == null) {
+                    results.add(new IssueBulkResultDTO(assignment.getIssueId(), false, "User not found", null));
+                } else if (issue == null) {
+                    results.add(new IssueBulkResultDTO(assignment.getIssueId(), false, "Issue not found", null));
+                } else {
+                    store.assign(issue, resolver);
+                    results.add(new IssueBulkResultDTO(assignment.getIssueId(), true, null, userOf(resolver)));
+                }
+            }
+
+        } finally {
+            store.lock.writeLock().unlock();
+        }
+
+        return results;
+    }
+
+    /**
+     * Restituisce un utente con solo ID ed email.
+     */
+    private static UserDTO userOf(UserRow row) {
+
+        if (row == null)
+            return null;
+
+        UserDTO user = new UserDTO();
+
+        user.setId(row.id);
+        user.setEmail(row.email);
+
+        return user;
+    }
+
+    /**
+     * Restituisce l'ID di un utente, oppure {@code null}.
+     */
+    private static Integer idOf(UserDTO user) {
+        return user == null ? null : user.getId();
+    }
+
+    /**
+     * Restituisce l'ID del progetto di una issue, oppure {@code null}.
+     */
+    private static Integer projectIdOf(IssueDTO issue) {
+        return issue.getRelatedProject() == null ? null : issue.getRelatedProject().getId();
+    }
+
+    /**
+     * Calcola l'MD5 esadecimale dell'immagine, come la colonna generata {@code issue_image_md5}.
+     */
+    private static String md5Of(byte[] image) {
+
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(image));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+
+}
@@ -0,0 +1,228 @@
+package backend.database.implinmemory;
+
+import backend.database.dao.ProjectDAO;
+import backend.database.dao.RowConsumer;
+import backend.database.implinmemory.InMemoryStore.IssueRow;
+import backend.database.implinmemory.InMemoryStore.ProjectRow;
+import backend.database.implneondb.StatisticsAccumulator;
+import backend.dto.IssueDTO;
+import backend.dto.ProjectDTO;
+import backend.dto.StatisticDTO;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Implementazione in memoria del Data Access Object (DAO) per la gestione dei progetti (profilo {@code in-memory}).
+ * <p>
+ * La dashboard riepilogativa viene calcolata direttamente dalle issue: il risultato coincide con la somma
+ * delle righe dell'aggregato mensile, che in memoria non serve mantenere.
+ * </p>
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryProjectDAO implements ProjectDAO {
+
+    /**
+     * Contenuto in memoria condiviso dai DAO.
+     */
+    private final InMemoryStore store;
+
+    /**
+     * Costruttore per l'iniezione delle dipendenze.
+     *
+     * @param store Il contenuto in memoria condiviso dai DAO.
+     */
+    public InMemoryProjectDAO(InMemoryStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Cerca i progetti il cui nome contiene la stringa indicata, senza distinzione tra maiuscole e minuscole.
+     *
+     * @param projectName La stringa da cercare.
+     * @return I progetti trovati (ID e nome).
+     */
+    public List<ProjectDTO> searchProjectsByName(String projectName) throws SQLException{
+
+        List<ProjectDTO> searchResult = new ArrayList<>();
+
+        store.lock.readLock().lock();
+
+        try {
+
+            for (ProjectRow project : store.projects.values()) {
+
+                if (InMemoryStore.containsIgnoreCase(project.name, projectName))
+                    searchResult.add(new ProjectDTO(project.id, project.name));
+            }
+
+        } finally {
+            store.lock.readLock().unlock();
+        }
+
+        return searchResult;
+    }
+
+    /**
+     * Crea un nuovo progetto.
+     *
+     * @param projectToCreate Il progetto da creare (è richiesto il nome).
+     * @throws SQLException Se il nome è assente.
+     */
+    public void createProject(ProjectDTO projectToCreate) throws SQLException{
+
+        store.lock.writeLock().lock();
+
+        try {
+            store.insertProject(projectToCreate.getName());
+        } finally {
+            store.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Genera la dashboard dettagliata su tutte le issue, divise tra aperte e chiuse.
+     *
+     * @return Le statistiche per sviluppatore e le liste delle issue.
+     */
+    public StatisticDTO generateDashboard() throws SQLException{
+
+        StatisticDTO dashboardData = new StatisticDTO();
+        StatisticsAccumulator accumulator = new StatisticsAccumulator();
+
+        store.lock.readLock().lock();
+
+        try {
+
+            for (IssueRow issue : store.issues.values()) {
+
+                IssueDTO foundedIssue = dashboardIssueOf(issue, accumulator);
+
+                if (issue.resolutionTime != null) {
+                    dashboardData.getClosedIssues().add(foundedIssue);
+                } else {
+                    dashboardData.getOpenIssues().add(foundedIssue);
+                }
+            }
+
+        } finally {
+            store.lock.readLock().unlock();
+        }
+
+        accumulator.fill(dashboardData);
+
+        return dashboardData;
+    }
+
+    /**
+     * Genera la dashboard dettagliata passando prima le issue aperte e poi quelle chiuse ai destinatari.
+     * <p>
+     * Il lock di lettura resta acquisito per tutta la scrittura, come la transazione sul database: le due liste
+     * e le statistiche descrivono così lo stesso contenuto.
+     * </p>
+     *
+     * @return Le statistiche per sviluppatore, con le liste delle issue vuote.
+     */
+    public StatisticDTO streamDashboard(RowConsumer<IssueDTO> openIssues, RowConsumer<IssueDTO> closedIssues) throws SQLException, IOException{
+
+        StatisticDTO dashboardData = new StatisticDTO();
+        StatisticsAccumulator accumulator = new StatisticsAccumulator();
+
+        store.lock.readLock().lock();
+
+        try {
+
+            for (IssueRow issue : store.issues.values()) {
+                if (issue.resolutionTime == null)
+                    openIssues.accept(dashboardIssueOf(issue, accumulator));
+            }
+
+            for (IssueRow issue : store.issues.values()) {
+                if (issue.resolutionTime != null)
+                    closedIssues.accept(dashboardIssueOf(issue, accumulator));
+            }
+
+        } finally {
+            store.lock.readLock().unlock();
+        }
+
+        accumulator.fill(dashboardData);
+
+        return dashboardData;
+    }
+
+    /**
+     * Converte una issue nel formato della dashboard e la aggiunge alle statistiche. Da chiamare con il lock di lettura.
+     */
+    private IssueDTO dashboardIssueOf(IssueRow issue, StatisticsAccumulator accumulator) {
+
+        IssueDTO foundedIssue = new IssueDTO();
+
+        foundedIssue.setId(issue.id);
+        foundedIssue.setReportDate(Date.from(issue.reportTime));
+        foundedIssue.setAssignedDeveloper(store.addToStatistics(accumulator, issue));
+
+        if (issue.resolutionTime != null)
+            foundedIssue.setResolutionDate(Date.from(issue.resolutionTime));
+
+        return foundedIssue;
+    }
+
+    /**
+     * Genera la dashboard riepilogativa: solo i conteggi e le durate medie per sviluppatore.
+     *
+     * @return Le statistiche aggregate, in ordine di email.
+     */
+    public StatisticDTO generateDashboardSummary() throws SQLException{
+
+        StatisticDTO dashboardData = new StatisticDTO();
+
+        store.lock.readLock().lock();
+
+        try {
+            store.fillSummary(store.issues.values(), dashboardData);
+        } finally {
+            store.lock.readLock().unlock();
+        }
+
+        return dashboardData;
+    }
+
+    /**
+     * Restituisce il contatore delle modifiche di un progetto, o la somma su tutti i progetti.
+     *
+     * @param projectId L'ID del progetto, oppure {@code null} per tutti i progetti.
+     * @return Il contatore (0 se il progetto non esiste).
+     */
+    public long getChangeCount(Integer projectId) throws SQLException{
+
+        store.lock.readLock().lock();
+
+        try {
+
+            if (projectId != null) {
+
+                ProjectRow project = store.projects.get(projectId);
+
+                return project == null ? 0 : project.changeCount;
+            }
+
+            long changeCount = 0;
+
+            for (ProjectRow project : store.projects.values())
+                changeCount += project.changeCount;
+
+            return changeCount;
+
+        } finally {
+            store.lock.readLock().unlock();
+        }
+    }
+
+}
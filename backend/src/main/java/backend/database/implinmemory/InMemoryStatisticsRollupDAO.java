@@ -0,0 +1,71 @@
+package backend.database.implinmemory;
+
+import backend.database.dao.StatisticsRollupDAO;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * Implementazione in memoria del Data Access Object (DAO) per l'aggregato mensile delle statistiche
+ * (profilo {@code in-memory}).
+ * <p>
+ * I DAO in memoria calcolano le statistiche riepilogative direttamente dalle issue, quindi non c'è alcun
+ * aggregato da mantenere: i ricalcoli richiesti dal controller e dallo scheduler non fanno nulla.
+ * </p>
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryStatisticsRollupDAO implements StatisticsRollupDAO {
+
+    /**
+     * Non fa nulla: le statistiche vengono calcolate dalle issue a ogni richiesta.
+     *
+     * @param issueId L'ID della issue modificata.
+     */
+    public void markIssueMonthPending(Integer issueId) {
+        // Nothing to refresh
+    }
+
+    /**
+     * Non fa nulla: le statistiche vengono calcolate dalle issue a ogni richiesta.
+     *
+     * @param projectId L'ID del progetto.
+     * @param month     Il primo giorno del mese di segnalazione.
+     */
+    public void markPending(Integer projectId, LocalDate month) {
+        // Nothing to refresh
+    }
+
+    /**
+     * Non fa nulla: le statistiche vengono calcolate dalle issue a ogni richiesta.
+     *
+     * @param projectId L'ID del progetto.
+     * @param month     Il primo giorno del mese di segnalazione.
+     */
+    public void refreshProjectMonth(Integer projectId, LocalDate month) {
+        // Nothing to refresh
+    }
+
+    /**
+     * Non fa nulla: le statistiche vengono calcolate dalle issue a ogni richiesta.
+     */
+    public void markRebuildPending() {
+        // Nothing to rebuild
+    }
+
+    /**
+     * Non fa nulla: le statistiche vengono calcolate dalle issue a ogni richiesta.
+     */
+    public void refreshPendingMonths() {
+        // Nothing to refresh
+    }
+
+    /**
+     * Non fa nulla: le statistiche vengono calcolate dalle issue a ogni richiesta.
+     */
+    public void rebuild() {
+        // Nothing to rebuild
+    }
+
+}
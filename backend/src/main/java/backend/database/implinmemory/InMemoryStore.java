@@ -0,0 +1,546 @@
+package backend.database.implinmemory;
+
+import backend.database.implneondb.StatisticsAccumulator;
+import backend.dto.IssueStatusDTO;
+import backend.dto.IssueTypeDTO;
+import backend.dto.StatisticDTO;
+import backend.dto.UserDTO;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Contenuto del database tenuto in memoria, condiviso dai DAO del profilo {@code in-memory}.
+ * <p>
+ * Le "tabelle" (utenti, progetti, team, issue e appartenenze) sono mappe indicizzate per chiave primaria.
+ * Accanto alle issue sono mantenuti gli stessi indici che il database usa per i filtri della ricerca:
+ * </p>
+ * <ul>
+ * <li>per progetto, in ordine di (priorità, ID), come {@code idx_issue_project_priority_id}: serve
+ * l'ordinamento e la paginazione keyset senza ordinare i risultati;</li>
+ * <li>per sviluppatore assegnato e per segnalatore;</li>
+ * <li>per tag normalizzato, come {@code idx_issue_tag_list};</li>
+ * <li>per termine di titolo e descrizione, come {@code idx_issue_search_vector}.</li>
+ * </ul>
+ * <p>
+ * Tutte le strutture sono protette da un unico {@link ReentrantReadWriteLock}: le letture dei DAO sono
+ * concorrenti tra loro, ogni scrittura (anche quelle massive) prende il lock di scrittura ed è quindi
+ * atomica come una transazione. Le righe sono mutabili e non escono mai dal lock: i DAO restituiscono copie.
+ * </p>
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryStore {
+
+    /**
+     * Codice SQLSTATE per la violazione di un vincolo NOT NULL.
+     */
+    static final String NOT_NULL_VIOLATION = "23502";
+
+    /**
+     * Codice SQLSTATE per la violazione di una chiave esterna.
+     */
+    static final String FOREIGN_KEY_VIOLATION = "23503";
+
+    /**
+     * Codice SQLSTATE per la violazione di un vincolo di unicità.
+     */
+    static final String UNIQUE_VIOLATION = "23505";
+
+    /**
+     * Fuso orario usato per i mesi delle statistiche, come {@code date_trunc} su un timestamp senza fuso.
+     */
+    static final ZoneId ZONE = ZoneId.systemDefault();
+
+    /**
+     * Riga della tabella {@code User_}.
+     */
+    static final class UserRow {
+
+        final int id;
+        final String email;
+        final String hashedPassword;
+        final int role;
+
+        UserRow(int id, String email, String hashedPassword, int role) {
+            this.id = id;
+            this.email = email;
+            this.hashedPassword = hashedPassword;
+            this.role = role;
+        }
+    }
+
+    /**
+     * Riga della tabella {@code Project}, con il contatore delle modifiche.
+     */
+    static final class ProjectRow {
+
+        final int id;
+        final String name;
+        long changeCount;
+
+        ProjectRow(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    /**
+     * Riga della tabella {@code Team}, con i membri ({@code Works_in}).
+     */
+    static final class TeamRow {
+
+        final int id;
+        final String name;
+        final int projectId;
+        final Set<Integer> members = new HashSet<>();
+
+        TeamRow(int id, String name, int projectId) {
+            this.id = id;
+            this.name = name;
+            this.projectId = projectId;
+        }
+    }
+
+    /**
+     * Riga della tabella {@code Issue}, con le colonne generate (tag normalizzati, termini, MD5 dell'immagine).
+     */
+    static final class IssueRow {
+
+        final int id;
+        final String title;
+        final String description;
+        final int priority;
+        final IssueTypeDTO type;
+        final String tags;
+        final Set<String> tagList;
+        final Map<String, Integer> titleTerms;
+        final Map<String, Integer> descriptionTerms;
+        final Instant reportTime;
+        final int reporterId;
+        final int projectId;
+        final byte[] image;
+        final String imageMd5;
+
+        IssueStatusDTO status;
+        Instant resolutionTime;
+        Integer resolverId;
+        long version;
+
+        IssueRow(int id, String title, String description, int priority, IssueTypeDTO type, IssueStatusDTO status,
+                 String tags, Instant reportTime, Instant resolutionTime, int reporterId, Integer resolverId,
+                 int projectId, byte[] image, String imageMd5) {
+            this.id = id;
+            this.title = title;
+            this.description = description;
+            this.priority = priority;
+            this.type = type;
+            this.status = status;
+            this.tags = tags;
+            this.tagList = tagsOf(tags);
+            this.titleTerms = termsOf(title);
+            this.descriptionTerms = termsOf(description);
+            this.reportTime = reportTime;
+            this.resolutionTime = resolutionTime;
+            this.reporterId = reporterId;
+            this.resolverId = resolverId;
+            this.projectId = projectId;
+            this.image = image;
+            this.imageMd5 = imageMd5;
+        }
+    }
+
+    /**
+     * Ordine dell'indice per progetto: (priorità, ID) crescente.
+     */
+    static final Comparator<IssueRow> PRIORITY_ORDER = Comparator.<IssueRow>comparingInt(issue -> issue.priority)
+            .thenComparingInt(issue -> issue.id);
+
+    /**
+     * Crea una riga fittizia con la sola chiave dell'indice per progetto, per posizionarsi su un token di pagina.
+     */
+    static IssueRow keyOf(int priority, int issueId) {
+        return new IssueRow(issueId, null, null, priority, null, null, null, null, null, 0, null, 0, null, null);
+    }
+
+    /**
+     * Lock che separa le letture (concorrenti tra loro) dalle scritture.
+     */
+    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    final Map<Integer, UserRow> users = new HashMap<>();
+
+    final Map<String, UserRow> usersByEmail = new HashMap<>();
+
+    final Map<Integer, ProjectRow> projects = new LinkedHashMap<>();
+
+    /**
+     * Membri dei progetti ({@code Works_on}): ID del progetto, ID degli utenti.
+     */
+    final Map<Integer, Set<Integer>> projectMembers = new HashMap<>();
+
+    final Map<Integer, TeamRow> teams = new LinkedHashMap<>();
+
+    final Map<Integer, Set<TeamRow>> teamsByProject = new HashMap<>();
+
+    final Map<Integer, IssueRow> issues = new LinkedHashMap<>();
+
+    final Map<Integer, NavigableSet<IssueRow>> issuesByProject = new HashMap<>();
+
+    final Map<Integer, Set<IssueRow>> issuesByResolver = new HashMap<>();
+
+    final Map<Integer, Set<IssueRow>> issuesByReporter = new HashMap<>();
+
+    final Map<String, Set<IssueRow>> issuesByTag = new HashMap<>();
+
+    final Map<String, Set<IssueRow>> issuesByTerm = new HashMap<>();
+
+    private int nextUserId = 1;
+
+    private int nextProjectId = 1;
+
+    private int nextTeamId = 1;
+
+    private int nextIssueId = 1;
+
+    /**
+     * Inserisce un utente. Da chiamare con il lock di scrittura.
+     *
+     * @return La riga inserita.
+     * @throws SQLException Se l'email è assente o già registrata.
+     */
+    UserRow insertUser(String email, String hashedPassword, int role) throws SQLException {
+
+        if (email == null)
+            throw new SQLException("null value in column \"email\"", NOT_NULL_VIOLATION);
+
+        if (usersByEmail.containsKey(email))
+            throw new SQLException("duplicate key value: email " + email, UNIQUE_VIOLATION);
+
+        UserRow user = new UserRow(nextUserId++, email, hashedPassword, role);
+
+        users.put(user.id, user);
+        usersByEmail.put(email, user);
+
+        return user;
+    }
+
+    /**
+     * Inserisce un progetto. Da chiamare con il lock di scrittura.
+     *
+     * @return La riga inserita.
+     * @throws SQLException Se il nome è assente.
+     */
+    ProjectRow insertProject(String name) throws SQLException {
+
+        if (name == null)
+            throw new SQLException("null value in column \"project_name\"", NOT_NULL_VIOLATION);
+
+        ProjectRow project = new ProjectRow(nextProjectId++, name);
+
+        projects.put(project.id, project);
+
+        return project;
+    }
+
+    /**
+     * Inserisce un team nel progetto indicato. Da chiamare con il lock di scrittura.
+     *
+     * @return La riga inserita.
+     * @throws SQLException Se il nome è assente o il progetto non esiste.
+     */
+    TeamRow insertTeam(String name, Integer projectId) throws SQLException {
+
+        if (name == null)
+            throw new SQLException("null value in column \"team_name\"", NOT_NULL_VIOLATION);
+
+        if (projectId == null || !projects.containsKey(projectId))
+            throw new SQLException("Project " + projectId + " does not exist", FOREIGN_KEY_VIOLATION);
+
+        TeamRow team = new TeamRow(nextTeamId++, name, projectId);
+
+        teams.put(team.id, team);
+        teamsByProject.computeIfAbsent(projectId, key -> new LinkedHashSet<>()).add(team);
+
+        return team;
+    }
+
+    /**
+     * Registra un utente tra i membri di un progetto. Da chiamare con il lock di scrittura.
+     */
+    void addProjectMember(int projectId, int userId) {
+        projectMembers.computeIfAbsent(projectId, key -> new HashSet<>()).add(userId);
+    }
+
+    /**
+     * Aggiunge un utente ai membri di un team e, come il trigger 018, anche ai membri del progetto del team.
+     * Da chiamare con il lock di scrittura.
+     *
+     * @return {@code false} se l'utente era già membro del team.
+     */
+    boolean addTeamMember(TeamRow team, int userId) {
+
+        if (!team.members.add(userId))
+            return false;
+
+        addProjectMember(team.projectId, userId);
+
+        return true;
+    }
+
+    /**
+     * Rimuove un utente dai membri di un team e, come il trigger 019, anche dai membri del progetto del team
+     * se non è in nessun altro team dello stesso progetto. Da chiamare con il lock di scrittura.
+     *
+     * @return {@code false} se l'utente non era membro del team.
+     */
+    boolean removeTeamMember(TeamRow team, int userId) {
+
+        if (!team.members.remove(userId))
+            return false;
+
+        for (TeamRow other : teamsByProject.getOrDefault(team.projectId, Set.of())) {
+            if (other.members.contains(userId))
+                return true;
+        }
+
+        Set<Integer> members = projectMembers.get(team.projectId);
+
+        if (members != null)
+            members.remove(userId);
+
+        return true;
+    }
+
+    /**
+     * Inserisce una issue verificando i vincoli della tabella e la aggiunge a tutti gli indici.
+     * Incrementa il contatore delle modifiche del progetto. Da chiamare con il lock di scrittura.
+     *
+     * @return La riga inserita.
+     * @throws SQLException Se manca un campo obbligatorio o un riferimento non esiste.
+     */
+    IssueRow insertIssue(String title, String description, Integer priority, IssueTypeDTO type, IssueStatusDTO status,
+                         String tags, Instant reportTime, Instant resolutionTime, Integer reporterId, Integer resolverId,
+                         Integer projectId, byte[] image, String imageMd5) throws SQLException {
+
+        if (title == null || priority == null || type == null || status == null)
+            throw new SQLException("null value in a required column of \"issue\"", NOT_NULL_VIOLATION);
+
+        if (reporterId == null || !users.containsKey(reporterId))
+            throw new SQLException("Reporter " + reporterId + " does not exist", FOREIGN_KEY_VIOLATION);
+
+        if (resolverId != null && !users.containsKey(resolverId))
+            throw new SQLException("Resolver " + resolverId + " does not exist", FOREIGN_KEY_VIOLATION);
+
+        ProjectRow project = projectId == null ? null : projects.get(projectId);
+
+        if (project == null)
+            throw new SQLException("Project " + projectId + " does not exist", FOREIGN_KEY_VIOLATION);
+
+        IssueRow issue = new IssueRow(nextIssueId++, title, description, priority, type, status, tags,
+                reportTime, resolutionTime, reporterId, resolverId, projectId, image, imageMd5);
+
+        issues.put(issue.id, issue);
+
+        issuesByProject.computeIfAbsent(projectId, key -> new TreeSet<>(PRIORITY_ORDER)).add(issue);
+        issuesByReporter.computeIfAbsent(reporterId, key -> new HashSet<>()).add(issue);
+
+        if (resolverId != null)
+            issuesByResolver.computeIfAbsent(resolverId, key -> new HashSet<>()).add(issue);
+
+        for (String tag : issue.tagList)
+            issuesByTag.computeIfAbsent(tag, key -> new HashSet<>()).add(issue);
+
+        for (String term : issue.titleTerms.keySet())
+            issuesByTerm.computeIfAbsent(term, key -> new HashSet<>()).add(issue);
+
+        for (String term : issue.descriptionTerms.keySet())
+            issuesByTerm.computeIfAbsent(term, key -> new HashSet<>()).add(issue);
+
+        project.changeCount++;
+
+        return issue;
+    }
+
+    /**
+     * Cambia lo stato di una issue: la data di risoluzione viene impostata quando la issue diventa
+     * {@code RESOLVED} e rimossa quando viene riaperta. Incrementa la versione della issue e il contatore
+     * delle modifiche del progetto. Da chiamare con il lock di scrittura.
+     */
+    void changeStatus(IssueRow issue, IssueStatusDTO newStatus) {
+
+        if (newStatus == IssueStatusDTO.RESOLVED && issue.resolutionTime == null)
+            issue.resolutionTime = Instant.now();
+        else if (newStatus != IssueStatusDTO.RESOLVED)
+            issue.resolutionTime = null;
+
+        issue.status = newStatus;
+        issue.version++;
+
+        projects.get(issue.projectId).changeCount++;
+    }
+
+    /**
+     * Assegna una issue a un utente e la porta nello stato {@code ASSIGNED}, aggiornando l'indice per
+     * sviluppatore. Da chiamare con il lock di scrittura.
+     */
+    void assign(IssueRow issue, UserRow resolver) {
+
+        if (issue.resolverId != null) {
+
+            Set<IssueRow> previous = issuesByResolver.get(issue.resolverId);
+
+            if (previous != null)
+                previous.remove(issue);
+        }
+
+        issue.resolverId = resolver.id;
+        issuesByResolver.computeIfAbsent(resolver.id, key -> new HashSet<>()).add(issue);
+
+        changeStatus(issue, IssueStatusDTO.ASSIGNED);
+    }
+
+    /**
+     * Restituisce l'email dello sviluppatore assegnato, se esiste.
+     */
+    String emailOf(Integer userId) {
+
+        UserRow user = userId == null ? null : users.get(userId);
+
+        return user == null ? null : user.email;
+    }
+
+    /**
+     * Aggiunge una issue alle statistiche dettagliate (dashboard e report): aperta se non ha data di risoluzione.
+     *
+     * @return Lo sviluppatore assegnato, come restituito dall'accumulatore.
+     */
+    UserDTO addToStatistics(StatisticsAccumulator accumulator, IssueRow issue) {
+
+        if (issue.resolutionTime == null)
+            return accumulator.addOpenIssue(issue.resolverId, emailOf(issue.resolverId));
+
+        return accumulator.addClosedIssue(issue.resolverId, emailOf(issue.resolverId),
+                ChronoUnit.MICROS.between(issue.reportTime, issue.resolutionTime));
+    }
+
+    /**
+     * Aggrega le issue per sviluppatore assegnato, come la somma delle righe dell'aggregato mensile,
+     * e riempie le statistiche riepilogative in ordine di email.
+     *
+     * @param selected Le issue da aggregare.
+     * @param summary  Le statistiche da riempire.
+     */
+    void fillSummary(Iterable<IssueRow> selected, StatisticDTO summary) {
+
+        record Aggregate(int[] counts, long[] resolutionMicros) {}
+
+        // Ordered like "ORDER BY email"; issues without resolver only count as not assigned
+        TreeMap<String, Integer> resolversByEmail = new TreeMap<>();
+        Map<Integer, Aggregate> aggregates = new HashMap<>();
+        StatisticsAccumulator accumulator = new StatisticsAccumulator();
+
+        for (IssueRow issue : selected) {
+
+            boolean closed = issue.resolutionTime != null;
+            long micros = closed ? ChronoUnit.MICROS.between(issue.reportTime, issue.resolutionTime) : 0;
+
+            if (issue.resolverId == null || !users.containsKey(issue.resolverId)) {
+                accumulator.addAggregate(null, null, closed ? 0 : 1, closed ? 1 : 0, micros);
+                continue;
+            }
+
+            Aggregate aggregate = aggregates.computeIfAbsent(issue.resolverId, key -> {
+                resolversByEmail.put(emailOf(key), key);
+                return new Aggregate(new int[2], new long[1]);
+            });
+
+            aggregate.counts()[closed ? 1 : 0]++;
+            aggregate.resolutionMicros()[0] += micros;
+        }
+
+        for (Map.Entry<String, Integer> resolver : resolversByEmail.entrySet()) {
+
+            Aggregate aggregate = aggregates.get(resolver.getValue());
+
+            accumulator.addAggregate(resolver.getValue(), resolver.getKey(),
+                    aggregate.counts()[0], aggregate.counts()[1], aggregate.resolutionMicros()[0]);
+        }
+
+        accumulator.fill(summary);
+    }
+
+    /**
+     * Restituisce il primo giorno del mese dell'istante indicato, come {@code date_trunc('month', ...)::date}.
+     */
+    static LocalDate monthOf(Instant instant) {
+        return LocalDate.ofInstant(instant, ZONE).withDayOfMonth(1);
+    }
+
+    /**
+     * Confronto senza distinzione tra maiuscole e minuscole come {@code ILIKE '%text%'}.
+     */
+    static boolean containsIgnoreCase(String value, String text) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(text.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Normalizza i tag come la colonna generata {@code tag_list}: separati da ';', senza spazi, in minuscolo,
+     * senza elementi vuoti o ripetuti.
+     */
+    static Set<String> tagsOf(String tags) {
+
+        Set<String> normalizedTags = new LinkedHashSet<>();
+
+        if (tags == null)
+            return normalizedTags;
+
+        for (String tag : tags.split(";")) {
+
+            String normalizedTag = tag.trim().toLowerCase(Locale.ROOT);
+
+            if (!normalizedTag.isEmpty())
+                normalizedTags.add(normalizedTag);
+        }
+
+        return normalizedTags;
+    }
+
+    /**
+     * Estrae i termini di un testo con le occorrenze di ciascuno, come {@code to_tsvector('simple', ...)}:
+     * parole di lettere e cifre, in minuscolo, senza stemming.
+     */
+    static Map<String, Integer> termsOf(String text) {
+
+        Map<String, Integer> terms = new HashMap<>();
+
+        if (text == null)
+            return terms;
+
+        for (String term : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+
+            if (!term.isEmpty())
+                terms.merge(term, 1, Integer::sum);
+        }
+
+        return terms;
+    }
+
+}
@@ -0,0 +1,297 @@
+package backend.database.implinmemory;
+
+import backend.database.dao.TeamDAO;
+import backend.database.implinmemory.InMemoryStore.IssueRow;
+import backend.database.implinmemory.InMemoryStore.TeamRow;
+import backend.database.implinmemory.InMemoryStore.UserRow;
+import backend.database.implneondb.StatisticsAccumulator;
+import backend.dto.IssueDTO;
+import backend.dto.ProjectDTO;
+import backend.dto.StatisticDTO;
+import backend.dto.TeamDTO;
+import backend.search.EmailAutocompleteIndex;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementazione in memoria del Data Access Object (DAO) per la gestione dei team (profilo {@code in-memory}).
+ * <p>
+ * I report partono dai membri del team e, tramite l'indice per sviluppatore assegnato, leggono solo le loro
+ * issue nel progetto del team. Come su database, le modifiche dei membri aggiornano anche l'indice di
+ * autocompletamento delle email.
+ * </p>
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryTeamDAO implements TeamDAO {
+
+    /**
+     * Contenuto in memoria condiviso dai DAO.
+     */
+    private final InMemoryStore store;
+
+    /**
+     * Indice in memoria delle email, aggiornato alle modifiche dei membri dei team.
+     */
+    private final EmailAutocompleteIndex autocompleteIndex;
+
+    /**
+     * Costruttore per l'iniezione delle dipendenze.
+     *
+     * @param store             Il contenuto in memoria condiviso dai DAO.
+     * @param autocompleteIndex L'indice in memoria per l'autocompletamento delle email.
+     */
+    public InMemoryTeamDAO(InMemoryStore store, EmailAutocompleteIndex autocompleteIndex) {
+        this.store = store;
+        this.autocompleteIndex = autocompleteIndex;
+    }
+
+    /**
+     * Cerca i team di un progetto il cui nome contiene la stringa indicata.
+     *
+     * @param teamName  La stringa da cercare.
+     * @param projectId L'ID del progetto.
+     * @return I team trovati (ID, nome e progetto).
+     */
+    public List<TeamDTO> searchTeamsByNameAndProject(String teamName, Integer projectId) throws SQLException{
+
+        List<TeamDTO> searchResult = new ArrayList<>();
+
+        ProjectDTO relatedProject = new ProjectDTO();
+        relatedProject.setId(projectId);
+
+        store.lock.readLock().lock();
+
+        try {
+
+            for (TeamRow team : store.teamsByProject.getOrDefault(projectId, Set.of())) {
+
+                if (!InMemoryStore.containsIgnoreCase(team.name, teamName))
+                    continue;
+
+                TeamDTO foundedTeam = new TeamDTO();
+
+                foundedTeam.setId(team.id);
+                foundedTeam.setName(team.name);
+                foundedTeam.setProject(relatedProject);
+
+                searchResult.add(foundedTeam);
+            }
+
+        } finally {
+            store.lock.readLock().unlock();
+        }
+
+        return searchResult;
+    }
+
+    /**
+     * Crea un nuovo team nel progetto indicato.
+     *
+     * @param teamToCreate Il team da creare (nome e progetto).
+     * @throws SQLException Se il nome è assente o il progetto non esiste.
+     */
+    public void createTeam(TeamDTO teamToCreate) throws SQLException{
+
+        store.lock.writeLock().lock();
+
+        try {
+            store.insertTeam(teamToCreate.getName(), teamToCreate.getProject() == null ? null : teamToCreate.getProject().getId());
+        } finally {
+            store.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Aggiunge l'utente con l'email indicata ai membri del team.
+     *
+     * @param teamId L'ID del team.
+     * @param email  L'email dell'utente.
+     * @return {@code true} se l'utente è stato aggiunto.
+     * @throws SQLException Se il team o l'utente non esistono, o l'utente è già membro del team.
+     */
+    public boolean addMemberToTeam(Integer teamId, String email) throws SQLException{
+
+        store.lock.writeLock().lock();
+
+        try {
+
+            TeamRow team = store.teams.get(teamId);
+            UserRow user = store.usersByEmail.get(email);
+
+            if (user == null)
+                throw new SQLException("null value in column \"user_id\"", InMemoryStore.NOT_NULL_VIOLATION);
+
+            if (team == null)
+                throw new SQLException("Team " + teamId + " does not exist", InMemoryStore.FOREIGN_KEY_VIOLATION);
+
+            if (!store.addTeamMember(team, user.id))
+                throw new SQLException("duplicate key value: (" + teamId + ", " + user.id + ")", InMemoryStore.UNIQUE_VIOLATION);
+
+            // Under the write lock: a concurrent index reload cannot miss this change
+            autocompleteIndex.addTeamMember(teamId, team.projectId, email);
+
+            return true;
+
+        } finally {
+            store.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rimuove l'utente con l'email indicata dai membri del team.
+     *
+     * @param teamId L'ID del team.
+     * @param email  L'email dell'utente.
+     * @return {@code true} se l'utente era membro del team ed è stato rimosso.
+     */
+    public boolean removeMemberFromTeam(Integer teamId, String email) throws SQLException{
+
+        store.lock.writeLock().lock();
+
+        try {
+
+            TeamRow team = store.teams.get(teamId);
+            UserRow user = store.usersByEmail.get(email);
+
+            if (team == null || user == null || !store.removeTeamMember(team, user.id))
+                return false;
+
+            autocompleteIndex.removeTeamMember(teamId, team.projectId, email);
+
+            return true;
+
+        } finally {
+            store.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Genera il report dettagliato di un team sull'intervallo semiaperto {@code [from, to)}: le issue dei membri
+     * nel progetto del team segnalate o risolte nell'intervallo.
+     *
+     * @param teamId L'ID del team.
+     * @param from   L'inizio dell'intervallo (incluso).
+     * @param to     La fine dell'intervallo (esclusa).
+     * @return Il report, con le liste delle issue aperte e chiuse.
+     */
+    public StatisticDTO generateReport(Integer teamId, LocalDateTime from, LocalDateTime to) throws SQLException{
+
+        StatisticDTO reportGenerated = new StatisticDTO();
+        StatisticsAccumulator accumulator = new StatisticsAccumulator();
+
+        Instant fromInstant = from.atZone(InMemoryStore.ZONE).toInstant();
+        Instant toInstant = to.atZone(InMemoryStore.ZONE).toInstant();
+
+        store.lock.readLock().lock();
+
+        try {
+
+            for (IssueRow issue : teamIssues(teamId)) {
+
+                boolean reported = inRange(issue.reportTime, fromInstant, toInstant);
+                boolean resolved = issue.resolutionTime != null && inRange(issue.resolutionTime, fromInstant, toInstant);
+
+                if (!reported && !resolved)
+                    continue;
+
+                IssueDTO foundedIssue = new IssueDTO();
+
+                foundedIssue.setId(issue.id);
+                foundedIssue.setReportDate(Date.from(issue.reportTime));
+                foundedIssue.setAssignedDeveloper(store.addToStatistics(accumulator, issue));
+
+                if (issue.resolutionTime != null) {
+                    foundedIssue.setResolutionDate(Date.from(issue.resolutionTime));
+                    reportGenerated.getClosedIssues().add(foundedIssue);
+                } else {
+                    reportGenerated.getOpenIssues().add(foundedIssue);
+                }
+            }
+
+        } finally {
+            store.lock.readLock().unlock();
+        }
+
+        accumulator.fill(reportGenerated);
+
+        return reportGenerated;
+    }
+
+    /**
+     * Genera il report riepilogativo di un team sui mesi {@code [fromMonth, toMonth)}: le issue dei membri
+     * segnalate o risolte in quei mesi, aggregate per sviluppatore.
+     *
+     * @param teamId    L'ID del team.
+     * @param fromMonth Il primo giorno del primo mese (incluso).
+     * @param toMonth   Il primo giorno del mese finale (escluso).
+     * @return Il report aggregato, in ordine di email.
+     */
+    public StatisticDTO generateReportSummary(Integer teamId, LocalDate fromMonth, LocalDate toMonth) throws SQLException{
+
+        StatisticDTO reportGenerated = new StatisticDTO();
+
+        store.lock.readLock().lock();
+
+        try {
+
+            List<IssueRow> selected = new ArrayList<>();
+
+            for (IssueRow issue : teamIssues(teamId)) {
+
+                LocalDate reportMonth = InMemoryStore.monthOf(issue.reportTime);
+                LocalDate resolutionMonth = issue.resolutionTime == null ? null : InMemoryStore.monthOf(issue.resolutionTime);
+
+                if (inRange(reportMonth, fromMonth, toMonth) || (resolutionMonth != null && inRange(resolutionMonth, fromMonth, toMonth)))
+                    selected.add(issue);
+            }
+
+            store.fillSummary(selected, reportGenerated);
+
+        } finally {
+            store.lock.readLock().unlock();
+        }
+
+        return reportGenerated;
+    }
+
+    /**
+     * Restituisce le issue assegnate ai membri del team nel progetto del team. Da chiamare con il lock di lettura.
+     */
+    private List<IssueRow> teamIssues(Integer teamId) {
+
+        List<IssueRow> teamIssues = new ArrayList<>();
+        TeamRow team = store.teams.get(teamId);
+
+        if (team == null)
+            return teamIssues;
+
+        for (Integer memberId : team.members) {
+
+            for (IssueRow issue : store.issuesByResolver.getOrDefault(memberId, Set.of())) {
+
+                if (issue.projectId == team.projectId)
+                    teamIssues.add(issue);
+            }
+        }
+
+        return teamIssues;
+    }
+
+    /**
+     * Verifica se il valore cade nell'intervallo semiaperto {@code [from, to)}.
+     */
+    private static <T extends Comparable<? super T>> boolean inRange(T value, T from, T to) {
+        return value.compareTo(from) >= 0 && value.compareTo(to) < 0;
+    }
+
+}
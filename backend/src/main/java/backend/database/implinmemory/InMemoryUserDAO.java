@@ -0,0 +1,220 @@
+package backend.database.implinmemory;
+
+import backend.database.dao.UserDAO;
+import backend.database.implinmemory.InMemoryStore.TeamRow;
+import backend.database.implinmemory.InMemoryStore.UserRow;
+import backend.dto.UserDTO;
+import backend.search.EmailAutocompleteIndex;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Implementazione in memoria del Data Access Object (DAO) per la gestione degli utenti (profilo {@code in-memory}).
+ * <p>
+ * Le ricerche per progetto e per team partono dai membri (che sono in genere pochi) invece che da tutti
+ * gli utenti. Le scritture aggiornano l'indice di autocompletamento mentre tengono il lock di scrittura,
+ * quindi un caricamento completo dell'indice, eseguito con il lock di lettura, vede sempre un contenuto coerente.
+ * </p>
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryUserDAO implements UserDAO {
+
+    /**
+     * Contenuto in memoria condiviso dai DAO.
+     */
+    private final InMemoryStore store;
+
+    /**
+     * Indice in memoria delle email per l'autocompletamento, aggiornato alla registrazione di ogni utente.
+     */
+    private final EmailAutocompleteIndex autocompleteIndex;
+
+    /**
+     * Costruttore per l'iniezione delle dipendenze.
+     *
+     * @param store             Il contenuto in memoria condiviso dai DAO.
+     * @param autocompleteIndex L'indice in memoria per l'autocompletamento delle email.
+     */
+    public InMemoryUserDAO(InMemoryStore store, EmailAutocompleteIndex autocompleteIndex) {
+        this.store = store;
+        this.autocompleteIndex = autocompleteIndex;
+    }
+
+    /**
+     * Registra un nuovo utente.
+     *
+     * @param newUser L'utente da registrare (email, password già hashata e ruolo).
+     * @throws SQLException Se l'email è assente o già registrata.
+     */
+    public void registerNewUser(UserDTO newUser) throws SQLException{
+
+        store.lock.writeLock().lock();
+
+        try {
+
+            UserRow user = store.insertUser(newUser.getEmail(), newUser.getPassword(), newUser.getRole());
+
+            autocompleteIndex.addUser(user.id, user.email, user.role);
+
+        } finally {
+            store.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Cerca un utente tramite l'indirizzo email (match esatto), con password hashata e ruolo.
+     *
+     * @param email L'email dell'utente.
+     * @return L'utente trovato, oppure {@code null}.
+     */
+    public UserDTO searchUserByMail(String email) throws SQLException{
+
+        store.lock.readLock().lock();
+
+        try {
+
+            UserRow user = store.usersByEmail.get(email);
+
+            if (user == null)
+                return null;
+
+            UserDTO foundedUser = new UserDTO();
+
+            foundedUser.setId(user.id);
+            foundedUser.setEmail(user.email);
+            foundedUser.setPassword(user.hashedPassword);
+            foundedUser.setRole(user.role);
+
+            return foundedUser;
+
+        } finally {
+            store.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Cerca sviluppatori e amministratori membri di un progetto la cui email contiene la stringa indicata.
+     *
+     * @param email     La stringa da cercare.
+     * @param projectId L'ID del progetto.
+     * @return Gli utenti trovati (ID ed email).
+     */
+    public List<UserDTO> searchDevOrAdminByEmailAndProject(String email, Integer projectId) throws SQLException{
+
+        store.lock.readLock().lock();
+
+        try {
+            return search(store.projectMembers.getOrDefault(projectId, Set.of()), email, user -> user.role > 0);
+        } finally {
+            store.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Cerca i membri di un team la cui email contiene la stringa indicata.
+     *
+     * @param email  La stringa da cercare.
+     * @param teamId L'ID del team.
+     * @return Gli utenti trovati (ID ed email).
+     */
+    public List<UserDTO> searchDevOrAdminByEmailAndTeam(String email, Integer teamId) throws SQLException{
+
+        store.lock.readLock().lock();
+
+        try {
+
+            TeamRow team = store.teams.get(teamId);
+
+            return search(team == null ? Set.of() : team.members, email, user -> true);
+
+        } finally {
+            store.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Cerca tra tutti gli sviluppatori e gli amministratori quelli la cui email contiene la stringa indicata.
+     *
+     * @param email La stringa da cercare.
+     * @return Gli utenti trovati (ID ed email).
+     */
+    public List<UserDTO> searchDevOrAdminByEmail(String email) throws SQLException{
+
+        store.lock.readLock().lock();
+
+        try {
+            return search(store.users.keySet(), email, user -> user.role > 0);
+        } finally {
+            store.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Filtra gli utenti indicati per email (come {@code ILIKE '%email%'}) e per la condizione data.
+     * Da chiamare con il lock di lettura.
+     */
+    private List<UserDTO> search(Collection<Integer> userIds, String email, Predicate<UserRow> condition) {
+
+        List<UserDTO> searchResult = new ArrayList<>();
+
+        for (Integer userId : userIds) {
+
+            UserRow user = store.users.get(userId);
+
+            if (user == null || !condition.test(user) || !InMemoryStore.containsIgnoreCase(user.email, email))
+                continue;
+
+            UserDTO foundedUser = new UserDTO();
+
+            foundedUser.setId(user.id);
+            foundedUser.setEmail(user.email);
+
+            searchResult.add(foundedUser);
+        }
+
+        return searchResult;
+    }
+
+    /**
+     * Ricostruisce l'indice di autocompletamento da utenti, membri dei progetti e membri dei team.
+     */
+    public void reloadAutocompleteIndex() throws SQLException{
+
+        store.lock.readLock().lock();
+
+        try {
+
+            // Incremental index updates happen under the write lock, so the stamp cannot move while this runs
+            long stamp = autocompleteIndex.stamp();
+            EmailAutocompleteIndex.Contents contents = new EmailAutocompleteIndex.Contents();
+
+            for (UserRow user : store.users.values())
+                contents.addUser(user.id, user.email, user.role);
+
+            for (Map.Entry<Integer, Set<Integer>> project : store.projectMembers.entrySet()) {
+                for (Integer userId : project.getValue())
+                    contents.addProjectMember(project.getKey(), userId);
+            }
+
+            for (TeamRow team : store.teams.values()) {
+                for (Integer userId : team.members)
+                    contents.addTeamMember(team.id, team.projectId, userId);
+            }
+
+            autocompleteIndex.replaceIfNotModified(contents, stamp);
+
+        } finally {
+            store.lock.readLock().unlock();
+        }
+    }
+
+}
@@ -1,14 +1,27 @@
 package backend.database.implneondb;
 
+import backend.cache.ExpiringCache;
 import backend.database.dao.IssueDAO;
+import backend.database.dao.RowConsumer;
+import backend.database.dao.StatisticsRollupDAO;
 import backend.dto.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.sql.*;
-import java.util.ArrayList;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
 import java.util.Date;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Implementazione del Data Access Object (DAO) per la gestione delle segnalazioni (Issue).
@@ -19,6 +32,7 @@ import java.util.List;
  * </p>
  */
 @Repository
+@Profile("!in-memory")
 public class IssueDAOImpl implements IssueDAO {
 
     /**
@@ -27,13 +41,55 @@ public class IssueDAOImpl implements IssueDAO {
      */
     private final DataSource dataSource;
 
+    /**
+     * Dimensione dei blocchi (in byte) con cui l'immagine di una issue viene letta dal database.
+     */
+    private static final int IMAGE_CHUNK_SIZE = 256 * 1024;
+
+    /**
+     * Numero di righe lette dal cursore a ogni accesso al database nelle ricerche in streaming.
+     */
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    /**
+     * DAO dell'aggregato mensile delle statistiche, aggiornato dopo ogni modifica che ne altera i conteggi.
+     */
+    private final StatisticsRollupDAO statisticsRollupDAO;
+
+    /**
+     * Logger per la registrazione degli aggiornamenti dell'aggregato non riusciti.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(IssueDAOImpl.class);
+
+    /**
+     * Incrementa il contatore delle modifiche di un progetto, usato per gli ETag di ricerca e dashboard.
+     */
+    private static final String BUMP_PROJECT_CHANGE_COUNT =
+            "UPDATE Project SET change_count = change_count + 1 WHERE project_id = ?;";
+
+    /**
+     * Cache dei dettagli delle issue (senza immagine) letti da {@link #getIssueById(Integer)}.
+     * <p>
+     * Le voci vengono invalidate da {@link #updateStatus}, {@link #assignIssueToDeveloperByEmail} e dalle
+     * rispettive versioni massive, le uniche operazioni che modificano una issue esistente.
+     * </p>
+     */
+    private final ExpiringCache<Integer, IssueDTO> issueDetailCache;
+
     /**
      * Costruttore per l'iniezione delle dipendenze.
      *
-     * @param dataSource Il DataSource configurato per l'accesso al database.
+     * @param dataSource          Il DataSource configurato per l'accesso al database.
+     * @param statisticsRollupDAO Il DAO dell'aggregato mensile delle statistiche.
+     * @param detailCacheSize     Il numero massimo di issue nella cache dei dettagli (0 la disabilita).
+     * @param detailCacheTtl      La durata di validità di una voce della cache dei dettagli.
      */
-    public IssueDAOImpl(DataSource dataSource) {
+    public IssueDAOImpl(DataSource dataSource, StatisticsRollupDAO statisticsRollupDAO,
+                        @Value("${issues.detail-cache.max-size:10000}") int detailCacheSize,
+                        @Value("${issues.detail-cache.ttl:PT5M}") Duration detailCacheTtl) {
         this.dataSource = dataSource;
+        this.statisticsRollupDAO = statisticsRollupDAO;
+        this.issueDetailCache = new ExpiringCache<>(detailCacheSize, detailCacheTtl.toNanos(), TimeUnit.NANOSECONDS);
     }
 
     /**
@@ -50,8 +106,40 @@ public class IssueDAOImpl implements IssueDAO {
      */
     public void reportIssue(IssueDTO issueToReport) throws SQLException{
 
-        String query = "INSERT INTO Issue (title, issue_description, issue_priority, issue_image, issue_type, issue_status, tags, report_time, reporter_id, resolver_id, project_id) VALUES "+
-                        "(?, ?, ?, ?, ?::IssueType, ?::IssueStatus, ?, CURRENT_TIMESTAMP, ?, ?, ?);";
+        byte[] image = issueToReport.getImage();
+
+        if (image != null)
+            reportIssue(issueToReport, new ByteArrayInputStream(image), image.length);
+        else
+            reportIssue(issueToReport, null, 0);
+
+    }
+
+    /**
+     * Registra una nuova segnalazione leggendo l'immagine allegata da uno stream.
+     * <p>
+     * L'immagine viene passata al driver con {@code setBinaryStream} e una lunghezza nota,
+     * così i byte vengono copiati dallo stream al database senza essere prima caricati per intero in memoria.
+     * Il contatore delle modifiche del progetto viene incrementato nella stessa istruzione dell'inserimento.
+     * </p>
+     *
+     * @param issueToReport Il DTO contenente i dati della segnalazione da creare (il campo image viene ignorato).
+     * @param image         Lo stream dell'immagine allegata, oppure {@code null} se non c'è un'immagine.
+     * @param imageSize     La dimensione dell'immagine in byte.
+     * @throws SQLException In caso di errori di connessione o esecuzione della query SQL.
+     */
+    public void reportIssue(IssueDTO issueToReport, InputStream image, long imageSize) throws SQLException{
+
+        // The project's change counter moves in the same statement as the insert
+        String query = "WITH inserted AS (" +
+                       "INSERT INTO Issue (title, issue_description, issue_priority, issue_image, issue_type, issue_status, tags, report_time, reporter_id, resolver_id, project_id) VALUES " +
+                       "(?, ?, ?, ?, ?::IssueType, ?::IssueStatus, ?, CURRENT_TIMESTAMP, ?, ?, ?) RETURNING issue_id, project_id), " +
+                       "bumped AS (" +
+                       "UPDATE Project SET change_count = change_count + 1 " +
+                       "WHERE project_id IN (SELECT project_id FROM inserted)) " +
+                       "SELECT issue_id FROM inserted";
+
+        int issueId;
 
         try (Connection connection = dataSource.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
@@ -60,8 +148,8 @@ public class IssueDAOImpl implements IssueDAO {
             statement.setString(2, issueToReport.getDescription());
             statement.setInt(3, issueToReport.getPriority());
 
-            if (issueToReport.getImage() != null) {
-                statement.setBytes(4, issueToReport.getImage());
+            if (image != null) {
+                statement.setBinaryStream(4, image, imageSize);
             } else {
                 statement.setNull(4, Types.BINARY);
             }
@@ -74,11 +162,142 @@ public class IssueDAOImpl implements IssueDAO {
             statement.setInt(10, issueToReport.getRelatedProject().getId());
 
 
-            statement.executeUpdate();
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                issueId = rs.getInt("issue_id");
+            }
+
+        }
+
+        markStatisticsRollupPending(issueId);
+
+    }
+
+    /**
+     * Registra un gruppo di segnalazioni con un batch JDBC in un'unica transazione.
+     * <p>
+     * Tutte le INSERT vengono inviate insieme con {@code executeBatch} (e riscritte in INSERT multi-riga
+     * dal driver se {@code reWriteBatchedInserts} è attivo). Se il batch fallisce per colpa di qualche record,
+     * la transazione viene annullata e le issue vengono reinserite una alla volta, ciascuna protetta da un
+     * savepoint: quelle rifiutate vengono riportate, le altre salvate. Nella stessa transazione viene
+     * incrementato il contatore delle modifiche dei progetti coinvolti.
+     * </p>
+     *
+     * @param issuesToReport Le segnalazioni da creare (il campo image viene ignorato).
+     * @return Per ogni segnalazione, {@code null} se è stata salvata, altrimenti il motivo del rifiuto.
+     * @throws SQLException In caso di errori di connessione o di transazione.
+     */
+    public List<String> reportIssues(List<IssueDTO> issuesToReport) throws SQLException{
+
+        String query = "INSERT INTO Issue (title, issue_description, issue_priority, issue_type, issue_status, tags, " +
+                       "report_time, resolution_time, reporter_id, resolver_id, project_id) VALUES " +
+                       "(?, ?, ?, ?::IssueType, ?::IssueStatus, ?, COALESCE(?, CURRENT_TIMESTAMP), ?, ?, ?, ?);";
+
+        List<String> errors = new ArrayList<>(Collections.nCopies(issuesToReport.size(), null));
+
+        if (issuesToReport.isEmpty())
+            return errors;
+
+        try (Connection connection = dataSource.getConnection()) {
+
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement statement = connection.prepareStatement(query)) {
+
+                for (IssueDTO issue : issuesToReport) {
+                    bindImportedIssue(statement, issue);
+                    statement.addBatch();
+                }
+
+                boolean batchFailed = false;
+
+                try {
+                    statement.executeBatch();
+                } catch (BatchUpdateException e) {
+                    connection.rollback();
+                    batchFailed = true;
+                }
+
+                if (batchFailed) {
+
+                    // Retry one by one to find the rejected records; the savepoint keeps the transaction usable
+                    for (int i = 0; i < issuesToReport.size(); i++) {
+
+                        Savepoint savepoint = connection.setSavepoint();
+
+                        try {
+                            bindImportedIssue(statement, issuesToReport.get(i));
+                            statement.executeUpdate();
+                            connection.releaseSavepoint(savepoint);
+                        } catch (SQLException e) {
+                            connection.rollback(savepoint);
+                            errors.set(i, "Rejected by the database (SQLSTATE " + e.getSQLState() + ")");
+                        }
+                    }
+                }
+
+                Set<Integer> projectIds = new HashSet<>();
+
+                for (int i = 0; i < issuesToReport.size(); i++) {
+                    if (errors.get(i) == null)
+                        projectIds.add(issuesToReport.get(i).getRelatedProject().getId());
+                }
+
+                try (PreparedStatement bump = connection.prepareStatement(BUMP_PROJECT_CHANGE_COUNT)) {
+
+                    for (Integer projectId : projectIds) {
+                        bump.setInt(1, projectId);
+                        bump.addBatch();
+                    }
+
+                    bump.executeBatch();
+                }
 
+                connection.commit();
+
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
 
         }
 
+        return errors;
+
+    }
+
+    /**
+     * Imposta i parametri della INSERT di {@link #reportIssues(List)} per una issue.
+     */
+    private static void bindImportedIssue(PreparedStatement statement, IssueDTO issue) throws SQLException {
+
+        statement.setString(1, issue.getTitle());
+        statement.setString(2, issue.getDescription());
+        statement.setInt(3, issue.getPriority());
+        statement.setString(4, issue.getType().toString());
+        statement.setString(5, issue.getStatus().toString());
+        statement.setString(6, issue.getTags());
+
+        if (issue.getReportDate() != null)
+            statement.setTimestamp(7, new Timestamp(issue.getReportDate().getTime()));
+        else
+            statement.setNull(7, Types.TIMESTAMP);
+
+        if (issue.getResolutionDate() != null)
+            statement.setTimestamp(8, new Timestamp(issue.getResolutionDate().getTime()));
+        else
+            statement.setNull(8, Types.TIMESTAMP);
+
+        statement.setInt(9, issue.getReportingUser().getId());
+
+        if (issue.getAssignedDeveloper() != null && issue.getAssignedDeveloper().getId() != null)
+            statement.setInt(10, issue.getAssignedDeveloper().getId());
+        else
+            statement.setNull(10, Types.INTEGER);
+
+        statement.setInt(11, issue.getRelatedProject().getId());
     }
 
     /**
@@ -86,23 +305,286 @@ public class IssueDAOImpl implements IssueDAO {
      * <p>
      * Costruisce dinamicamente la query SQL (StringBuilder) aggiungendo clausole WHERE
      * solo per i parametri di ricerca effettivamente forniti (non null o non vuoti).
-     * Utilizza operatori come ILIKE per ricerche testuali case-insensitive su titolo e tag.
+     * Utilizza ILIKE per la ricerca case-insensitive sul titolo e gli operatori sugli array
+     * (indicizzati con GIN) per il filtro sui tag.
      * </p>
      *
      * @param issueToSearch DTO contenente i criteri di filtro (titolo, stato, tipo, priorità, tags).
      * @param resolverId    ID dello sviluppatore assegnatario (opzionale).
      * @param reporterId    ID dell'utente reporter (opzionale).
      * @param projectId     ID del progetto (obbligatorio) a cui le issue devono appartenere.
+     * @param matchAnyTag   {@code true} se basta uno dei tag indicati, {@code false} se devono essere presenti tutti.
      * @return Una lista di {@code IssueDTO} (in formato ridotto per liste) trovate.
      * @throws SQLException In caso di errori durante l'esecuzione della query dinamica.
      */
-    public List<IssueDTO> searchIssues(IssueDTO issueToSearch, Integer resolverId, Integer reporterId, Integer projectId) throws SQLException{
+    public List<IssueDTO> searchIssues(IssueDTO issueToSearch, Integer resolverId, Integer reporterId, Integer projectId,
+                                       boolean matchAnyTag) throws SQLException{
 
         List<IssueDTO> searchResult;
 
+        List<Object> searchParam = new ArrayList<>();
+        String query = searchQuery(searchParam, issueToSearch, resolverId, reporterId, projectId, matchAnyTag);
+
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+
+
+            for(int i = 0; i < searchParam.size(); i++){
+
+                statement.setObject( i + 1, searchParam.get(i));
+
+            }
+
+            ResultSet rs = statement.executeQuery();
+
+            searchResult = new ArrayList<>();
+
+            while (rs.next()) {
+
+                searchResult.add(searchRowOf(rs));
+
+            }
+
+            rs.close();
+
+        }
+
+        return searchResult;
+
+    }
+
+    /**
+     * Esegue la ricerca non paginata passando le issue al destinatario man mano che vengono lette.
+     * <p>
+     * Il driver PostgreSQL carica l'intero risultato in memoria a meno che la query non venga eseguita
+     * in una transazione con una fetch size: per questo l'autocommit viene disattivato e il cursore legge
+     * {@value #STREAM_FETCH_SIZE} righe alla volta. In memoria restano al più un blocco di righe e la issue corrente.
+     * </p>
+     *
+     * @param issueToSearch DTO contenente i criteri di filtro.
+     * @param resolverId    ID dello sviluppatore assegnatario (opzionale).
+     * @param reporterId    ID dell'utente reporter (opzionale).
+     * @param projectId     ID del progetto (obbligatorio).
+     * @param matchAnyTag   {@code true} se basta uno dei tag indicati, {@code false} se devono essere presenti tutti.
+     * @param consumer      Il destinatario delle issue trovate.
+     * @return Il numero di issue passate al destinatario.
+     * @throws SQLException In caso di errori durante l'esecuzione della query.
+     * @throws IOException  Se il destinatario non riesce a scrivere una issue.
+     */
+    public long streamIssues(IssueDTO issueToSearch, Integer resolverId, Integer reporterId, Integer projectId,
+                             boolean matchAnyTag, RowConsumer<IssueDTO> consumer) throws SQLException, IOException{
+
+        long streamed = 0;
+
+        List<Object> searchParam = new ArrayList<>();
+        String query = searchQuery(searchParam, issueToSearch, resolverId, reporterId, projectId, matchAnyTag);
+
+        try (Connection connection = dataSource.getConnection()) {
+
+            boolean previousAutoCommit = connection.getAutoCommit();
+
+            // The driver only honours the fetch size (server-side cursor) inside a transaction
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement statement = connection.prepareStatement(query)) {
+
+                statement.setFetchSize(STREAM_FETCH_SIZE);
+
+                for (int i = 0; i < searchParam.size(); i++)
+                    statement.setObject(i + 1, searchParam.get(i));
+
+                try (ResultSet rs = statement.executeQuery()) {
+
+                    while (rs.next()) {
+                        consumer.accept(searchRowOf(rs));
+                        streamed++;
+                    }
+                }
+
+                connection.commit();
+
+            } finally {
+                // The connection goes back to the pool: restore its defaults
+                connection.setAutoCommit(previousAutoCommit);
+            }
+
+        }
+
+        return streamed;
+
+    }
+
+    /**
+     * Costruisce la query della ricerca non paginata, aggiungendo i parametri alla lista indicata.
+     */
+    private static String searchQuery(List<Object> searchParam, IssueDTO issueToSearch, Integer resolverId,
+                                      Integer reporterId, Integer projectId, boolean matchAnyTag) {
+
         StringBuilder query = new StringBuilder("SELECT issue_id, title, issue_status FROM issue WHERE ");
+
+        appendSearchFilters(query, searchParam, issueToSearch, resolverId, reporterId, projectId, matchAnyTag);
+
+        query.append(" ORDER BY issue_priority DESC");
+
+        return query.toString();
+    }
+
+    /**
+     * Legge la riga corrente di una ricerca non paginata nel formato ridotto per le liste (ID, titolo e stato).
+     */
+    private static IssueDTO searchRowOf(ResultSet rs) throws SQLException {
+
+        IssueDTO issueFounded = new IssueDTO();
+
+        issueFounded.setId(rs.getInt("issue_id"));
+        issueFounded.setTitle(rs.getString("title"));
+        issueFounded.setStatus(IssueStatusDTO.valueOf(rs.getString("issue_status")));
+
+        return issueFounded;
+    }
+
+    /**
+     * Esegue una ricerca dinamica delle segnalazioni restituendo una sola pagina (paginazione keyset).
+     * <p>
+     * Applica gli stessi filtri di {@link #searchIssues}. Se è presente {@code textQuery}, la ricerca
+     * diventa full-text su titolo e descrizione: il testo viene convertito con {@code websearch_to_tsquery}
+     * e confrontato con la colonna generata {@code search_vector}, indicizzata con GIN.
+     * </p>
+     * <p>
+     * L'ordinamento è per (issue_priority, issue_id) oppure, con {@link IssueSortDTO#RELEVANCE},
+     * per (punteggio {@code ts_rank_cd}, issue_id). Se è presente un {@code pageToken}, viene aggiunto
+     * il predicato di riga {@code (chiave, issue_id) < (?, ?)} (o {@code >} in ordine crescente), così le
+     * pagine successive non scansionano quelle precedenti. Viene letta una riga in più del necessario
+     * per sapere se esiste una pagina successiva.
+     * </p>
+     *
+     * @param issueToSearch DTO contenente i criteri di filtro.
+     * @param resolverId    ID dello sviluppatore assegnatario (opzionale).
+     * @param reporterId    ID dell'utente reporter (opzionale).
+     * @param projectId     ID del progetto (obbligatorio).
+     * @param matchAnyTag   {@code true} se basta uno dei tag indicati, {@code false} se devono essere presenti tutti.
+     * @param textQuery     Testo da cercare in titolo e descrizione (opzionale).
+     * @param sort          L'ordinamento dei risultati.
+     * @param pageToken     Token di continuazione (opzionale).
+     * @param pageSize      Dimensione massima della pagina.
+     * @return La pagina di risultati e l'eventuale token per la pagina successiva.
+     * @throws SQLException In caso di errori durante l'esecuzione della query.
+     */
+    public IssuePageDTO searchIssuesPage(IssueDTO issueToSearch, Integer resolverId, Integer reporterId, Integer projectId,
+                                         boolean matchAnyTag, String textQuery, IssueSortDTO sort, String pageToken, int pageSize) throws SQLException{
+
+        IssuePageDTO page = new IssuePageDTO();
+
+        boolean fullText = textQuery != null && !textQuery.isBlank();
+
+        // Relevance only makes sense when there is a text to rank against
+        if (sort == IssueSortDTO.RELEVANCE && !fullText)
+            sort = IssueSortDTO.PRIORITY_DESC;
+
+        String sortKey = sort == IssueSortDTO.RELEVANCE ? "ts_rank_cd(search_vector, ts_query)" : "issue_priority";
+        boolean ascending = sort == IssueSortDTO.PRIORITY_ASC;
+
+        StringBuilder query = new StringBuilder("SELECT issue_id, title, issue_status, issue_priority, ")
+                .append(sortKey).append(" AS sort_key FROM issue");
         List<Object> searchParam = new ArrayList<>();
 
+        if (fullText) {
+            query.append(", websearch_to_tsquery('simple', ?) ts_query");
+            searchParam.add(textQuery);
+        }
+
+        query.append(" WHERE ");
+
+        appendSearchFilters(query, searchParam, issueToSearch, resolverId, reporterId, projectId, matchAnyTag);
+
+        if (fullText)
+            query.append(" AND search_vector @@ ts_query");
+
+        if (pageToken != null && !pageToken.isEmpty()) {
+
+            IssuePageDTO.PageKey lastKey = IssuePageDTO.decodePageToken(pageToken);
+
+            query.append(" AND (").append(sortKey).append(", issue_id)")
+                 .append(ascending ? " > " : " < ")
+                 .append(sort == IssueSortDTO.RELEVANCE ? "(?::real, ?)" : "(?, ?)");
+
+            if (sort == IssueSortDTO.RELEVANCE)
+                searchParam.add(lastKey.sortKey());
+            else
+                searchParam.add((int) lastKey.sortKey());
+
+            searchParam.add(lastKey.issueId());
+        }
+
+        String direction = ascending ? " ASC" : " DESC";
+        query.append(" ORDER BY sort_key").append(direction).append(", issue_id").append(direction);
+        query.append(" LIMIT ?");
+        searchParam.add(pageSize + 1);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query.toString())) {
+
+            for(int i = 0; i < searchParam.size(); i++){
+
+                statement.setObject( i + 1, searchParam.get(i));
+
+            }
+
+            ResultSet rs = statement.executeQuery();
+
+            double lastSortKey = 0;
+
+            while (rs.next()) {
+
+                if (page.getIssues().size() == pageSize) {
+
+                    // A row beyond the page exists: the last returned row becomes the continuation key
+                    IssueDTO lastIssue = page.getIssues().get(pageSize - 1);
+                    page.setNextPageToken(IssuePageDTO.encodePageToken(lastSortKey, lastIssue.getId()));
+                    break;
+                }
+
+                IssueDTO issueFounded = new IssueDTO();
+
+                issueFounded.setId(rs.getInt("issue_id"));
+                issueFounded.setTitle(rs.getString("title"));
+                issueFounded.setStatus(IssueStatusDTO.valueOf(rs.getString("issue_status")));
+                issueFounded.setPriority(rs.getInt("issue_priority"));
+
+                // ts_rank_cd returns a real: read it as float so the token round-trips to the same value
+                lastSortKey = sort == IssueSortDTO.RELEVANCE ? rs.getFloat("sort_key") : rs.getInt("sort_key");
+
+                page.getIssues().add(issueFounded);
+
+            }
+
+            rs.close();
+
+        }
+
+        return page;
+
+    }
+
+    /**
+     * Aggiunge alla query le clausole WHERE comuni a tutte le ricerche di issue.
+     * <p>
+     * Il progetto è sempre obbligatorio; gli altri filtri vengono aggiunti solo se valorizzati.
+     * I parametri vengono accumulati in {@code searchParam} nello stesso ordine dei segnaposto.
+     * </p>
+     *
+     * @param query         La query in costruzione (deve terminare con "WHERE ").
+     * @param searchParam   La lista dei parametri da popolare.
+     * @param issueToSearch DTO contenente i criteri di filtro.
+     * @param resolverId    ID dello sviluppatore assegnatario (opzionale).
+     * @param reporterId    ID dell'utente reporter (opzionale).
+     * @param projectId     ID del progetto (obbligatorio).
+     * @param matchAnyTag   {@code true} per richiedere almeno uno dei tag, {@code false} per richiederli tutti.
+     */
+    private static void appendSearchFilters(StringBuilder query, List<Object> searchParam, IssueDTO issueToSearch,
+                                            Integer resolverId, Integer reporterId, Integer projectId, boolean matchAnyTag) {
+
         query.append("project_id = ?");
         searchParam.add(projectId);
 
@@ -133,71 +615,142 @@ public class IssueDAOImpl implements IssueDAO {
             searchParam.add(issueToSearch.getPriority());
         }
         if (issueToSearch.getTags() != null && !issueToSearch.getTags().isEmpty()) {
-            
-            String[] tagsArray = issueToSearch.getTags().split(";");
 
-            for(String tag: tagsArray){
-                query.append(" AND tags ILIKE ?");
-                searchParam.add("%" + tag + "%");
+            String tagsToSearch = normalizeTags(issueToSearch.getTags());
+
+            if (!tagsToSearch.isEmpty()) {
+                // @> (contains all) and && (overlaps) are both served by the GIN index on tag_list
+                query.append(matchAnyTag ? " AND tag_list && string_to_array(?, ';')" : " AND tag_list @> string_to_array(?, ';')");
+                searchParam.add(tagsToSearch);
             }
 
         }
+    }
 
-        query.append(" ORDER BY issue_priority DESC");
+    /**
+     * Normalizza una lista di tag separati da ';' nello stesso formato della colonna generata {@code tag_list}.
+     * <p>
+     * Ogni tag viene privato degli spazi esterni e convertito in minuscolo; i tag vuoti e i duplicati
+     * vengono scartati. Il confronto sui tag è quindi esatto e case-insensitive, senza i falsi positivi
+     * della ricerca per sottostringa (es. "ui" non corrisponde più a "build").
+     * </p>
+     *
+     * @param tags I tag separati da ';'.
+     * @return I tag normalizzati, separati da ';' (stringa vuota se non ce ne sono).
+     */
+    private static String normalizeTags(String tags) {
 
+        Set<String> normalizedTags = new LinkedHashSet<>();
 
-        try (Connection connection = dataSource.getConnection();
-             PreparedStatement statement = connection.prepareStatement(query.toString())) {
+        for (String tag : tags.split(";")) {
 
+            String normalizedTag = tag.trim().toLowerCase(Locale.ROOT);
 
-            for(int i = 0; i < searchParam.size(); i++){
+            if (!normalizedTag.isEmpty())
+                normalizedTags.add(normalizedTag);
+        }
 
-                statement.setObject( i + 1, searchParam.get(i));
+        return String.join(";", normalizedTags);
+    }
 
-            }
+    /**
+     * Recupera i dettagli completi di una specifica segnalazione.
+     * <p>
+     * Esegue una query di JOIN tra le tabelle 'Issue', 'User_' (per reporter e resolver)
+     * e 'Project' per costruire un oggetto DTO completo di tutte le relazioni.
+     * </p>
+     * <p>
+     * Il risultato è conservato nella cache dei dettagli: le richieste successive per la stessa issue
+     * non interrogano il database finché la voce non scade o non viene invalidata da una modifica.
+     * Ogni chiamata restituisce una copia, quindi il chiamante può modificarla senza alterare la cache.
+     * </p>
+     *
+     * @param issueId L'identificativo univoco della segnalazione.
+     * @return Il DTO completo della segnalazione, o {@code null} se l'ID non esiste.
+     * @throws SQLException In caso di errori di accesso al database.
+     */
+    public IssueDTO getIssueById(Integer issueId) throws SQLException{
 
-            ResultSet rs = statement.executeQuery();
+        IssueDTO cached = issueDetailCache.get(issueId);
 
-            searchResult = new ArrayList<>();
+        if (cached != null)
+            return copyOf(cached);
 
-            while (rs.next()) {
+        // Taken before the query: a concurrent update invalidates the entry and keeps this result out of the cache
+        long stamp = issueDetailCache.stamp();
 
-                IssueDTO issueFounded = new IssueDTO();
+        IssueDTO searchResult = loadIssueById(issueId);
 
-                issueFounded.setId(rs.getInt("issue_id"));
-                issueFounded.setTitle(rs.getString("title"));
-                issueFounded.setStatus(IssueStatusDTO.valueOf(rs.getString("issue_status")));
+        if (searchResult != null)
+            issueDetailCache.putIfNotInvalidated(issueId, copyOf(searchResult), stamp);
 
+        return searchResult;
 
-                searchResult.add(issueFounded);
+    }
 
+    /**
+     * Restituisce la cache dei dettagli delle issue, per consultarne i contatori (successi, mancati successi,
+     * rimozioni e scadenze).
+     *
+     * @return La cache dei dettagli delle issue.
+     */
+    public ExpiringCache<Integer, IssueDTO> getIssueDetailCache() {
+        return issueDetailCache;
+    }
 
-            }
+    /**
+     * Copia il DTO di una issue letta da {@link #getIssueById(Integer)}, compresi gli oggetti annidati.
+     */
+    private static IssueDTO copyOf(IssueDTO issue) {
+
+        IssueDTO copy = new IssueDTO();
+
+        copy.setId(issue.getId());
+        copy.setTitle(issue.getTitle());
+        copy.setDescription(issue.getDescription());
+        copy.setPriority(issue.getPriority());
+        copy.setHasImage(issue.isHasImage());
+        copy.setVersion(issue.getVersion());
+        copy.setType(issue.getType());
+        copy.setStatus(issue.getStatus());
+        copy.setTags(issue.getTags());
+        copy.setReportDate(issue.getReportDate() == null ? null : new Date(issue.getReportDate().getTime()));
+        copy.setResolutionDate(issue.getResolutionDate() == null ? null : new Date(issue.getResolutionDate().getTime()));
+        copy.setReportingUser(copyOf(issue.getReportingUser()));
+        copy.setAssignedDeveloper(copyOf(issue.getAssignedDeveloper()));
+
+        if (issue.getRelatedProject() != null)
+            copy.setRelatedProject(new ProjectDTO(issue.getRelatedProject().getId(), issue.getRelatedProject().getName()));
+
+        return copy;
+    }
 
-            rs.close();
+    /**
+     * Copia id ed email di un utente collegato a una issue.
+     */
+    private static UserDTO copyOf(UserDTO user) {
 
-        }
+        if (user == null)
+            return null;
 
-        return searchResult;
+        UserDTO copy = new UserDTO();
+        copy.setId(user.getId());
+        copy.setEmail(user.getEmail());
 
+        return copy;
     }
 
     /**
-     * Recupera i dettagli completi di una specifica segnalazione.
-     * <p>
-     * Esegue una query di JOIN tra le tabelle 'Issue', 'User_' (per reporter e resolver)
-     * e 'Project' per costruire un oggetto DTO completo di tutte le relazioni.
-     * </p>
-     *
-     * @param issueId L'identificativo univoco della segnalazione.
-     * @return Il DTO completo della segnalazione, o {@code null} se l'ID non esiste.
-     * @throws SQLException In caso di errori di accesso al database.
+     * Legge dal database i dettagli di una issue, senza passare dalla cache.
      */
-    public IssueDTO getIssueById(Integer issueId) throws SQLException{
+    private IssueDTO loadIssueById(Integer issueId) throws SQLException{
 
         IssueDTO searchResult = null;
 
-        String query = "SELECT I.*, " + // I.* to take all columns of table issues
+        // The image is left out on purpose: it is served on demand by getIssueImageInfo/writeIssueImage
+        String query = "SELECT I.issue_id, I.title, I.issue_description, I.issue_priority, I.issue_type, I.issue_status, I.tags, " +
+                "I.report_time, I.resolution_time, I.reporter_id, I.resolver_id, I.project_id, " +
+                "I.issue_image IS NOT NULL AS has_image, I.row_version, " +
                 "U1.email AS reporter_email, " +
                 "U2.email AS resolver_email, " +
                 "P.project_name " +
@@ -225,7 +778,8 @@ public class IssueDAOImpl implements IssueDAO {
                 searchResult.setTitle(rs.getString("title"));
                 searchResult.setDescription(rs.getString("issue_description"));
                 searchResult.setPriority(rs.getInt("issue_priority"));
-                searchResult.setImage(rs.getBytes("issue_image"));
+                searchResult.setHasImage(rs.getBoolean("has_image"));
+                searchResult.setVersion(rs.getLong("row_version"));
                 searchResult.setType(IssueTypeDTO.valueOf(rs.getString("issue_type")));
                 searchResult.setStatus(IssueStatusDTO.valueOf(rs.getString("issue_status")));
                 searchResult.setTags(rs.getString("tags"));
@@ -277,10 +831,122 @@ public class IssueDAOImpl implements IssueDAO {
 
     }
 
+    /**
+     * Recupera i metadati dell'immagine allegata a una segnalazione, senza leggerne il contenuto.
+     * <p>
+     * La dimensione è letta con {@code octet_length} (dall'header TOAST, senza decomprimere il valore),
+     * l'impronta dalla colonna generata {@code issue_image_md5} e il formato dai primi byte
+     * tramite {@code substring}.
+     * </p>
+     *
+     * @param issueId L'identificativo della segnalazione.
+     * @return I metadati dell'immagine, oppure {@code null} se la issue non esiste o non ha immagini allegate.
+     * @throws SQLException In caso di errori di accesso al database.
+     */
+    public IssueImageDTO getIssueImageInfo(Integer issueId) throws SQLException{
+
+        IssueImageDTO imageInfo = null;
+
+        String query = "SELECT octet_length(issue_image) AS image_size, issue_image_md5, " +
+                       "substring(issue_image FROM 1 FOR ?) AS image_header " +
+                       "FROM Issue WHERE issue_id = ? AND issue_image IS NOT NULL;";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+
+            statement.setInt(1, IssueImageDTO.HEADER_LENGTH);
+            statement.setInt(2, issueId);
+
+            ResultSet rs = statement.executeQuery();
+
+            if (rs.next()) {
+
+                imageInfo = new IssueImageDTO();
+
+                imageInfo.setSize(rs.getLong("image_size"));
+                imageInfo.setChecksum(rs.getString("issue_image_md5"));
+                imageInfo.setContentType(IssueImageDTO.detectContentType(rs.getBytes("image_header")));
+
+            }
+
+            rs.close();
+
+        }
+
+        return imageInfo;
+
+    }
+
+    /**
+     * Scrive il contenuto dell'immagine di una segnalazione sullo stream indicato, a blocchi.
+     * <p>
+     * Il driver JDBC materializza per intero ogni valore BYTEA letto, quindi l'immagine viene letta
+     * a fette di {@value #IMAGE_CHUNK_SIZE} byte con {@code substring}: in memoria c'è al più un blocco
+     * alla volta. Le letture avvengono in un'unica transazione REPEATABLE READ, così tutti i blocchi
+     * provengono dalla stessa versione dell'immagine.
+     * </p>
+     *
+     * @param issueId L'identificativo della segnalazione.
+     * @param out     Lo stream su cui scrivere i byte dell'immagine.
+     * @return Il numero di byte scritti (0 se la issue non esiste o non ha immagini allegate).
+     * @throws SQLException In caso di errori di accesso al database.
+     * @throws IOException  In caso di errori di scrittura sullo stream.
+     */
+    public long writeIssueImage(Integer issueId, OutputStream out) throws SQLException, IOException{
+
+        long written = 0;
+
+        String query = "SELECT substring(issue_image FROM ? FOR ?) AS image_chunk FROM Issue WHERE issue_id = ?;";
+
+        try (Connection connection = dataSource.getConnection()) {
+
+            boolean previousAutoCommit = connection.getAutoCommit();
+            int previousIsolation = connection.getTransactionIsolation();
+
+            connection.setAutoCommit(false);
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+
+            try (PreparedStatement statement = connection.prepareStatement(query)) {
+
+                byte[] chunk;
+
+                do {
+
+                    // substring() positions are 1-based
+                    statement.setLong(1, written + 1);
+                    statement.setInt(2, IMAGE_CHUNK_SIZE);
+                    statement.setInt(3, issueId);
+
+                    try (ResultSet rs = statement.executeQuery()) {
+                        chunk = rs.next() ? rs.getBytes("image_chunk") : null;
+                    }
+
+                    if (chunk != null && chunk.length > 0) {
+                        out.write(chunk);
+                        written += chunk.length;
+                    }
+
+                } while (chunk != null && chunk.length == IMAGE_CHUNK_SIZE);
+
+                connection.commit();
+
+            } finally {
+                // The connection goes back to the pool: restore its defaults
+                connection.setAutoCommit(previousAutoCommit);
+                connection.setTransactionIsolation(previousIsolation);
+            }
+
+        }
+
+        return written;
+
+    }
+
     /**
      * Aggiorna lo stato di una segnalazione esistente.
      * <p>
-     * Modifica il campo 'issue_status' della tabella 'Issue' per il record specificato.
+     * Modifica il campo 'issue_status' della tabella 'Issue' per il record specificato,
+     * incrementando la versione della issue e il contatore delle modifiche del suo progetto.
      * </p>
      *
      * @param id        L'ID della segnalazione da aggiornare.
@@ -290,7 +956,12 @@ public class IssueDAOImpl implements IssueDAO {
      */
     public boolean updateStatus(Integer id, IssueStatusDTO newStatus) throws SQLException{
 
-        String query = "UPDATE Issue SET issue_status = ?::IssueStatus WHERE issue_id = ?";
+        // The issue version and its project's change counter move in the same statement as the update
+        String query = "WITH updated AS (" +
+                       "UPDATE Issue SET issue_status = ?::IssueStatus, row_version = row_version + 1 " +
+                       "WHERE issue_id = ? RETURNING project_id) " +
+                       "UPDATE Project SET change_count = change_count + 1 " +
+                       "WHERE project_id IN (SELECT project_id FROM updated)";
 
         try (Connection connection = dataSource.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
@@ -300,12 +971,36 @@ public class IssueDAOImpl implements IssueDAO {
 
             int rowsUpdated = statement.executeUpdate();
 
+            if (rowsUpdated > 0) {
+                issueDetailCache.invalidate(id);
+                markStatisticsRollupPending(id);
+            }
+
             // Return true if update success, false otherwise
             return rowsUpdated > 0;
         }
 
     }
 
+    /**
+     * Segna da aggiornare l'aggregato mensile delle statistiche dopo una modifica alla issue indicata.
+     * <p>
+     * Il ricalcolo avviene in background, vedi {@link StatisticsRollupDAO#refreshPendingMonths()}.
+     * La modifica della issue è già stata salvata: un errore viene solo registrato, perché la ricostruzione
+     * periodica riallinea l'aggregato, e non fa fallire l'operazione dell'utente.
+     * </p>
+     *
+     * @param issueId L'ID della issue modificata.
+     */
+    private void markStatisticsRollupPending(int issueId) {
+
+        try {
+            statisticsRollupDAO.markIssueMonthPending(issueId);
+        } catch (SQLException e) {
+            logger.warn("Could not mark the statistics rollup of issue {} as pending", issueId, e);
+        }
+    }
+
     /**
      * Assegna una segnalazione a uno sviluppatore e ne aggiorna lo stato.
      * <p>
@@ -313,6 +1008,7 @@ public class IssueDAOImpl implements IssueDAO {
      * 1. Cerca l'ID dell'utente basandosi sull'email fornita.
      * 2. Aggiorna la tabella 'Issue' impostando il resolver_id trovato.
      * 3. Aggiorna automaticamente lo stato della issue ad 'ASSIGNED'.
+     * 4. Incrementa la versione della issue e il contatore delle modifiche del suo progetto.
      * Utilizza la clausola RETURNING per ottenere immediatamente i dati dell'utente assegnato.
      * </p>
      *
@@ -323,11 +1019,16 @@ public class IssueDAOImpl implements IssueDAO {
      */
     public UserDTO assignIssueToDeveloperByEmail(Integer id, String resolverEmail) throws SQLException{
 
-        String query = "UPDATE Issue I " +
-                       "SET resolver_id = U.user_id, issue_status = 'ASSIGNED'::IssueStatus " +
+        String query = "WITH updated AS (" +
+                       "UPDATE Issue I " +
+                       "SET resolver_id = U.user_id, issue_status = 'ASSIGNED'::IssueStatus, row_version = I.row_version + 1 " +
                        "FROM User_ U " +
                        "WHERE I.issue_id = ? AND U.email = ? " +
-                       "RETURNING U.user_id, U.email";
+                       "RETURNING U.user_id, U.email, I.project_id), " +
+                       "bumped AS (" +
+                       "UPDATE Project SET change_count = change_count + 1 " +
+                       "WHERE project_id IN (SELECT project_id FROM updated)) " +
+                       "SELECT user_id, email FROM updated";
 
         try (Connection connection = dataSource.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
@@ -347,6 +1048,9 @@ public class IssueDAOImpl implements IssueDAO {
 
                 rs.close();
 
+                issueDetailCache.invalidate(id);
+                markStatisticsRollupPending(id);
+
                 return assignedUser;
             }
 
@@ -358,4 +1062,312 @@ public class IssueDAOImpl implements IssueDAO {
 
     }
 
+    /**
+     * Aggiorna lo stato di più segnalazioni in un'unica transazione.
+     * <p>
+     * Gli UPDATE vengono inviati insieme con {@code executeBatch}; il numero di righe aggiornate da ciascuno
+     * indica se la issue esiste. Se il database rifiuta qualche cambio (es. la risoluzione di una issue non
+     * assegnata), i cambi vengono riapplicati uno alla volta e quelli rifiutati riportati nell'esito, vedi
+     * {@link #executeBatchPerItem}. Versioni delle issue e contatori dei progetti vengono incrementati nella
+     * stessa transazione, poi vengono invalidate le voci in cache e segnalati i mesi dell'aggregato da ricalcolare.
+     * </p>
+     *
+     * @param changes I cambi di stato da applicare.
+     * @return Per ogni cambio, nello stesso ordine, l'esito dell'aggiornamento.
+     * @throws SQLException In caso di errori nel database; la transazione viene annullata.
+     */
+    public List<IssueBulkResultDTO> updateStatuses(List<IssueStatusChangeDTO> changes) throws SQLException{
+
+        String query = "UPDATE Issue SET issue_status = ?::IssueStatus, row_version = row_version + 1 WHERE issue_id = ?;";
+
+        List<IssueBulkResultDTO> results = new ArrayList<>(changes.size());
+
+        if (changes.isEmpty())
+            return results;
+
+        Set<Integer> updatedIds = new HashSet<>();
+        List<StatisticsPartition> partitions;
+
+        try (Connection connection = dataSource.getConnection()) {
+
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement statement = connection.prepareStatement(query)) {
+
+                BatchOutcome outcome = executeBatchPerItem(connection, statement, changes.size(), i -> {
+                    statement.setString(1, changes.get(i).getNewStatus().toString());
+                    statement.setInt(2, changes.get(i).getIssueId());
+                });
+
+                for (int i = 0; i < changes.size(); i++) {
+
+                    Integer issueId = changes.get(i).getIssueId();
+
+                    if (outcome.errors()[i] != null) {
+                        results.add(new IssueBulkResultDTO(issueId, false, outcome.errors()[i], null));
+                    } else if (outcome.rowsUpdated()[i] > 0) {
+                        updatedIds.add(issueId);
+                        results.add(new IssueBulkResultDTO(issueId, true, null, null));
+                    } else {
+                        results.add(new IssueBulkResultDTO(issueId, false, "Issue not found", null));
+                    }
+                }
+
+                partitions = bumpChangeCounts(connection, updatedIds);
+
+                connection.commit();
+
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+
+        }
+
+        afterBulkUpdate(updatedIds, partitions);
+
+        return results;
+
+    }
+
+    /**
+     * Assegna più segnalazioni ai rispettivi sviluppatori in un'unica transazione.
+     * <p>
+     * Gli sviluppatori vengono cercati con una sola query per tutte le email, poi gli UPDATE vengono inviati
+     * insieme con {@code executeBatch}; le assegnazioni rifiutate dal database (es. a un utente senza il ruolo
+     * richiesto) vengono riportate nell'esito senza annullare le altre. Come per l'assegnazione singola, ogni
+     * issue assegnata passa allo stato ASSIGNED; versioni, contatori dei progetti, cache e aggregato mensile
+     * vengono aggiornati come in {@link #updateStatuses(List)}.
+     * </p>
+     *
+     * @param assignments Le assegnazioni da applicare.
+     * @return Per ogni assegnazione, nello stesso ordine, l'esito e lo sviluppatore assegnato.
+     * @throws SQLException In caso di errori nel database; la transazione viene annullata.
+     */
+    public List<IssueBulkResultDTO> assignIssuesToDevelopers(List<IssueAssignmentDTO> assignments) throws SQLException{
+
+        String usersQuery = "SELECT user_id, email FROM User_ WHERE email = ANY(?);";
+
+        String query = "UPDATE Issue SET resolver_id = ?, issue_status = 'ASSIGNED'::IssueStatus, row_version = row_version + 1 " +
+                       "WHERE issue_id = ?;";
+
+        List<IssueBulkResultDTO> results = new ArrayList<>(assignments.size());
+
+        if (assignments.isEmpty())
+            return results;
+
+        Set<Integer> updatedIds = new HashSet<>();
+        List<StatisticsPartition> partitions;
+
+        try (Connection connection = dataSource.getConnection()) {
+
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement usersStatement = connection.prepareStatement(usersQuery);
+                 PreparedStatement statement = connection.prepareStatement(query)) {
+
+                String[] emails = assignments.stream().map(IssueAssignmentDTO::getResolverEmail).distinct().toArray(String[]::new);
+                usersStatement.setArray(1, connection.createArrayOf("varchar", emails));
+
+                Map<String, UserDTO> resolvers = new HashMap<>();
+
+                try (ResultSet rs = usersStatement.executeQuery()) {
+
+                    while (rs.next()) {
+
+                        UserDTO resolver = new UserDTO();
+
+                        resolver.setId(rs.getInt("user_id"));
+                        resolver.setEmail(rs.getString("email"));
+
+                        resolvers.put(resolver.getEmail(), resolver);
+                    }
+                }
+
+                // Only assignments with a known developer go into the batch; batchIndex maps them back
+                List<Integer> batchIndex = new ArrayList<>();
+
+                for (int i = 0; i < assignments.size(); i++) {
+                    if (resolvers.containsKey(assignments.get(i).getResolverEmail()))
+                        batchIndex.add(i);
+                }
+
+                BatchOutcome outcome = executeBatchPerItem(connection, statement, batchIndex.size(), j -> {
+
+                    IssueAssignmentDTO assignment = assignments.get(batchIndex.get(j));
+
+                    statement.setInt(1, resolvers.get(assignment.getResolverEmail()).getId());
+                    statement.setInt(2, assignment.getIssueId());
+                });
+
+                for (IssueAssignmentDTO assignment : assignments)
+                    results.add(new IssueBulkResultDTO(assignment.getIssueId(), false, "User not found", null));
+
+                for (int j = 0; j < batchIndex.size(); j++) {
+
+                    IssueBulkResultDTO result = results.get(batchIndex.get(j));
+
+                    if (outcome.errors()[j] != null) {
+                        result.setMessage(outcome.errors()[j]);
+                    } else if (outcome.rowsUpdated()[j] > 0) {
+                        updatedIds.add(result.getIssueId());
+                        result.setUpdated(true);
+                        result.setMessage(null);
+                        result.setAssignedDeveloper(resolvers.get(assignments.get(batchIndex.get(j)).getResolverEmail()));
+                    } else {
+                        result.setMessage("Issue not found");
+                    }
+                }
+
+                partitions = bumpChangeCounts(connection, updatedIds);
+
+                connection.commit();
+
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+
+        }
+
+        afterBulkUpdate(updatedIds, partitions);
+
+        return results;
+
+    }
+
+    /**
+     * Imposta sulla statement i parametri di un elemento di un aggiornamento massivo.
+     */
+    @FunctionalInterface
+    private interface BatchItemBinder {
+
+        /**
+         * Imposta i parametri dell'elemento indicato.
+         *
+         * @param index L'indice dell'elemento.
+         * @throws SQLException In caso di errori nell'impostazione dei parametri.
+         */
+        void bind(int index) throws SQLException;
+    }
+
+    /**
+     * Esito di {@link #executeBatchPerItem}.
+     *
+     * @param rowsUpdated Per ogni elemento, il numero di righe aggiornate.
+     * @param errors      Per ogni elemento, {@code null} se il database lo ha accettato, altrimenti il motivo del rifiuto.
+     */
+    private record BatchOutcome(int[] rowsUpdated, String[] errors) {}
+
+    /**
+     * Esegue una statement per tutti gli elementi di un aggiornamento massivo, nella transazione in corso.
+     * <p>
+     * Gli elementi vengono inviati insieme con {@code executeBatch}. Se il batch fallisce per colpa di qualche
+     * elemento (un vincolo o un trigger che lo rifiuta), la transazione viene annullata e gli elementi vengono
+     * rieseguiti uno alla volta, ciascuno protetto da un savepoint, come in {@link #reportIssues(List)}:
+     * quelli rifiutati vengono riportati, gli altri applicati.
+     * </p>
+     *
+     * @param connection La connessione, con l'autocommit disattivato.
+     * @param statement  La statement da eseguire per ogni elemento.
+     * @param size       Il numero di elementi.
+     * @param binder     Imposta i parametri della statement per l'elemento indicato.
+     * @return Le righe aggiornate e gli eventuali rifiuti, per ogni elemento.
+     * @throws SQLException In caso di errori di connessione o di transazione.
+     */
+    private static BatchOutcome executeBatchPerItem(Connection connection, PreparedStatement statement, int size,
+                                                    BatchItemBinder binder) throws SQLException {
+
+        String[] errors = new String[size];
+
+        if (size == 0)
+            return new BatchOutcome(new int[0], errors);
+
+        for (int i = 0; i < size; i++) {
+            binder.bind(i);
+            statement.addBatch();
+        }
+
+        try {
+            return new BatchOutcome(statement.executeBatch(), errors);
+        } catch (BatchUpdateException e) {
+            connection.rollback();
+            statement.clearBatch();
+        }
+
+        int[] rowsUpdated = new int[size];
+
+        // Retry one by one to find the rejected items; the savepoint keeps the transaction usable
+        for (int i = 0; i < size; i++) {
+
+            Savepoint savepoint = connection.setSavepoint();
+
+            try {
+                binder.bind(i);
+                rowsUpdated[i] = statement.executeUpdate();
+                connection.releaseSavepoint(savepoint);
+            } catch (SQLException e) {
+                connection.rollback(savepoint);
+                errors[i] = "Rejected by the database (SQLSTATE " + e.getSQLState() + ")";
+            }
+        }
+
+        return new BatchOutcome(rowsUpdated, errors);
+    }
+
+    /**
+     * Partizione (progetto, mese di segnalazione) dell'aggregato mensile toccata da un aggiornamento massivo.
+     */
+    private record StatisticsPartition(int projectId, LocalDate month) {}
+
+    /**
+     * Incrementa, sulla connessione della transazione in corso, il contatore delle modifiche dei progetti
+     * delle issue indicate e restituisce le partizioni dell'aggregato mensile coinvolte.
+     */
+    private static List<StatisticsPartition> bumpChangeCounts(Connection connection, Set<Integer> issueIds) throws SQLException {
+
+        List<StatisticsPartition> partitions = new ArrayList<>();
+
+        if (issueIds.isEmpty())
+            return partitions;
+
+        String query = "WITH touched AS (" +
+                       "SELECT DISTINCT project_id, date_trunc('month', report_time)::date AS report_month " +
+                       "FROM Issue WHERE issue_id = ANY(?)), " +
+                       "bumped AS (" +
+                       "UPDATE Project SET change_count = change_count + 1 " +
+                       "WHERE project_id IN (SELECT project_id FROM touched)) " +
+                       "SELECT project_id, report_month FROM touched";
+
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+
+            statement.setArray(1, connection.createArrayOf("integer", issueIds.toArray()));
+
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next())
+                    partitions.add(new StatisticsPartition(rs.getInt("project_id"), rs.getObject("report_month", LocalDate.class)));
+            }
+        }
+
+        return partitions;
+    }
+
+    /**
+     * Dopo il commit di un aggiornamento massivo, invalida le issue modificate nella cache dei dettagli
+     * e segnala le partizioni dell'aggregato mensile coinvolte, che vengono ricalcolate in background
+     * (una sola volta ciascuna, con nuovi tentativi in caso di errore).
+     */
+    private void afterBulkUpdate(Set<Integer> updatedIds, List<StatisticsPartition> partitions) {
+
+        for (Integer issueId : updatedIds)
+            issueDetailCache.invalidate(issueId);
+
+        for (StatisticsPartition partition : partitions)
+            statisticsRollupDAO.markPending(partition.projectId(), partition.month());
+    }
+
 }
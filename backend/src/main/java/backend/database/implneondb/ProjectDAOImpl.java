@@ -1,15 +1,17 @@
 package backend.database.implneondb;
 
 import backend.database.dao.ProjectDAO;
+import backend.database.dao.RowConsumer;
 import backend.dto.IssueDTO;
 import backend.dto.ProjectDTO;
 import backend.dto.StatisticDTO;
 import backend.dto.UserDTO;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.io.IOException;
 import java.sql.*;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -23,6 +25,7 @@ import java.util.List;
  * </p>
 */
 @Repository
+@Profile("!in-memory")
 public class ProjectDAOImpl implements ProjectDAO {
 
     /**
@@ -31,6 +34,18 @@ public class ProjectDAOImpl implements ProjectDAO {
      */
     private final DataSource dataSource;
 
+    /**
+     * Query delle issue della dashboard, con l'email dello sviluppatore assegnato.
+     */
+    private static final String DASHBOARD_ISSUES_QUERY =
+            "SELECT I.issue_id, I.resolver_id, I.report_time, I.resolution_time, U1.email AS resolver_email " +
+            "FROM Issue I LEFT JOIN User_ U1 ON  I.resolver_id = U1.user_id ";
+
+    /**
+     * Numero di righe lette dal cursore a ogni accesso al database nella dashboard in streaming.
+     */
+    private static final int STREAM_FETCH_SIZE = 1000;
+
     /**
      * Costruttore per l'iniezione delle dipendenze.
      *
@@ -122,7 +137,8 @@ public class ProjectDAOImpl implements ProjectDAO {
      * <li>Carico di lavoro per sviluppatore (issue aperte vs chiuse).</li>
      * </ul>
      * <p>
-     * Utilizza metodi helper statici per organizzare la logica di elaborazione dei risultati.
+     * I conteggi e le durate per sviluppatore sono raccolti da uno {@link StatisticsAccumulator},
+     * con costo costante per riga indipendentemente dal numero di sviluppatori.
      * </p>
      *
      * @return Un oggetto {@code StatisticDTO} popolato con tutti i dati aggregati.
@@ -132,216 +148,247 @@ public class ProjectDAOImpl implements ProjectDAO {
 
         StatisticDTO dashboardData;
 
-        String query = "SELECT DISTINCT I.issue_id, I.resolver_id, I.report_time, I.resolution_time, U1.email AS resolver_email " +
-                       "FROM Issue I LEFT JOIN User_ U1 ON  I.resolver_id = U1.user_id ";
-
-        ArrayList<Integer> numIssueSolvedForDev = new ArrayList<>();
-        ArrayList<Integer> devAlreadyFoundedIds = new ArrayList<>();
+        StatisticsAccumulator accumulator = new StatisticsAccumulator();
 
         try (Connection connection = dataSource.getConnection();
-             PreparedStatement statement = connection.prepareStatement(query)) {
+             PreparedStatement statement = connection.prepareStatement(DASHBOARD_ISSUES_QUERY)) {
 
             ResultSet rs = statement.executeQuery();
 
             dashboardData = new StatisticDTO();
 
-            Duration totalDuration = Duration.ZERO;
-
-            int resolvedCount = 0;
-
             while (rs.next()) {
 
-                IssueDTO foundedIssue = new IssueDTO();
+                IssueDTO foundedIssue = dashboardRowOf(rs, accumulator);
 
-                foundedIssue.setId(rs.getInt("issue_id"));
-
-
-                int resolverId = rs.getInt("resolver_id");
-
-                //rs.wasNull() checks if last column was NULL
-                if (!rs.wasNull() && resolverId >= 0) {
+                if (foundedIssue.getResolutionDate() != null) {
+                    dashboardData.getClosedIssues().add(foundedIssue);
+                } else {
+                    dashboardData.getOpenIssues().add(foundedIssue);
+                }
 
-                    resolverHandler(devAlreadyFoundedIds, resolverId, dashboardData, foundedIssue, rs, numIssueSolvedForDev);
 
+            }
 
-                } else {
+            accumulator.fill(dashboardData);
 
-                    foundedIssue.setAssignedDeveloper(null);
-                    Integer prevNumIssuesNotAssigned = dashboardData.getNumIssuesNotAssigned();
 
-                    dashboardData.setNumIssuesNotAssigned(prevNumIssuesNotAssigned + 1);
+            rs.close();
 
-                }
+        }
 
 
-                Timestamp reportTimestamp = rs.getTimestamp("report_time");
-                Timestamp foundedResolutionTimestamp = rs.getTimestamp("resolution_time");
+        return dashboardData;
 
-                foundedIssue.setReportDate(new java.util.Date(reportTimestamp.getTime()));
 
-                if (foundedResolutionTimestamp != null) {
+    }
 
-                    foundedIssue.setResolutionDate(new Date(foundedResolutionTimestamp.getTime()));
+    /**
+     * Genera la dashboard dettagliata passando le issue ai destinatari man mano che vengono lette.
+     * <p>
+     * Le issue aperte e quelle chiuse sono lette con due query nella stessa transazione REPEATABLE READ:
+     * entrambe vedono la stessa versione dei dati, senza dover ordinare l'intera tabella per stato.
+     * Come in {@link IssueDAOImpl#streamIssues}, la transazione e la fetch size fanno leggere al driver
+     * {@value #STREAM_FETCH_SIZE} righe alla volta invece dell'intero risultato.
+     * </p>
+     *
+     * @param openIssues   Il destinatario delle issue aperte.
+     * @param closedIssues Il destinatario delle issue chiuse.
+     * @return Un oggetto {@code StatisticDTO} con i soli dati aggregati.
+     * @throws SQLException In caso di errori durante l'interrogazione del database.
+     * @throws IOException  Se un destinatario non riesce a scrivere una issue.
+     */
+    public StatisticDTO streamDashboard(RowConsumer<IssueDTO> openIssues, RowConsumer<IssueDTO> closedIssues) throws SQLException, IOException{
 
-                    dashboardData.getClosedIssues().add(foundedIssue);
+        StatisticDTO dashboardData = new StatisticDTO();
+        StatisticsAccumulator accumulator = new StatisticsAccumulator();
 
-                    Duration issueDuration = Duration.between(reportTimestamp.toInstant(), foundedResolutionTimestamp.toInstant());
-                    totalDuration = totalDuration.plus(issueDuration);
-                    resolvedCount++;
+        try (Connection connection = dataSource.getConnection()) {
 
-                    manageDevAverageDuration(dashboardData, foundedIssue, issueDuration, numIssueSolvedForDev);
+            boolean previousAutoCommit = connection.getAutoCommit();
+            int previousIsolation = connection.getTransactionIsolation();
 
-                }else{
+            connection.setAutoCommit(false);
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
 
-                    manageDevNumOpenIssues(dashboardData, foundedIssue);
+            try {
 
-                }
+                streamDashboardRows(connection, DASHBOARD_ISSUES_QUERY + "WHERE I.resolution_time IS NULL", accumulator, openIssues);
+                streamDashboardRows(connection, DASHBOARD_ISSUES_QUERY + "WHERE I.resolution_time IS NOT NULL", accumulator, closedIssues);
 
+                connection.commit();
 
+            } finally {
+                // The connection goes back to the pool: restore its defaults
+                connection.setAutoCommit(previousAutoCommit);
+                connection.setTransactionIsolation(previousIsolation);
             }
 
-            countingAndAverageCalculation(dashboardData, numIssueSolvedForDev, resolvedCount, totalDuration);
+        }
 
+        accumulator.fill(dashboardData);
 
-            rs.close();
+        return dashboardData;
 
-        }
+    }
 
+    /**
+     * Esegue una query della dashboard con un cursore, passando ogni issue al destinatario.
+     */
+    private static void streamDashboardRows(Connection connection, String query, StatisticsAccumulator accumulator,
+                                            RowConsumer<IssueDTO> consumer) throws SQLException, IOException {
 
-        return dashboardData;
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+
+            statement.setFetchSize(STREAM_FETCH_SIZE);
 
+            try (ResultSet rs = statement.executeQuery()) {
 
+                while (rs.next())
+                    consumer.accept(dashboardRowOf(rs, accumulator));
+            }
+        }
     }
 
     /**
-     * Gestisce l'associazione e l'inizializzazione dei dati relativi allo sviluppatore (risolutore).
-     * <p>
-     * Se lo sviluppatore è già stato incontrato durante l'iterazione, lo associa alla issue corrente.
-     * Se è nuovo, crea un nuovo oggetto UserDTO, lo aggiunge alle liste di tracciamento e inizializza
-     * i contatori per le statistiche individuali.
-     * </p>
+     * Legge la riga corrente della query della dashboard e la aggiunge alle statistiche.
      *
-     * @param devAlreadyFoundedIds Lista degli ID degli sviluppatori già processati.
-     * @param resolverId           ID del risolutore corrente.
-     * @param dashboardData        DTO delle statistiche in fase di popolamento.
-     * @param foundedIssue         La issue corrente in elaborazione.
-     * @param rs                   Il ResultSet posizionato sulla riga corrente.
-     * @param numIssueSolvedForDev Lista contatore per le issue risolte per ogni dev.
-     * @throws SQLException In caso di errori nel recupero dei dati dal ResultSet.
+     * @return La issue (ID, date e sviluppatore assegnato); la data di risoluzione è presente solo se chiusa.
      */
-    public static void resolverHandler(List<Integer> devAlreadyFoundedIds, int resolverId, StatisticDTO dashboardData, IssueDTO foundedIssue, ResultSet rs, List<Integer> numIssueSolvedForDev) throws SQLException {
+    private static IssueDTO dashboardRowOf(ResultSet rs, StatisticsAccumulator accumulator) throws SQLException {
 
-        if(devAlreadyFoundedIds.contains(resolverId)){
-            for(UserDTO dev: dashboardData.getDevelopers())
-                if(dev.getId() == resolverId){
-                    foundedIssue.setAssignedDeveloper(dev);
-                    break;
-                }
-        } else {
+        IssueDTO foundedIssue = new IssueDTO();
+
+        foundedIssue.setId(rs.getInt("issue_id"));
+
+        int resolverId = rs.getInt("resolver_id");
 
-            UserDTO resolver = new UserDTO();
-            resolver.setId(resolverId);
-            resolver.setEmail(rs.getString("resolver_email"));
+        //rs.wasNull() checks if last column was NULL
+        Integer assignedResolverId = rs.wasNull() ? null : resolverId;
 
-            foundedIssue.setAssignedDeveloper(resolver);
-            devAlreadyFoundedIds.add(resolverId);
+        Timestamp reportTimestamp = rs.getTimestamp("report_time");
+        Timestamp foundedResolutionTimestamp = rs.getTimestamp("resolution_time");
 
+        foundedIssue.setReportDate(new java.util.Date(reportTimestamp.getTime()));
 
-            dashboardData.getDevelopers().add(resolver);
+        if (foundedResolutionTimestamp != null) {
 
-            dashboardData.getAverageResolutionDurations().add(Duration.ZERO);
+            foundedIssue.setResolutionDate(new Date(foundedResolutionTimestamp.getTime()));
 
-            dashboardData.getNumClosedIssues().add(0);
-            dashboardData.getNumOpenIssues().add(0);
+            long resolutionMicros = StatisticsAccumulator.microsBetween(
+                    reportTimestamp.getTime(), reportTimestamp.getNanos(),
+                    foundedResolutionTimestamp.getTime(), foundedResolutionTimestamp.getNanos());
 
+            foundedIssue.setAssignedDeveloper(accumulator.addClosedIssue(assignedResolverId, rs.getString("resolver_email"), resolutionMicros));
+
+        }else{
+
+            foundedIssue.setAssignedDeveloper(accumulator.addOpenIssue(assignedResolverId, rs.getString("resolver_email")));
 
-            numIssueSolvedForDev.add(0);
         }
+
+        return foundedIssue;
     }
 
     /**
-     * Aggiorna le metriche temporali per uno sviluppatore quando una issue è risolta.
+     * Genera i soli dati aggregati della dashboard leggendo l'aggregato mensile {@code Issue_monthly_rollup}.
      * <p>
-     * Accumula la durata della risoluzione per il calcolo successivo della media e
-     * incrementa il contatore delle issue risolte per lo specifico sviluppatore.
+     * Ogni issue ricade in una sola riga dell'aggregato, quindi sommando le righe per sviluppatore si ottengono
+     * gli stessi conteggi e le stesse durate di {@link #generateDashboard()} leggendo O(sviluppatori × mesi)
+     * righe invece dell'intera tabella delle issue. Le liste {@code openIssues} e {@code closedIssues} restano vuote.
      * </p>
      *
-     * @param dashboardData        DTO delle statistiche.
-     * @param foundedIssue         La issue risolta corrente.
-     * @param issueDuration        La durata calcolata per la risoluzione della issue.
-     * @param numIssueSolvedForDev Lista contatore per le issue risolte.
+     * @return Un oggetto {@code StatisticDTO} con i dati aggregati.
+     * @throws SQLException In caso di errori durante l'interrogazione del database.
      */
-    public static void manageDevAverageDuration(StatisticDTO dashboardData, IssueDTO foundedIssue, Duration issueDuration, List<Integer> numIssueSolvedForDev) {
-        int devIndex = dashboardData.getDevelopers().indexOf(foundedIssue.getAssignedDeveloper());
+    public StatisticDTO generateDashboardSummary() throws SQLException{
 
-        if (devIndex != -1) {
+        StatisticDTO dashboardData = new StatisticDTO();
 
-            Duration currentSum = dashboardData.getAverageResolutionDurations().get(devIndex);
+        String query = "SELECT R.resolver_id, U.email AS resolver_email, " +
+                       "SUM(R.open_count) AS open_count, SUM(R.closed_count) AS closed_count, " +
+                       "SUM(R.resolution_seconds) AS resolution_seconds " +
+                       "FROM Issue_monthly_rollup R LEFT JOIN User_ U ON R.resolver_id = U.user_id " +
+                       "GROUP BY R.resolver_id, U.email " +
+                       "ORDER BY U.email;";
 
-            dashboardData.getAverageResolutionDurations().set(devIndex, currentSum.plus(issueDuration));
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+
+            ResultSet rs = statement.executeQuery();
 
-            numIssueSolvedForDev.set(devIndex, numIssueSolvedForDev.get(devIndex) + 1);
+            addAggregateRows(rs, new StatisticsAccumulator()).fill(dashboardData);
+
+            rs.close();
 
         }
+
+        return dashboardData;
+
     }
 
     /**
-     * Gestisce il conteggio delle issue aperte per uno sviluppatore.
+     * Restituisce il contatore delle modifiche di un progetto, o la somma dei contatori di tutti i progetti.
      * <p>
-     * Incrementa il contatore delle issue aperte per lo sviluppatore assegnato
-     * e aggiunge la issue alla lista globale delle issue aperte.
+     * La colonna {@code change_count} viene incrementata nella stessa istruzione (o transazione) che modifica
+     * le issue del progetto o il loro aggregato mensile, quindi un valore invariato garantisce dati invariati.
      * </p>
      *
-     * @param dashboardData DTO delle statistiche.
-     * @param foundedIssue  La issue aperta corrente.
+     * @param projectId L'ID del progetto, oppure {@code null} per tutti i progetti.
+     * @return Il valore del contatore (0 se il progetto non esiste).
+     * @throws SQLException In caso di errori durante l'interrogazione del database.
      */
-    public static void manageDevNumOpenIssues(StatisticDTO dashboardData, IssueDTO foundedIssue) {
-        int devIndex = dashboardData.getDevelopers().indexOf(foundedIssue.getAssignedDeveloper());
+    public long getChangeCount(Integer projectId) throws SQLException{
+
+        String query = projectId != null
+                ? "SELECT change_count FROM Project WHERE project_id = ?;"
+                : "SELECT COALESCE(SUM(change_count), 0) FROM Project;";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
 
-        if (devIndex != -1) {
+            if (projectId != null)
+                statement.setInt(1, projectId);
 
-            Integer prevNumOpenIssues = dashboardData.getNumOpenIssues().get(devIndex);
+            ResultSet rs = statement.executeQuery();
+
+            long changeCount = rs.next() ? rs.getLong(1) : 0;
 
-            dashboardData.getNumOpenIssues().set(devIndex, prevNumOpenIssues + 1);
+            rs.close();
+
+            return changeCount;
 
         }
 
-        foundedIssue.setResolutionDate(null);
-        dashboardData.getOpenIssues().add(foundedIssue);
     }
 
     /**
-     * Finalizza i calcoli statistici al termine dell'elaborazione di tutte le issue.
+     * Registra in un accumulatore le righe di una query aggregata per sviluppatore.
      * <p>
-     * Calcola la durata media di risoluzione per ogni sviluppatore (dividendo la somma totale per il numero di issue)
-     * e la durata media globale del sistema.
+     * Le righe devono esporre le colonne {@code resolver_id}, {@code resolver_email}, {@code open_count},
+     * {@code closed_count} e {@code resolution_seconds}. Usato sia dalla dashboard sia dai report dei team.
      * </p>
      *
-     * @param dashboardData        DTO delle statistiche completato con i dati grezzi.
-     * @param numIssueSolvedForDev Lista con il numero di issue risolte per ogni dev.
-     * @param resolvedCount        Numero totale di issue risolte nel sistema.
-     * @param totalDuration        Durata totale accumulata di tutte le risoluzioni.
+     * @param rs          Il ResultSet da leggere fino alla fine.
+     * @param accumulator L'accumulatore da popolare.
+     * @return Lo stesso accumulatore, per concatenare la chiamata a {@link StatisticsAccumulator#fill}.
+     * @throws SQLException In caso di errori nel recupero dei dati dal ResultSet.
      */
-    public static void countingAndAverageCalculation(StatisticDTO dashboardData, List<Integer> numIssueSolvedForDev, int resolvedCount, Duration totalDuration) {
-        for (int i = 0; i < dashboardData.getAverageResolutionDurations().size(); i++) {
+    public static StatisticsAccumulator addAggregateRows(ResultSet rs, StatisticsAccumulator accumulator) throws SQLException {
 
-            int count = numIssueSolvedForDev.get(i);
+        while (rs.next()) {
 
-            dashboardData.getNumClosedIssues().set(i, count);
+            int resolverId = rs.getInt("resolver_id");
 
-            if (count > 0) {
-                Duration totalSum = dashboardData.getAverageResolutionDurations().get(i);
-                dashboardData.getAverageResolutionDurations().set(i, totalSum.dividedBy(count));
-            }
+            //rs.wasNull() checks if last column was NULL
+            Integer assignedResolverId = rs.wasNull() ? null : resolverId;
 
+            accumulator.addAggregate(assignedResolverId, rs.getString("resolver_email"),
+                    rs.getInt("open_count"), rs.getInt("closed_count"),
+                    StatisticsAccumulator.secondsToMicros(rs.getBigDecimal("resolution_seconds")));
         }
 
-        if (resolvedCount > 0) {
-
-            Duration averageDuration = totalDuration.dividedBy(resolvedCount);
-
-            dashboardData.setTotalAverageResolutionDuration(averageDuration);
-        }
+        return accumulator;
     }
 
 }
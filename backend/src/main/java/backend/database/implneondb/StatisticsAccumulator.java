@@ -0,0 +1,332 @@
+package backend.database.implneondb;
+
+import backend.dto.StatisticDTO;
+import backend.dto.UserDTO;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Accumulatore delle statistiche per sviluppatore usato nella costruzione di dashboard e report.
+ * <p>
+ * Ogni sviluppatore riceve, alla prima issue incontrata, uno <i>slot</i> numerico progressivo; l'associazione
+ * id risolutore → slot è una tabella hash a indirizzamento aperto su array di {@code int}, quindi ogni riga
+ * costa O(1) invece di scorrere la lista degli sviluppatori già trovati. I contatori e le somme delle durate
+ * sono array primitivi indicizzati per slot: nessun {@code Integer} o {@link Duration} viene allocato per riga.
+ * </p>
+ * <p>
+ * Le durate sono sommate in microsecondi (la risoluzione dei timestamp di PostgreSQL), così la conversione è
+ * esatta e un {@code long} copre fino a circa 292.000 anni di tempo di risoluzione cumulato; in nanosecondi
+ * il limite sarebbe di soli 292 anni, superabile con poche centinaia di migliaia di issue.
+ * </p>
+ * <p>
+ * La classe non è thread-safe: ogni report usa una propria istanza.
+ * </p>
+ */
+public final class StatisticsAccumulator {
+
+    /**
+     * Chiave che indica una cella vuota della tabella hash (gli id degli utenti non sono mai negativi).
+     */
+    private static final int EMPTY_KEY = -1;
+
+    /**
+     * Capacità iniziale degli array per slot e della tabella hash (sempre una potenza di 2).
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Tabella hash: id dei risolutori, {@link #EMPTY_KEY} per le celle libere.
+     */
+    private int[] keys;
+
+    /**
+     * Tabella hash: slot associato all'id nella stessa posizione di {@link #keys}.
+     */
+    private int[] slots;
+
+    /**
+     * Sviluppatori in ordine di primo incontro; la posizione nella lista è il loro slot.
+     */
+    private final List<UserDTO> developers = new ArrayList<>();
+
+    /**
+     * Numero di issue aperte per slot.
+     */
+    private int[] openCounts = new int[INITIAL_CAPACITY];
+
+    /**
+     * Numero di issue chiuse per slot.
+     */
+    private int[] closedCounts = new int[INITIAL_CAPACITY];
+
+    /**
+     * Somma dei tempi di risoluzione (in microsecondi) per slot.
+     */
+    private long[] resolutionMicros = new long[INITIAL_CAPACITY];
+
+    /**
+     * Numero di issue non assegnate ad alcuno sviluppatore.
+     */
+    private int notAssignedCount;
+
+    /**
+     * Numero totale di issue chiuse, assegnate o meno.
+     */
+    private long totalClosedCount;
+
+    /**
+     * Somma totale dei tempi di risoluzione (in microsecondi), assegnate o meno.
+     */
+    private long totalResolutionMicros;
+
+    /**
+     * Crea un accumulatore vuoto.
+     */
+    public StatisticsAccumulator() {
+        keys = new int[INITIAL_CAPACITY * 2];
+        slots = new int[INITIAL_CAPACITY * 2];
+        Arrays.fill(keys, EMPTY_KEY);
+    }
+
+    /**
+     * Registra una issue ancora aperta.
+     *
+     * @param resolverId    L'id dello sviluppatore assegnato, oppure {@code null} se la issue non è assegnata.
+     * @param resolverEmail L'email dello sviluppatore (usata solo la prima volta che lo si incontra).
+     * @return Lo sviluppatore assegnato (la stessa istanza per tutte le sue issue), oppure {@code null}.
+     */
+    public UserDTO addOpenIssue(Integer resolverId, String resolverEmail) {
+
+        if (resolverId == null || resolverId < 0) {
+            notAssignedCount++;
+            return null;
+        }
+
+        int slot = slotOf(resolverId, resolverEmail);
+        openCounts[slot]++;
+
+        return developers.get(slot);
+    }
+
+    /**
+     * Registra una issue risolta.
+     *
+     * @param resolverId       L'id dello sviluppatore assegnato, oppure {@code null} se la issue non è assegnata.
+     * @param resolverEmail    L'email dello sviluppatore (usata solo la prima volta che lo si incontra).
+     * @param resolutionMicros Il tempo di risoluzione della issue in microsecondi.
+     * @return Lo sviluppatore assegnato (la stessa istanza per tutte le sue issue), oppure {@code null}.
+     */
+    public UserDTO addClosedIssue(Integer resolverId, String resolverEmail, long resolutionMicros) {
+
+        totalClosedCount++;
+        totalResolutionMicros += resolutionMicros;
+
+        if (resolverId == null || resolverId < 0) {
+            notAssignedCount++;
+            return null;
+        }
+
+        int slot = slotOf(resolverId, resolverEmail);
+        closedCounts[slot]++;
+        this.resolutionMicros[slot] += resolutionMicros;
+
+        return developers.get(slot);
+    }
+
+    /**
+     * Registra un gruppo di issue già aggregato dal database (es. una riga di una GROUP BY).
+     *
+     * @param resolverId       L'id dello sviluppatore assegnato, oppure {@code null} per le issue non assegnate.
+     * @param resolverEmail    L'email dello sviluppatore (usata solo la prima volta che lo si incontra).
+     * @param openCount        Il numero di issue aperte del gruppo.
+     * @param closedCount      Il numero di issue chiuse del gruppo.
+     * @param resolutionMicros La somma dei tempi di risoluzione delle issue chiuse, in microsecondi.
+     */
+    public void addAggregate(Integer resolverId, String resolverEmail, int openCount, int closedCount, long resolutionMicros) {
+
+        totalClosedCount += closedCount;
+        totalResolutionMicros += resolutionMicros;
+
+        if (resolverId == null || resolverId < 0) {
+            notAssignedCount += openCount + closedCount;
+            return;
+        }
+
+        int slot = slotOf(resolverId, resolverEmail);
+        openCounts[slot] += openCount;
+        closedCounts[slot] += closedCount;
+        this.resolutionMicros[slot] += resolutionMicros;
+    }
+
+    /**
+     * Copia i dati accumulati nel DTO delle statistiche.
+     * <p>
+     * Popola le liste parallele {@code developers}, {@code numOpenIssues}, {@code numClosedIssues} e
+     * {@code averageResolutionDurations} (nell'ordine di primo incontro degli sviluppatori), il numero di issue
+     * non assegnate e la durata media globale. Le liste delle issue del DTO non vengono toccate.
+     * </p>
+     *
+     * @param statistics Il DTO da popolare.
+     */
+    public void fill(StatisticDTO statistics) {
+
+        for (int slot = 0; slot < developers.size(); slot++) {
+
+            statistics.getDevelopers().add(developers.get(slot));
+            statistics.getNumOpenIssues().add(openCounts[slot]);
+            statistics.getNumClosedIssues().add(closedCounts[slot]);
+            statistics.getAverageResolutionDurations().add(averageOf(resolutionMicros[slot], closedCounts[slot]));
+        }
+
+        statistics.setNumIssuesNotAssigned(statistics.getNumIssuesNotAssigned() + notAssignedCount);
+
+        if (totalClosedCount > 0)
+            statistics.setTotalAverageResolutionDuration(averageOf(totalResolutionMicros, totalClosedCount));
+    }
+
+    /**
+     * Calcola il tempo di risoluzione in microsecondi tra due istanti espressi in millisecondi e nanosecondi.
+     * <p>
+     * Pensato per i {@link java.sql.Timestamp}: {@code getTime()} fornisce i millisecondi e {@code getNanos()}
+     * la frazione di secondo, senza dover creare oggetti {@link Duration} intermedi.
+     * </p>
+     *
+     * @param fromMillis Millisecondi dell'istante iniziale.
+     * @param fromNanos  Frazione di secondo (in nanosecondi) dell'istante iniziale.
+     * @param toMillis   Millisecondi dell'istante finale.
+     * @param toNanos    Frazione di secondo (in nanosecondi) dell'istante finale.
+     * @return La differenza in microsecondi.
+     */
+    public static long microsBetween(long fromMillis, int fromNanos, long toMillis, int toNanos) {
+
+        // getTime() already includes the millisecond part of getNanos(): only the sub-millisecond remainder is added
+        long fromMicros = Math.floorDiv(fromMillis, 1000) * 1_000_000 + fromNanos / 1000;
+        long toMicros = Math.floorDiv(toMillis, 1000) * 1_000_000 + toNanos / 1000;
+
+        return toMicros - fromMicros;
+    }
+
+    /**
+     * Converte in microsecondi una durata espressa in secondi con parte frazionaria,
+     * come quella restituita da {@code EXTRACT(EPOCH FROM ...)}.
+     *
+     * @param seconds I secondi (può essere {@code null}).
+     * @return I microsecondi corrispondenti, troncati; 0 se {@code seconds} è {@code null}.
+     */
+    public static long secondsToMicros(BigDecimal seconds) {
+
+        if (seconds == null)
+            return 0;
+
+        return seconds.movePointRight(6).setScale(0, RoundingMode.DOWN).longValueExact();
+    }
+
+    /**
+     * Restituisce lo slot di uno sviluppatore, registrandolo se non è ancora stato incontrato.
+     */
+    private int slotOf(int resolverId, String resolverEmail) {
+
+        int mask = keys.length - 1;
+        int index = mix(resolverId) & mask;
+
+        while (keys[index] != EMPTY_KEY) {
+
+            if (keys[index] == resolverId)
+                return slots[index];
+
+            index = (index + 1) & mask;
+        }
+
+        int slot = developers.size();
+
+        UserDTO developer = new UserDTO();
+        developer.setId(resolverId);
+        developer.setEmail(resolverEmail);
+        developers.add(developer);
+
+        keys[index] = resolverId;
+        slots[index] = slot;
+
+        ensureSlotCapacity(slot + 1);
+
+        // Keep the load factor at or below 1/2
+        if (developers.size() * 2 > keys.length)
+            rehash(keys.length * 2);
+
+        return slot;
+    }
+
+    /**
+     * Allarga gli array per slot se non possono contenere {@code required} sviluppatori.
+     */
+    private void ensureSlotCapacity(int required) {
+
+        if (required <= openCounts.length)
+            return;
+
+        int capacity = openCounts.length * 2;
+
+        openCounts = Arrays.copyOf(openCounts, capacity);
+        closedCounts = Arrays.copyOf(closedCounts, capacity);
+        resolutionMicros = Arrays.copyOf(resolutionMicros, capacity);
+    }
+
+    /**
+     * Ricostruisce la tabella hash con la capacità indicata.
+     */
+    private void rehash(int capacity) {
+
+        int[] oldKeys = keys;
+        int[] oldSlots = slots;
+
+        keys = new int[capacity];
+        slots = new int[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+
+        int mask = capacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+
+            if (oldKeys[i] == EMPTY_KEY)
+                continue;
+
+            int index = mix(oldKeys[i]) & mask;
+
+            while (keys[index] != EMPTY_KEY)
+                index = (index + 1) & mask;
+
+            keys[index] = oldKeys[i];
+            slots[index] = oldSlots[i];
+        }
+    }
+
+    /**
+     * Sparpaglia i bit dell'id: gli id sono sequenziali e senza mescolamento finirebbero in celle contigue.
+     */
+    private static int mix(int key) {
+
+        int h = key * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Calcola la durata media con la stessa troncatura al nanosecondo di {@link Duration#dividedBy(long)}.
+     */
+    private static Duration averageOf(long totalMicros, long count) {
+
+        if (count == 0)
+            return Duration.ZERO;
+
+        long averageMicros = totalMicros / count;
+        long remainderNanos = (totalMicros % count) * 1000 / count;
+
+        return Duration.ofSeconds(averageMicros / 1_000_000, (averageMicros % 1_000_000) * 1000 + remainderNanos);
+    }
+
+}
@@ -0,0 +1,316 @@
+package backend.database.implneondb;
+
+import backend.database.dao.StatisticsRollupDAO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementazione del Data Access Object (DAO) per l'aggregato mensile delle statistiche sulle issue.
+ * <p>
+ * Il ricalcolo avviene sempre per partizioni intere (progetto, mese di segnalazione): le righe della partizione
+ * vengono cancellate e reinserite con una {@code INSERT ... SELECT ... GROUP BY} nella stessa transazione.
+ * Il mese di segnalazione di una issue non cambia mai, quindi assegnazioni e risoluzioni toccano solo la
+ * partizione della issue; l'indice su (project_id, report_time) limita la lettura alle issue di quel mese.
+ * </p>
+ * <p>
+ * Le scritture sulle singole issue non ricalcolano nulla: segnalano soltanto la partizione da aggiornare, e
+ * {@link #refreshPendingMonths()} ricalcola periodicamente una sola volta ogni partizione segnalata nel frattempo.
+ * Il costo del ricalcolo (proporzionale alle issue del mese) resta così fuori dalle richieste e viene diviso
+ * tra tutte le scritture dell'intervallo.
+ * </p>
+ * <p>
+ * I ricalcoli dello stesso progetto sono serializzati con un advisory lock di transazione, così due
+ * aggiornamenti concorrenti non possono inserire due volte la stessa partizione.
+ * </p>
+ * <p>
+ * Ogni ricalcolo incrementa, nella stessa transazione e una sola volta per progetto, il contatore delle
+ * modifiche dei progetti coinvolti ({@code Project.change_count}), così l'ETag della dashboard cambia
+ * esattamente quando cambia l'aggregato.
+ * </p>
+ */
+@Repository
+@Profile("!in-memory")
+public class StatisticsRollupDAOImpl implements StatisticsRollupDAO {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsRollupDAOImpl.class);
+
+    /**
+     * Fonte dati per la connessione al database.
+     * Gestisce il pool di connessioni JDBC verso il database persistente.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * Primo argomento degli advisory lock usati dall'aggregato (il secondo è l'ID del progetto),
+     * per non entrare in conflitto con altri eventuali advisory lock sullo stesso database.
+     */
+    private static final int ROLLUP_LOCK_NAMESPACE = 0x524F4C4C;
+
+    /**
+     * Parte comune delle query di ricalcolo: aggrega le issue selezionate dalla clausola WHERE che segue.
+     */
+    private static final String INSERT_AGGREGATE =
+            "INSERT INTO Issue_monthly_rollup " +
+            "(project_id, resolver_id, report_month, resolution_month, open_count, closed_count, resolution_seconds) " +
+            "SELECT project_id, resolver_id, " +
+            "date_trunc('month', report_time)::date, date_trunc('month', resolution_time)::date, " +
+            "COUNT(*) FILTER (WHERE resolution_time IS NULL), " +
+            "COUNT(*) FILTER (WHERE resolution_time IS NOT NULL), " +
+            "COALESCE(SUM(EXTRACT(EPOCH FROM resolution_time - report_time)), 0) " +
+            "FROM Issue ";
+
+    /**
+     * Clausola GROUP BY delle query di ricalcolo.
+     */
+    private static final String GROUP_AGGREGATE = " GROUP BY 1, 2, 3, 4";
+
+    /**
+     * Partizioni (progetto, primo giorno del mese) modificate dopo l'ultimo ricalcolo periodico.
+     */
+    private final Set<Partition> pendingPartitions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Indica se il prossimo ricalcolo periodico deve ricostruire l'intero aggregato.
+     */
+    private final AtomicBoolean rebuildPending = new AtomicBoolean(false);
+
+    /**
+     * Partizione dell'aggregato.
+     *
+     * @param projectId  L'ID del progetto.
+     * @param monthStart Il primo giorno del mese di segnalazione.
+     */
+    private record Partition(int projectId, LocalDate monthStart) {}
+
+    /**
+     * Costruttore per l'iniezione delle dipendenze.
+     *
+     * @param dataSource Il DataSource configurato per l'accesso al database.
+     */
+    public StatisticsRollupDAOImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Segna da ricalcolare la partizione (progetto, mese di segnalazione) della issue indicata.
+     * <p>
+     * Esegue solo la lettura per chiave primaria della issue: il ricalcolo avviene con il successivo
+     * {@link #refreshPendingMonths()}. Se la issue non esiste non viene fatto nulla.
+     * </p>
+     *
+     * @param issueId L'ID della issue modificata.
+     * @throws SQLException In caso di errori di accesso al database.
+     */
+    public void markIssueMonthPending(Integer issueId) throws SQLException{
+
+        String query = "SELECT project_id, date_trunc('month', report_time)::date AS report_month FROM Issue WHERE issue_id = ?;";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+
+            statement.setInt(1, issueId);
+
+            try (ResultSet rs = statement.executeQuery()) {
+
+                if (rs.next())
+                    pendingPartitions.add(new Partition(rs.getInt("project_id"), rs.getObject("report_month", LocalDate.class)));
+            }
+
+        }
+
+    }
+
+    /**
+     * Segna da ricalcolare la partizione (progetto, mese di segnalazione) indicata, senza accedere al database.
+     *
+     * @param projectId L'ID del progetto.
+     * @param month     Un giorno qualsiasi del mese da ricalcolare.
+     */
+    public void markPending(Integer projectId, LocalDate month) {
+
+        pendingPartitions.add(new Partition(projectId, month.withDayOfMonth(1)));
+
+    }
+
+    /**
+     * Segna da ricostruire l'intero aggregato con il successivo {@link #refreshPendingMonths()}.
+     */
+    public void markRebuildPending() {
+
+        rebuildPending.set(true);
+
+    }
+
+    /**
+     * Ricalcola subito la partizione (progetto, mese di segnalazione) indicata.
+     *
+     * @param projectId L'ID del progetto.
+     * @param month     Un giorno qualsiasi del mese da ricalcolare.
+     * @throws SQLException In caso di errori di accesso al database.
+     */
+    public void refreshProjectMonth(Integer projectId, LocalDate month) throws SQLException{
+
+        refreshPartitions(List.of(new Partition(projectId, month.withDayOfMonth(1))));
+
+    }
+
+    /**
+     * Ricalcola, in un'unica transazione, le partizioni segnalate dalle scritture dopo l'ultima chiamata.
+     * <p>
+     * Se è stata chiesta una ricostruzione completa, questa sostituisce il ricalcolo delle partizioni in attesa.
+     * Se il ricalcolo fallisce le partizioni (o la ricostruzione) tornano in attesa e vengono ritentate
+     * alla chiamata successiva.
+     * </p>
+     *
+     * @throws SQLException In caso di errori di accesso al database.
+     */
+    public void refreshPendingMonths() throws SQLException{
+
+        if (rebuildPending.getAndSet(false)) {
+
+            // The rebuild covers every partition marked so far
+            pendingPartitions.clear();
+
+            try {
+                rebuild();
+            } catch (SQLException e) {
+                rebuildPending.set(true);
+                throw e;
+            }
+
+            return;
+        }
+
+        List<Partition> partitions = new ArrayList<>();
+
+        for (Iterator<Partition> iterator = pendingPartitions.iterator(); iterator.hasNext(); ) {
+            partitions.add(iterator.next());
+            iterator.remove();
+        }
+
+        if (partitions.isEmpty())
+            return;
+
+        try {
+            refreshPartitions(partitions);
+        } catch (SQLException e) {
+            pendingPartitions.addAll(partitions);
+            throw e;
+        }
+
+        logger.debug("Refreshed {} statistics rollup partitions", partitions.size());
+
+    }
+
+    /**
+     * Ricalcola le partizioni indicate in un'unica transazione.
+     * <p>
+     * Gli advisory lock dei progetti vengono presi in ordine crescente di ID, così due ricalcoli concorrenti
+     * non possono attendersi a vicenda; il contatore delle modifiche viene incrementato una volta per progetto.
+     * </p>
+     *
+     * @param partitions Le partizioni da ricalcolare.
+     * @throws SQLException In caso di errori di accesso al database.
+     */
+    private void refreshPartitions(Collection<Partition> partitions) throws SQLException{
+
+        SortedSet<Integer> projectIds = new TreeSet<>();
+
+        for (Partition partition : partitions)
+            projectIds.add(partition.projectId());
+
+        try (Connection connection = dataSource.getConnection()) {
+
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement lock = connection.prepareStatement("SELECT pg_advisory_xact_lock(?, ?);");
+                 PreparedStatement delete = connection.prepareStatement(
+                         "DELETE FROM Issue_monthly_rollup WHERE project_id = ? AND report_month = ?;");
+                 PreparedStatement insert = connection.prepareStatement(INSERT_AGGREGATE +
+                         "WHERE project_id = ? AND report_time >= ? AND report_time < ?" + GROUP_AGGREGATE);
+                 PreparedStatement bump = connection.prepareStatement(
+                         "UPDATE Project SET change_count = change_count + 1 WHERE project_id = ANY (?);")) {
+
+                for (int projectId : projectIds) {
+                    lock.setInt(1, ROLLUP_LOCK_NAMESPACE);
+                    lock.setInt(2, projectId);
+                    lock.executeQuery().close();
+                }
+
+                for (Partition partition : partitions) {
+
+                    delete.setInt(1, partition.projectId());
+                    delete.setObject(2, partition.monthStart());
+                    delete.executeUpdate();
+
+                    insert.setInt(1, partition.projectId());
+                    insert.setObject(2, partition.monthStart().atStartOfDay());
+                    insert.setObject(3, partition.monthStart().plusMonths(1).atStartOfDay());
+                    insert.executeUpdate();
+                }
+
+                // The dashboard reads the rollup: its ETag must change together with these rows
+                bump.setArray(1, connection.createArrayOf("integer", projectIds.toArray()));
+                bump.executeUpdate();
+
+                connection.commit();
+
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+
+        }
+
+    }
+
+    /**
+     * Ricostruisce l'intero aggregato.
+     * <p>
+     * Blocca la tabella dell'aggregato in modalità EXCLUSIVE (le letture restano possibili) per tutta
+     * la ricostruzione, così i ricalcoli incrementali concorrenti attendono e vengono applicati dopo.
+     * </p>
+     *
+     * @throws SQLException In caso di errori di accesso al database.
+     */
+    public void rebuild() throws SQLException{
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+
+            connection.setAutoCommit(false);
+
+            try {
+
+                statement.execute("LOCK TABLE Issue_monthly_rollup IN EXCLUSIVE MODE;");
+                statement.executeUpdate("DELETE FROM Issue_monthly_rollup;");
+                statement.executeUpdate(INSERT_AGGREGATE + GROUP_AGGREGATE);
+
+                // Last, so the Project rows stay locked only for the end of the transaction
+                statement.executeUpdate("UPDATE Project SET change_count = change_count + 1;");
+
+                connection.commit();
+
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+
+        }
+
+    }
+
+}
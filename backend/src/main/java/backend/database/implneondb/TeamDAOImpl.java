@@ -2,11 +2,14 @@ package backend.database.implneondb;
 
 import backend.database.dao.TeamDAO;
 import backend.dto.*;
+import backend.search.EmailAutocompleteIndex;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
 import java.sql.*;
-import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -20,6 +23,7 @@ import java.util.List;
  * </p>
  */
 @Repository
+@Profile("!in-memory")
 public class TeamDAOImpl implements TeamDAO {
 
     /**
@@ -28,13 +32,20 @@ public class TeamDAOImpl implements TeamDAO {
      */
     private final DataSource dataSource;
 
+    /**
+     * Indice in memoria delle email per l'autocompletamento, aggiornato a ogni modifica dei membri di un team.
+     */
+    private final EmailAutocompleteIndex autocompleteIndex;
+
     /**
      * Costruttore per l'iniezione delle dipendenze.
      *
-     * @param dataSource Il DataSource configurato per l'accesso al database.
+     * @param dataSource        Il DataSource configurato per l'accesso al database.
+     * @param autocompleteIndex L'indice in memoria per l'autocompletamento delle email.
      */
-    public TeamDAOImpl(DataSource dataSource) {
+    public TeamDAOImpl(DataSource dataSource, EmailAutocompleteIndex autocompleteIndex) {
         this.dataSource = dataSource;
+        this.autocompleteIndex = autocompleteIndex;
     }
 
     /**
@@ -122,6 +133,8 @@ public class TeamDAOImpl implements TeamDAO {
      * <p>
      * Inserisce un record nella tabella di relazione 'Works_in'.
      * Utilizza una subquery per recuperare l'ID dell'utente partendo dalla sua email.
+     * Restituisce anche il progetto del team, a cui il trigger 018 aggiunge l'utente, per aggiornare
+     * l'indice dell'autocompletamento.
      * </p>
      *
      * @param teamId L'ID del team a cui aggiungere il membro.
@@ -132,7 +145,8 @@ public class TeamDAOImpl implements TeamDAO {
     public boolean addMemberToTeam(Integer teamId, String email) throws SQLException{
 
         String query = "INSERT INTO Works_in (team_id, user_id) VALUES "+
-                       "(?, (SELECT user_id FROM User_ U WHERE U.email = ?))";
+                       "(?, (SELECT user_id FROM User_ U WHERE U.email = ?)) " +
+                       "RETURNING (SELECT T.project_id FROM Team T WHERE T.team_id = Works_in.team_id) AS project_id";
 
 
         try (Connection connection = dataSource.getConnection();
@@ -141,9 +155,15 @@ public class TeamDAOImpl implements TeamDAO {
             statement.setInt(1, teamId);
             statement.setString(2, email);
 
-            int rowsAdded = statement.executeUpdate();
+            try (ResultSet rs = statement.executeQuery()) {
 
-            return rowsAdded > 0;
+                if (!rs.next())
+                    return false;
+
+                autocompleteIndex.addTeamMember(teamId, rs.getInt("project_id"), email);
+
+                return true;
+            }
         }
 
     }
@@ -153,6 +173,8 @@ public class TeamDAOImpl implements TeamDAO {
      * <p>
      * Elimina il record corrispondente dalla tabella di relazione 'Works_in'.
      * Utilizza una subquery per identificare l'utente tramite email.
+     * Restituisce anche il progetto del team, da cui il trigger 019 può rimuovere l'utente, per aggiornare
+     * l'indice dell'autocompletamento.
      * </p>
      *
      * @param teamId L'ID del team da cui rimuovere il membro.
@@ -162,9 +184,10 @@ public class TeamDAOImpl implements TeamDAO {
      */
     public boolean removeMemberFromTeam(Integer teamId, String email) throws SQLException{
 
-        String query = "DELETE FROM Works_in " +
-                       "WHERE team_id = ? " +
-                       "AND user_id = (SELECT user_id FROM User_ WHERE email = ?)";
+        String query = "DELETE FROM Works_in W USING Team T " +
+                       "WHERE W.team_id = ? AND T.team_id = W.team_id " +
+                       "AND W.user_id = (SELECT user_id FROM User_ WHERE email = ?) " +
+                       "RETURNING T.project_id";
 
         try (Connection connection = dataSource.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
@@ -172,65 +195,67 @@ public class TeamDAOImpl implements TeamDAO {
             statement.setInt(1, teamId);
             statement.setString(2, email);
 
-            int rowsDeleted = statement.executeUpdate();
+            try (ResultSet rs = statement.executeQuery()) {
 
-            return rowsDeleted > 0;
+                if (!rs.next())
+                    return false;
+
+                autocompleteIndex.removeTeamMember(teamId, rs.getInt("project_id"), email);
+
+                return true;
+            }
         }
 
     }
 
     /**
-     * Genera un report statistico mensile per il team specificato.
+     * Genera un report statistico per il team specificato su un intervallo di tempo arbitrario.
      * <p>
-     * Esegue una query complessa che incrocia le tabelle Team, Project, Works_in, User_ e Issue.
-     * Recupera le issue gestite dai membri del team che sono state create o risolte nel mese e anno specificati.
-     * Riutilizza metodi statici di {@link ProjectDAOImpl} per aggregare i dati e calcolare le medie.
+     * Recupera le issue del progetto del team, assegnate a un membro del team, che sono state create
+     * o risolte nell'intervallo semiaperto [{@code from}, {@code to}). I predicati sono confronti diretti
+     * sulle colonne (niente {@code EXTRACT}), quindi il database può combinare con un BitmapOr gli indici
+     * su (project_id, report_time) e (project_id, resolution_time) invece di scansionare tutte le issue.
+     * Le statistiche per sviluppatore sono raccolte da uno {@link StatisticsAccumulator}.
      * </p>
      *
      * @param teamId L'ID del team per cui generare il report.
-     * @param month  Il nome del mese in italiano (es "gennaio").
-     * @param year   L'anno di riferimento sotto forma di stringa (es. "2023").
+     * @param from   Inizio dell'intervallo (incluso).
+     * @param to     Fine dell'intervallo (esclusa).
      * @return Un oggetto {@code StatisticDTO} contenente i dati del report.
      * @throws SQLException In caso di errori durante l'elaborazione della query.
      */
-    public StatisticDTO generateMonthlyReport(Integer teamId, String month, String year) throws SQLException{
+    public StatisticDTO generateReport(Integer teamId, LocalDateTime from, LocalDateTime to) throws SQLException{
 
         StatisticDTO reportGenerated;
 
         String query = "SELECT DISTINCT I.issue_id, I.resolver_id, I.report_time, I.resolution_time, U1.email AS resolver_email " +
                        "FROM Team T " +
-                       "JOIN Project P ON T.project_id = P.project_id " +
                        "JOIN Works_in W ON T.team_id = W.team_id " +
                        "JOIN User_ U1 ON W.user_id = U1.user_id " +
-                       "JOIN Issue I ON (I.project_id = P.project_id AND I.resolver_id = U1.user_id) " +
+                       "JOIN Issue I ON (I.project_id = T.project_id AND I.resolver_id = U1.user_id) " +
                        "WHERE T.team_id = ? " +
                        "AND ( " +
-                       "  (EXTRACT(MONTH FROM I.report_time) = ? AND EXTRACT(YEAR FROM I.report_time) = ?) " +
+                       "  (I.report_time >= ? AND I.report_time < ?) " +
                        "  OR " +
-                       "  (EXTRACT(MONTH FROM I.resolution_time) = ? AND EXTRACT(YEAR FROM I.resolution_time) = ?) " +
+                       "  (I.resolution_time >= ? AND I.resolution_time < ?) " +
                        ")";
 
-        ArrayList<Integer> numIssueSolvedForDev = new ArrayList<>();
-        ArrayList<Integer> devAlreadyFoundedIds = new ArrayList<>();
+        StatisticsAccumulator accumulator = new StatisticsAccumulator();
 
         try (Connection connection = dataSource.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
 
             statement.setInt(1, teamId);
-            statement.setInt(2, stringMonthToDBInt(month));
-            statement.setInt(3, Integer.parseInt(year));
-            statement.setInt(4, stringMonthToDBInt(month));
-            statement.setInt(5, Integer.parseInt(year));
+            statement.setObject(2, from);
+            statement.setObject(3, to);
+            statement.setObject(4, from);
+            statement.setObject(5, to);
 
 
             ResultSet rs = statement.executeQuery();
 
             reportGenerated = new StatisticDTO();
 
-            Duration totalDuration = Duration.ZERO;
-
-            int resolvedCount = 0;
-
             while (rs.next()) {
 
                 IssueDTO foundedIssue = new IssueDTO();
@@ -241,16 +266,7 @@ public class TeamDAOImpl implements TeamDAO {
                 int resolverId = rs.getInt("resolver_id");
 
                 //rs.wasNull() checks if last column was NULL
-                if (!rs.wasNull() && resolverId >= 0) {
-
-                    ProjectDAOImpl.resolverHandler(devAlreadyFoundedIds, resolverId, reportGenerated, foundedIssue, rs, numIssueSolvedForDev);
-
-
-                } else {
-
-                    foundedIssue.setAssignedDeveloper(null);
-
-                }
+                Integer assignedResolverId = rs.wasNull() ? null : resolverId;
 
 
                 Timestamp reportTimestamp = rs.getTimestamp("report_time");
@@ -262,24 +278,26 @@ public class TeamDAOImpl implements TeamDAO {
 
                     foundedIssue.setResolutionDate(new Date(resolutionTimestamp.getTime()));
 
-                    Duration issueDuration = Duration.between(reportTimestamp.toInstant(), resolutionTimestamp.toInstant());
-                    totalDuration = totalDuration.plus(issueDuration);
-                    resolvedCount++;
+                    long resolutionMicros = StatisticsAccumulator.microsBetween(
+                            reportTimestamp.getTime(), reportTimestamp.getNanos(),
+                            resolutionTimestamp.getTime(), resolutionTimestamp.getNanos());
 
-                    reportGenerated.getClosedIssues().add(foundedIssue);
+                    foundedIssue.setAssignedDeveloper(accumulator.addClosedIssue(assignedResolverId, rs.getString("resolver_email"), resolutionMicros));
 
-                    ProjectDAOImpl.manageDevAverageDuration(reportGenerated, foundedIssue, issueDuration, numIssueSolvedForDev);
+                    reportGenerated.getClosedIssues().add(foundedIssue);
 
                 }else{
 
-                    ProjectDAOImpl.manageDevNumOpenIssues(reportGenerated, foundedIssue);
+                    foundedIssue.setAssignedDeveloper(accumulator.addOpenIssue(assignedResolverId, rs.getString("resolver_email")));
+
+                    reportGenerated.getOpenIssues().add(foundedIssue);
 
                 }
 
 
             }
 
-            ProjectDAOImpl.countingAndAverageCalculation(reportGenerated, numIssueSolvedForDev, resolvedCount, totalDuration);
+            accumulator.fill(reportGenerated);
 
             rs.close();
 
@@ -291,28 +309,58 @@ public class TeamDAOImpl implements TeamDAO {
     }
 
     /**
-     * Metodo di utilità per convertire il nome del mese in italiano nel corrispondente intero.
+     * Genera i soli dati aggregati del report di un team leggendo l'aggregato mensile {@code Issue_monthly_rollup}.
+     * <p>
+     * Una riga dell'aggregato rientra nel report se il suo mese di segnalazione o di risoluzione cade
+     * nell'intervallo: poiché ogni issue ricade in una sola riga, nessuna issue viene contata due volte.
+     * Vengono lette O(sviluppatori × mesi) righe, indipendentemente dal numero di issue.
+     * </p>
      *
-     * @param monthName Il nome del mese (es. "gennaio", "Gennaio").
-     * @return L'intero corrispondente (1-12) o 0 se il nome non è valido.
+     * @param teamId    L'ID del team per cui generare il report.
+     * @param fromMonth Primo giorno del primo mese dell'intervallo (incluso).
+     * @param toMonth   Primo giorno del mese che chiude l'intervallo (escluso).
+     * @return Un oggetto {@code StatisticDTO} con i soli dati aggregati.
+     * @throws SQLException In caso di errori durante l'elaborazione della query.
      */
-    private int stringMonthToDBInt(String monthName) {
-
-        return switch(monthName.toLowerCase()) {
-            case "gennaio" -> 1;
-            case "febbraio" -> 2;
-            case "marzo" -> 3;
-            case "aprile" -> 4;
-            case "maggio" -> 5;
-            case "giugno" -> 6;
-            case "luglio" -> 7;
-            case "agosto" -> 8;
-            case "settembre" -> 9;
-            case "ottobre" -> 10;
-            case "novembre" -> 11;
-            case "dicembre" -> 12;
-            default -> 0;
-        };
+    public StatisticDTO generateReportSummary(Integer teamId, LocalDate fromMonth, LocalDate toMonth) throws SQLException{
+
+        StatisticDTO reportGenerated = new StatisticDTO();
+
+        String query = "SELECT R.resolver_id, U1.email AS resolver_email, " +
+                       "SUM(R.open_count) AS open_count, SUM(R.closed_count) AS closed_count, " +
+                       "SUM(R.resolution_seconds) AS resolution_seconds " +
+                       "FROM Team T " +
+                       "JOIN Works_in W ON T.team_id = W.team_id " +
+                       "JOIN User_ U1 ON W.user_id = U1.user_id " +
+                       "JOIN Issue_monthly_rollup R ON (R.project_id = T.project_id AND R.resolver_id = U1.user_id) " +
+                       "WHERE T.team_id = ? " +
+                       "AND ( " +
+                       "  (R.report_month >= ? AND R.report_month < ?) " +
+                       "  OR " +
+                       "  (R.resolution_month >= ? AND R.resolution_month < ?) " +
+                       ") " +
+                       "GROUP BY R.resolver_id, U1.email " +
+                       "ORDER BY U1.email;";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+
+            statement.setInt(1, teamId);
+            statement.setObject(2, fromMonth);
+            statement.setObject(3, toMonth);
+            statement.setObject(4, fromMonth);
+            statement.setObject(5, toMonth);
+
+            ResultSet rs = statement.executeQuery();
+
+            ProjectDAOImpl.addAggregateRows(rs, new StatisticsAccumulator()).fill(reportGenerated);
+
+            rs.close();
+
+        }
+
+        return reportGenerated;
+
     }
 
 }
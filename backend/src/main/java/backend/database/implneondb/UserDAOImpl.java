@@ -2,6 +2,10 @@ package backend.database.implneondb;
 
 import backend.database.dao.UserDAO;
 import backend.dto.UserDTO;
+import backend.search.EmailAutocompleteIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
@@ -9,6 +13,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,6 +26,7 @@ import java.util.List;
  * </p>
  */
 @Repository
+@Profile("!in-memory")
 public class UserDAOImpl implements UserDAO {
 
     /**
@@ -40,13 +46,31 @@ public class UserDAOImpl implements UserDAO {
      */
     private static final String EMAIL = "email";
 
+    /**
+     * Indice in memoria delle email per l'autocompletamento, aggiornato alla registrazione di ogni utente.
+     */
+    private final EmailAutocompleteIndex autocompleteIndex;
+
+    /**
+     * Numero di tentativi di caricamento dell'indice quando un aggiornamento incrementale lo modifica
+     * durante la lettura dal database.
+     */
+    private static final int AUTOCOMPLETE_RELOAD_ATTEMPTS = 3;
+
+    /**
+     * Logger per i caricamenti dell'indice non riusciti.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(UserDAOImpl.class);
+
     /**
      * Costruttore per l'iniezione delle dipendenze.
      *
-     * @param dataSource Il DataSource configurato per l'accesso al database.
+     * @param dataSource        Il DataSource configurato per l'accesso al database.
+     * @param autocompleteIndex L'indice in memoria per l'autocompletamento delle email.
      */
-    public UserDAOImpl(DataSource dataSource) {
+    public UserDAOImpl(DataSource dataSource, EmailAutocompleteIndex autocompleteIndex) {
         this.dataSource = dataSource;
+        this.autocompleteIndex = autocompleteIndex;
     }
 
     /**
@@ -94,7 +118,8 @@ public class UserDAOImpl implements UserDAO {
     /**
      * Registra un nuovo utente nel database.
      * <p>
-     * Inserisce un nuovo record nella tabella 'User_' con i dati forniti.
+     * Inserisce un nuovo record nella tabella 'User_' con i dati forniti
+     * e lo aggiunge all'indice di autocompletamento.
      * </p>
      *
      * @param newUser Il DTO contenente email, password (già hashata) e ruolo.
@@ -103,7 +128,7 @@ public class UserDAOImpl implements UserDAO {
     public void registerNewUser(UserDTO newUser) throws SQLException{
 
         String query = "INSERT INTO User_ (email, hashed_password, user_type) VALUES "+
-                "(?, ?, ?);";
+                "(?, ?, ?) RETURNING user_id;";
 
         try (Connection connection = dataSource.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
@@ -112,8 +137,12 @@ public class UserDAOImpl implements UserDAO {
             statement.setString(2, newUser.getPassword());
             statement.setInt(3, newUser.getRole());
 
-            statement.executeUpdate();
+            ResultSet rs = statement.executeQuery();
+
+            if (rs.next())
+                autocompleteIndex.addUser(rs.getInt(USER_ID), newUser.getEmail(), newUser.getRole());
 
+            rs.close();
 
         }
 
@@ -264,4 +293,51 @@ public class UserDAOImpl implements UserDAO {
 
     }
 
+    /**
+     * Ricarica dal database l'indice in memoria per l'autocompletamento delle email.
+     * <p>
+     * Legge con tre query utenti, membri dei progetti ('Works_on') e membri dei team ('Works_in') e sostituisce
+     * il contenuto dell'indice. Se nel frattempo una registrazione o una modifica di un team aggiorna l'indice,
+     * la lettura viene ripetuta, così l'aggiornamento non va perso.
+     * </p>
+     *
+     * @throws SQLException In caso di errori durante la lettura dal database.
+     */
+    public void reloadAutocompleteIndex() throws SQLException{
+
+        for (int attempt = 0; attempt < AUTOCOMPLETE_RELOAD_ATTEMPTS; attempt++) {
+
+            long stamp = autocompleteIndex.stamp();
+
+            EmailAutocompleteIndex.Contents contents = new EmailAutocompleteIndex.Contents();
+
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+
+                try (ResultSet rs = statement.executeQuery("SELECT user_id, email, user_type FROM User_;")) {
+                    while (rs.next())
+                        contents.addUser(rs.getInt(USER_ID), rs.getString(EMAIL), rs.getInt("user_type"));
+                }
+
+                try (ResultSet rs = statement.executeQuery("SELECT project_id, user_id FROM Works_on;")) {
+                    while (rs.next())
+                        contents.addProjectMember(rs.getInt("project_id"), rs.getInt(USER_ID));
+                }
+
+                try (ResultSet rs = statement.executeQuery("SELECT W.team_id, T.project_id, W.user_id " +
+                                                           "FROM Works_in W JOIN Team T ON T.team_id = W.team_id;")) {
+                    while (rs.next())
+                        contents.addTeamMember(rs.getInt("team_id"), rs.getInt("project_id"), rs.getInt(USER_ID));
+                }
+
+            }
+
+            if (autocompleteIndex.replaceIfNotModified(contents, stamp))
+                return;
+        }
+
+        logger.warn("Autocomplete index reload skipped: concurrent updates during {} attempts", AUTOCOMPLETE_RELOAD_ATTEMPTS);
+
+    }
+
 }
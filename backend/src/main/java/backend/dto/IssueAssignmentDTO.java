@@ -0,0 +1,33 @@
+package backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) che descrive un'assegnazione all'interno di un aggiornamento massivo.
+ * <p>
+ * <strong>Utilizzo di Lombok:</strong><br>
+ * </p>
+ * <ul>
+ * <li>{@link Data @Data}: Genera automaticamente getter, setter, toString, equals e hashCode.</li>
+ * <li>{@link NoArgsConstructor @NoArgsConstructor}: Genera il costruttore vuoto.</li>
+ * <li>{@link AllArgsConstructor @AllArgsConstructor}: Genera il costruttore con tutti gli argomenti.</li>
+ * </ul>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueAssignmentDTO {
+
+    /**
+     * ID della segnalazione da assegnare.
+     */
+    private Integer issueId;
+
+    /**
+     * Email dello sviluppatore a cui assegnare la segnalazione.
+     */
+    private String resolverEmail;
+
+}
@@ -0,0 +1,46 @@
+package backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) con l'esito di un singolo elemento di un aggiornamento massivo delle issue.
+ * <p>
+ * Gli esiti vengono restituiti nello stesso ordine degli elementi della richiesta.
+ * </p>
+ * <p>
+ * <strong>Utilizzo di Lombok:</strong><br>
+ * </p>
+ * <ul>
+ * <li>{@link Data @Data}: Genera automaticamente getter, setter, toString, equals e hashCode.</li>
+ * <li>{@link NoArgsConstructor @NoArgsConstructor}: Genera il costruttore vuoto.</li>
+ * <li>{@link AllArgsConstructor @AllArgsConstructor}: Genera il costruttore con tutti gli argomenti.</li>
+ * </ul>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueBulkResultDTO {
+
+    /**
+     * ID della segnalazione a cui si riferisce l'esito.
+     */
+    private Integer issueId;
+
+    /**
+     * {@code true} se la modifica è stata applicata.
+     */
+    private boolean updated;
+
+    /**
+     * Motivo per cui la modifica non è stata applicata, {@code null} in caso di successo.
+     */
+    private String message;
+
+    /**
+     * Sviluppatore assegnato, valorizzato solo per le assegnazioni riuscite.
+     */
+    private UserDTO assignedDeveloper;
+
+}
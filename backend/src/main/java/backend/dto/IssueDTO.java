@@ -1,5 +1,8 @@
 package backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -21,13 +24,15 @@ import java.util.Date;
  * <li>{@link Data @Data}: Genera automaticamente i metodi <strong>getter</strong> e <strong>setter</strong> per tutti i campi,
  * oltre all'implementazione standard dei metodi {@code toString()}, {@code equals()} e {@code hashCode()}.</li>
  * <li>{@link NoArgsConstructor @NoArgsConstructor}: Genera un <strong>costruttore vuoto</strong> (senza argomenti),
- * fondamentale per la serializzazione/deserializzazione JSON e per l'istanziazione tramite framework.</li>
+ * fondamentale per la serializzazione/deserializzazione JSON e per l'istanziazione tramite framework.
+ * È indicato a Jackson come creator: il corpo JSON viene letto tramite i setter, così i campi assenti
+ * (es. {@code version}, mai inviato dai client) mantengono il valore predefinito.</li>
  * <li>{@link AllArgsConstructor @AllArgsConstructor}: Genera un <strong>costruttore completo</strong> che accetta
  * come argomenti tutti i campi della classe, utile per creare istanze popolate in un'unica istruzione.</li>
  * </ul>
  */
 @Data
-@NoArgsConstructor
+@NoArgsConstructor(onConstructor_ = @JsonCreator)
 @AllArgsConstructor
 public class IssueDTO {
 
@@ -96,13 +101,35 @@ public class IssueDTO {
     /**
      * Immagine allegata alla segnalazione (es screenshot del bug).
      * Memorizzata come array di byte (BLOB).
+     * <p>
+     * Viene valorizzata solo in fase di creazione: il dettaglio della issue non la include,
+     * l'immagine si scarica a parte da {@code GET /issues/{id}/image}.
+     * </p>
      */
     private byte[] image;
 
+    /**
+     * Indica se alla segnalazione è allegata un'immagine.
+     * <p>
+     * È calcolato dal backend: viene incluso nelle risposte, ma ignorato nel corpo delle richieste.
+     * </p>
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private boolean hasImage;
+
     /**
      * Lo sviluppatore assegnato alla risoluzione della segnalazione (Resolver).
      * Può essere {@code null} se la issue non è ancora stata presa in carico.
      */
     private UserDTO assignedDeveloper;
 
+    /**
+     * Versione della segnalazione, incrementata a ogni modifica.
+     * <p>
+     * Non viene serializzata: il controller la usa solo per calcolare l'ETag del dettaglio.
+     * </p>
+     */
+    @JsonIgnore
+    private long version;
+
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) con i metadati dell'immagine allegata a una segnalazione.
+ * <p>
+ * Non contiene i byte dell'immagine: serve a preparare gli header della risposta
+ * (Content-Type, Content-Length, ETag) prima di trasferire il contenuto in streaming dal database.
+ * </p>
+ * <p>
+ * <strong>Utilizzo di Lombok:</strong><br>
+ * </p>
+ * <ul>
+ * <li>{@link Data @Data}: Genera automaticamente getter, setter, toString, equals e hashCode.</li>
+ * <li>{@link NoArgsConstructor @NoArgsConstructor}: Genera il costruttore vuoto.</li>
+ * <li>{@link AllArgsConstructor @AllArgsConstructor}: Genera il costruttore con tutti gli argomenti.</li>
+ * </ul>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueImageDTO {
+
+    /**
+     * Dimensione dell'immagine in byte.
+     */
+    private long size;
+
+    /**
+     * Tipo MIME dell'immagine, riconosciuto dai primi byte del contenuto.
+     */
+    private String contentType;
+
+    /**
+     * Impronta MD5 (esadecimale) del contenuto, usata come ETag forte.
+     */
+    private String checksum;
+
+    /**
+     * Numero di byte iniziali sufficienti a riconoscere il formato dell'immagine.
+     */
+    public static final int HEADER_LENGTH = 12;
+
+    /**
+     * Riconosce il tipo MIME di un'immagine dalla sua firma (i primi byte del file).
+     * <p>
+     * Le immagini vengono salvate senza il nome né il tipo del file originale, quindi
+     * il formato viene dedotto dal contenuto. Sono riconosciuti PNG, JPEG, GIF, WebP e BMP.
+     * </p>
+     *
+     * @param header I primi byte dell'immagine (almeno {@value #HEADER_LENGTH} se disponibili).
+     * @return Il tipo MIME riconosciuto, oppure {@code application/octet-stream} se il formato è sconosciuto.
+     */
+    public static String detectContentType(byte[] header) {
+
+        if (startsWith(header, 0, 0x89, 'P', 'N', 'G'))
+            return "image/png";
+
+        if (startsWith(header, 0, 0xFF, 0xD8, 0xFF))
+            return "image/jpeg";
+
+        if (startsWith(header, 0, 'G', 'I', 'F', '8'))
+            return "image/gif";
+
+        if (startsWith(header, 0, 'R', 'I', 'F', 'F') && startsWith(header, 8, 'W', 'E', 'B', 'P'))
+            return "image/webp";
+
+        if (startsWith(header, 0, 'B', 'M'))
+            return "image/bmp";
+
+        return "application/octet-stream";
+    }
+
+    /**
+     * Verifica se {@code data} contiene la sequenza {@code signature} a partire da {@code offset}.
+     */
+    private static boolean startsWith(byte[] data, int offset, int... signature) {
+
+        if (data == null || data.length < offset + signature.length)
+            return false;
+
+        for (int i = 0; i < signature.length; i++) {
+            if ((data[offset + i] & 0xFF) != signature[i])
+                return false;
+        }
+
+        return true;
+    }
+
+}
@@ -0,0 +1,33 @@
+package backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) che descrive un record scartato durante l'importazione massiva delle issue.
+ * <p>
+ * <strong>Utilizzo di Lombok:</strong><br>
+ * </p>
+ * <ul>
+ * <li>{@link Data @Data}: Genera automaticamente getter, setter, toString, equals e hashCode.</li>
+ * <li>{@link NoArgsConstructor @NoArgsConstructor}: Genera il costruttore vuoto.</li>
+ * <li>{@link AllArgsConstructor @AllArgsConstructor}: Genera il costruttore con tutti gli argomenti.</li>
+ * </ul>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueImportErrorDTO {
+
+    /**
+     * Numero della riga del file importato (a partire da 1) che contiene il record.
+     */
+    private long line;
+
+    /**
+     * Motivo per cui il record è stato scartato.
+     */
+    private String message;
+
+}
@@ -0,0 +1,74 @@
+package backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) con l'esito di un'importazione massiva delle issue.
+ * <p>
+ * I record non validi o rifiutati dal database non interrompono l'importazione: vengono contati
+ * e descritti in {@code errors} (fino a {@value #MAX_REPORTED_ERRORS} voci), mentre gli altri vengono salvati.
+ * </p>
+ * <p>
+ * <strong>Utilizzo di Lombok:</strong><br>
+ * </p>
+ * <ul>
+ * <li>{@link Data @Data}: Genera automaticamente getter, setter, toString, equals e hashCode.</li>
+ * <li>{@link NoArgsConstructor @NoArgsConstructor}: Genera il costruttore vuoto.</li>
+ * <li>{@link AllArgsConstructor @AllArgsConstructor}: Genera il costruttore con tutti gli argomenti.</li>
+ * </ul>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueImportResultDTO {
+
+    /**
+     * Numero massimo di errori riportati singolarmente nella risposta.
+     */
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    /**
+     * Numero di issue salvate.
+     */
+    private long imported;
+
+    /**
+     * Numero di record scartati.
+     */
+    private long failed;
+
+    /**
+     * Durata complessiva dell'importazione, in millisecondi.
+     */
+    private long elapsedMillis;
+
+    /**
+     * Velocità dell'importazione, in record elaborati al secondo.
+     */
+    private double rowsPerSecond;
+
+    /**
+     * I primi {@value #MAX_REPORTED_ERRORS} record scartati, con il relativo motivo.
+     */
+    private List<IssueImportErrorDTO> errors = new ArrayList<>();
+
+    /**
+     * Registra un record scartato.
+     *
+     * @param line    Il numero di riga del record.
+     * @param message Il motivo dello scarto.
+     */
+    public void addError(long line, String message) {
+
+        failed++;
+
+        if (errors.size() < MAX_REPORTED_ERRORS)
+            errors.add(new IssueImportErrorDTO(line, message));
+    }
+
+}
@@ -0,0 +1,101 @@
+package backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) per rappresentare una pagina di risultati della ricerca issue.
+ * <p>
+ * La paginazione è di tipo <i>keyset</i> (cursore): invece di un offset numerico, il client riceve
+ * un token opaco ({@code nextPageToken}) che codifica la coppia (priorità, id) dell'ultima issue restituita.
+ * La pagina successiva riparte esattamente da quella chiave, quindi il costo di ogni pagina
+ * non cresce con la profondità della navigazione.
+ * </p>
+ * <p>
+ * <strong>Utilizzo di Lombok:</strong><br>
+ * </p>
+ * <ul>
+ * <li>{@link Data @Data}: Genera automaticamente getter, setter, toString, equals e hashCode.</li>
+ * <li>{@link NoArgsConstructor @NoArgsConstructor}: Genera il costruttore vuoto.</li>
+ * <li>{@link AllArgsConstructor @AllArgsConstructor}: Genera il costruttore con tutti gli argomenti.</li>
+ * </ul>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssuePageDTO {
+
+    /**
+     * Le issue contenute nella pagina corrente.
+     */
+    private List<IssueDTO> issues = new ArrayList<>();
+
+    /**
+     * Token opaco da passare alla richiesta successiva per ottenere la pagina seguente.
+     * Vale {@code null} se non ci sono altri risultati.
+     */
+    private String nextPageToken;
+
+    /**
+     * Chiave di ordinamento dell'ultima issue di una pagina, da cui riparte la pagina successiva.
+     *
+     * @param sortKey Il valore della colonna di ordinamento (priorità o punteggio di rilevanza).
+     * @param issueId L'ID della issue, usato per rompere i pareggi sulla chiave di ordinamento.
+     */
+    public record PageKey(double sortKey, int issueId) {}
+
+    /**
+     * Codifica la chiave (ordinamento, id) dell'ultima issue di una pagina in un token opaco URL-safe.
+     * <p>
+     * La chiave di ordinamento è un {@code double}: rappresenta esattamente sia le priorità intere
+     * sia i punteggi di rilevanza ({@code real}) calcolati dal database.
+     * </p>
+     *
+     * @param sortKey Il valore della chiave di ordinamento dell'ultima issue restituita.
+     * @param issueId L'ID dell'ultima issue restituita.
+     * @return Il token da restituire al client.
+     */
+    public static String encodePageToken(double sortKey, int issueId) {
+
+        String key = sortKey + ":" + issueId;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un token generato da {@link #encodePageToken(double, int)}.
+     *
+     * @param pageToken Il token ricevuto dal client.
+     * @return La chiave da cui far ripartire la pagina successiva.
+     * @throws IllegalArgumentException Se il token è malformato.
+     */
+    public static PageKey decodePageToken(String pageToken) {
+
+        try {
+
+            String key = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+            String[] parts = key.split(":");
+
+            if (parts.length != 2)
+                throw new IllegalArgumentException("Invalid page token");
+
+            double sortKey = Double.parseDouble(parts[0]);
+
+            if (!Double.isFinite(sortKey))
+                throw new IllegalArgumentException("Invalid page token");
+
+            return new PageKey(sortKey, Integer.parseInt(parts[1]));
+
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException too
+            throw new IllegalArgumentException("Invalid page token", e);
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package backend.dto;
+
+/**
+ * Enumeration per definire l'ordinamento dei risultati della ricerca paginata delle issue.
+ * <p>
+ * Ogni ordinamento ha una chiave di paginazione diversa, codificata nel token di {@link IssuePageDTO}.
+ * </p>
+ */
+public enum IssueSortDTO {
+
+    /**
+     * Priorità decrescente (le issue più urgenti per prime). È l'ordinamento predefinito.
+     */
+    PRIORITY_DESC,
+
+    /**
+     * Priorità crescente.
+     */
+    PRIORITY_ASC,
+
+    /**
+     * Rilevanza decrescente rispetto al testo cercato (ricerca full-text su titolo e descrizione).
+     */
+    RELEVANCE
+
+}
@@ -0,0 +1,33 @@
+package backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) che descrive un cambio di stato all'interno di un aggiornamento massivo.
+ * <p>
+ * <strong>Utilizzo di Lombok:</strong><br>
+ * </p>
+ * <ul>
+ * <li>{@link Data @Data}: Genera automaticamente getter, setter, toString, equals e hashCode.</li>
+ * <li>{@link NoArgsConstructor @NoArgsConstructor}: Genera il costruttore vuoto.</li>
+ * <li>{@link AllArgsConstructor @AllArgsConstructor}: Genera il costruttore con tutti gli argomenti.</li>
+ * </ul>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueStatusChangeDTO {
+
+    /**
+     * ID della segnalazione da aggiornare.
+     */
+    private Integer issueId;
+
+    /**
+     * Nuovo stato della segnalazione.
+     */
+    private IssueStatusDTO newStatus;
+
+}
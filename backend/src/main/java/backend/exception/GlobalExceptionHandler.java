@@ -2,10 +2,12 @@ package backend.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.sql.SQLException;
@@ -72,6 +74,53 @@ public class GlobalExceptionHandler {
                 .body(error);
     }
 
+    /**
+     * Gestisce gli upload che superano la dimensione massima consentita.
+     * <p>
+     * Restituisce 413 (Payload Too Large) invece di un errore generico, così il client
+     * può avvisare l'utente che l'allegato è troppo grande.
+     * </p>
+     *
+     * @param e L'eccezione MaxUploadSizeExceededException catturata.
+     * @return ResponseEntity con stato 413 (Payload Too Large).
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException e) {
+
+        ErrorResponse error = new ErrorResponse(
+                "Attachment too large",
+                HttpStatus.PAYLOAD_TOO_LARGE.value() // 413
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(error);
+    }
+
+    /**
+     * Gestisce le richieste rifiutate perché il server è saturo.
+     * <p>
+     * Restituisce 503 (Service Unavailable) con l'header {@code Retry-After}: il rifiuto è immediato,
+     * così la richiesta non occupa risorse mentre attende.
+     * </p>
+     *
+     * @param e L'eccezione ServiceOverloaded catturata.
+     * @return ResponseEntity con stato 503 (Service Unavailable).
+     */
+    @ExceptionHandler(ServiceOverloaded.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloaded(ServiceOverloaded e) {
+
+        ErrorResponse error = new ErrorResponse(
+                e.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE.value() // 503
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(error);
+    }
+
     /**
      * Gestisce le eccezioni relative al database (SQL).
      * <p>
@@ -0,0 +1,37 @@
+package backend.exception;
+
+/**
+ * Eccezione lanciata quando il server rifiuta una richiesta perché una risorsa limitata è satura.
+ * <p>
+ * Viene tradotta in una risposta 503 (Service Unavailable) con l'header {@code Retry-After},
+ * così il client sa dopo quanto tempo può riprovare.
+ * </p>
+ */
+public class ServiceOverloaded extends RuntimeException {
+
+    /**
+     * Secondi dopo i quali il client può ripetere la richiesta.
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * Costruttore che accetta un messaggio di errore e il tempo di attesa suggerito.
+     *
+     * @param message           Il dettaglio dell'errore riscontrato.
+     * @param retryAfterSeconds I secondi dopo i quali il client può riprovare.
+     */
+    public ServiceOverloaded(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Restituisce il tempo di attesa suggerito al client.
+     *
+     * @return I secondi dopo i quali il client può riprovare.
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+}
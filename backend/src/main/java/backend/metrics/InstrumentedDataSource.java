@@ -0,0 +1,222 @@
+package backend.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * DataSource che misura l'uso del database da parte dei DAO, senza modificarne il codice.
+ * <p>
+ * Avvolge il pool di connessioni e registra in {@link PersistenceMetrics}:
+ * </p>
+ * <ul>
+ * <li>l'attesa per ottenere una connessione ({@code getConnection});</li>
+ * <li>la durata di esecuzione di ogni statement;</li>
+ * <li>le righe lette da ogni {@code ResultSet}, attribuite al metodo del DAO in corso.</li>
+ * </ul>
+ * <p>
+ * Gli statement più lenti della soglia configurata vengono scritti nel log con il testo SQL normalizzato
+ * (la "forma" della query, con i parametri come {@code ?}): per le query costruite dinamicamente, come la
+ * ricerca delle issue, il log mostra quali filtri erano presenti.
+ * </p>
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    /**
+     * Logger dedicato alle query lente.
+     */
+    private static final Logger slowQueryLogger = LoggerFactory.getLogger("backend.persistence.slow-query");
+
+    /**
+     * Registro delle metriche dello strato di persistenza.
+     */
+    private final PersistenceMetrics metrics;
+
+    /**
+     * Soglia oltre la quale uno statement viene considerato lento, in nanosecondi.
+     */
+    private final long slowQueryThresholdNanos;
+
+    /**
+     * Crea il DataSource strumentato.
+     *
+     * @param target             Il DataSource (pool) da avvolgere.
+     * @param metrics            Il registro in cui annotare le misure.
+     * @param slowQueryThreshold La soglia delle query lente.
+     */
+    public InstrumentedDataSource(DataSource target, PersistenceMetrics metrics, Duration slowQueryThreshold) {
+        super(target);
+        this.metrics = metrics;
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        long start = System.nanoTime();
+        Connection connection;
+
+        try {
+            connection = obtainTargetDataSource().getConnection();
+        } finally {
+            // Failed acquisitions (pool timeouts) are the waits that matter most
+            metrics.recordConnectionAcquire(System.nanoTime() - start);
+        }
+
+        return wrap(Connection.class, connection, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+
+        long start = System.nanoTime();
+        Connection connection;
+
+        try {
+            connection = obtainTargetDataSource().getConnection(username, password);
+        } finally {
+            // Failed acquisitions (pool timeouts) are the waits that matter most
+            metrics.recordConnectionAcquire(System.nanoTime() - start);
+        }
+
+        return wrap(Connection.class, connection, new ConnectionHandler(connection));
+    }
+
+    /**
+     * Normalizza il testo SQL per il log: spazi e a capo consecutivi diventano un solo spazio.
+     *
+     * @param sql Il testo SQL.
+     * @return La forma della query su una riga.
+     */
+    static String shapeOf(String sql) {
+        return sql == null ? "<batch>" : sql.replaceAll("\\s+", " ").trim();
+    }
+
+    /**
+     * Crea un proxy dell'interfaccia JDBC indicata.
+     */
+    private static <T> T wrap(Class<T> type, T target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    /**
+     * Invoca il metodo sull'oggetto JDBC reale, restituendo l'eccezione originale invece di quella di reflection.
+     */
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Gestore delle connessioni: avvolge gli statement creati ricordandone il testo SQL.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        private ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+            Object result = invokeTarget(connection, method, args);
+
+            return switch (method.getName()) {
+                case "prepareStatement" ->
+                        wrap(PreparedStatement.class, (PreparedStatement) result, new StatementHandler((Statement) result, (String) args[0]));
+                case "prepareCall" ->
+                        wrap(CallableStatement.class, (CallableStatement) result, new StatementHandler((Statement) result, (String) args[0]));
+                case "createStatement" ->
+                        wrap(Statement.class, (Statement) result, new StatementHandler((Statement) result, null));
+                default -> result;
+            };
+        }
+
+    }
+
+    /**
+     * Gestore degli statement: misura le esecuzioni, scrive le query lente nel log e avvolge i ResultSet.
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+
+        /**
+         * Testo SQL dello statement preparato, {@code null} per gli statement semplici.
+         */
+        private final String sql;
+
+        private StatementHandler(Statement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+            String name = method.getName();
+
+            if (!name.startsWith("execute")) {
+
+                Object result = invokeTarget(statement, method, args);
+
+                return result instanceof ResultSet rs && (name.equals("getResultSet") || name.equals("getGeneratedKeys"))
+                        ? wrapResultSet(rs)
+                        : result;
+            }
+
+            long start = System.nanoTime();
+            Object result = invokeTarget(statement, method, args);
+            long elapsed = System.nanoTime() - start;
+
+            boolean slow = elapsed >= slowQueryThresholdNanos;
+            metrics.recordStatement(elapsed, slow);
+
+            if (slow && slowQueryLogger.isWarnEnabled()) {
+
+                String executedSql = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+
+                slowQueryLogger.warn("Slow query ({} ms): {}", Duration.ofNanos(elapsed).toMillis(), shapeOf(executedSql));
+            }
+
+            return result instanceof ResultSet rs ? wrapResultSet(rs) : result;
+        }
+
+    }
+
+    /**
+     * Avvolge un ResultSet contando le righe lette.
+     */
+    private ResultSet wrapResultSet(ResultSet resultSet) {
+
+        return wrap(ResultSet.class, resultSet, (proxy, method, args) -> {
+
+            Object result = invokeTarget(resultSet, method, args);
+
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next"))
+                metrics.recordRow();
+
+            return result;
+        });
+    }
+
+}
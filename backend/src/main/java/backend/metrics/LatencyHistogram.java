@@ -0,0 +1,103 @@
+package backend.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Istogramma delle durate con intervalli fissi, da 1 ms a 10 s.
+ * <p>
+ * Come {@link TimerStatistics} è aggiornato senza lock: ogni intervallo è un {@link LongAdder}.
+ * Gli intervalli sono quelli tipici degli scraper (limite superiore in secondi, {@code le});
+ * i conteggi vengono resi cumulativi solo in lettura.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    /**
+     * Limiti superiori degli intervalli, in secondi.
+     */
+    private static final double[] BUCKET_BOUNDS = {0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    /**
+     * Limiti superiori degli intervalli, in nanosecondi.
+     */
+    private static final long[] BUCKET_BOUNDS_NANOS = new long[BUCKET_BOUNDS.length];
+
+    static {
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++)
+            BUCKET_BOUNDS_NANOS[i] = Math.round(BUCKET_BOUNDS[i] * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Campioni per intervallo (non cumulativi); l'ultimo raccoglie le durate oltre l'ultimo limite.
+     */
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS.length + 1];
+
+    /**
+     * Durate e massimo, come per i timer semplici.
+     */
+    private final TimerStatistics statistics = new TimerStatistics();
+
+    /**
+     * Crea un istogramma vuoto.
+     */
+    public LatencyHistogram() {
+
+        for (int i = 0; i < buckets.length; i++)
+            buckets[i] = new LongAdder();
+    }
+
+    /**
+     * Registra un campione.
+     *
+     * @param nanos La durata misurata, in nanosecondi.
+     */
+    public void record(long nanos) {
+
+        int bucket = 0;
+
+        while (bucket < BUCKET_BOUNDS_NANOS.length && nanos > BUCKET_BOUNDS_NANOS[bucket])
+            bucket++;
+
+        buckets[bucket].increment();
+        statistics.record(nanos);
+    }
+
+    /**
+     * Restituisce i limiti superiori degli intervalli, in secondi (escluso l'intervallo illimitato).
+     *
+     * @return Una copia dei limiti.
+     */
+    public static double[] getBucketBounds() {
+        return BUCKET_BOUNDS.clone();
+    }
+
+    /**
+     * Restituisce i conteggi cumulativi per intervallo: l'elemento {@code i} conta i campioni minori o uguali
+     * al limite {@code i}; l'ultimo elemento conta tutti i campioni.
+     *
+     * @return I conteggi cumulativi (uno in più dei limiti).
+     */
+    public long[] getCumulativeCounts() {
+
+        long[] counts = new long[buckets.length];
+        long total = 0;
+
+        for (int i = 0; i < buckets.length; i++) {
+            total += buckets[i].sum();
+            counts[i] = total;
+        }
+
+        return counts;
+    }
+
+    /**
+     * Restituisce numero di campioni, tempo totale e massimo.
+     *
+     * @return Le statistiche dei campioni.
+     */
+    public TimerStatistics getStatistics() {
+        return statistics;
+    }
+
+}
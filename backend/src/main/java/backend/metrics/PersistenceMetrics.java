@@ -0,0 +1,213 @@
+package backend.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metriche dello strato di persistenza: latenza, righe lette ed errori per metodo dei DAO,
+ * attesa per ottenere una connessione dal pool e numero di query lente.
+ * <p>
+ * Le misure vengono registrate da {@link RepositoryMetricsInterceptor} (metodi dei DAO) e da
+ * {@link InstrumentedDataSource} (connessioni, statement e righe). Le righe lette da un {@code ResultSet}
+ * vengono attribuite al metodo del DAO in esecuzione sullo stesso thread.
+ * </p>
+ */
+public class PersistenceMetrics {
+
+    /**
+     * Identificativo di un metodo di un DAO.
+     *
+     * @param dao    Il nome semplice della classe del DAO.
+     * @param method Il nome del metodo.
+     */
+    public record MethodKey(String dao, String method) {}
+
+    /**
+     * Metriche di un singolo metodo di un DAO.
+     */
+    public static final class MethodMetrics {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private final LongAdder rows = new LongAdder();
+
+        private final LongAdder errors = new LongAdder();
+
+        /**
+         * Restituisce l'istogramma delle durate delle chiamate.
+         *
+         * @return L'istogramma delle latenze.
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        /**
+         * Restituisce il numero totale di righe lette dalle chiamate.
+         *
+         * @return Il numero di righe.
+         */
+        public long getRows() {
+            return rows.sum();
+        }
+
+        /**
+         * Restituisce il numero di chiamate terminate con un'eccezione.
+         *
+         * @return Il numero di errori.
+         */
+        public long getErrors() {
+            return errors.sum();
+        }
+
+    }
+
+    /**
+     * Chiamata a un metodo di un DAO in corso sul thread corrente; le chiamate annidate formano una pila.
+     */
+    public static final class MethodCall {
+
+        private final MethodCall parent;
+
+        private long rows;
+
+        private MethodCall(MethodCall parent) {
+            this.parent = parent;
+        }
+
+    }
+
+    /**
+     * Metriche per metodo, create alla prima chiamata.
+     */
+    private final Map<MethodKey, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    /**
+     * Attesa per ottenere una connessione dal pool.
+     */
+    private final LatencyHistogram connectionAcquire = new LatencyHistogram();
+
+    /**
+     * Durata di esecuzione degli statement SQL.
+     */
+    private final LatencyHistogram statementExecution = new LatencyHistogram();
+
+    /**
+     * Statement che hanno superato la soglia delle query lente.
+     */
+    private final LongAdder slowQueries = new LongAdder();
+
+    /**
+     * Chiamata al DAO in corso sul thread corrente.
+     */
+    private final ThreadLocal<MethodCall> currentCall = new ThreadLocal<>();
+
+    /**
+     * Registra l'inizio di una chiamata a un metodo di un DAO sul thread corrente.
+     *
+     * @return La chiamata da passare a {@link #exitMethod}.
+     */
+    public MethodCall enterMethod() {
+
+        MethodCall call = new MethodCall(currentCall.get());
+        currentCall.set(call);
+
+        return call;
+    }
+
+    /**
+     * Registra la fine di una chiamata a un metodo di un DAO.
+     *
+     * @param call   La chiamata restituita da {@link #enterMethod()}.
+     * @param key    Il metodo chiamato.
+     * @param nanos  La durata della chiamata, in nanosecondi.
+     * @param failed {@code true} se la chiamata è terminata con un'eccezione.
+     */
+    public void exitMethod(MethodCall call, MethodKey key, long nanos, boolean failed) {
+
+        if (call.parent == null)
+            currentCall.remove();
+        else
+            currentCall.set(call.parent);
+
+        MethodMetrics metrics = methods.computeIfAbsent(key, k -> new MethodMetrics());
+
+        metrics.latency.record(nanos);
+        metrics.rows.add(call.rows);
+
+        if (failed)
+            metrics.errors.increment();
+    }
+
+    /**
+     * Conta una riga letta da un {@code ResultSet} per il metodo del DAO in esecuzione sul thread corrente.
+     */
+    public void recordRow() {
+
+        MethodCall call = currentCall.get();
+
+        if (call != null)
+            call.rows++;
+    }
+
+    /**
+     * Registra l'attesa per ottenere una connessione dal pool.
+     *
+     * @param nanos L'attesa, in nanosecondi.
+     */
+    public void recordConnectionAcquire(long nanos) {
+        connectionAcquire.record(nanos);
+    }
+
+    /**
+     * Registra l'esecuzione di uno statement SQL.
+     *
+     * @param nanos La durata dell'esecuzione, in nanosecondi.
+     * @param slow  {@code true} se lo statement ha superato la soglia delle query lente.
+     */
+    public void recordStatement(long nanos, boolean slow) {
+
+        statementExecution.record(nanos);
+
+        if (slow)
+            slowQueries.increment();
+    }
+
+    /**
+     * Restituisce le metriche di tutti i metodi dei DAO chiamati almeno una volta.
+     *
+     * @return Una vista non modificabile delle metriche per metodo.
+     */
+    public Map<MethodKey, MethodMetrics> getMethods() {
+        return Map.copyOf(methods);
+    }
+
+    /**
+     * Restituisce l'istogramma dell'attesa per ottenere una connessione.
+     *
+     * @return L'istogramma delle attese.
+     */
+    public LatencyHistogram getConnectionAcquire() {
+        return connectionAcquire;
+    }
+
+    /**
+     * Restituisce l'istogramma delle durate degli statement SQL.
+     *
+     * @return L'istogramma delle durate.
+     */
+    public LatencyHistogram getStatementExecution() {
+        return statementExecution;
+    }
+
+    /**
+     * Restituisce il numero di query lente.
+     *
+     * @return Il numero di statement oltre la soglia.
+     */
+    public long getSlowQueries() {
+        return slowQueries.sum();
+    }
+
+}
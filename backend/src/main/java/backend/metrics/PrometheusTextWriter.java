@@ -0,0 +1,143 @@
+package backend.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scrittore del formato testuale di esposizione delle metriche letto da Prometheus e dagli scraper compatibili
+ * ({@code text/plain; version=0.0.4}).
+ * <p>
+ * Ogni famiglia di metriche viene dichiarata una volta con {@link #family} (righe {@code # HELP} e
+ * {@code # TYPE}) ed è seguita dai suoi campioni, uno per riga. Le durate vengono esposte in secondi.
+ * </p>
+ */
+public class PrometheusTextWriter {
+
+    /**
+     * Tipo di contenuto del formato testuale.
+     */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * Testo prodotto finora.
+     */
+    private final StringBuilder out = new StringBuilder(4096);
+
+    /**
+     * Dichiara una famiglia di metriche.
+     *
+     * @param name Il nome della metrica.
+     * @param type Il tipo ({@code counter}, {@code gauge}, {@code histogram}, {@code summary}).
+     * @param help La descrizione della metrica.
+     * @return Questo scrittore.
+     */
+    public PrometheusTextWriter family(String name, String type, String help) {
+
+        out.append("# HELP ").append(name).append(' ').append(help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+
+        return this;
+    }
+
+    /**
+     * Scrive un campione.
+     *
+     * @param name   Il nome della metrica.
+     * @param labels Le etichette, nel formato prodotto da {@link #labels(String...)} (vuoto se assenti).
+     * @param value  Il valore.
+     * @return Questo scrittore.
+     */
+    public PrometheusTextWriter sample(String name, String labels, double value) {
+
+        out.append(name);
+
+        if (!labels.isEmpty())
+            out.append('{').append(labels).append('}');
+
+        out.append(' ');
+
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15)
+            out.append((long) value);
+        else
+            out.append(value);
+
+        out.append('\n');
+
+        return this;
+    }
+
+    /**
+     * Scrive i campioni di un istogramma ({@code _bucket}, {@code _sum}, {@code _count}) in secondi.
+     *
+     * @param name      Il nome della metrica (dichiarata come {@code histogram}).
+     * @param labels    Le etichette comuni, nel formato prodotto da {@link #labels(String...)}.
+     * @param histogram L'istogramma da esporre.
+     * @return Questo scrittore.
+     */
+    public PrometheusTextWriter histogram(String name, String labels, LatencyHistogram histogram) {
+
+        double[] bounds = LatencyHistogram.getBucketBounds();
+        long[] counts = histogram.getCumulativeCounts();
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+
+        for (int i = 0; i < bounds.length; i++)
+            sample(name + "_bucket", prefix + "le=\"" + bounds[i] + "\"", counts[i]);
+
+        sample(name + "_bucket", prefix + "le=\"+Inf\"", counts[bounds.length]);
+        sample(name + "_sum", labels, seconds(histogram.getStatistics().getTotalNanos()));
+        sample(name + "_count", labels, counts[bounds.length]);
+
+        return this;
+    }
+
+    /**
+     * Scrive i campioni di un timer come riepilogo ({@code _sum}, {@code _count}) in secondi.
+     *
+     * @param name   Il nome della metrica (dichiarata come {@code summary}).
+     * @param labels Le etichette, nel formato prodotto da {@link #labels(String...)}.
+     * @param timer  Il timer da esporre.
+     * @return Questo scrittore.
+     */
+    public PrometheusTextWriter summary(String name, String labels, TimerStatistics timer) {
+
+        sample(name + "_sum", labels, seconds(timer.getTotalNanos()));
+        sample(name + "_count", labels, timer.getCount());
+
+        return this;
+    }
+
+    /**
+     * Compone le etichette di un campione a partire da coppie nome/valore.
+     *
+     * @param namesAndValues Nomi e valori alternati (es. {@code "dao", "IssueDAOImpl"}).
+     * @return Le etichette, con i valori tra virgolette e i caratteri speciali protetti.
+     */
+    public static String labels(String... namesAndValues) {
+
+        StringBuilder labels = new StringBuilder();
+
+        for (int i = 0; i + 1 < namesAndValues.length; i += 2) {
+
+            if (i > 0)
+                labels.append(',');
+
+            labels.append(namesAndValues[i]).append("=\"")
+                    .append(namesAndValues[i + 1].replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+                    .append('"');
+        }
+
+        return labels.toString();
+    }
+
+    /**
+     * Converte una durata da nanosecondi a secondi.
+     */
+    private static double seconds(long nanos) {
+        return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+
+}
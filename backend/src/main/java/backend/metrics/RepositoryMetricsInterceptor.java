@@ -0,0 +1,81 @@
+package backend.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Intercettore applicato ai bean {@code @Repository}: misura durata, righe lette ed errori di ogni metodo
+ * dei DAO e li registra in {@link PersistenceMetrics}.
+ * <p>
+ * Il {@link #POINTCUT} seleziona solo i metodi dichiarati dalle interfacce dei DAO, quindi gli accessori
+ * delle implementazioni (ad esempio la cache dei dettagli) non vengono misurati.
+ * </p>
+ */
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    /**
+     * Metodi delle classi {@code @Repository} dichiarati da una delle loro interfacce.
+     */
+    public static final Pointcut POINTCUT = new ComposablePointcut(new AnnotationClassFilter(Repository.class, true))
+            .intersection(new StaticMethodMatcher() {
+                @Override
+                public boolean matches(Method method, Class<?> targetClass) {
+
+                    for (Class<?> contract : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+                        if (ClassUtils.hasMethod(contract, method.getName(), method.getParameterTypes()))
+                            return true;
+                    }
+
+                    return false;
+                }
+            });
+
+    /**
+     * Registro delle metriche dello strato di persistenza.
+     */
+    private final PersistenceMetrics metrics;
+
+    /**
+     * Crea l'intercettore.
+     *
+     * @param metrics Il registro in cui annotare le misure.
+     */
+    public RepositoryMetricsInterceptor(PersistenceMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+
+        Object target = invocation.getThis();
+        String dao = target != null ? AopUtils.getTargetClass(target).getSimpleName()
+                                    : invocation.getMethod().getDeclaringClass().getSimpleName();
+
+        PersistenceMetrics.MethodKey key = new PersistenceMetrics.MethodKey(dao, invocation.getMethod().getName());
+        PersistenceMetrics.MethodCall call = metrics.enterMethod();
+
+        long start = System.nanoTime();
+        boolean failed = true;
+
+        try {
+
+            Object result = invocation.proceed();
+            failed = false;
+
+            return result;
+
+        } finally {
+            metrics.exitMethod(call, key, System.nanoTime() - start, failed);
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package backend.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistiche cumulative di una misura di durata (numero di campioni, tempo totale e massimo).
+ * <p>
+ * Pensata per essere aggiornata da molti thread contemporaneamente: i contatori sono
+ * {@link LongAdder}/{@link LongAccumulator}, quindi la registrazione di un campione non richiede lock
+ * e non crea contesa tra i thread.
+ * </p>
+ */
+public class TimerStatistics {
+
+    /**
+     * Numero di campioni registrati.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Somma delle durate registrate, in nanosecondi.
+     */
+    private final LongAdder totalNanos = new LongAdder();
+
+    /**
+     * Durata massima registrata, in nanosecondi.
+     */
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Registra un campione.
+     *
+     * @param nanos La durata misurata, in nanosecondi.
+     */
+    public void record(long nanos) {
+
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Restituisce il numero di campioni registrati.
+     *
+     * @return Il numero di campioni.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Restituisce la somma delle durate registrate.
+     *
+     * @return Il tempo totale, in nanosecondi.
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Restituisce la durata massima registrata.
+     *
+     * @return Il tempo massimo, in nanosecondi.
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Restituisce la durata media dei campioni registrati.
+     *
+     * @return Il tempo medio in nanosecondi, 0 se non ci sono campioni.
+     */
+    public long getAverageNanos() {
+
+        long samples = getCount();
+
+        return samples == 0 ? 0 : getTotalNanos() / samples;
+    }
+
+}
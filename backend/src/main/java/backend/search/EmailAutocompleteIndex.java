@@ -0,0 +1,410 @@
+package backend.search;
+
+import backend.dto.UserDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Indice in memoria delle email degli utenti per l'autocompletamento.
+ * <p>
+ * Per ogni email (in minuscolo) vengono indicizzati tutti i trigrammi: una ricerca per sottostringa parte
+ * dall'insieme più piccolo tra gli utenti che contengono uno dei trigrammi della query e i membri del progetto
+ * o del team indicato, e verifica solo quei candidati. I risultati migliori (corrispondenza più vicina
+ * all'inizio dell'email, poi ordine alfabetico) vengono selezionati con un heap limitato a {@code limit} voci,
+ * quindi una ricerca non ordina mai l'intero insieme degli utenti.
+ * </p>
+ * <p>
+ * L'indice viene caricato per intero dal database ({@link #replaceIfNotModified}) e poi aggiornato in modo
+ * incrementale alla registrazione di un utente e alle modifiche dei membri dei team. Le ricerche condividono
+ * un lock di lettura; gli aggiornamenti prendono il lock di scrittura.
+ * </p>
+ */
+@Component
+public class EmailAutocompleteIndex {
+
+    /**
+     * Utente indicizzato: l'email originale, quella normalizzata per la ricerca e il ruolo.
+     */
+    private record IndexedUser(int id, String email, String normalizedEmail, boolean developer) {}
+
+    /**
+     * Risultato candidato: l'utente e la posizione della corrispondenza nell'email.
+     */
+    private record Match(IndexedUser user, int position) {}
+
+    /**
+     * Ordine dei risultati: corrispondenza più vicina all'inizio, poi email in ordine alfabetico.
+     */
+    private static final Comparator<Match> RANKING = Comparator.comparingInt(Match::position)
+            .thenComparing(match -> match.user().normalizedEmail());
+
+    /**
+     * Contenuto completo dell'indice, costruito durante un caricamento dal database.
+     */
+    public static final class Contents {
+
+        private final Map<Integer, IndexedUser> usersById = new HashMap<>();
+
+        private final Map<String, IndexedUser> usersByEmail = new HashMap<>();
+
+        private final Map<String, Set<Integer>> trigrams = new HashMap<>();
+
+        private final Map<Integer, Set<Integer>> projectMembers = new HashMap<>();
+
+        private final Map<Integer, Set<Integer>> teamMembers = new HashMap<>();
+
+        private final Map<Integer, Set<Integer>> projectTeams = new HashMap<>();
+
+        /**
+         * Aggiunge un utente all'indice.
+         *
+         * @param userId L'ID dell'utente.
+         * @param email  L'email dell'utente.
+         * @param role   Il ruolo dell'utente (maggiore di 0 per sviluppatori e amministratori).
+         */
+        public void addUser(int userId, String email, int role) {
+
+            IndexedUser user = new IndexedUser(userId, email, normalize(email), role > 0);
+
+            usersById.put(userId, user);
+            usersByEmail.put(email, user);
+
+            for (String trigram : trigramsOf(user.normalizedEmail()))
+                trigrams.computeIfAbsent(trigram, key -> new HashSet<>()).add(userId);
+        }
+
+        /**
+         * Registra un utente tra i membri di un progetto.
+         *
+         * @param projectId L'ID del progetto.
+         * @param userId    L'ID dell'utente.
+         */
+        public void addProjectMember(int projectId, int userId) {
+            projectMembers.computeIfAbsent(projectId, key -> new HashSet<>()).add(userId);
+        }
+
+        /**
+         * Registra un utente tra i membri di un team del progetto indicato.
+         *
+         * @param teamId    L'ID del team.
+         * @param projectId L'ID del progetto del team.
+         * @param userId    L'ID dell'utente.
+         */
+        public void addTeamMember(int teamId, int projectId, int userId) {
+            projectTeams.computeIfAbsent(projectId, key -> new HashSet<>()).add(teamId);
+            teamMembers.computeIfAbsent(teamId, key -> new HashSet<>()).add(userId);
+        }
+
+        /**
+         * Indica se l'utente è membro di almeno un team del progetto.
+         */
+        private boolean isInTeamOfProject(int projectId, int userId) {
+
+            for (Integer teamId : projectTeams.getOrDefault(projectId, Set.of())) {
+                if (teamMembers.getOrDefault(teamId, Set.of()).contains(userId))
+                    return true;
+            }
+
+            return false;
+        }
+
+    }
+
+    /**
+     * Lock che separa le ricerche (concorrenti tra loro) dagli aggiornamenti.
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Contenuto corrente dell'indice.
+     */
+    private Contents contents = new Contents();
+
+    /**
+     * Numero di aggiornamenti incrementali, usato come timbro dai caricamenti completi.
+     */
+    private long modificationCount;
+
+    /**
+     * {@code true} dopo il primo caricamento completo.
+     */
+    private boolean loaded;
+
+    /**
+     * Indica se l'indice è stato caricato almeno una volta.
+     *
+     * @return {@code true} se l'indice può rispondere alle ricerche.
+     */
+    public boolean isLoaded() {
+
+        lock.readLock().lock();
+
+        try {
+            return loaded;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Restituisce il timbro corrente, da prendere prima di leggere il contenuto dal database.
+     *
+     * @return Il timbro da passare a {@link #replaceIfNotModified}.
+     */
+    public long stamp() {
+
+        lock.readLock().lock();
+
+        try {
+            return modificationCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sostituisce il contenuto dell'indice, a meno che dopo {@code stamp} ci sia stato un aggiornamento
+     * incrementale (che il nuovo contenuto potrebbe non includere).
+     *
+     * @param newContents Il contenuto letto dal database.
+     * @param stamp       Il timbro preso con {@link #stamp()} prima della lettura.
+     * @return {@code true} se il contenuto è stato sostituito.
+     */
+    public boolean replaceIfNotModified(Contents newContents, long stamp) {
+
+        lock.writeLock().lock();
+
+        try {
+
+            if (stamp != modificationCount)
+                return false;
+
+            contents = newContents;
+            loaded = true;
+
+            return true;
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Aggiunge all'indice un utente appena registrato.
+     *
+     * @param userId L'ID dell'utente.
+     * @param email  L'email dell'utente.
+     * @param role   Il ruolo dell'utente.
+     */
+    public void addUser(int userId, String email, int role) {
+
+        lock.writeLock().lock();
+
+        try {
+            modificationCount++;
+            contents.addUser(userId, email, role);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Aggiunge un utente ai membri di un team.
+     * <p>
+     * Come il trigger 018 su 'Works_in', l'utente diventa anche membro del progetto del team.
+     * </p>
+     *
+     * @param teamId    L'ID del team.
+     * @param projectId L'ID del progetto del team.
+     * @param email     L'email dell'utente aggiunto.
+     */
+    public void addTeamMember(int teamId, int projectId, String email) {
+
+        lock.writeLock().lock();
+
+        try {
+
+            modificationCount++;
+
+            IndexedUser user = contents.usersByEmail.get(email);
+
+            if (user != null) {
+                contents.addTeamMember(teamId, projectId, user.id());
+                contents.addProjectMember(projectId, user.id());
+            }
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rimuove un utente dai membri di un team.
+     * <p>
+     * Come il trigger 019 su 'Works_in', se l'utente non è in nessun altro team dello stesso progetto viene
+     * rimosso anche dai membri del progetto.
+     * </p>
+     *
+     * @param teamId    L'ID del team.
+     * @param projectId L'ID del progetto del team.
+     * @param email     L'email dell'utente rimosso.
+     */
+    public void removeTeamMember(int teamId, int projectId, String email) {
+
+        lock.writeLock().lock();
+
+        try {
+
+            modificationCount++;
+
+            IndexedUser user = contents.usersByEmail.get(email);
+            Set<Integer> members = contents.teamMembers.get(teamId);
+
+            if (user == null || members == null || !members.remove(user.id()))
+                return;
+
+            Set<Integer> projectMembers = contents.projectMembers.get(projectId);
+
+            if (projectMembers != null && !contents.isInTeamOfProject(projectId, user.id()))
+                projectMembers.remove(user.id());
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Cerca gli utenti la cui email contiene la stringa indicata, senza distinzione tra maiuscole e minuscole.
+     * <p>
+     * Con {@code projectId} cerca tra sviluppatori e amministratori membri del progetto; altrimenti, con
+     * {@code teamId}, tra i membri del team; altrimenti tra tutti gli sviluppatori e amministratori.
+     * </p>
+     *
+     * @param query     La stringa da cercare (vuota per ottenere i primi utenti in ordine alfabetico).
+     * @param projectId (Opzionale) L'ID del progetto in cui limitare la ricerca.
+     * @param teamId    (Opzionale) L'ID del team in cui limitare la ricerca.
+     * @param limit     Il numero massimo di risultati.
+     * @return Gli utenti trovati (ID ed email), dal più pertinente.
+     */
+    public List<UserDTO> search(String query, Integer projectId, Integer teamId, int limit) {
+
+        String normalizedQuery = normalize(query);
+
+        lock.readLock().lock();
+
+        try {
+
+            Set<Integer> scope = null;
+
+            if (projectId != null)
+                scope = contents.projectMembers.getOrDefault(projectId, Set.of());
+            else if (teamId != null)
+                scope = contents.teamMembers.getOrDefault(teamId, Set.of());
+
+            boolean developersOnly = teamId == null || projectId != null;
+
+            // Start from the smallest candidate set: the scope members or the users sharing a query trigram
+            Collection<Integer> candidates = scope;
+
+            for (String trigram : trigramsOf(normalizedQuery)) {
+
+                Set<Integer> posting = contents.trigrams.getOrDefault(trigram, Set.of());
+
+                if (candidates == null || posting.size() < candidates.size())
+                    candidates = posting;
+            }
+
+            if (candidates == null)
+                candidates = contents.usersById.keySet();
+
+            // Max-heap on the ranking: the worst of the current top results is evicted first
+            PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+
+            for (Integer userId : candidates) {
+
+                IndexedUser user = contents.usersById.get(userId);
+
+                if (user == null || (developersOnly && !user.developer()) || (scope != null && !scope.contains(userId)))
+                    continue;
+
+                int position = user.normalizedEmail().indexOf(normalizedQuery);
+
+                if (position < 0)
+                    continue;
+
+                best.add(new Match(user, position));
+
+                if (best.size() > limit)
+                    best.poll();
+            }
+
+            List<Match> ranked = new ArrayList<>(best);
+            ranked.sort(RANKING);
+
+            List<UserDTO> results = new ArrayList<>(ranked.size());
+
+            for (Match match : ranked) {
+
+                UserDTO user = new UserDTO();
+
+                user.setId(match.user().id());
+                user.setEmail(match.user().email());
+
+                results.add(user);
+            }
+
+            return results;
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Restituisce il numero di utenti indicizzati.
+     *
+     * @return Il numero di utenti.
+     */
+    public int size() {
+
+        lock.readLock().lock();
+
+        try {
+            return contents.usersById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Normalizza un'email o una query per il confronto senza distinzione tra maiuscole e minuscole.
+     */
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Restituisce i trigrammi distinti di una stringa (nessuno se è più corta di tre caratteri).
+     */
+    private static Set<String> trigramsOf(String value) {
+
+        Set<String> trigrams = new HashSet<>();
+
+        for (int i = 0; i + 3 <= value.length(); i++)
+            trigrams.add(value.substring(i, i + 3));
+
+        return trigrams;
+    }
+
+}
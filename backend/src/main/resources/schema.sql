@@ -0,0 +1,21 @@
+-- Oggetti di supporto alle prestazioni, applicati all'avvio da spring.sql.init.
+-- Ogni istruzione è idempotente ed economica da ripetere: lo schema base (tabelle e tipi) esiste già
+-- sul database. Le colonne e gli indici delle tabelle Issue e Project, che riscrivono o scandiscono
+-- la tabella intera, sono invece in db/performance-migration.sql, da eseguire una volta sola.
+
+-- Aggregato mensile delle statistiche: una riga per (progetto, sviluppatore, mese di segnalazione,
+-- mese di risoluzione). Ogni issue ricade in una sola riga, quindi dashboard e report sommano righe
+-- invece di leggere le issue. Mantenuto da StatisticsRollupDAOImpl (ricalcolo periodico per progetto e mese).
+CREATE TABLE IF NOT EXISTS Issue_monthly_rollup (
+    project_id         INTEGER NOT NULL,
+    resolver_id        INTEGER,
+    report_month       DATE    NOT NULL,
+    resolution_month   DATE,
+    open_count         INTEGER NOT NULL,
+    closed_count       INTEGER NOT NULL,
+    resolution_seconds NUMERIC NOT NULL DEFAULT 0
+);
+
+-- La tabella nasce vuota con questi indici, quindi ai riavvii successivi IF NOT EXISTS li trova già presenti
+CREATE INDEX IF NOT EXISTS idx_rollup_project_report_month ON Issue_monthly_rollup (project_id, report_month);
+CREATE INDEX IF NOT EXISTS idx_rollup_project_resolution_month ON Issue_monthly_rollup (project_id, resolution_month);
@@ -0,0 +1,81 @@
+package backend.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiringCacheTests {
+
+    @Test
+    void testHitsMissesAndLruEviction() {
+
+        ExpiringCache<Integer, String> cache = new ExpiringCache<>(2, 1, TimeUnit.HOURS);
+
+        assertNull(cache.get(1));
+        assertTrue(cache.putIfNotInvalidated(1, "one", cache.stamp()));
+        assertTrue(cache.putIfNotInvalidated(2, "two", cache.stamp()));
+
+        // Touch 1 so that 2 becomes the least recently used entry
+        assertEquals("one", cache.get(1));
+        cache.putIfNotInvalidated(3, "three", cache.stamp());
+
+        assertNull(cache.get(2));
+        assertEquals("one", cache.get(1));
+        assertEquals("three", cache.get(3));
+
+        assertEquals(3, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testEntriesExpireAfterTtl() {
+
+        AtomicLong now = new AtomicLong();
+        ExpiringCache<Integer, String> cache = new ExpiringCache<>(10, 5, TimeUnit.SECONDS, now::get);
+
+        cache.putIfNotInvalidated(1, "one", cache.stamp());
+
+        now.set(TimeUnit.SECONDS.toNanos(4));
+        assertEquals("one", cache.get(1));
+
+        now.set(TimeUnit.SECONDS.toNanos(5));
+        assertNull(cache.get(1));
+
+        assertEquals(1, cache.getExpirations());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testInvalidationRejectsStaleReads() {
+
+        ExpiringCache<Integer, String> cache = new ExpiringCache<>(10, 1, TimeUnit.HOURS);
+
+        cache.putIfNotInvalidated(1, "old", cache.stamp());
+
+        // A reader takes the stamp, then a writer updates the issue before the reader stores its result
+        long stamp = cache.stamp();
+        cache.invalidate(1);
+
+        assertFalse(cache.putIfNotInvalidated(1, "old", stamp));
+        assertNull(cache.get(1));
+
+        assertTrue(cache.putIfNotInvalidated(1, "new", cache.stamp()));
+        assertEquals("new", cache.get(1));
+        assertEquals(1, cache.getInvalidations());
+    }
+
+    @Test
+    void testZeroSizeDisablesCache() {
+
+        ExpiringCache<Integer, String> cache = new ExpiringCache<>(0, 1, TimeUnit.HOURS);
+
+        assertFalse(cache.putIfNotInvalidated(1, "one", cache.stamp()));
+        assertNull(cache.get(1));
+    }
+
+}
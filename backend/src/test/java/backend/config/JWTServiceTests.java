@@ -0,0 +1,57 @@
+package backend.config;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JWTServiceTests {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    @Test
+    void testVerifiedTokenIsCached() {
+
+        JWTService service = new JWTService(SECRET, 100);
+        String token = service.createToken("dev@test", Duration.ofHours(1));
+
+        assertEquals("dev@test", service.verify(token));
+        assertEquals("dev@test", service.verify(token));
+        assertEquals(1, service.cachedTokenCount());
+    }
+
+    @Test
+    void testTokenSignedWithAnotherKeyIsRejected() {
+
+        String token = new JWTService(SECRET.replace('0', 'x'), 100).createToken("dev@test", Duration.ofHours(1));
+        JWTService service = new JWTService(SECRET, 100);
+
+        assertThrows(SignatureException.class, () -> service.verify(token));
+        assertEquals(0, service.cachedTokenCount());
+    }
+
+    @Test
+    void testExpiredTokenIsRejected() {
+
+        JWTService service = new JWTService(SECRET, 100);
+        String token = service.createToken("dev@test", Duration.ofMillis(-1000));
+
+        assertThrows(ExpiredJwtException.class, () -> service.verify(token));
+        assertEquals(0, service.cachedTokenCount());
+    }
+
+    @Test
+    void testCacheStaysBounded() {
+
+        JWTService service = new JWTService(SECRET, 8);
+
+        for (int i = 0; i < 100; i++)
+            assertEquals("user" + i, service.verify(service.createToken("user" + i, Duration.ofHours(1))));
+
+        assertTrue(service.cachedTokenCount() <= 8);
+    }
+
+}
@@ -0,0 +1,92 @@
+package backend.config;
+
+import backend.exception.ServiceOverloaded;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingServiceTests {
+
+    /**
+     * Encoder that blocks every operation until the latch is released.
+     */
+    private static PasswordEncoder blockingEncoder(CountDownLatch release) {
+
+        return new PasswordEncoder() {
+
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await(release);
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                await(release);
+                return encodedPassword.equals("hash:" + rawPassword);
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void testOperationsCompleteAndAreMeasured() {
+
+        CountDownLatch release = new CountDownLatch(0);
+        PasswordHashingService service = new PasswordHashingService(blockingEncoder(release), 2, 4);
+
+        try {
+
+            assertEquals("hash:secret", service.encode("secret").join());
+            assertTrue(service.matches("secret", "hash:secret").join());
+            assertFalse(service.matches("wrong", "hash:secret").join());
+
+            assertEquals(3, service.getHashTime().getCount());
+            assertEquals(3, service.getQueueWait().getCount());
+            assertEquals(0, service.getRejectedCount());
+
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void testFullQueueIsRejectedImmediately() {
+
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHashingService service = new PasswordHashingService(blockingEncoder(release), 1, 1);
+
+        try {
+
+            // One operation running, one waiting in the queue
+            CompletableFuture<String> running = service.encode("a");
+            CompletableFuture<String> queued = service.encode("b");
+
+            ServiceOverloaded rejected = assertThrows(ServiceOverloaded.class, () -> service.encode("c"));
+
+            assertTrue(rejected.getRetryAfterSeconds() >= 1);
+            assertEquals(1, service.getRejectedCount());
+
+            release.countDown();
+
+            assertEquals("hash:a", running.join());
+            assertEquals("hash:b", queued.join());
+
+        } finally {
+            service.shutdown();
+        }
+    }
+
+}
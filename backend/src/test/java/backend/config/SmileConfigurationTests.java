@@ -0,0 +1,56 @@
+package backend.config;
+
+import backend.dto.IssueDTO;
+import backend.dto.StatisticDTO;
+import backend.dto.UserDTO;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SmileConfigurationTests {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void testSmileMapperCopiesJsonMapperFeatures() {
+
+        // Any feature changed from its default must carry over
+        JsonMapper customizedMapper = JsonMapper.builder().disable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES).build();
+
+        SmileMapper smileMapper = SmileConfiguration.smileMapperLike(customizedMapper);
+
+        assertFalse(smileMapper.isEnabled(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES));
+        assertEquals(customizedMapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES),
+                smileMapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+    }
+
+    @Test
+    void testSmileRoundTripMatchesJson() {
+
+        SmileMapper smileMapper = SmileConfiguration.smileMapperLike(jsonMapper);
+
+        IssueDTO issue = new IssueDTO();
+        issue.setId(7);
+        issue.setTitle("Crash");
+        issue.setReportDate(new Date(1_700_000_000_000L));
+        issue.setImage(new byte[]{1, 2, 3, (byte) 0xFF});
+
+        StatisticDTO statistics = new StatisticDTO();
+        statistics.getOpenIssues().add(issue);
+        statistics.getDevelopers().add(new UserDTO());
+        statistics.getAverageResolutionDurations().add(Duration.ofMinutes(90));
+
+        byte[] smile = smileMapper.writeValueAsBytes(statistics);
+        byte[] json = jsonMapper.writeValueAsBytes(statistics);
+
+        assertEquals(jsonMapper.readValue(json, StatisticDTO.class), smileMapper.readValue(smile, StatisticDTO.class));
+        assertTrue(smile.length < json.length);
+    }
+
+}
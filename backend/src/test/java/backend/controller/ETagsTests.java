@@ -0,0 +1,44 @@
+package backend.controller;
+
+import backend.config.SmileConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagsTests {
+
+    @Test
+    void testDigestSeparatesHashCodeCollisions() {
+
+        // "Aa" and "BB" share String.hashCode()
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertNotEquals(ETags.digest("title=Aa&projectId=1"), ETags.digest("title=BB&projectId=1"));
+        assertEquals(ETags.digest("title=Aa&projectId=1"), ETags.digest("title=Aa&projectId=1"));
+        assertEquals(32, ETags.digest("").length());
+    }
+
+    @Test
+    void testResponseFormatIsPartOfTheRepresentation() {
+
+        MockHttpServletRequest smileRequest = new MockHttpServletRequest();
+        smileRequest.addHeader(HttpHeaders.ACCEPT, SmileConfiguration.SMILE_VALUE);
+
+        MediaType smile = JsonStreams.responseFormat(smileRequest);
+        MediaType json = JsonStreams.responseFormat(new MockHttpServletRequest());
+
+        assertEquals(SmileConfiguration.SMILE, smile);
+        assertEquals(MediaType.APPLICATION_JSON, json);
+        assertNotEquals(ETags.of("issue", smile.getSubtype(), 1, 0), ETags.of("issue", json.getSubtype(), 1, 0));
+
+        ResponseEntity<String> ok = ETags.ok(ETags.of("issue", smile.getSubtype(), 1, 0), smile).body("");
+
+        assertEquals(smile, ok.getHeaders().getContentType());
+        assertEquals(HttpHeaders.ACCEPT, ok.getHeaders().getFirst(HttpHeaders.VARY));
+        assertEquals(HttpHeaders.ACCEPT, ETags.noContent("W/\"x\"").getHeaders().getFirst(HttpHeaders.VARY));
+    }
+
+}
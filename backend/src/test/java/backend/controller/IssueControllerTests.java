@@ -22,6 +22,8 @@ import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -269,6 +271,14 @@ class IssueControllerTests {
 
     }
 
+    @Test
+    void testGetIssueImageMissing() throws Exception {
+
+        mockMvc.perform(get("/issues/" + testIssueId + "/image"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Image not found"));
+    }
+
     @Test
     void testAssignDeveloperOk() throws Exception {
 
@@ -313,6 +323,66 @@ class IssueControllerTests {
 
     }
 
+    @Test
+    void testBulkStatusReportsRejectedItems() throws Exception {
+
+        // The database refuses to resolve an unassigned issue: only that change must fail
+        List<IssueStatusChangeDTO> changes = List.of(
+                new IssueStatusChangeDTO(testIssueId, IssueStatusDTO.RESOLVED),
+                new IssueStatusChangeDTO(testIssueId, IssueStatusDTO.TODO),
+                new IssueStatusChangeDTO(-1, IssueStatusDTO.TODO));
+
+        mockMvc.perform(put("/issues/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(changes)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].updated").value(false))
+                .andExpect(jsonPath("$[0].message").value(startsWith("Rejected by the database")))
+                .andExpect(jsonPath("$[1].updated").value(true))
+                .andExpect(jsonPath("$[2].updated").value(false))
+                .andExpect(jsonPath("$[2].message").value("Issue not found"));
+    }
+
+    @Test
+    void testBulkAssignReportsRejectedItems() throws Exception {
+
+        UserDTO testGuest = new UserDTO();
+        testGuest.setEmail("bulk@prova.test_test");
+        testGuest.setPassword("test_test");
+        testGuest.setRole(0);
+
+        userDAO.registerNewUser(testGuest);
+
+        try {
+
+            // A guest cannot be assigned: the other assignments must still be applied
+            List<IssueAssignmentDTO> assignments = List.of(
+                    new IssueAssignmentDTO(testIssueId, testGuest.getEmail()),
+                    new IssueAssignmentDTO(testIssueId, "admin@admin.admin"),
+                    new IssueAssignmentDTO(testIssueId, "missing@prova.test_test"));
+
+            mockMvc.perform(put("/issues/resolver")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(assignments)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].updated").value(false))
+                    .andExpect(jsonPath("$[0].message").value(startsWith("Rejected by the database")))
+                    .andExpect(jsonPath("$[1].updated").value(true))
+                    .andExpect(jsonPath("$[1].assignedDeveloper.email").value("admin@admin.admin"))
+                    .andExpect(jsonPath("$[2].message").value("User not found"));
+
+        } finally {
+
+            String query = "DELETE FROM User_ WHERE email = ?";
+
+            try (Connection conn = dataSource.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(query)) {
+                ps.setString(1, testGuest.getEmail());
+                ps.executeUpdate();
+            }
+        }
+    }
+
     @AfterEach
     void tearDown() throws Exception {
 
@@ -0,0 +1,95 @@
+package backend.controller;
+
+import backend.config.SmileConfiguration;
+import backend.database.implinmemory.InMemoryIssueDAO;
+import backend.database.implinmemory.InMemoryProjectDAO;
+import backend.database.implinmemory.InMemoryStatisticsRollupDAO;
+import backend.database.implinmemory.InMemoryStore;
+import backend.database.implinmemory.InMemoryUserDAO;
+import backend.dto.*;
+import backend.search.EmailAutocompleteIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IssueImportTests {
+
+    private InMemoryIssueDAO issueDAO;
+
+    private IssueController issueController;
+
+    private int reporterId;
+
+    @BeforeEach
+    void setup() throws SQLException {
+
+        InMemoryStore store = new InMemoryStore();
+        InMemoryUserDAO userDAO = new InMemoryUserDAO(store, new EmailAutocompleteIndex());
+        InMemoryProjectDAO projectDAO = new InMemoryProjectDAO(store);
+
+        issueDAO = new InMemoryIssueDAO(store);
+
+        projectDAO.createProject(new ProjectDTO(null, "Alpha"));
+        userDAO.registerNewUser(new UserDTO(null, "dev@test", "hash", 1, null, null, null, null));
+        reporterId = userDAO.searchUserByMail("dev@test").getId();
+
+        // Jackson defaults, as the application runs without overrides
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+
+        issueController = new IssueController(issueDAO, projectDAO, new InMemoryStatisticsRollupDAO(), jsonMapper,
+                SmileConfiguration.smileMapperLike(jsonMapper), 2);
+    }
+
+    private MockHttpServletRequest ndjson(String... lines) {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/issues/import");
+        request.setContentType("application/x-ndjson");
+        request.setContent(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+
+        return request;
+    }
+
+    @Test
+    void testImportParsesJsonLines() throws Exception {
+
+        String reporter = "\"reportingUser\":{\"id\":" + reporterId + "},\"relatedProject\":{\"id\":1}";
+
+        IssueImportResultDTO result = issueController.importIssues(ndjson(
+                "{\"title\":\"Crash\",\"type\":\"BUG\",\"status\":\"TODO\",\"priority\":2," + reporter + "}",
+                "",
+                "{\"title\":\"Export\",\"type\":\"FEATURE\",\"status\":\"TODO\",\"priority\":1,\"reportDate\":\"2024-03-01T10:00:00.000+00:00\"," + reporter + "}",
+                "{\"title\":\"Login\",\"type\":\"BUG\",\"status\":\"TODO\",\"priority\":3," + reporter + "}"
+        )).getBody();
+
+        assertNotNull(result);
+        assertEquals(3, result.getImported());
+        assertEquals(0, result.getFailed());
+
+        List<String> titles = issueDAO.searchIssues(new IssueDTO(), null, null, 1).stream().map(IssueDTO::getTitle).toList();
+
+        assertTrue(titles.containsAll(List.of("Crash", "Export", "Login")));
+    }
+
+    @Test
+    void testImportReportsInvalidLines() throws Exception {
+
+        IssueImportResultDTO result = issueController.importIssues(ndjson(
+                "{\"title\":\"Crash\",",
+                "{\"title\":\"No project\",\"type\":\"BUG\",\"status\":\"TODO\",\"priority\":2,\"reportingUser\":{\"id\":" + reporterId + "}}"
+        )).getBody();
+
+        assertNotNull(result);
+        assertEquals(0, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("Malformed JSON"));
+        assertEquals("Missing relatedProject.id", result.getErrors().get(1).getMessage());
+    }
+
+}
@@ -0,0 +1,151 @@
+package backend.database.implinmemory;
+
+import backend.dto.*;
+import backend.search.EmailAutocompleteIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryIssueDAOTests {
+
+    private InMemoryIssueDAO issueDAO;
+
+    private InMemoryProjectDAO projectDAO;
+
+    private UserDTO reporter;
+
+    @BeforeEach
+    void setup() throws SQLException {
+
+        InMemoryStore store = new InMemoryStore();
+        InMemoryUserDAO userDAO = new InMemoryUserDAO(store, new EmailAutocompleteIndex());
+
+        issueDAO = new InMemoryIssueDAO(store);
+        projectDAO = new InMemoryProjectDAO(store);
+
+        projectDAO.createProject(new ProjectDTO(null, "Alpha"));
+        projectDAO.createProject(new ProjectDTO(null, "Beta"));
+
+        userDAO.registerNewUser(new UserDTO(null, "dev@test", "hash", 1, null, null, null, null));
+        reporter = userDAO.searchUserByMail("dev@test");
+    }
+
+    private IssueDTO issue(String title, String tags, int priority, int projectId) {
+
+        IssueDTO issue = new IssueDTO();
+        issue.setTitle(title);
+        issue.setTags(tags);
+        issue.setPriority(priority);
+        issue.setType(IssueTypeDTO.BUG);
+        issue.setStatus(IssueStatusDTO.TODO);
+        issue.setReportingUser(reporter);
+        issue.setRelatedProject(new ProjectDTO(projectId, null));
+
+        return issue;
+    }
+
+    @Test
+    void testPagesFollowPriorityAndIdWithoutGapsOrDuplicates() throws SQLException {
+
+        for (int i = 0; i < 25; i++)
+            issueDAO.reportIssue(issue("Issue " + i, null, i % 4, 1));
+
+        issueDAO.reportIssue(issue("Other project", null, 3, 2));
+
+        List<Integer> seen = new ArrayList<>();
+        String pageToken = null;
+
+        do {
+
+            IssuePageDTO page = issueDAO.searchIssuesPage(new IssueDTO(), null, null, 1, false, null,
+                    IssueSortDTO.PRIORITY_DESC, pageToken, 10);
+
+            page.getIssues().forEach(found -> seen.add(found.getId()));
+            pageToken = page.getNextPageToken();
+
+        } while (pageToken != null);
+
+        List<Integer> expected = issueDAO.searchIssues(new IssueDTO(), null, null, 1).stream().map(IssueDTO::getId).toList();
+
+        assertEquals(25, seen.size());
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    void testStreamReturnsSearchResultsAcrossBatches() throws Exception {
+
+        for (int i = 0; i < 2500; i++)
+            issueDAO.reportIssue(issue("Issue " + i, i % 2 == 0 ? "ui" : null, i % 5, 1));
+
+        IssueDTO filter = new IssueDTO();
+        filter.setTags("ui");
+
+        List<IssueDTO> streamed = new ArrayList<>();
+
+        assertEquals(1250, issueDAO.streamIssues(filter, null, null, 1, false, streamed::add));
+        assertEquals(issueDAO.searchIssues(filter, null, null, 1), streamed);
+    }
+
+    @Test
+    void testTagFiltersMatchAllOrAnyNormalizedTag() throws SQLException {
+
+        issueDAO.reportIssue(issue("Both", " UI ; Backend", 1, 1));
+        issueDAO.reportIssue(issue("Only ui", "ui", 1, 1));
+        issueDAO.reportIssue(issue("None", null, 1, 1));
+
+        IssueDTO filter = new IssueDTO();
+        filter.setTags("backend;ui");
+
+        assertEquals(1, issueDAO.searchIssues(filter, null, null, 1, false).size());
+        assertEquals(2, issueDAO.searchIssues(filter, null, null, 1, true).size());
+    }
+
+    @Test
+    void testRelevanceRanksTitleMatchesFirst() throws SQLException {
+
+        IssueDTO inDescription = issue("Unrelated", null, 5, 1);
+        inDescription.setDescription("login fails after timeout");
+
+        issueDAO.reportIssue(inDescription);
+        issueDAO.reportIssue(issue("Login timeout", null, 1, 1));
+        issueDAO.reportIssue(issue("Login page", null, 1, 1));
+
+        IssuePageDTO page = issueDAO.searchIssuesPage(new IssueDTO(), null, null, 1, false, "login timeout",
+                IssueSortDTO.RELEVANCE, null, 10);
+
+        assertEquals(List.of("Login timeout", "Unrelated"), page.getIssues().stream().map(IssueDTO::getTitle).toList());
+    }
+
+    @Test
+    void testStatusChangeBumpsVersionAndChangeCount() throws SQLException {
+
+        issueDAO.reportIssue(issue("Crash", null, 1, 1));
+
+        long changeCount = projectDAO.getChangeCount(1);
+
+        assertTrue(issueDAO.updateStatus(1, IssueStatusDTO.RESOLVED));
+        assertFalse(issueDAO.updateStatus(99, IssueStatusDTO.RESOLVED));
+
+        IssueDTO updated = issueDAO.getIssueById(1);
+
+        assertEquals(1, updated.getVersion());
+        assertNotNull(updated.getResolutionDate());
+        assertEquals(changeCount + 1, projectDAO.getChangeCount(1));
+        assertEquals(1, projectDAO.generateDashboard().getClosedIssues().size());
+    }
+
+    @Test
+    void testImportRejectsRowsViolatingConstraints() throws SQLException {
+
+        List<String> errors = issueDAO.reportIssues(List.of(issue("Valid", null, 1, 1), issue("Missing project", null, 1, 42)));
+
+        assertNull(errors.get(0));
+        assertEquals("Rejected by the database (SQLSTATE 23503)", errors.get(1));
+    }
+
+}
@@ -0,0 +1,58 @@
+package backend.database.implinmemory;
+
+import backend.dto.*;
+import backend.search.EmailAutocompleteIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTeamDAOTests {
+
+    private InMemoryTeamDAO teamDAO;
+
+    private InMemoryUserDAO userDAO;
+
+    @BeforeEach
+    void setup() throws SQLException {
+
+        InMemoryStore store = new InMemoryStore();
+        EmailAutocompleteIndex autocompleteIndex = new EmailAutocompleteIndex();
+
+        userDAO = new InMemoryUserDAO(store, autocompleteIndex);
+        teamDAO = new InMemoryTeamDAO(store, autocompleteIndex);
+
+        new InMemoryProjectDAO(store).createProject(new ProjectDTO(null, "Alpha"));
+
+        teamDAO.createTeam(new TeamDTO(null, "Backend", new ProjectDTO(1, null), null));
+        teamDAO.createTeam(new TeamDTO(null, "Frontend", new ProjectDTO(1, null), null));
+
+        userDAO.registerNewUser(new UserDTO(null, "dev@test", "hash", 1, null, null, null, null));
+    }
+
+    private List<UserDTO> projectMembers() throws SQLException {
+        return userDAO.searchDevOrAdminByEmailAndProject("dev", 1);
+    }
+
+    @Test
+    void testTeamMembershipFollowsProjectTriggers() throws SQLException {
+
+        // Joining a team of the project also joins the project
+        assertTrue(teamDAO.addMemberToTeam(1, "dev@test"));
+        assertTrue(teamDAO.addMemberToTeam(2, "dev@test"));
+        assertEquals(1, projectMembers().size());
+
+        // Still in the project while another of its teams includes the user
+        assertTrue(teamDAO.removeMemberFromTeam(1, "dev@test"));
+        assertEquals(1, projectMembers().size());
+
+        assertTrue(teamDAO.removeMemberFromTeam(2, "dev@test"));
+        assertTrue(projectMembers().isEmpty());
+
+        assertFalse(teamDAO.removeMemberFromTeam(2, "dev@test"));
+    }
+
+}
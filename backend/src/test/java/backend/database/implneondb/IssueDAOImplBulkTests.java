@@ -0,0 +1,120 @@
+package backend.database.implneondb;
+
+import backend.database.dao.StatisticsRollupDAO;
+import backend.dto.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class IssueDAOImplBulkTests {
+
+    private Connection connection;
+
+    private PreparedStatement update;
+
+    private Savepoint savepoint;
+
+    private IssueDAOImpl issueDAO;
+
+    @BeforeEach
+    void setup() throws SQLException {
+
+        DataSource dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        update = mock(PreparedStatement.class);
+        savepoint = mock(Savepoint.class);
+
+        // Change counter bump: no touched partitions to report
+        PreparedStatement bump = mock(PreparedStatement.class);
+        ResultSet noRows = mock(ResultSet.class);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(startsWith("UPDATE Issue"))).thenReturn(update);
+        when(connection.prepareStatement(startsWith("WITH touched"))).thenReturn(bump);
+        when(connection.setSavepoint()).thenReturn(savepoint);
+        when(bump.executeQuery()).thenReturn(noRows);
+
+        issueDAO = new IssueDAOImpl(dataSource, mock(StatisticsRollupDAO.class), 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void testUpdateStatusesWithoutRejections() throws SQLException {
+
+        when(update.executeBatch()).thenReturn(new int[]{1, 0});
+
+        List<IssueBulkResultDTO> results = issueDAO.updateStatuses(List.of(
+                new IssueStatusChangeDTO(1, IssueStatusDTO.TODO),
+                new IssueStatusChangeDTO(2, IssueStatusDTO.TODO)));
+
+        assertTrue(results.get(0).isUpdated());
+        assertEquals("Issue not found", results.get(1).getMessage());
+        verify(connection, never()).setSavepoint();
+        verify(connection).commit();
+    }
+
+    @Test
+    void testUpdateStatusesReportsRejectedItems() throws SQLException {
+
+        when(update.executeBatch()).thenThrow(new BatchUpdateException());
+        when(update.executeUpdate())
+                .thenReturn(1)
+                .thenThrow(new SQLException("Issue not assigned", "P0001"))
+                .thenReturn(0);
+
+        List<IssueBulkResultDTO> results = issueDAO.updateStatuses(List.of(
+                new IssueStatusChangeDTO(1, IssueStatusDTO.TODO),
+                new IssueStatusChangeDTO(2, IssueStatusDTO.RESOLVED),
+                new IssueStatusChangeDTO(3, IssueStatusDTO.TODO)));
+
+        assertTrue(results.get(0).isUpdated());
+        assertFalse(results.get(1).isUpdated());
+        assertEquals("Rejected by the database (SQLSTATE P0001)", results.get(1).getMessage());
+        assertEquals("Issue not found", results.get(2).getMessage());
+
+        // The failed batch is discarded, then only the rejected item is rolled back
+        verify(connection).rollback();
+        verify(connection, times(1)).rollback(savepoint);
+        verify(connection).commit();
+    }
+
+    @Test
+    void testAssignIssuesReportsRejectedItems() throws SQLException {
+
+        PreparedStatement users = mock(PreparedStatement.class);
+        ResultSet developers = mock(ResultSet.class);
+
+        when(connection.prepareStatement(startsWith("SELECT user_id"))).thenReturn(users);
+        when(users.executeQuery()).thenReturn(developers);
+        when(developers.next()).thenReturn(true, true, false);
+        when(developers.getInt("user_id")).thenReturn(7, 8);
+        when(developers.getString("email")).thenReturn("guest@test", "dev@test");
+
+        when(update.executeBatch()).thenThrow(new BatchUpdateException());
+        when(update.executeUpdate())
+                .thenThrow(new SQLException("Not a developer", "P0001"))
+                .thenReturn(1);
+
+        List<IssueBulkResultDTO> results = issueDAO.assignIssuesToDevelopers(List.of(
+                new IssueAssignmentDTO(1, "guest@test"),
+                new IssueAssignmentDTO(2, "ghost@test"),
+                new IssueAssignmentDTO(3, "dev@test")));
+
+        assertEquals("Rejected by the database (SQLSTATE P0001)", results.get(0).getMessage());
+        assertEquals("User not found", results.get(1).getMessage());
+        assertTrue(results.get(2).isUpdated());
+        assertEquals("dev@test", results.get(2).getAssignedDeveloper().getEmail());
+
+        // Only the two known developers are sent to the database
+        verify(update, times(2)).executeUpdate();
+        verify(connection).commit();
+    }
+
+}
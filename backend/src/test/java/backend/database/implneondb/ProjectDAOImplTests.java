@@ -0,0 +1,61 @@
+package backend.database.implneondb;
+
+import backend.dto.StatisticDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectDAOImplTests {
+
+    private static Duration averageOfAggregate(BigDecimal totalSeconds, int closedCount) {
+
+        StatisticsAccumulator accumulator = new StatisticsAccumulator();
+        accumulator.addAggregate(1, "dev@test", 0, closedCount, StatisticsAccumulator.secondsToMicros(totalSeconds));
+
+        StatisticDTO statistics = new StatisticDTO();
+        accumulator.fill(statistics);
+
+        return statistics.getAverageResolutionDurations().get(0);
+    }
+
+    @Test
+    void testAverageDurationKeepsFractionalSeconds() {
+
+        assertEquals(Duration.ofSeconds(3, 750_000_000), averageOfAggregate(new BigDecimal("7.5"), 2));
+    }
+
+    @Test
+    void testAverageDurationBeyondLongNanos() {
+
+        // 500k issues resolved in 30 days each: the sum in nanoseconds would overflow a long
+        BigDecimal totalSeconds = BigDecimal.valueOf(30L * 24 * 3600).multiply(BigDecimal.valueOf(500_000));
+
+        assertEquals(Duration.ofDays(30), averageOfAggregate(totalSeconds, 500_000));
+    }
+
+    @Test
+    void testAverageDurationWithoutResolvedIssues() {
+
+        assertEquals(Duration.ZERO, averageOfAggregate(null, 0));
+        assertEquals(Duration.ZERO, averageOfAggregate(BigDecimal.ZERO, 0));
+    }
+
+    @Test
+    void testUnassignedAggregatesCountOnlyInTotals() {
+
+        StatisticsAccumulator accumulator = new StatisticsAccumulator();
+        accumulator.addAggregate(null, null, 2, 1, StatisticsAccumulator.secondsToMicros(new BigDecimal("4.000001")));
+        accumulator.addAggregate(5, "dev@test", 1, 1, StatisticsAccumulator.secondsToMicros(new BigDecimal("2")));
+
+        StatisticDTO statistics = new StatisticDTO();
+        accumulator.fill(statistics);
+
+        assertEquals(3, statistics.getNumIssuesNotAssigned());
+        assertEquals(1, statistics.getDevelopers().size());
+        assertEquals(Duration.ofNanos(3_000_000_500L), statistics.getTotalAverageResolutionDuration());
+    }
+
+}
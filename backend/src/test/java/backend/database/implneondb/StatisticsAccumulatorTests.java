@@ -0,0 +1,72 @@
+package backend.database.implneondb;
+
+import backend.dto.StatisticDTO;
+import backend.dto.UserDTO;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatisticsAccumulatorTests {
+
+    @Test
+    void testCountsAndAveragesPerDeveloper() {
+
+        StatisticsAccumulator accumulator = new StatisticsAccumulator();
+
+        UserDTO first = accumulator.addClosedIssue(7, "a@test", 3_000_000);
+        accumulator.addOpenIssue(3, "b@test");
+        UserDTO again = accumulator.addClosedIssue(7, "ignored@test", 2_000_001);
+        accumulator.addOpenIssue(7, "a@test");
+        accumulator.addOpenIssue(null, null);
+        accumulator.addClosedIssue(null, null, 1_000_000);
+
+        StatisticDTO statistics = new StatisticDTO();
+        accumulator.fill(statistics);
+
+        assertSame(first, again);
+        assertEquals(List.of(7, 3), statistics.getDevelopers().stream().map(UserDTO::getId).toList());
+        assertEquals("a@test", statistics.getDevelopers().get(0).getEmail());
+        assertEquals(List.of(1, 1), statistics.getNumOpenIssues());
+        assertEquals(List.of(2, 0), statistics.getNumClosedIssues());
+        assertEquals(2, statistics.getNumIssuesNotAssigned());
+
+        // Same truncation as summing Durations and calling dividedBy
+        Duration expected = Duration.ofNanos(3_000_000_000L).plusNanos(2_000_001_000L).dividedBy(2);
+        assertEquals(expected, statistics.getAverageResolutionDurations().get(0));
+        assertEquals(Duration.ZERO, statistics.getAverageResolutionDurations().get(1));
+        assertEquals(Duration.ofNanos(6_000_001_000L).dividedBy(3), statistics.getTotalAverageResolutionDuration());
+    }
+
+    @Test
+    void testManyDevelopersKeepTheirSlots() {
+
+        StatisticsAccumulator accumulator = new StatisticsAccumulator();
+
+        for (int round = 0; round < 3; round++)
+            for (int id = 0; id < 5000; id++)
+                accumulator.addOpenIssue(id * 31, "dev" + id);
+
+        StatisticDTO statistics = new StatisticDTO();
+        accumulator.fill(statistics);
+
+        assertEquals(5000, statistics.getDevelopers().size());
+        assertEquals(4999 * 31, statistics.getDevelopers().get(4999).getId());
+        assertTrue(statistics.getNumOpenIssues().stream().allMatch(count -> count == 3));
+    }
+
+    @Test
+    void testMicrosBetweenTimestamps() {
+
+        Timestamp from = Timestamp.valueOf("2024-03-01 10:00:00.123456");
+        Timestamp to = Timestamp.valueOf("2024-03-02 10:00:01.000001");
+
+        long micros = StatisticsAccumulator.microsBetween(from.getTime(), from.getNanos(), to.getTime(), to.getNanos());
+
+        assertEquals(Duration.between(from.toInstant(), to.toInstant()).toNanos() / 1000, micros);
+    }
+
+}
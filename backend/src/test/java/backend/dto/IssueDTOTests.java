@@ -0,0 +1,44 @@
+package backend.dto;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IssueDTOTests {
+
+    // Jackson defaults, without application.properties
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void testDeserializeMinimalIssueBody() {
+
+        IssueDTO issue = jsonMapper.readValue("{\"title\":\"Crash\",\"type\":\"BUG\",\"priority\":2}", IssueDTO.class);
+
+        assertEquals("Crash", issue.getTitle());
+        assertEquals(IssueTypeDTO.BUG, issue.getType());
+        assertEquals(2, issue.getPriority());
+        assertEquals(0, issue.getVersion());
+    }
+
+    @Test
+    void testVersionIsNeitherWrittenNorRead() {
+
+        IssueDTO issue = new IssueDTO();
+        issue.setVersion(5);
+
+        assertFalse(jsonMapper.writeValueAsString(issue).contains("version"));
+        assertEquals(0, jsonMapper.readValue("{\"title\":\"Crash\",\"version\":9}", IssueDTO.class).getVersion());
+    }
+
+    @Test
+    void testHasImageIsOnlyWritten() {
+
+        IssueDTO issue = new IssueDTO();
+        issue.setHasImage(true);
+
+        assertTrue(jsonMapper.writeValueAsString(issue).contains("\"hasImage\":true"));
+        assertFalse(jsonMapper.readValue("{\"title\":\"Crash\",\"hasImage\":true}", IssueDTO.class).isHasImage());
+    }
+
+}
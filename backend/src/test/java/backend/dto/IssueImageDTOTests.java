@@ -0,0 +1,26 @@
+package backend.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IssueImageDTOTests {
+
+    @Test
+    void testDetectKnownFormats() {
+
+        assertEquals("image/png", IssueImageDTO.detectContentType(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}));
+        assertEquals("image/jpeg", IssueImageDTO.detectContentType(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0}));
+        assertEquals("image/gif", IssueImageDTO.detectContentType("GIF89a".getBytes()));
+        assertEquals("image/webp", IssueImageDTO.detectContentType("RIFF\0\0\0\0WEBPVP8 ".getBytes()));
+    }
+
+    @Test
+    void testDetectUnknownFormat() {
+
+        assertEquals("application/octet-stream", IssueImageDTO.detectContentType("RIFF\0\0\0\0WAVE".getBytes()));
+        assertEquals("application/octet-stream", IssueImageDTO.detectContentType(new byte[0]));
+        assertEquals("application/octet-stream", IssueImageDTO.detectContentType(null));
+    }
+
+}
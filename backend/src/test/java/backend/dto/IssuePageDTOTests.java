@@ -0,0 +1,42 @@
+package backend.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IssuePageDTOTests {
+
+    @Test
+    void testPageTokenRoundTrip() {
+
+        String token = IssuePageDTO.encodePageToken(3, 1542);
+
+        assertEquals(new IssuePageDTO.PageKey(3, 1542), IssuePageDTO.decodePageToken(token));
+    }
+
+    @Test
+    void testRelevanceKeyIsPreservedExactly() {
+
+        float rank = 0.0607927f;
+
+        IssuePageDTO.PageKey key = IssuePageDTO.decodePageToken(IssuePageDTO.encodePageToken(rank, 7));
+
+        assertEquals(rank, (float) key.sortKey());
+    }
+
+    @Test
+    void testPageTokenIsUrlSafe() {
+
+        String token = IssuePageDTO.encodePageToken(4, Integer.MAX_VALUE);
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void testMalformedPageToken() {
+
+        assertThrows(IllegalArgumentException.class, () -> IssuePageDTO.decodePageToken("not a token"));
+        assertThrows(IllegalArgumentException.class, () -> IssuePageDTO.decodePageToken(IssuePageDTO.encodePageToken(1, 2) + "AA"));
+    }
+
+}
@@ -0,0 +1,76 @@
+package backend.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrometheusTextWriterTests {
+
+    @Test
+    void testHistogramBucketsAreCumulative() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(500));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(30));
+        histogram.record(TimeUnit.SECONDS.toNanos(20));
+
+        String text = new PrometheusTextWriter()
+                .family("dao_method_duration_seconds", "histogram", "Duration of DAO method calls.")
+                .histogram("dao_method_duration_seconds", PrometheusTextWriter.labels("dao", "IssueDAOImpl", "method", "searchIssues"), histogram)
+                .toString();
+
+        assertTrue(text.startsWith("# HELP dao_method_duration_seconds Duration of DAO method calls.\n# TYPE dao_method_duration_seconds histogram\n"));
+        assertTrue(text.contains("dao_method_duration_seconds_bucket{dao=\"IssueDAOImpl\",method=\"searchIssues\",le=\"0.001\"} 2\n"));
+        assertTrue(text.contains("dao_method_duration_seconds_bucket{dao=\"IssueDAOImpl\",method=\"searchIssues\",le=\"0.025\"} 2\n"));
+        assertTrue(text.contains("dao_method_duration_seconds_bucket{dao=\"IssueDAOImpl\",method=\"searchIssues\",le=\"0.05\"} 3\n"));
+        assertTrue(text.contains("dao_method_duration_seconds_bucket{dao=\"IssueDAOImpl\",method=\"searchIssues\",le=\"10.0\"} 3\n"));
+        assertTrue(text.contains("dao_method_duration_seconds_bucket{dao=\"IssueDAOImpl\",method=\"searchIssues\",le=\"+Inf\"} 4\n"));
+        assertTrue(text.contains("dao_method_duration_seconds_sum{dao=\"IssueDAOImpl\",method=\"searchIssues\"} 20.0315\n"));
+        assertTrue(text.contains("dao_method_duration_seconds_count{dao=\"IssueDAOImpl\",method=\"searchIssues\"} 4\n"));
+    }
+
+    @Test
+    void testLabelValuesAreEscaped() {
+
+        assertEquals("q=\"a\\\"b\\\\c\\nd\"", PrometheusTextWriter.labels("q", "a\"b\\c\nd"));
+    }
+
+    @Test
+    void testRowsAreAttributedToTheInnermostDaoCall() {
+
+        PersistenceMetrics metrics = new PersistenceMetrics();
+        PersistenceMetrics.MethodKey outerKey = new PersistenceMetrics.MethodKey("IssueDAOImpl", "updateStatus");
+        PersistenceMetrics.MethodKey innerKey = new PersistenceMetrics.MethodKey("StatisticsRollupDAOImpl", "markIssueMonthPending");
+
+        PersistenceMetrics.MethodCall outer = metrics.enterMethod();
+        metrics.recordRow();
+
+        PersistenceMetrics.MethodCall inner = metrics.enterMethod();
+        metrics.recordRow();
+        metrics.recordRow();
+        metrics.exitMethod(inner, innerKey, 1_000, false);
+
+        metrics.recordRow();
+        metrics.exitMethod(outer, outerKey, 5_000, true);
+
+        // No DAO call in progress: the row is not attributed
+        metrics.recordRow();
+
+        assertEquals(2, metrics.getMethods().get(outerKey).getRows());
+        assertEquals(1, metrics.getMethods().get(outerKey).getErrors());
+        assertEquals(2, metrics.getMethods().get(innerKey).getRows());
+        assertEquals(0, metrics.getMethods().get(innerKey).getErrors());
+    }
+
+    @Test
+    void testSqlShapeIsCollapsedToOneLine() {
+
+        assertEquals("SELECT * FROM Issue WHERE title ILIKE ? AND project_id = ?",
+                InstrumentedDataSource.shapeOf("SELECT *\n  FROM Issue\tWHERE title ILIKE ?   AND project_id = ?\n"));
+    }
+
+}
@@ -0,0 +1,102 @@
+package backend.search;
+
+import backend.dto.UserDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailAutocompleteIndexTests {
+
+    private static EmailAutocompleteIndex loadedIndex() {
+
+        EmailAutocompleteIndex index = new EmailAutocompleteIndex();
+        EmailAutocompleteIndex.Contents contents = new EmailAutocompleteIndex.Contents();
+
+        contents.addUser(1, "mario.rossi@example.com", 1);
+        contents.addUser(2, "anna.mari@example.com", 2);
+        contents.addUser(3, "Marina.Bianchi@example.com", 1);
+        contents.addUser(4, "mario.client@example.com", 0);
+
+        contents.addProjectMember(10, 1);
+        contents.addProjectMember(10, 4);
+        contents.addTeamMember(20, 10, 3);
+        contents.addProjectMember(10, 3);
+
+        assertTrue(index.replaceIfNotModified(contents, index.stamp()));
+
+        return index;
+    }
+
+    private static List<String> emails(List<UserDTO> users) {
+        return users.stream().map(UserDTO::getEmail).toList();
+    }
+
+    @Test
+    void testPrefixMatchesRankFirstAndBaseUsersAreExcluded() {
+
+        EmailAutocompleteIndex index = loadedIndex();
+
+        assertEquals(List.of("Marina.Bianchi@example.com",
+                        "mario.rossi@example.com", "anna.mari@example.com"),
+                emails(index.search("MAR", null, null, 10)));
+
+        assertEquals(List.of("Marina.Bianchi@example.com"), emails(index.search("mar", null, null, 1)));
+        assertEquals(List.of("anna.mari@example.com"), emails(index.search("a.m", null, null, 10)));
+        assertTrue(index.search("xyz", null, null, 10).isEmpty());
+    }
+
+    @Test
+    void testShortQueriesAndScopes() {
+
+        EmailAutocompleteIndex index = loadedIndex();
+
+        assertEquals(3, index.search("m", null, null, 10).size());
+        assertEquals(List.of("mario.rossi@example.com"), emails(index.search("mario", 10, null, 10)));
+        assertEquals(List.of("Marina.Bianchi@example.com", "mario.rossi@example.com"),
+                emails(index.search("mar", 10, null, 10)));
+        assertEquals(List.of("Marina.Bianchi@example.com"), emails(index.search("", null, 20, 10)));
+    }
+
+    @Test
+    void testIncrementalUpdatesAndStaleReload() {
+
+        EmailAutocompleteIndex index = loadedIndex();
+
+        long stamp = index.stamp();
+
+        index.addUser(5, "marco.verdi@example.com", 1);
+        index.addTeamMember(20, 10, "marco.verdi@example.com");
+        index.removeTeamMember(20, 10, "Marina.Bianchi@example.com");
+
+        assertEquals(List.of("marco.verdi@example.com"), emails(index.search("", null, 20, 10)));
+
+        // A reload read before the updates would drop them: it must be rejected
+        assertFalse(index.replaceIfNotModified(new EmailAutocompleteIndex.Contents(), stamp));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void testTeamChangesFollowProjectMembership() {
+
+        EmailAutocompleteIndex index = loadedIndex();
+
+        // Trigger 018: joining a team of the project also joins the project
+        index.addTeamMember(21, 10, "anna.mari@example.com");
+        assertEquals(List.of("anna.mari@example.com"), emails(index.search("anna", 10, null, 10)));
+
+        // Trigger 019: the user stays in the project while another of its teams still includes them
+        index.addTeamMember(20, 10, "anna.mari@example.com");
+        index.removeTeamMember(21, 10, "anna.mari@example.com");
+        assertEquals(List.of("anna.mari@example.com"), emails(index.search("anna", 10, null, 10)));
+
+        index.removeTeamMember(20, 10, "anna.mari@example.com");
+        assertTrue(index.search("anna", 10, null, 10).isEmpty());
+
+        // Removing a user who was not in the team leaves the project untouched
+        index.removeTeamMember(21, 10, "mario.rossi@example.com");
+        assertEquals(List.of("mario.rossi@example.com"), emails(index.search("mario", 10, null, 10)));
+    }
+
+}
@@ -2,20 +2,41 @@ package frontend.controller;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 
 import java.awt.*;
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import frontend.exception.RequestError;
 import frontend.gui.LogInPage;
 import lombok.Getter;
-import lombok.Setter;
 
 import javax.swing.*;
 
@@ -27,6 +48,25 @@ import javax.swing.*;
  * in caso di sessione scaduta (401/403).
  * Utilizza {@link HttpClient} per le chiamate di rete e {@link ObjectMapper} per la gestione del JSON.
  * </p>
+ * <p>
+ * Le richieste sono asincrone ({@link HttpClient#sendAsync}): restituiscono subito un {@link CompletableFuture},
+ * così il thread dell'interfaccia grafica (EDT) non resta bloccato durante la comunicazione di rete.
+ * I controller elaborano le risposte sull'EDT tramite {@link #EDT}; annullare uno qualsiasi dei future
+ * derivati da una richiesta interrompe anche lo scambio HTTP. Il numero di richieste in corso è osservabile
+ * tramite la proprietà {@value #PENDING_REQUESTS_PROPERTY}, per mostrare all'utente che l'applicazione è al lavoro.
+ * </p>
+ * <p>
+ * Il client usa HTTP/2 (h2c, negoziato con l'header Upgrade): le richieste concorrenti condividono un'unica
+ * connessione con il backend. Le risposte testuali vengono richieste compresse (gzip o deflate) e decompresse
+ * in modo trasparente prima di arrivare ai controller.
+ * </p>
+ * <p>
+ * Avviando l'applicazione con {@code -D}{@value #WIRE_FORMAT_PROPERTY}{@code =smile} le risposte vengono chieste
+ * nel formato binario Smile ({@value #SMILE_CONTENT_TYPE}), più compatto e più veloce da leggere del JSON
+ * (es. l'immagine di una issue arriva come byte e non in base64). I corpi delle risposte sono quindi byte:
+ * i controller li leggono con il mapper restituito da {@link #getObjectMapper(HttpResponse)}, scelto in base
+ * al {@code Content-Type} effettivo, perché il server può sempre rispondere in JSON (o in testo semplice).
+ * </p>
  */
 @SuppressWarnings("java:S6548")
 public class ApiClient {
@@ -50,36 +90,156 @@ public class ApiClient {
      * Mapper Jackson per la serializzazione/deserializzazione JSON.
      * <p>
      * È esposto tramite getter (generato da Lombok) per essere utilizzato
-     * anche da altre classi del frontend per il parsing dei dati.
+     * anche da altre classi del frontend per il parsing dei dati. I corpi delle richieste sono sempre JSON.
      * </p>
      */
     @Getter
     private final ObjectMapper objectMapper;
 
+    /**
+     * Mapper Jackson per le risposte in formato Smile, configurato come {@link #objectMapper}.
+     */
+    private final ObjectMapper smileMapper;
+
+    /**
+     * Proprietà di sistema che sceglie il formato delle risposte: {@code json} (predefinito) o {@code smile}.
+     */
+    public static final String WIRE_FORMAT_PROPERTY = "frontend.wireFormat";
+
+    /**
+     * Tipo di contenuto Smile (JSON binario di Jackson).
+     */
+    public static final String SMILE_CONTENT_TYPE = "application/x-jackson-smile";
+
+    /**
+     * Header {@code Accept} delle richieste quando è attivo il formato Smile: il JSON resta accettato,
+     * così come il testo semplice di alcune risposte.
+     */
+    private static final String SMILE_ACCEPT = SMILE_CONTENT_TYPE + ", application/json;q=0.9, */*;q=0.8";
+
+    /**
+     * Indica se le risposte vengono chieste in formato Smile (proprietà {@value #WIRE_FORMAT_PROPERTY}).
+     */
+    private final boolean smileResponses;
+
     /**
      * Token JWT per l'autenticazione.
      * <p>
-     * Può essere impostato tramite il setter (generato da Lombok) dopo il login
+     * Viene impostato con {@link #setJwtToken(String)} dopo il login
      * e viene resettato a null in caso di logout o errore critico.
      * </p>
      */
-    @Setter
     private String jwtToken = null;
 
+    /**
+     * Numero massimo di risposte conservate per le richieste condizionali.
+     */
+    private static final int MAX_CACHED_RESPONSES = 64;
+
+    /**
+     * Ultima risposta 200 ricevuta per ciascun URL richiesto con {@link #sendConditionalRequestAsync},
+     * insieme al suo ETag. Le voci usate meno di recente vengono scartate oltre {@value #MAX_CACHED_RESPONSES}.
+     */
+    private final Map<URI, CachedResponse> responseCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<URI, CachedResponse> eldest) {
+                    return size() > MAX_CACHED_RESPONSES;
+                }
+            });
+
+    /**
+     * Una risposta conservata con l'ETag con cui rivalidarla.
+     *
+     * @param eTag     L'ETag restituito dal server.
+     * @param response La risposta completa (stato, header e corpo).
+     */
+    private record CachedResponse(String eTag, HttpResponse<byte[]> response) {}
+
+    /**
+     * Esecutore che esegue i compiti nel thread dell'interfaccia grafica (EDT), da usare con i metodi
+     * {@code *Async} dei {@link CompletableFuture} per aggiornare lo stato dei controller e i componenti Swing.
+     */
+    public static final Executor EDT = SwingUtilities::invokeLater;
+
+    /**
+     * Nome della proprietà osservabile con il numero di richieste in corso.
+     */
+    public static final String PENDING_REQUESTS_PROPERTY = "pendingRequests";
+
+    /**
+     * Numero di richieste inviate e non ancora concluse. Letto e modificato solo nell'EDT.
+     */
+    private int pendingRequests = 0;
+
+    /**
+     * Notifica agli ascoltatori le variazioni di {@link #pendingRequests}, sempre nell'EDT.
+     */
+    private final PropertyChangeSupport changeSupport = new PropertyChangeSupport(this);
+
+    /**
+     * Indica se è in corso la gestione di un errore critico (finestra di errore aperta). Usato solo nell'EDT.
+     */
+    private boolean handlingCriticalError = false;
+
+    /**
+     * Future di una richiesta asincrona e di tutte le fasi che ne derivano.
+     * <p>
+     * {@link CompletableFuture#newIncompleteFuture()} fa sì che anche le fasi successive (es. {@code thenApply},
+     * {@code handleAsync}) siano di questo tipo: annullarne una qualsiasi annulla anche lo scambio HTTP,
+     * che altrimenti continuerebbe a scaricare una risposta che nessuno leggerà.
+     * </p>
+     *
+     * @param <T> Il tipo del risultato.
+     */
+    private static final class Exchange<T> extends CompletableFuture<T> {
+
+        /**
+         * Il future restituito da {@link HttpClient#sendAsync} per il tentativo in corso, condiviso con le fasi derivate.
+         */
+        private final AtomicReference<CompletableFuture<?>> httpExchange;
+
+        private Exchange(AtomicReference<CompletableFuture<?>> httpExchange) {
+            this.httpExchange = httpExchange;
+        }
+
+        @Override
+        public <U> CompletableFuture<U> newIncompleteFuture() {
+            return new Exchange<>(httpExchange);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+
+            // Only cancel(true) aborts the exchange of a future returned by sendAsync
+            CompletableFuture<?> attempt = httpExchange.get();
+
+            if (attempt != null)
+                attempt.cancel(true);
+
+            return cancelled;
+        }
+    }
+
     /**
      * Costruttore privato.
      * <p>
-     * Inizializza l'{@code HttpClient} con un timeout di connessione di 10 secondi
-     * e configura l'{@code ObjectMapper} registrando il modulo per gestire le date di Java 8 (JavaTimeModule).
+     * Inizializza l'{@code HttpClient} in HTTP/2 con un timeout di connessione di 10 secondi
+     * (se il server non supporta HTTP/2 la comunicazione resta in HTTP/1.1) e configura gli {@code ObjectMapper} JSON e Smile registrando il modulo per gestire le date di Java 8 (JavaTimeModule).
      * </p>
      */
     private ApiClient() {
         this.httpClient = HttpClient.newBuilder()
-                .version(HttpClient.Version.HTTP_1_1)
+                .version(HttpClient.Version.HTTP_2)
                 .connectTimeout(Duration.ofSeconds(10))
                 .build();
         this.objectMapper = new ObjectMapper();
         objectMapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
+        this.smileMapper = new SmileMapper();
+        smileMapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
+        this.smileResponses = "smile".equalsIgnoreCase(System.getProperty(WIRE_FORMAT_PROPERTY, "json"));
     }
 
     /**
@@ -110,52 +270,348 @@ public class ApiClient {
      * </p>
      * <ol>
      * <li>Aggiunge l'header "Authorization" se il token è presente.</li>
-     * <li>Invia la richiesta e attende la risposta.</li>
+     * <li>Invia la richiesta senza attendere la risposta.</li>
      * <li>Se riceve un errore 401 o 403 (e non è una richiesta di login), forza il logout dell'utente.</li>
      * <li>Gestisce eccezioni di I/O (server non raggiungibile) mostrando un errore all'utente.</li>
      * </ol>
+     * <p>
+     * Negli ultimi due casi il future termina con {@link RequestError}.
+     * </p>
      *
      * @param requestBuilder Il builder della richiesta HTTP pre-configurato (URL, metodo, body).
-     * @return La risposta HTTP ricevuta.
-     * @throws RequestError Se si verifica un errore di rete o la richiesta viene interrotta.
+     * @return Il future della risposta HTTP, con il corpo in byte (da leggere con {@link #getObjectMapper(HttpResponse)}).
      */
-    public HttpResponse<String> sendRequest(HttpRequest.Builder requestBuilder) {
+    public CompletableFuture<HttpResponse<byte[]>> sendRequestAsync(HttpRequest.Builder requestBuilder) {
 
-        boolean isLoginRequest = false;
-        try {
+        requestBuilder.setHeader("Accept-Encoding", "gzip, deflate");
+
+        if (smileResponses)
+            requestBuilder.setHeader("Accept", SMILE_ACCEPT);
+
+        return sendRequestAsync(requestBuilder, ApiClient::decodedBody);
+    }
+
+    /**
+     * Legge il corpo della risposta come byte, decomprimendolo se il server lo ha inviato compresso.
+     * <p>
+     * L'{@link HttpClient} non gestisce {@code Content-Encoding}: il corpo compresso viene raccolto come byte
+     * e decompresso nei thread del client, quando è arrivato per intero.
+     * </p>
+     */
+    private static HttpResponse.BodySubscriber<byte[]> decodedBody(HttpResponse.ResponseInfo responseInfo) {
+
+        String encoding = responseInfo.headers().firstValue("Content-Encoding").orElse("identity").trim();
+
+        if (!encoding.equalsIgnoreCase("gzip") && !encoding.equalsIgnoreCase("deflate"))
+            return HttpResponse.BodySubscribers.ofByteArray();
+
+        return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(), body -> {
+
+            try (InputStream decoded = encoding.equalsIgnoreCase("gzip")
+                    ? new GZIPInputStream(new ByteArrayInputStream(body))
+                    : new InflaterInputStream(new ByteArrayInputStream(body))) {
+
+                return decoded.readAllBytes();
+
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Restituisce il mapper con cui leggere il corpo della risposta, in base al suo {@code Content-Type}:
+     * Smile per {@value #SMILE_CONTENT_TYPE}, altrimenti JSON.
+     *
+     * @param response La risposta da leggere.
+     * @return Il mapper Smile o JSON.
+     */
+    public ObjectMapper getObjectMapper(HttpResponse<?> response) {
+
+        String contentType = response.headers().firstValue("Content-Type").orElse("");
+
+        return contentType.regionMatches(true, 0, SMILE_CONTENT_TYPE, 0, SMILE_CONTENT_TYPE.length()) ? smileMapper : objectMapper;
+    }
+
+    /**
+     * Restituisce il corpo della risposta come testo, per i messaggi semplici e per il log.
+     * <p>
+     * Il charset è quello del {@code Content-Type}, UTF-8 se non indicato.
+     * </p>
+     *
+     * @param response La risposta da leggere.
+     * @return Il corpo come testo.
+     */
+    public static String bodyAsText(HttpResponse<byte[]> response) {
+        return new String(response.body(), charsetOf(response.headers().firstValue("Content-Type").orElse("")));
+    }
+
+    /**
+     * Estrae il charset dall'header {@code Content-Type}, UTF-8 se assente o non supportato.
+     */
+    private static Charset charsetOf(String contentType) {
+
+        for (String parameter : contentType.split(";")) {
+
+            String[] nameAndValue = parameter.trim().split("=", 2);
+
+            if (nameAndValue.length == 2 && nameAndValue[0].equalsIgnoreCase("charset")) {
+                try {
+                    return Charset.forName(nameAndValue[1].replace("\"", "").trim());
+                } catch (IllegalArgumentException e) {
+                    return StandardCharsets.UTF_8;
+                }
+            }
+        }
 
-            if (jwtToken != null) {
-                requestBuilder.header("Authorization", "Bearer " + jwtToken);
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Invia una richiesta HTTP al backend scegliendo come leggere il corpo della risposta.
+     * <p>
+     * Si comporta come {@link #sendRequestAsync(HttpRequest.Builder)}, ma permette di ricevere contenuti
+     * non testuali (es. immagini) direttamente come byte o su file, senza passare da una stringa.
+     * Il corpo viene letto dai thread dell'{@link HttpClient}: le fasi successive non ancorate a {@link #EDT}
+     * girano fuori dal thread dell'interfaccia grafica. Annullare il future restituito, o una fase derivata,
+     * interrompe lo scambio HTTP.
+     * </p>
+     * <p>
+     * Una richiesta GET interrotta da un errore di I/O dopo l'apertura della connessione viene ripetuta una volta:
+     * in HTTP/2 le richieste concorrenti condividono la connessione e, se il server la chiude (GOAWAY), falliscono
+     * anche quelle che non hanno problemi. Succede ad esempio quando il client annulla una richiesta superata
+     * mentre il server sta ancora scrivendo la risposta compressa.
+     * </p>
+     *
+     * @param requestBuilder Il builder della richiesta HTTP pre-configurato (URL, metodo, body).
+     * @param bodyHandler    Il gestore che decide come leggere il corpo della risposta.
+     * @param <T>            Il tipo del corpo della risposta.
+     * @return Il future della risposta HTTP.
+     */
+    public <T> CompletableFuture<HttpResponse<T>> sendRequestAsync(HttpRequest.Builder requestBuilder, HttpResponse.BodyHandler<T> bodyHandler) {
+
+        HttpRequest request = buildRequest(requestBuilder);
+        Exchange<HttpResponse<T>> result = new Exchange<>(new AtomicReference<>());
+
+        updatePendingRequests(1);
+        send(request, bodyHandler, result, request.method().equals("GET"));
+
+        return result;
+    }
+
+    /**
+     * Esegue un tentativo della richiesta e completa con il suo esito il future restituito al chiamante.
+     */
+    private <T> void send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, Exchange<HttpResponse<T>> result, boolean mayRetry) {
+
+        boolean isLoginRequest = isLoginRequest(request);
+
+        CompletableFuture<HttpResponse<T>> httpExchange = httpClient.sendAsync(request, bodyHandler);
+        result.httpExchange.set(httpExchange);
+
+        // Cancelled while the previous attempt was failing
+        if (result.isCancelled())
+            httpExchange.cancel(true);
+
+        httpExchange.whenComplete((response, error) -> {
+
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+            if (mayRetry && isRetryable(cause) && !result.isDone()) {
+                logger.log(Level.FINE, "Connessione interrotta, nuovo tentativo: {0}", cause.toString());
+                send(request, bodyHandler, result, false);
+                return;
             }
 
-            HttpRequest request = requestBuilder.build();
-            isLoginRequest = request.uri().getPath().endsWith("/login");
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            updatePendingRequests(-1);
+
+            try {
+
+                if (error == null) {
+                    result.complete(checkSession(response, isLoginRequest));
+                    return;
+                }
+
+                if (cause instanceof CancellationException)
+                    result.cancel(false);
+                else if (cause instanceof IOException ioException)
+                    result.completeExceptionally(connectionError(ioException, isLoginRequest));
+                else
+                    result.completeExceptionally(cause);
 
-            if (!isLoginRequest && (response.statusCode() == 401 || response.statusCode() == 403)) {
-                handleCriticalError("La sessione è scaduta. \nEffettua nuovamente il login.");
-                throw new RequestError();
+            } catch (RequestError e) {
+                result.completeExceptionally(e);
             }
+        });
+    }
+
+    /**
+     * Verifica se l'errore è un'interruzione della connessione dopo l'invio della richiesta: non un timeout
+     * né un server irraggiungibile, per cui un nuovo tentativo allungherebbe solo l'attesa dell'errore.
+     */
+    private static boolean isRetryable(Throwable cause) {
+        return cause instanceof IOException && !(cause instanceof HttpTimeoutException) && !(cause instanceof ConnectException);
+    }
+
+    /**
+     * Restituisce la risposta ricevuta in una fase {@code handle} di una richiesta asincrona, oppure rilancia l'errore.
+     * <p>
+     * Permette ai controller di gestire gli errori in un unico blocco {@code try}/{@code catch}:
+     * un errore di rete o una sessione scaduta arrivano come {@link RequestError}.
+     * </p>
+     *
+     * @param response La risposta, se la richiesta è andata a buon fine.
+     * @param error    L'errore con cui è terminata la richiesta, oppure {@code null}.
+     * @param <T>      Il tipo della risposta.
+     * @return La risposta ricevuta.
+     * @throws RequestError Se la richiesta è terminata con un errore.
+     */
+    public static <T> T responseOf(T response, Throwable error) {
 
+        if (error == null)
             return response;
 
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
 
-        }catch (IOException e) {
+        if (cause instanceof RequestError requestError)
+            throw requestError;
 
-            logger.log(Level.SEVERE, "Errore di connessione al server: {0}", e.toString());
+        throw new RequestError(cause.toString());
+    }
 
-            if(!isLoginRequest)
-                handleCriticalError("Impossibile contattare il server.\nRiprovare più tardi.");
+    /**
+     * Aggiunge il token JWT, se presente, e costruisce la richiesta.
+     */
+    private HttpRequest buildRequest(HttpRequest.Builder requestBuilder) {
 
-            throw new RequestError();
+        if (jwtToken != null) {
+            requestBuilder.header("Authorization", "Bearer " + jwtToken);
+        }
 
-        } catch (InterruptedException e) {
+        return requestBuilder.build();
+    }
 
-            logger.log(Level.WARNING, "Richiesta interrotta dal sistema", e);
+    /**
+     * Verifica se la richiesta è un login, per cui 401/403 indicano credenziali errate e non una sessione scaduta.
+     */
+    private static boolean isLoginRequest(HttpRequest request) {
+        return request.uri().getPath().endsWith("/login");
+    }
 
-            Thread.currentThread().interrupt();
+    /**
+     * Se riceve un errore 401 o 403 (e non è una richiesta di login), forza il logout dell'utente.
+     *
+     * @return La risposta, se la sessione è valida.
+     * @throws RequestError Se la sessione è scaduta.
+     */
+    private <T> HttpResponse<T> checkSession(HttpResponse<T> response, boolean isLoginRequest) {
+
+        if (!isLoginRequest && (response.statusCode() == 401 || response.statusCode() == 403)) {
+            handleCriticalError("La sessione è scaduta. \nEffettua nuovamente il login.");
             throw new RequestError();
         }
+
+        return response;
+    }
+
+    /**
+     * Registra un errore di connessione e, se non si tratta di un login, riporta l'utente alla schermata di login.
+     *
+     * @return L'eccezione da propagare al chiamante.
+     */
+    private RequestError connectionError(IOException e, boolean isLoginRequest) {
+
+        logger.log(Level.SEVERE, "Errore di connessione al server: {0}", e.toString());
+
+        if(!isLoginRequest)
+            handleCriticalError("Impossibile contattare il server.\nRiprovare più tardi.");
+
+        return new RequestError();
+    }
+
+    /**
+     * Restituisce la risposta conservata se il server ha risposto 304, altrimenti aggiorna la cache con la nuova risposta.
+     */
+    private HttpResponse<byte[]> reuseIfNotModified(URI uri, CachedResponse cached, HttpResponse<byte[]> response) {
+
+        if (response.statusCode() == 304 && cached != null) {
+            logger.log(Level.FINE, "Not modified, reusing cached response: {0}", uri);
+            return cached.response();
+        }
+
+        Optional<String> eTag = response.headers().firstValue("ETag");
+
+        if (response.statusCode() == 200 && eTag.isPresent()) {
+            responseCache.put(uri, new CachedResponse(eTag.get(), response));
+        } else {
+            responseCache.remove(uri);
+        }
+
+        return response;
+    }
+
+    /**
+     * Invia una richiesta GET condizionale, riusando l'ultima risposta ricevuta per lo stesso URL.
+     * <p>
+     * Se per l'URL è conservata una risposta con ETag, la richiesta porta l'header {@code If-None-Match}:
+     * quando il server risponde 304 Not Modified il future restituisce la risposta conservata, quindi il corpo
+     * non viene riscaricato. Le nuove risposte 200 con ETag sostituiscono quella conservata.
+     * </p>
+     *
+     * @param requestBuilder Il builder della richiesta GET pre-configurato.
+     * @return Il future della risposta HTTP, oppure di quella conservata se il contenuto non è cambiato.
+     */
+    public CompletableFuture<HttpResponse<byte[]>> sendConditionalRequestAsync(HttpRequest.Builder requestBuilder) {
+
+        URI uri = requestBuilder.copy().build().uri();
+        CachedResponse cached = responseCache.get(uri);
+
+        if (cached != null) {
+            requestBuilder.setHeader("If-None-Match", cached.eTag());
+        }
+
+        return sendRequestAsync(requestBuilder).thenApply(response -> reuseIfNotModified(uri, cached, response));
+    }
+
+    /**
+     * Imposta il token JWT usato per le richieste successive.
+     * <p>
+     * Le risposte conservate per le richieste condizionali vengono scartate: appartengono alla sessione precedente.
+     * </p>
+     *
+     * @param jwtToken Il token ricevuto al login, oppure {@code null} al logout.
+     */
+    public void setJwtToken(String jwtToken) {
+        this.jwtToken = jwtToken;
+        responseCache.clear();
+    }
+
+    /**
+     * Registra un ascoltatore del numero di richieste in corso (proprietà {@value #PENDING_REQUESTS_PROPERTY}).
+     * <p>
+     * Gli eventi vengono notificati nel thread dell'interfaccia grafica.
+     * </p>
+     *
+     * @param listener L'ascoltatore da registrare.
+     */
+    public void addPendingRequestsListener(PropertyChangeListener listener) {
+        changeSupport.addPropertyChangeListener(PENDING_REQUESTS_PROPERTY, listener);
+    }
+
+    /**
+     * Aggiorna nell'EDT il numero di richieste in corso e lo notifica agli ascoltatori.
+     */
+    private void updatePendingRequests(int delta) {
+
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> updatePendingRequests(delta));
+            return;
+        }
+
+        int previous = pendingRequests;
+        pendingRequests += delta;
+
+        changeSupport.firePropertyChange(PENDING_REQUESTS_PROPERTY, previous, pendingRequests);
     }
 
     /**
@@ -174,10 +630,15 @@ public class ApiClient {
      */
     private void handleCriticalError(String message) {
 
-        this.jwtToken = null;
-
         SwingUtilities.invokeLater(() -> {
 
+            // Concurrent requests can fail together: only the first one shows the error
+            if (handlingCriticalError)
+                return;
+
+            handlingCriticalError = true;
+            setJwtToken(null);
+
             for (Window window : Window.getWindows()) {
                 if (window.isDisplayable()) {
                     window.dispose();
@@ -192,12 +653,14 @@ public class ApiClient {
 
 
             new LogInPage().setVisible(true);
+
+            handlingCriticalError = false;
         });
 
     }
 
     /**
-     * Estrae un messaggio di errore leggibile dal corpo JSON della risposta.
+     * Estrae un messaggio di errore leggibile dal corpo JSON (o Smile) della risposta.
      * <p>
      * Tenta di parsare il body come JSON e cercare il campo "message".
      * Se il parsing fallisce, restituisce una stringa generica con il codice di stato e il body grezzo.
@@ -206,10 +669,10 @@ public class ApiClient {
      * @param response La risposta HTTP contenente l'errore.
      * @return Il messaggio di errore estratto.
      */
-    public String getErrorMessageFromResponse(HttpResponse<String> response) {
+    public String getErrorMessageFromResponse(HttpResponse<byte[]> response) {
         try {
 
-            JsonNode node = objectMapper.readTree(response.body());
+            JsonNode node = getObjectMapper(response).readTree(response.body());
             if (node.has("message")) {
                 return node.get("message").asText();
             }
@@ -217,7 +680,7 @@ public class ApiClient {
             logger.log(Level.FINE, "Impossibile fare il parsing del messaggio di errore JSON: {0}", e.getMessage());
         }
         //Basic error message
-        return "Errore " + response.statusCode() + ": " + response.body();
+        return "Errore " + response.statusCode() + ": " + bodyAsText(response);
     }
 
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package frontend.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import frontend.dto.UserDTO;
 import lombok.*;
 
 import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -46,6 +48,11 @@ public class AuthController {
     @Getter
     private UserDTO loggedUser;
 
+    /**
+     * Ultimo tentativo di login: un nuovo tentativo annulla quello ancora in corso.
+     */
+    private final LatestRequest loginRequest = new LatestRequest();
+
     /**
      * Costruttore privato per impedire l'istanziazione diretta.
      */
@@ -76,46 +83,59 @@ public class AuthController {
      * <li>Imposta il token nel {@link ApiClient} per le richieste future.</li>
      * <li>Memorizza l'utente loggato in {@code loggedUser}.</li>
      * </ol>
+     * <p>
+     * La risposta viene elaborata nel thread dell'interfaccia grafica.
+     * </p>
      *
      * @param email    L'indirizzo email dell'utente.
      * @param password La password dell'utente.
-     * @return {@code true} se il login ha successo, {@code false} altrimenti.
+     * @return Il future che vale {@code true} se il login ha successo, {@code false} altrimenti.
      */
-    public boolean login(String email, String password) {
+    public CompletableFuture<Boolean> login(String email, String password) {
 
-        try {
-            LoginRequest loginRequest = new LoginRequest(email, password);
+        HttpRequest.Builder requestBuilder;
 
-            String jsonBody = client.getObjectMapper().writeValueAsString(loginRequest);
+        try {
+            String jsonBody = client.getObjectMapper().writeValueAsString(new LoginRequest(email, password));
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+            requestBuilder = HttpRequest.newBuilder()
                     .uri(URI.create(client.getBaseUrl() + "/auth/login"))
                     .header("Content-Type", "application/json")
                     .POST(HttpRequest.BodyPublishers.ofString(jsonBody));
 
-            HttpResponse<String> response = client.sendRequest(requestBuilder);
+        } catch (JsonProcessingException e) {
+            logger.log(Level.SEVERE, e.getMessage());
+            return CompletableFuture.completedFuture(false);
+        }
+
+        return loginRequest.replace(client.sendRequestAsync(requestBuilder).handleAsync((result, error) -> {
+
+            try {
+                HttpResponse<byte[]> response = ApiClient.responseOf(result, error);
 
-            if (response.statusCode() == 200) {
+                if (response.statusCode() == 200) {
 
-                AuthResponse authResponse = client.getObjectMapper().readValue(response.body(), AuthResponse.class);
+                    AuthResponse authResponse = client.getObjectMapper(response).readValue(response.body(), AuthResponse.class);
 
-                client.setJwtToken(authResponse.getToken());
-                this.loggedUser= authResponse.getUser();
+                    client.setJwtToken(authResponse.getToken());
+                    this.loggedUser= authResponse.getUser();
 
-                logger.log(Level.FINE, "Login OK. Ruolo: " + authResponse.getUser().getRole());
+                    logger.log(Level.FINE, "Login OK. Ruolo: " + authResponse.getUser().getRole());
 
-                return true;
-            } else {
+                    return true;
+                } else {
 
-                logger.log(Level.WARNING, "Login fallito. Codice: {0}", response.statusCode());
+                    logger.log(Level.WARNING, "Login fallito. Codice: {0}", response.statusCode());
 
-                logger.log(Level.WARNING, "Dettaglio server: {0}", response.body());
+                    logger.log(Level.WARNING, "Dettaglio server: {0}", client.getErrorMessageFromResponse(response));
 
+                }
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, e.getMessage());
             }
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, e.getMessage());
-        }
-        return false;
+            return false;
+
+        }, ApiClient.EDT));
     }
 
     /**
@@ -160,34 +180,44 @@ public class AuthController {
      * @param email    L'email del nuovo utente.
      * @param password La password scelta.
      * @param role     Il ruolo dell'utente (0 per Guest/User, 1 per Developer, 2 per Admin).
-     * @return {@code true} se la registrazione ha successo (HTTP 200), {@code false} altrimenti.
+     * @return Il future che vale {@code true} se la registrazione ha successo (HTTP 200), {@code false} altrimenti.
      */
-    public boolean registration(String email, String password, int role) {
+    public CompletableFuture<Boolean> registration(String email, String password, int role) {
 
-        try {
-            RegisterRequest registerRequest = new RegisterRequest(email, password, role);
+        HttpRequest.Builder requestBuilder;
 
-            String jsonBody = client.getObjectMapper().writeValueAsString(registerRequest);
+        try {
+            String jsonBody = client.getObjectMapper().writeValueAsString(new RegisterRequest(email, password, role));
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+            requestBuilder = HttpRequest.newBuilder()
                     .uri(URI.create(client.getBaseUrl() + "/auth/register"))
                     .header("Content-Type", "application/json")
                     .POST(HttpRequest.BodyPublishers.ofString(jsonBody));
 
-            HttpResponse<String> response = client.sendRequest(requestBuilder);
+        } catch (JsonProcessingException e) {
+            logger.log(Level.SEVERE, e.getMessage());
+            return CompletableFuture.completedFuture(false);
+        }
 
-            if (response.statusCode() == 200) {
+        return client.sendRequestAsync(requestBuilder).handleAsync((result, error) -> {
 
-                logger.log(Level.FINE,"Registration ok! Login to start working!");
-                return true;
+            try {
+                HttpResponse<byte[]> response = ApiClient.responseOf(result, error);
 
-            } else {
-                logger.log(Level.WARNING,"Registration failed. Error code: {0}", response.statusCode());
+                if (response.statusCode() == 200) {
+
+                    logger.log(Level.FINE,"Registration ok! Login to start working!");
+                    return true;
+
+                } else {
+                    logger.log(Level.WARNING,"Registration failed. Error code: {0}", response.statusCode());
+                }
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, e.getMessage());
             }
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, e.getMessage());
-        }
-        return false;
+            return false;
+
+        }, ApiClient.EDT);
     }
 
     /**
@@ -1,5 +1,6 @@
 package frontend.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import frontend.config.ApiPaths;
 import frontend.dto.IssueDTO;
@@ -20,11 +21,17 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -32,9 +39,16 @@ import java.util.logging.Logger;
  * Controller singleton per la gestione delle operazioni sulle segnalazioni (Issue) lato client.
  * <p>
  * Interagisce con il backend per creare, cercare, aggiornare e recuperare i dettagli delle issue.
- * Mantiene lo stato locale delle issue cercate ({@code issues}) e della issue correntemente selezionata ({@code issue}),
+ * Mantiene lo stato locale delle issue cercate e della issue correntemente selezionata ({@code issue}),
  * fungendo da ponte tra la logica di business e l'interfaccia grafica.
  * </p>
+ * <p>
+ * Dei risultati di una ricerca vengono tenute in memoria solo le pagine usate più di recente
+ * (al massimo {@value #MAX_CACHED_PAGES}): per ogni pagina già ricevuta resta il token con cui è stata richiesta,
+ * così una pagina scartata può essere scaricata di nuovo quando torna visibile.
+ * Le pagine successive alla prima non passano dalla cache delle richieste condizionali di {@link ApiClient}:
+ * altrimenti i corpi delle pagine scartate resterebbero comunque in memoria e il limite non varrebbe.
+ * </p>
  */
 @SuppressWarnings("java:S6548")
 public class IssueController {
@@ -55,9 +69,33 @@ public class IssueController {
     private static final Logger logger = Logger.getLogger(IssueController.class.getName());
 
     /**
-     * Lista delle issue recuperate dall'ultima ricerca effettuata.
+     * Pagine dell'ultima ricerca attualmente in memoria, per indice di pagina, in ordine di ultimo accesso.
+     * Oltre {@value #MAX_CACHED_PAGES} pagine viene scartata quella usata meno di recente.
+     */
+    private final Map<Integer, List<IssueDTO>> cachedPages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<IssueDTO>> eldest) {
+            return size() > MAX_CACHED_PAGES;
+        }
+    };
+
+    /**
+     * Token con cui è stata richiesta ciascuna pagina già ricevuta dell'ultima ricerca
+     * ({@code null} per la prima), per indice di pagina.
      */
-    private ArrayList<IssueDTO> issues;
+    private final List<String> pageTokens = new ArrayList<>();
+
+    /**
+     * Richieste in corso per pagine scartate dalla cache, per indice di pagina: chi chiede una pagina
+     * già in arrivo riceve lo stesso future invece di inviare un'altra richiesta.
+     */
+    private final Map<Integer, CompletableFuture<Boolean>> pageRequests = new HashMap<>();
+
+    /**
+     * Numero di issue dell'ultima ricerca ricevute finora, comprese quelle delle pagine scartate dalla cache.
+     */
+    @Getter
+    private int loadedIssuesCount;
 
     /**
      * La issue attualmente selezionata o in visualizzazione.
@@ -65,6 +103,43 @@ public class IssueController {
     @Setter
     private IssueDTO issue;
 
+    /**
+     * Token opaco restituito dal backend per richiedere la pagina successiva dell'ultima ricerca.
+     * Vale {@code null} se tutti i risultati sono già stati caricati.
+     */
+    private String nextPageToken;
+
+    /**
+     * Query string dell'ultima ricerca effettuata, riutilizzata per richiedere le pagine successive.
+     */
+    private String lastSearchQuery;
+
+    /**
+     * Ultima richiesta di ricerca (prima pagina o pagine successive): una nuova ricerca annulla quella ancora in corso,
+     * così la cache delle pagine non riceve pagine di una ricerca superata.
+     */
+    private final LatestRequest searchRequest = new LatestRequest();
+
+    /**
+     * Ultima richiesta dei dettagli di una issue: aprirne un'altra annulla quella ancora in corso.
+     */
+    private final LatestRequest issueRequest = new LatestRequest();
+
+    /**
+     * Numero di issue richieste al backend per ogni pagina di risultati.
+     */
+    private static final int SEARCH_PAGE_SIZE = 100;
+
+    /**
+     * Numero massimo di pagine di risultati tenute in memoria.
+     */
+    private static final int MAX_CACHED_PAGES = 20;
+
+    /**
+     * Header HTTP con cui il backend restituisce il token della pagina successiva.
+     */
+    private static final String NEXT_PAGE_TOKEN_HEADER = "X-Next-Page-Token";
+
     /**
      * Costante per le intestazioni HTTP.
      */
@@ -117,16 +192,20 @@ public class IssueController {
     /**
      * Invia una nuova issue al backend.
      * <p>
-     * Completa il DTO con i dati mancanti (utente corrente, progetto corrente, data odierna),
-     * legge l'eventuale file immagine convertendolo in byte array e invia la richiesta POST.
+     * Completa il DTO con i dati mancanti (utente corrente, progetto corrente, data odierna)
+     * e invia la richiesta POST come multipart/form-data: il JSON della issue in una parte e l'eventuale
+     * immagine in un'altra, letta direttamente dal file durante l'invio (senza caricarla in memoria
+     * né codificarla in base64).
      * </p>
      *
      * @param issueToReport Il DTO con i dati di base della issue (titolo, descrizione, ecc.).
      * @param tags          Lista di tag opzionali.
      * @param image         File immagine allegato (opzionale).
-     * @return {@code true} se la creazione ha successo, {@code false} altrimenti.
+     * @return Il future che vale {@code true} se la creazione ha successo, {@code false} altrimenti.
      */
-    public boolean reportIssue(IssueDTO issueToReport, List<String> tags, File image) {
+    public CompletableFuture<Boolean> reportIssue(IssueDTO issueToReport, List<String> tags, File image) {
+
+        HttpRequest.Builder requestBuilder;
 
         try {
 
@@ -158,38 +237,91 @@ public class IssueController {
 
             issueToReport.setRelatedProject(projectToSend);
 
-            if (image != null) {
-                byte[] fileContent = Files.readAllBytes(image.toPath());
-                issueToReport.setImage(fileContent);
-            }
-
-
             String jsonBody = client.getObjectMapper().writeValueAsString(issueToReport);
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+            String boundary = "----IssueBoundary" + UUID.randomUUID().toString().replace("-", "");
+
+            requestBuilder = HttpRequest.newBuilder()
                     .uri(URI.create(client.getBaseUrl() + "/issues"))
-                    .header(CONTENT_TYPE, APPLICATION_JSON)
-                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody));
+                    .header(CONTENT_TYPE, "multipart/form-data; boundary=" + boundary)
+                    .POST(multipartIssueBody(boundary, jsonBody, image));
 
-            HttpResponse<String> response = client.sendRequest(requestBuilder);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, e.getMessage());
+            return CompletableFuture.completedFuture(false);
+        }
 
-            if (response.statusCode() == 200) {
+        return client.sendRequestAsync(requestBuilder).handleAsync((result, error) -> {
 
-                logger.log(Level.FINE, "Issue reported successfully!");
+            try {
 
-                return true;
+                HttpResponse<byte[]> response = ApiClient.responseOf(result, error);
 
-            } else {
+                if (response.statusCode() == 200) {
+
+                    logger.log(Level.FINE, "Issue reported successfully!");
 
-                logger.log(Level.WARNING, "Issue report failed. Code: {0}", response.statusCode());
+                    return true;
 
-                logger.log(Level.WARNING, "Error body: {0}", response.body());
+                } else {
 
+                    logger.log(Level.WARNING, "Issue report failed. Code: {0}", response.statusCode());
+
+                    logger.log(Level.WARNING, "Error body: {0}", client.getErrorMessageFromResponse(response));
+
+                }
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, e.getMessage());
             }
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, e.getMessage());
+
+            return false;
+
+        }, ApiClient.EDT);
+    }
+
+    /**
+     * Costruisce il corpo multipart/form-data per la creazione di una issue.
+     * <p>
+     * La parte "issue" contiene il JSON della segnalazione, la parte opzionale "image" il file allegato.
+     * Il file viene letto da disco mentre la richiesta viene inviata ({@link HttpRequest.BodyPublishers#ofFile}),
+     * quindi la sua dimensione è nota (Content-Length) senza doverlo caricare in memoria.
+     * </p>
+     *
+     * @param boundary Il separatore tra le parti.
+     * @param jsonBody Il JSON della issue.
+     * @param image    Il file immagine allegato, oppure {@code null}.
+     * @return Il publisher del corpo della richiesta.
+     * @throws IOException Se il file immagine non è leggibile.
+     */
+    private static HttpRequest.BodyPublisher multipartIssueBody(String boundary, String jsonBody, File image) throws IOException {
+
+        List<HttpRequest.BodyPublisher> parts = new ArrayList<>();
+
+        parts.add(HttpRequest.BodyPublishers.ofString("--" + boundary + "\r\n" +
+                "Content-Disposition: form-data; name=\"issue\"\r\n" +
+                CONTENT_TYPE + ": " + APPLICATION_JSON + "\r\n\r\n" +
+                jsonBody + "\r\n", StandardCharsets.UTF_8));
+
+        if (image != null) {
+
+            String imageType = Files.probeContentType(image.toPath());
+
+            if (imageType == null)
+                imageType = "application/octet-stream";
+
+            // Quotes and line breaks would break the part header
+            String fileName = image.getName().replaceAll("[\"\\r\\n]", "_");
+
+            parts.add(HttpRequest.BodyPublishers.ofString("--" + boundary + "\r\n" +
+                    "Content-Disposition: form-data; name=\"image\"; filename=\"" + fileName + "\"\r\n" +
+                    CONTENT_TYPE + ": " + imageType + "\r\n\r\n", StandardCharsets.UTF_8));
+            parts.add(HttpRequest.BodyPublishers.ofFile(image.toPath()));
+            parts.add(HttpRequest.BodyPublishers.ofString("\r\n"));
         }
-        return false;
+
+        parts.add(HttpRequest.BodyPublishers.ofString("--" + boundary + "--\r\n"));
+
+        return HttpRequest.BodyPublishers.concat(parts.toArray(new HttpRequest.BodyPublisher[0]));
     }
 
     /**
@@ -200,21 +332,18 @@ public class IssueController {
      * @param issueTags     Filtro per tag.
      * @param issueType     Filtro per tipo.
      * @param issuePriority Filtro per priorità.
+     * @param ascending     {@code true} per ordinare per priorità crescente.
      * @param roleToSearch  Parametro aggiuntivo per filtrare per ruolo (es. resolverId= o reporterId=).
-     * @return {@code true} se la ricerca ha successo, {@code false} altrimenti.
+     * @return Il future che vale {@code true} se la ricerca ha successo, {@code false} altrimenti.
      */
-    private boolean searchIssueGeneral(String issueTitle, String issueStatus, List<String> issueTags, String issueType, String issuePriority, String roleToSearch) {
+    private CompletableFuture<Boolean> searchIssueGeneral(String issueTitle, String issueStatus, List<String> issueTags, String issueType, String issuePriority, boolean ascending, String roleToSearch) {
 
-        List<String> params = setUpSearchParams(issueTitle, issueStatus, issueTags, issueType, issuePriority);
+        List<String> params = setUpSearchParams(issueTitle, issueStatus, issueTags, issueType, issuePriority, ascending);
 
         params.add(roleToSearch + AuthController.getInstance().getLoggedUser().getId());
         params.add(PROJECT_ID + ProjectController.getInstance().getProject().getId());
 
-        String queryString = String.join("&", params);
-
-        HttpResponse<String> response = sendSearchRequest(queryString);
-
-        return handleSearchResponse(response);
+        return startSearch(String.join("&", params));
 
     }
 
@@ -226,11 +355,12 @@ public class IssueController {
      * @param issueTags     Filtro tag.
      * @param issueType     Filtro tipo.
      * @param issuePriority Filtro priorità.
-     * @return {@code true} se la ricerca va a buon fine.
+     * @param ascending     {@code true} per ordinare per priorità crescente.
+     * @return Il future che vale {@code true} se la ricerca va a buon fine.
      */
-    public boolean searchAssignedIssues(String issueTitle, String issueStatus, List<String> issueTags, String issueType, String issuePriority) {
+    public CompletableFuture<Boolean> searchAssignedIssues(String issueTitle, String issueStatus, List<String> issueTags, String issueType, String issuePriority, boolean ascending) {
 
-        return searchIssueGeneral(issueTitle, issueStatus, issueTags, issueType, issuePriority, RESOLVER_ID);
+        return searchIssueGeneral(issueTitle, issueStatus, issueTags, issueType, issuePriority, ascending, RESOLVER_ID);
 
     }
 
@@ -242,19 +372,16 @@ public class IssueController {
      * @param issueTags     Filtro tag.
      * @param issueType     Filtro tipo.
      * @param issuePriority Filtro priorità.
-     * @return {@code true} se la ricerca va a buon fine.
+     * @param ascending     {@code true} per ordinare per priorità crescente.
+     * @return Il future che vale {@code true} se la ricerca va a buon fine.
      */
-    public boolean searchAllIssues(String issueTitle, String issueStatus, List<String> issueTags, String issueType, String issuePriority) {
+    public CompletableFuture<Boolean> searchAllIssues(String issueTitle, String issueStatus, List<String> issueTags, String issueType, String issuePriority, boolean ascending) {
 
-        List<String> params = setUpSearchParams(issueTitle, issueStatus, issueTags, issueType, issuePriority);
+        List<String> params = setUpSearchParams(issueTitle, issueStatus, issueTags, issueType, issuePriority, ascending);
 
         params.add(PROJECT_ID + ProjectController.getInstance().getProject().getId());
 
-        String queryString = String.join("&", params);
-
-        HttpResponse<String> response = sendSearchRequest(queryString);
-
-        return handleSearchResponse(response);
+        return startSearch(String.join("&", params));
 
     }
 
@@ -266,21 +393,127 @@ public class IssueController {
      * @param issueTags     Filtro tag.
      * @param issueType     Filtro tipo.
      * @param issuePriority Filtro priorità.
-     * @return {@code true} se la ricerca va a buon fine.
+     * @param ascending     {@code true} per ordinare per priorità crescente.
+     * @return Il future che vale {@code true} se la ricerca va a buon fine.
+     */
+    public CompletableFuture<Boolean> searchReportedIssues(String issueTitle, String issueStatus, List<String> issueTags, String issueType, String issuePriority, boolean ascending) {
+
+        return searchIssueGeneral(issueTitle, issueStatus, issueTags, issueType, issuePriority, ascending, REPORTER_ID);
+
+    }
+
+    /**
+     * Avvia una nuova ricerca richiedendo la prima pagina di risultati.
+     * <p>
+     * Memorizza la query string per poter richiedere in seguito le pagine successive
+     * tramite {@link #loadNextIssuesPage()}. La ricerca precedente ancora in corso viene annullata
+     * e le sue pagine vengono scartate.
+     * </p>
      */
-    public boolean searchReportedIssues(String issueTitle, String issueStatus, List<String> issueTags, String issueType, String issuePriority) {
+    private CompletableFuture<Boolean> startSearch(String queryString) {
 
-        return searchIssueGeneral(issueTitle, issueStatus, issueTags, issueType, issuePriority, REPORTER_ID);
+        this.lastSearchQuery = queryString;
+        this.nextPageToken = null;
+        this.loadedIssuesCount = 0;
+        this.cachedPages.clear();
+        this.pageTokens.clear();
 
+        for (CompletableFuture<Boolean> pageRequest : pageRequests.values())
+            pageRequest.cancel(false);
+
+        this.pageRequests.clear();
+
+        return searchRequest.replace(sendSearchRequest(null).handleAsync(
+                (result, error) -> handleSearchResponse(result, error, null), ApiClient.EDT));
+    }
+
+    /**
+     * Indica se l'ultima ricerca ha ancora risultati da caricare.
+     *
+     * @return {@code true} se il backend ha restituito un token per la pagina successiva.
+     */
+    public boolean hasNextIssuesPage() {
+        return nextPageToken != null;
+    }
+
+    /**
+     * Carica la pagina successiva dei risultati dell'ultima ricerca, accodandone le issue a quelle già ricevute.
+     *
+     * @return Il future del numero di issue appena caricate (0 se non ci sono altre pagine o in caso di errore).
+     */
+    public CompletableFuture<Integer> loadNextIssuesPage() {
+
+        if (!hasNextIssuesPage())
+            return CompletableFuture.completedFuture(0);
+
+        int alreadyLoaded = loadedIssuesCount;
+        String pageToken = nextPageToken;
+
+        return searchRequest.replace(sendSearchRequest(pageToken).handleAsync(
+                (result, error) -> handleSearchResponse(result, error, pageToken) ? loadedIssuesCount - alreadyLoaded : 0,
+                ApiClient.EDT));
+    }
+
+    /**
+     * Riporta in memoria la pagina dei risultati che contiene la issue indicata, se era stata scartata dalla cache.
+     * <p>
+     * La pagina viene richiesta di nuovo con il token con cui era stata ricevuta la prima volta;
+     * richieste ripetute per una pagina già in arrivo condividono la stessa risposta.
+     * </p>
+     *
+     * @param index Indice della issue tra i risultati dell'ultima ricerca.
+     * @return Il future che vale {@code true} quando la pagina è in memoria, {@code false} se l'indice
+     *         non appartiene ai risultati ricevuti o la richiesta non va a buon fine.
+     */
+    public CompletableFuture<Boolean> loadIssuesPageOf(int index) {
+
+        int pageIndex = index / SEARCH_PAGE_SIZE;
+
+        if (cachedPages.containsKey(pageIndex))
+            return CompletableFuture.completedFuture(true);
+
+        if (index < 0 || pageIndex >= pageTokens.size())
+            return CompletableFuture.completedFuture(false);
+
+        return pageRequests.computeIfAbsent(pageIndex, p -> sendSearchRequest(pageTokens.get(p)).handleAsync((result, error) -> {
+
+            pageRequests.remove(p);
+
+            List<IssueDTO> page = readSearchPage(result, error);
+
+            if (page == null)
+                return false;
+
+            cachedPages.put(p, page);
+
+            return true;
+
+        }, ApiClient.EDT));
+    }
+
+    /**
+     * Costruisce la query string dell'ultima ricerca per la pagina indicata dal token.
+     *
+     * @param pageToken Il token della pagina, oppure {@code null} per la prima.
+     */
+    private String pageQuery(String pageToken) {
+
+        if (pageToken == null)
+            return lastSearchQuery;
+
+        return lastSearchQuery + "&pageToken=" + URLEncoder.encode(pageToken, StandardCharsets.UTF_8);
     }
 
     /**
      * Costruisce la lista dei parametri per la query string, codificandoli in URL-safe format.
      */
-    private List<String> setUpSearchParams(String issueTitle, String issueStatus, List<String> issueTags, String issueType, String issuePriority){
+    private List<String> setUpSearchParams(String issueTitle, String issueStatus, List<String> issueTags, String issueType, String issuePriority, boolean ascending){
 
         List<String> params = new ArrayList<>();
 
+        params.add("pageSize=" + SEARCH_PAGE_SIZE);
+        params.add("order=" + (ascending ? "asc" : "desc"));
+
         if (issueTitle != null && !issueTitle.isEmpty()) {
             //Encoder to use since there cannot be spaces in search parameters of HTTP requests
             params.add("title=" + URLEncoder.encode(issueTitle, StandardCharsets.UTF_8));
@@ -301,13 +534,19 @@ public class IssueController {
     }
 
     /**
-     * Esegue effettivamente la richiesta GET di ricerca al backend.
+     * Esegue effettivamente la richiesta GET di ricerca al backend per la pagina indicata dal token.
+     * <p>
+     * Solo la prima pagina è una richiesta condizionale, che {@link ApiClient} conserva per rivalidarla con l'ETag;
+     * le pagine successive vengono sempre scaricate, così la loro memoria resta limitata da {@link #cachedPages}.
+     * </p>
+     *
+     * @param pageToken Il token della pagina, oppure {@code null} per la prima.
      */
-    private HttpResponse<String> sendSearchRequest(String queryString){
+    private CompletableFuture<HttpResponse<byte[]>> sendSearchRequest(String pageToken){
 
         String fullUrl = client.getBaseUrl() + "/issues/search";
 
-        fullUrl += "?" + queryString;
+        fullUrl += "?" + pageQuery(pageToken);
 
         logger.log(Level.FINE, "Calling URL: {0}", fullUrl);
 
@@ -315,31 +554,71 @@ public class IssueController {
                 .uri(URI.create(fullUrl))
                 .GET();
 
-        return client.sendRequest(requestBuilder);
+        if (pageToken != null)
+            return client.sendRequestAsync(requestBuilder);
+
+        return client.sendConditionalRequestAsync(requestBuilder);
 
     }
 
     /**
-     * Gestisce la risposta del backend alla ricerca, popolando la lista {@code issues}.
+     * Gestisce la risposta del backend a una nuova pagina della ricerca, accodandola alle pagine già ricevute.
+     * <p>
+     * Se la risposta contiene l'header {@code X-Next-Page-Token}, lo memorizza per permettere
+     * il caricamento della pagina successiva; altrimenti la ricerca è considerata completa.
+     * In caso di errore le pagine già caricate restano disponibili, ma non ne vengono richieste altre.
+     * </p>
      *
-     * @param response La risposta HTTP.
+     * @param result    La risposta HTTP, se la richiesta è andata a buon fine.
+     * @param error     L'errore con cui è terminata la richiesta, oppure {@code null}.
+     * @param pageToken Il token con cui è stata richiesta la pagina ({@code null} per la prima).
      * @return {@code true} se sono stati trovati risultati o la lista è vuota ma la richiesta è valida (200/204).
      */
-    private boolean handleSearchResponse(HttpResponse<String> response){
+    private boolean handleSearchResponse(HttpResponse<byte[]> result, Throwable error, String pageToken){
+
+        List<IssueDTO> page = readSearchPage(result, error);
+
+        if (page == null) {
+            this.nextPageToken = null;
+            return false;
+        }
+
+        if (page.isEmpty()) {
+            this.nextPageToken = null;
+            return true;
+        }
+
+        cachedPages.put(pageTokens.size(), page);
+        pageTokens.add(pageToken);
+        loadedIssuesCount += page.size();
+
+        this.nextPageToken = result.headers().firstValue(NEXT_PAGE_TOKEN_HEADER).orElse(null);
+        logger.log(Level.FINE, "Search completed successfully. Number of issues founded: {0}", loadedIssuesCount);
+
+        return true;
+    }
+
+    /**
+     * Legge una pagina di risultati dalla risposta del backend alla ricerca.
+     *
+     * @param result La risposta HTTP, se la richiesta è andata a buon fine.
+     * @param error  L'errore con cui è terminata la richiesta, oppure {@code null}.
+     * @return Le issue della pagina (lista vuota per 204 No Content), oppure {@code null} in caso di errore.
+     */
+    private List<IssueDTO> readSearchPage(HttpResponse<byte[]> result, Throwable error){
 
         try{
 
+            HttpResponse<byte[]> response = ApiClient.responseOf(result, error);
+
             if (response.statusCode() == 200) {
 
-                this.issues = client.getObjectMapper().readValue(response.body(), new TypeReference<>(){});
-                logger.log(Level.FINE, "Search completed successfully. Number of issues founded: {0}", this.issues.size());
-                return true;
+                return client.getObjectMapper(response).readValue(response.body(), new TypeReference<>(){});
 
             } else if (response.statusCode() == 204) {
 
-                this.issues = new ArrayList<>();
                 logger.log(Level.FINE, "Search completed successfully, BUT no issues were found. ");
-                return true;
+                return new ArrayList<>();
 
             } else {
                 // Generic error
@@ -347,23 +626,18 @@ public class IssueController {
                 String errorMsg = client.getErrorMessageFromResponse(response);
 
                 logger.log(Level.WARNING, "Issue search failed. Error: {0}", errorMsg);
-
-                this.issues = new ArrayList<>();
-
             }
 
         } catch (RequestError re) {
 
             logger.log(Level.WARNING, "Backend offline: {0}", re.getMessage());
-            this.issues = new ArrayList<>();
 
         } catch (Exception e) {
 
             logger.log(Level.SEVERE, e.getMessage());
-            this.issues = new ArrayList<>();
         }
 
-        return false;
+        return null;
 
     }
 
@@ -373,52 +647,57 @@ public class IssueController {
      * Utile per aggiornare le informazioni prima di visualizzarle, assicurandosi di avere i dati più recenti.
      * </p>
      *
-     * @return {@code true} se il recupero ha successo.
+     * @return Il future che vale {@code true} se il recupero ha successo.
      */
-    public boolean getIssueById() {
+    public CompletableFuture<Boolean> getIssueById() {
 
-        try {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(client.getBaseUrl() + ISSUES_PATH + issue.getId()))
+                .GET();
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(client.getBaseUrl() + ISSUES_PATH + issue.getId()))
-                    .GET();
+        return issueRequest.replace(client.sendConditionalRequestAsync(requestBuilder).handleAsync((result, error) -> {
 
-            HttpResponse<String> response = client.sendRequest(requestBuilder);
+            try {
 
-            if (response.statusCode() == 200) {
+                HttpResponse<byte[]> response = ApiClient.responseOf(result, error);
 
-                this.issue = client.getObjectMapper().readValue(response.body(), new TypeReference<>() {});
-                logger.log(Level.FINE, "Search of issue by ID completed successfully. Issue id: {0}", this.issue.getId());
-                return true;
+                if (response.statusCode() == 200) {
 
-            } else if (response.statusCode() == 404) {
+                    this.issue = client.getObjectMapper(response).readValue(response.body(), new TypeReference<>() {});
+                    logger.log(Level.FINE, "Search of issue by ID completed successfully. Issue id: {0}", this.issue.getId());
+                    return true;
 
-                logger.log(Level.WARNING, "Issue search failed. Searched ID was {0}", issue.getId());
-                this.issue = null;
+                } else if (response.statusCode() == 404) {
 
-            } else {
+                    logger.log(Level.WARNING, "Issue search failed. Searched ID was {0}", issue.getId());
+                    this.issue = null;
 
-                String errorMsg = client.getErrorMessageFromResponse(response);
-                logger.log(Level.WARNING, "Server error: {0}", errorMsg);
-                this.issue = null;
+                } else {
 
-            }
+                    String errorMsg = client.getErrorMessageFromResponse(response);
+                    logger.log(Level.WARNING, "Server error: {0}", errorMsg);
+                    this.issue = null;
 
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, e.getMessage());
-            this.issue = null;
-        }
+                }
 
-        return false;
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, e.getMessage());
+                this.issue = null;
+            }
 
+            return false;
+
+        }, ApiClient.EDT));
     }
 
     /**
      * Imposta lo stato della issue corrente a "RESOLVED".
      *
-     * @return {@code true} se l'aggiornamento ha successo.
+     * @return Il future che vale {@code true} se l'aggiornamento ha successo.
      */
-    public boolean setIssueAsResolved() {
+    public CompletableFuture<Boolean> setIssueAsResolved() {
+
+        HttpRequest.Builder requestBuilder;
 
         try {
 
@@ -426,46 +705,58 @@ public class IssueController {
 
             String jsonBody = client.getObjectMapper().writeValueAsString(requestBody);
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+            requestBuilder = HttpRequest.newBuilder()
                     .uri(URI.create(client.getBaseUrl() + ISSUES_PATH + issue.getId() + "/status"))
                     .header(CONTENT_TYPE, APPLICATION_JSON)
                     .PUT(HttpRequest.BodyPublishers.ofString(jsonBody));
 
-            HttpResponse<String> response = client.sendRequest(requestBuilder);
+        } catch (JsonProcessingException e) {
+            logger.log(Level.SEVERE, e.getMessage());
+            return CompletableFuture.completedFuture(false);
+        }
 
-            if (response.statusCode() == 200) {
+        return client.sendRequestAsync(requestBuilder).handleAsync((result, error) -> {
 
-                issue.setStatus(IssueStatusDTO.RESOLVED);
-                logger.log(Level.FINE, "Issue status update success: {0}", response.body());
+            try {
 
-                return true;
-            } else if (response.statusCode() == 404) {
+                HttpResponse<byte[]> response = ApiClient.responseOf(result, error);
 
-                logger.log(Level.WARNING, "Issue status update failed because the issue was not found. Searched ID was {0}", issue.getId());
-                this.issue = null;
+                if (response.statusCode() == 200) {
 
-            }else {
+                    issue.setStatus(IssueStatusDTO.RESOLVED);
+                    logger.log(Level.FINE, "Issue status update success: {0}", ApiClient.bodyAsText(response));
 
-                String errorMsg = client.getErrorMessageFromResponse(response);
-                logger.log(Level.WARNING, "Error in status update: {0}", errorMsg);
+                    return true;
+                } else if (response.statusCode() == 404) {
 
-            }
+                    logger.log(Level.WARNING, "Issue status update failed because the issue was not found. Searched ID was {0}", issue.getId());
+                    this.issue = null;
 
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, e.getMessage());
-        }
+                }else {
+
+                    String errorMsg = client.getErrorMessageFromResponse(response);
+                    logger.log(Level.WARNING, "Error in status update: {0}", errorMsg);
+
+                }
 
-        return false;
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, e.getMessage());
+            }
+
+            return false;
 
+        }, ApiClient.EDT);
     }
 
     /**
      * Assegna la issue corrente a uno sviluppatore specificato tramite email.
      *
      * @param resolverEmail L'email dello sviluppatore a cui assegnare la issue.
-     * @return {@code true} se l'assegnazione ha successo.
+     * @return Il future che vale {@code true} se l'assegnazione ha successo.
      */
-    public boolean assignIssueToDeveloper(String resolverEmail) {
+    public CompletableFuture<Boolean> assignIssueToDeveloper(String resolverEmail) {
+
+        HttpRequest.Builder requestBuilder;
 
         try {
 
@@ -474,40 +765,50 @@ public class IssueController {
 
             String jsonBody = client.getObjectMapper().writeValueAsString(resolver);
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+            requestBuilder = HttpRequest.newBuilder()
                     .uri(URI.create(client.getBaseUrl() + ISSUES_PATH + issue.getId() + "/resolver"))
                     .header(CONTENT_TYPE, APPLICATION_JSON)
                     .PUT(HttpRequest.BodyPublishers.ofString(jsonBody));
 
-            HttpResponse<String> response = client.sendRequest(requestBuilder);
+        } catch (JsonProcessingException e) {
+            logger.log(Level.SEVERE, e.getMessage());
+            return CompletableFuture.completedFuture(false);
+        }
 
-            if (response.statusCode() == 200) {
+        return client.sendRequestAsync(requestBuilder).handleAsync((result, error) -> {
 
-                UserDTO fullResolverInfo = client.getObjectMapper().readValue(response.body(), new TypeReference<>() {});
+            try {
 
-                issue.setAssignedDeveloper(fullResolverInfo);
+                HttpResponse<byte[]> response = ApiClient.responseOf(result, error);
 
-                logger.log(Level.FINE, "Issue assigned correctly to: {0}", fullResolverInfo.getEmail());
+                if (response.statusCode() == 200) {
 
-                return true;
+                    UserDTO fullResolverInfo = client.getObjectMapper(response).readValue(response.body(), new TypeReference<>() {});
 
-            } else if (response.statusCode() == 404) {
+                    issue.setAssignedDeveloper(fullResolverInfo);
 
-                logger.log(Level.WARNING, "Issue assigning failed because either the issue or the user were not found. Searched ID was {0}, user email was {1}", new Object[]{issue.getId(), resolverEmail});
+                    logger.log(Level.FINE, "Issue assigned correctly to: {0}", fullResolverInfo.getEmail());
 
-            } else {
+                    return true;
 
-                String errorMsg = client.getErrorMessageFromResponse(response);
-                logger.log(Level.WARNING, "Error in issue assigment: {0}", errorMsg);
+                } else if (response.statusCode() == 404) {
 
-            }
+                    logger.log(Level.WARNING, "Issue assigning failed because either the issue or the user were not found. Searched ID was {0}, user email was {1}", new Object[]{issue.getId(), resolverEmail});
 
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, e.getMessage());
-        }
+                } else {
+
+                    String errorMsg = client.getErrorMessageFromResponse(response);
+                    logger.log(Level.WARNING, "Error in issue assigment: {0}", errorMsg);
+
+                }
+
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, e.getMessage());
+            }
 
-        return false;
+            return false;
 
+        }, ApiClient.EDT);
     }
 
     /**
@@ -523,19 +824,6 @@ public class IssueController {
 
     }
 
-    /**
-     * Restituisce una lista con i titoli di tutte le issue correntemente caricate.
-     */
-    public List<String> getIssuesTitles () {
-
-        List<String> issuesTitles = new ArrayList<>();
-
-        for (IssueDTO i : issues)
-            issuesTitles.add(i.getTitle());
-
-        return issuesTitles;
-    }
-
     /**
      * Restituisce il titolo della issue attualmente selezionata.
      */
@@ -573,31 +861,106 @@ public class IssueController {
     }
 
     /**
-     * Converte l'immagine della issue (byte array) in un file temporaneo.
+     * Scarica l'immagine della issue corrente in un file temporaneo.
+     * <p>
+     * L'immagine non fa parte dei dettagli della issue: viene richiesta a {@code GET /issues/{id}/image}
+     * solo quando l'utente vuole visualizzarla, e il corpo della risposta viene scritto direttamente su file.
+     * Il file temporaneo prende l'estensione dal Content-Type ricevuto e viene marcato per l'eliminazione all'uscita.
+     * </p>
+     *
      * <p>
-     * Utile per visualizzare l'immagine o aprirla con il visualizzatore di sistema.
-     * Il file temporaneo viene marcato per l'eliminazione all'uscita.
+     * Il file viene scritto e rinominato dai thread del client HTTP; il risultato arriva nel thread dell'interfaccia grafica.
      * </p>
      *
-     * @return Il file temporaneo dell'immagine, o {@code null} in caso di errore.
+     * @return Il future del file temporaneo dell'immagine, o di {@code null} se la issue non ha immagini o in caso di errore.
      */
-    public File getIssueImageAsFile() {
+    public CompletableFuture<File> getIssueImageAsFile() {
+
+        if (issue == null || !issue.isHasImage())
+            return CompletableFuture.completedFuture(null);
+
+        Path tempFile;
 
         try {
-            File tempFile = File.createTempFile("issue_img_", ".jpg");
+            tempFile = Files.createTempFile("issue_img_", ".tmp");
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
 
+        int issueId = issue.getId();
 
-            Files.write(tempFile.toPath(), issue.getImage());
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(client.getBaseUrl() + ISSUES_PATH + issueId + "/image"))
+                .GET();
 
-            tempFile.deleteOnExit();
+        return client.sendRequestAsync(requestBuilder, responseInfo ->
+                responseInfo.statusCode() == 200
+                        ? HttpResponse.BodySubscribers.ofFile(tempFile)
+                        : HttpResponse.BodySubscribers.replacing((Path) null)).thenApply(response -> {
 
-            return tempFile;
-        }catch (IOException e) {
-            logger.log(Level.SEVERE, e.getMessage());
+            if (response.statusCode() != 200) {
+
+                logger.log(Level.WARNING, "Image download failed with status {0}. Issue id: {1}",
+                        new Object[]{response.statusCode(), issueId});
+                deleteTempFile(tempFile);
+                return null;
+            }
+
+            try {
+
+                String extension = imageExtension(response.headers().firstValue("Content-Type").orElse(""));
+                Path imageFile = Files.move(tempFile, tempFile.resolveSibling(tempFile.getFileName().toString().replace(".tmp", extension)));
+
+                imageFile.toFile().deleteOnExit();
+
+                return imageFile.toFile();
+
+            } catch (IOException e) {
+
+                logger.log(Level.SEVERE, e.getMessage());
+                deleteTempFile(tempFile);
+                return null;
+            }
+
+        }).handleAsync((imageFile, error) -> {
+
+            if (error == null)
+                return imageFile;
+
+            logger.log(Level.SEVERE, error.getMessage());
+            deleteTempFile(tempFile);
             return null;
+
+        }, ApiClient.EDT);
+    }
+
+    /**
+     * Elimina il file temporaneo di un download non riuscito.
+     */
+    private static void deleteTempFile(Path tempFile) {
+
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException ex) {
+            logger.log(Level.FINE, "Unable to delete temporary image file: {0}", ex.getMessage());
         }
     }
 
+    /**
+     * Restituisce l'estensione di file corrispondente al tipo MIME di un'immagine.
+     */
+    private static String imageExtension(String contentType) {
+
+        return switch (contentType) {
+            case "image/png" -> ".png";
+            case "image/gif" -> ".gif";
+            case "image/webp" -> ".webp";
+            case "image/bmp" -> ".bmp";
+            default -> ".jpg";
+        };
+    }
+
     /**
      * Restituisce i tag della issue corrente come lista di stringhe.
      */
@@ -643,14 +1006,24 @@ public class IssueController {
     }
 
     /**
-     * Recupera una issue dalla lista dei risultati in base all'indice.
+     * Recupera una issue dai risultati dell'ultima ricerca in base all'indice.
+     * <p>
+     * Restituisce la issue solo se la sua pagina è in memoria: una pagina scartata dalla cache
+     * va prima richiesta con {@link #loadIssuesPageOf(int)}.
+     * </p>
      *
-     * @param index Indice della issue nella lista {@code issues}.
-     * @return L'oggetto {@code IssueDTO}.
+     * @param index Indice della issue tra i risultati dell'ultima ricerca.
+     * @return L'oggetto {@code IssueDTO}, oppure {@code null} se la sua pagina non è in memoria.
      */
     public IssueDTO getIssueFromIndex(int index) {
 
-        return issues.get(index);
+        List<IssueDTO> page = cachedPages.get(index / SEARCH_PAGE_SIZE);
+        int indexInPage = index % SEARCH_PAGE_SIZE;
+
+        if (page == null || index < 0 || indexInPage >= page.size())
+            return null;
+
+        return page.get(indexInPage);
     }
 
     /**
@@ -688,20 +1061,4 @@ public class IssueController {
             default -> -1;
         };
     }
-
-    /**
-     * Ribalta l'ArrayList issues per mostrarle all'utente ordinate per priorità crescente o decrescente.
-     */
-    public void reOrderIssues(){
-
-        IssueDTO issueTmp;
-        int size = issues.size();
-
-        for(int i=0; i < size/2; i++){
-            issueTmp = issues.get(i);
-            issues.set(i, issues.get( size - i -1) );
-            issues.set( size - i -1, issueTmp);
-        }
-
-    }
 }
@@ -0,0 +1,48 @@
+package frontend.controller;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Tiene traccia dell'ultima richiesta asincrona di un'operazione che si ripete (es. una ricerca).
+ * <p>
+ * Quando parte una nuova richiesta, la precedente ancora in corso viene annullata: la sua risposta
+ * non sovrascriverà più lo stato del controller né l'interfaccia, e lo scambio HTTP viene interrotto.
+ * Va usata nel thread dell'interfaccia grafica, come i controller che la contengono.
+ * </p>
+ */
+public class LatestRequest {
+
+    /**
+     * Il future della richiesta corrente, oppure {@code null} se non ne è mai partita una.
+     */
+    private CompletableFuture<?> current;
+
+    /**
+     * Annulla la richiesta precedente, se ancora in corso, e registra la nuova come corrente.
+     *
+     * @param request Il future della nuova richiesta.
+     * @param <T>     Il tipo del risultato.
+     * @return Lo stesso future ricevuto.
+     */
+    public <T> CompletableFuture<T> replace(CompletableFuture<T> request) {
+
+        if (current != null)
+            current.cancel(false);
+
+        current = request;
+
+        return request;
+    }
+
+    /**
+     * Annulla la richiesta corrente, se ancora in corso.
+     */
+    public void cancel() {
+
+        if (current != null)
+            current.cancel(false);
+
+        current = null;
+    }
+
+}
@@ -1,6 +1,7 @@
 package frontend.controller;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import frontend.config.ApiPaths;
 import frontend.dto.ProjectDTO;
 import frontend.dto.StatisticDTO;
@@ -8,6 +9,7 @@ import frontend.dto.UserDTO;
 import frontend.exception.RequestError;
 import lombok.Getter;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpRequest;
@@ -16,6 +18,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -69,6 +72,22 @@ public class ProjectController {
      */
     private StatisticDTO dashboardData;
 
+    /**
+     * Risposta da cui è stato letto {@code dashboardData}: se la richiesta condizionale restituisce
+     * la stessa risposta (304 Not Modified), i dati sono invariati e non vengono deserializzati di nuovo.
+     */
+    private HttpResponse<byte[]> dashboardResponse;
+
+    /**
+     * Ultima ricerca di progetti: una nuova ricerca annulla quella ancora in corso.
+     */
+    private final LatestRequest searchRequest = new LatestRequest();
+
+    /**
+     * Ultima richiesta della dashboard: una nuova richiesta annulla quella ancora in corso.
+     */
+    private final LatestRequest dashboardRequest = new LatestRequest();
+
     /**
      * Costante per le intestazioni HTTP.
      */
@@ -115,61 +134,69 @@ public class ProjectController {
      * <li>**Errore**: Logga l'errore e svuota la lista.</li>
      * </ul>
      *
+     * <p>
+     * Una nuova ricerca annulla quella precedente ancora in corso, la cui risposta viene ignorata.
+     * </p>
+     *
      * @param projectName Il nome (o parte di esso) del progetto da cercare.
-     * @return {@code true} se l'operazione (ricerca o nessun risultato) va a buon fine senza errori di rete.
+     * @return Il future che vale {@code true} se l'operazione (ricerca o nessun risultato) va a buon fine senza errori di rete.
      */
-    public boolean searchProjectsByName(String projectName) {
+    public CompletableFuture<Boolean> searchProjectsByName(String projectName) {
 
-        try {
+        //Encoder to use since there cannot be spaces in search parameters of HTTP requests
+        String encodedProjectName = URLEncoder.encode(projectName, StandardCharsets.UTF_8);
 
-            //Encoder to use since there cannot be spaces in search parameters of HTTP requests
-            String encodedProjectName = URLEncoder.encode(projectName, StandardCharsets.UTF_8);
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(client.getBaseUrl() + PROJECTS_PATH +"search?name=" + encodedProjectName))
+                .GET();
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(client.getBaseUrl() + PROJECTS_PATH +"search?name=" + encodedProjectName))
-                    .GET();
+        return searchRequest.replace(client.sendRequestAsync(requestBuilder).handleAsync((result, error) -> {
 
-            HttpResponse<String> response = client.sendRequest(requestBuilder);
+            try {
 
-            if (response.statusCode() == 200) {
+                HttpResponse<byte[]> response = ApiClient.responseOf(result, error);
 
-                this.projects = client.getObjectMapper().readValue(response.body(), new TypeReference<>() {});
-                logger.log(Level.FINE, "Search completed successfully. Number of projects founded: {0}", this.projects.size());
+                if (response.statusCode() == 200) {
 
-                return true;
+                    this.projects = client.getObjectMapper(response).readValue(response.body(), new TypeReference<>() {});
+                    logger.log(Level.FINE, "Search completed successfully. Number of projects founded: {0}", this.projects.size());
 
-            } else if (response.statusCode() == 204) {
+                    return true;
 
-                //No results, clear the cache
-                this.projects = new ArrayList<>();
-                logger.log(Level.FINE, "Search completed successfully, BUT no projects were found. ");
+                } else if (response.statusCode() == 204) {
 
-                return true;
+                    //No results, clear the cache
+                    this.projects = new ArrayList<>();
+                    logger.log(Level.FINE, "Search completed successfully, BUT no projects were found. ");
 
-            } else {
+                    return true;
 
-                // Generic error
+                } else {
 
-                String errorMsg = client.getErrorMessageFromResponse(response);
+                    // Generic error
 
-                logger.log(Level.WARNING, "Projects search failed. Error: {0}", errorMsg);
+                    String errorMsg = client.getErrorMessageFromResponse(response);
 
-                this.projects = new ArrayList<>();
+                    logger.log(Level.WARNING, "Projects search failed. Error: {0}", errorMsg);
 
-            }
+                    this.projects = new ArrayList<>();
 
-        } catch (RequestError re) {
+                }
 
-            logger.log(Level.WARNING, "Backend offline: {0}", re.getMessage());
-            this.projects = new ArrayList<>();
+            } catch (RequestError re) {
 
-        } catch (Exception e) {
+                logger.log(Level.WARNING, "Backend offline: {0}", re.getMessage());
+                this.projects = new ArrayList<>();
 
-            logger.log(Level.SEVERE, e.getMessage());
-            this.projects = new ArrayList<>();
-        }
+            } catch (Exception e) {
 
-        return false;
+                logger.log(Level.SEVERE, e.getMessage());
+                this.projects = new ArrayList<>();
+            }
+
+            return false;
+
+        }, ApiClient.EDT));
 
     }
 
@@ -177,42 +204,55 @@ public class ProjectController {
      * Invia una richiesta per creare un nuovo progetto.
      *
      * @param projectName Il nome del nuovo progetto.
-     * @return {@code true} se il progetto viene creato con successo (HTTP 200).
+     * @return Il future che vale {@code true} se il progetto viene creato con successo (HTTP 200).
      */
-    public boolean createProject(String projectName){
+    public CompletableFuture<Boolean> createProject(String projectName){
+
+        HttpRequest.Builder requestBuilder;
 
         try {
 
-           ProjectDTO projectToCreate = new ProjectDTO();
-           projectToCreate.setName(projectName);
+            ProjectDTO projectToCreate = new ProjectDTO();
+            projectToCreate.setName(projectName);
 
             String jsonBody = client.getObjectMapper().writeValueAsString(projectToCreate);
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+            requestBuilder = HttpRequest.newBuilder()
                     .uri(URI.create(client.getBaseUrl() + "/projects"))
                     .header(CONTENT_TYPE, APPLICATION_JSON)
                     .POST(HttpRequest.BodyPublishers.ofString(jsonBody));
 
-            HttpResponse<String> response = client.sendRequest(requestBuilder);
+        } catch (JsonProcessingException e) {
+            logger.log(Level.SEVERE, e.getMessage());
+            return CompletableFuture.completedFuture(false);
+        }
+
+        return client.sendRequestAsync(requestBuilder).handleAsync((result, error) -> {
+
+            try {
 
-            if (response.statusCode() == 200) {
+                HttpResponse<byte[]> response = ApiClient.responseOf(result, error);
 
-                logger.log(Level.FINE, "Project created successfully!");
+                if (response.statusCode() == 200) {
 
-                return true;
+                    logger.log(Level.FINE, "Project created successfully!");
 
-            } else {
+                    return true;
 
-                logger.log(Level.WARNING, "Project creation failed. Code: {0}", response.statusCode());
+                } else {
 
-                logger.log(Level.WARNING, "Error body: {0}", response.body());
+                    logger.log(Level.WARNING, "Project creation failed. Code: {0}", response.statusCode());
 
+                    logger.log(Level.WARNING, "Error body: {0}", client.getErrorMessageFromResponse(response));
+
+                }
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, e.getMessage());
             }
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, e.getMessage());
-        }
 
-        return false;
+            return false;
+
+        }, ApiClient.EDT);
 
     }
 
@@ -221,42 +261,80 @@ public class ProjectController {
      * <p>
      * Effettua una chiamata GET all'endpoint dashboard e deserializza la risposta
      * nell'oggetto {@code StatisticDTO} memorizzato in {@code dashboardData}.
+     * La richiesta è condizionale: se le statistiche non sono cambiate il server risponde 304
+     * e vengono mantenuti i dati già presenti.
+     * </p>
+     * <p>
+     * La risposta viene deserializzata fuori dal thread dell'interfaccia grafica, che riceve
+     * solo il DTO pronto. Una nuova richiesta annulla quella precedente ancora in corso.
      * </p>
      *
-     * @return {@code true} se i dati vengono recuperati correttamente.
+     * @return Il future che vale {@code true} se i dati vengono recuperati correttamente.
      */
-    public boolean createDashBoard() {
+    public CompletableFuture<Boolean> createDashBoard() {
 
-        try {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(client.getBaseUrl() + PROJECTS_PATH + "dashboard"))
+                .GET();
+
+        // Parse off the EDT; a response that is the one already parsed (304) is not read again
+        HttpResponse<byte[]> previousResponse = this.dashboardResponse;
+        boolean parsed = this.dashboardData != null;
+
+        return dashboardRequest.replace(client.sendConditionalRequestAsync(requestBuilder).thenApply(response -> {
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(client.getBaseUrl() + PROJECTS_PATH + "dashboard"))
-                    .GET();
+            if (response.statusCode() != 200 || (response == previousResponse && parsed))
+                return new DashboardResponse(response, null);
 
-            HttpResponse<String> response = client.sendRequest(requestBuilder);
+            try {
+                return new DashboardResponse(response, client.getObjectMapper(response).readValue(response.body(), StatisticDTO.class));
+            } catch (IOException e) {
+                throw new RequestError(e.getMessage());
+            }
+
+        }).handleAsync((result, error) -> {
+
+            try {
 
-            if (response.statusCode() == 200) {
+                DashboardResponse dashboard = ApiClient.responseOf(result, error);
+                HttpResponse<byte[]> response = dashboard.response();
 
-                this.dashboardData = client.getObjectMapper().readValue(response.body(), StatisticDTO.class);
-                logger.log(Level.FINE, "Dashboard generated successfully!");
+                if (response.statusCode() == 200) {
 
-                return true;
+                    if (dashboard.data() != null) {
+                        this.dashboardData = dashboard.data();
+                        this.dashboardResponse = response;
+                    }
 
-            } else {
+                    logger.log(Level.FINE, "Dashboard generated successfully!");
 
-                logger.log(Level.WARNING, "Error dashboard generation. Code: {0}", response.statusCode());
+                    return true;
 
-                logger.log(Level.WARNING, "Error body: {0}", response.body());
+                } else {
 
+                    logger.log(Level.WARNING, "Error dashboard generation. Code: {0}", response.statusCode());
+
+                    logger.log(Level.WARNING, "Error body: {0}", client.getErrorMessageFromResponse(response));
+
+                }
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, e.getMessage());
             }
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, e.getMessage());
-        }
 
-        return false;
+            return false;
+
+        }, ApiClient.EDT));
 
     }
 
+    /**
+     * Risposta della dashboard con i dati già deserializzati.
+     *
+     * @param response La risposta HTTP ricevuta.
+     * @param data     Le statistiche lette dalla risposta, oppure {@code null} se non sono cambiate o la richiesta è fallita.
+     */
+    private record DashboardResponse(HttpResponse<byte[]> response, StatisticDTO data) {}
+
     /**
      * Restituisce una lista degli ID dei progetti trovati nell'ultima ricerca.
      *
@@ -1,6 +1,7 @@
 package frontend.controller;
 
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import frontend.config.ApiPaths;
 import frontend.dto.TeamDTO;
@@ -17,6 +18,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -66,6 +68,16 @@ public class TeamController {
      */
     private StatisticDTO teamReport;
 
+    /**
+     * Ultima ricerca di team: una nuova ricerca annulla quella ancora in corso.
+     */
+    private final LatestRequest searchRequest = new LatestRequest();
+
+    /**
+     * Ultima richiesta di report: una nuova richiesta (es. per un altro mese) annulla quella ancora in corso.
+     */
+    private final LatestRequest reportRequest = new LatestRequest();
+
     /**
      * Costante per le intestazioni HTTP.
      */
@@ -108,9 +120,11 @@ public class TeamController {
      * </p>
      *
      * @param teamName Il nome del team da creare.
-     * @return {@code true} se la creazione ha successo.
+     * @return Il future che vale {@code true} se la creazione ha successo.
      */
-    public boolean createTeam(String teamName){
+    public CompletableFuture<Boolean> createTeam(String teamName){
+
+        HttpRequest.Builder requestBuilder;
 
         try {
 
@@ -123,183 +137,202 @@ public class TeamController {
 
             String jsonBody = client.getObjectMapper().writeValueAsString(teamToCreate);
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+            requestBuilder = HttpRequest.newBuilder()
                     .uri(URI.create(client.getBaseUrl() + "/teams"))
                     .header(CONTENT_TYPE, APPLICATION_JSON)
                     .POST(HttpRequest.BodyPublishers.ofString(jsonBody));
 
-            HttpResponse<String> response = client.sendRequest(requestBuilder);
+        } catch (JsonProcessingException e) {
+            logger.log(Level.SEVERE, e.getMessage());
+            return CompletableFuture.completedFuture(false);
+        }
+
+        return client.sendRequestAsync(requestBuilder).handleAsync((result, error) -> {
+
+            try {
+
+                HttpResponse<byte[]> response = ApiClient.responseOf(result, error);
 
-            if (response.statusCode() == 200) {
+                if (response.statusCode() == 200) {
 
-                logger.log(Level.FINE, "Team created successfully!");
+                    logger.log(Level.FINE, "Team created successfully!");
 
-                return true;
+                    return true;
 
-            } else {
+                } else {
 
-                logger.log(Level.WARNING, "Team creation failed. Code: {0}", response.statusCode());
+                    logger.log(Level.WARNING, "Team creation failed. Code: {0}", response.statusCode());
 
-                logger.log(Level.WARNING, "Error body: {0}", response.body());
+                    logger.log(Level.WARNING, "Error body: {0}", client.getErrorMessageFromResponse(response));
 
+                }
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, e.getMessage());
             }
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, e.getMessage());
-        }
 
-        return false;
+            return false;
 
+        }, ApiClient.EDT);
     }
 
     /**
      * Cerca i team in base al nome all'interno del progetto corrente.
      *
      * @param teamName Il nome (o parte di esso) del team da cercare.
-     * @return {@code true} se la ricerca va a buon fine (200 o 204).
+     * @return Il future che vale {@code true} se la ricerca va a buon fine (200 o 204).
      */
-    public boolean searchTeamsByNameAndProject(String teamName) {
+    public CompletableFuture<Boolean> searchTeamsByNameAndProject(String teamName) {
 
-        try {
+        //Encoder to use since there cannot be spaces in search parameters of HTTP requests
+        String encodedTeamName = URLEncoder.encode(teamName, StandardCharsets.UTF_8);
 
-            //Encoder to use since there cannot be spaces in search parameters of HTTP requests
-            String encodedTeamName = URLEncoder.encode(teamName, StandardCharsets.UTF_8);
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(client.getBaseUrl() + TEAMS_PATH + "search?teamName=" + encodedTeamName +
+                        "&projectId=" + ProjectController.getInstance().getProject().getId()))
+                .GET();
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(client.getBaseUrl() + TEAMS_PATH + "search?teamName=" + encodedTeamName +
-                            "&projectId=" + ProjectController.getInstance().getProject().getId()))
-                    .GET();
+        return searchRequest.replace(client.sendRequestAsync(requestBuilder).handleAsync((result, error) -> {
 
-            HttpResponse<String> response = client.sendRequest(requestBuilder);
+            try {
 
-            if (response.statusCode() == 200) {
+                HttpResponse<byte[]> response = ApiClient.responseOf(result, error);
 
-                this.teams = client.getObjectMapper().readValue(response.body(), new TypeReference<>() {});
+                if (response.statusCode() == 200) {
 
-                logger.log(Level.FINE, "Search completed successfully. Number of teams founded: {0}", this.teams.size());
+                    this.teams = client.getObjectMapper(response).readValue(response.body(), new TypeReference<>() {});
 
-                return true;
+                    logger.log(Level.FINE, "Search completed successfully. Number of teams founded: {0}", this.teams.size());
 
-            } else if (response.statusCode() == 204) {
+                    return true;
 
-                //No results, clear the cache
-                this.teams = new ArrayList<>();
+                } else if (response.statusCode() == 204) {
 
-                logger.log(Level.FINE, "Search completed successfully, BUT no teams were found. ");
+                    //No results, clear the cache
+                    this.teams = new ArrayList<>();
 
-                return true;
+                    logger.log(Level.FINE, "Search completed successfully, BUT no teams were found. ");
 
-            } else {
+                    return true;
 
-                // Generic error
+                } else {
 
-                String errorMsg = client.getErrorMessageFromResponse(response);
+                    // Generic error
 
-                logger.log(Level.WARNING, "Projects search failed. Error: {0}", errorMsg);
+                    String errorMsg = client.getErrorMessageFromResponse(response);
 
-                this.teams = new ArrayList<>();
+                    logger.log(Level.WARNING, "Projects search failed. Error: {0}", errorMsg);
 
-            }
+                    this.teams = new ArrayList<>();
 
-        } catch (RequestError re) {
+                }
 
-            logger.log(Level.WARNING, "Backend offline: {0}", re.getMessage());
-            this.teams = new ArrayList<>();
+            } catch (RequestError re) {
 
-        } catch (Exception e) {
+                logger.log(Level.WARNING, "Backend offline: {0}", re.getMessage());
+                this.teams = new ArrayList<>();
 
-            logger.log(Level.SEVERE, e.getMessage());
-            this.teams = new ArrayList<>();
-        }
+            } catch (Exception e) {
 
-        return false;
+                logger.log(Level.SEVERE, e.getMessage());
+                this.teams = new ArrayList<>();
+            }
 
+            return false;
+
+        }, ApiClient.EDT));
     }
 
     /**
      * Rimuove un membro dal team correntemente selezionato.
      *
      * @param emailUserToRemove L'email dell'utente da rimuovere.
-     * @return {@code true} se la rimozione ha successo.
+     * @return Il future che vale {@code true} se la rimozione ha successo.
      */
-    public boolean removeMemberFromSelectedTeam(String emailUserToRemove){
+    public CompletableFuture<Boolean> removeMemberFromSelectedTeam(String emailUserToRemove){
 
-        try {
+        //Encoder to use since there cannot be spaces in search parameters of HTTP requests
+        String encodedUserEmail = URLEncoder.encode(emailUserToRemove, StandardCharsets.UTF_8);
 
-            //Encoder to use since there cannot be spaces in search parameters of HTTP requests
-            String encodedUserEmail = URLEncoder.encode(emailUserToRemove, StandardCharsets.UTF_8);
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(client.getBaseUrl() + TEAMS_PATH + "remove-member?teamId=" + TeamController.getInstance().getTeam().getId() + "&email=" + encodedUserEmail))
+                .DELETE();
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(client.getBaseUrl() + TEAMS_PATH + "remove-member?teamId=" + TeamController.getInstance().getTeam().getId() + "&email=" + encodedUserEmail))
-                    .DELETE();
+        return client.sendRequestAsync(requestBuilder).handleAsync((result, error) -> {
 
-            HttpResponse<String> response = client.sendRequest(requestBuilder);
+            try {
 
-            if (response.statusCode() == 200) {
+                HttpResponse<byte[]> response = ApiClient.responseOf(result, error);
 
-                logger.log(Level.FINE, "Member deleted successfully: {0}", response.body());
+                if (response.statusCode() == 200) {
 
-                return true;
+                    logger.log(Level.FINE, "Member deleted successfully: {0}", ApiClient.bodyAsText(response));
 
-            }else if (response.statusCode() == 404) {
+                    return true;
 
-                logger.log(Level.WARNING, "Member deletion error because either the team or the user were not found, or the user was not in the team. Searched ID was {0}, user email was {1}", new Object[]{team.getId(), emailUserToRemove});
+                }else if (response.statusCode() == 404) {
 
-            } else {
+                    logger.log(Level.WARNING, "Member deletion error because either the team or the user were not found, or the user was not in the team. Searched ID was {0}, user email was {1}", new Object[]{team.getId(), emailUserToRemove});
 
-                String errorMsg = client.getErrorMessageFromResponse(response);
-                logger.log(Level.WARNING, "Member deletion error: {0}", errorMsg);
+                } else {
 
+                    String errorMsg = client.getErrorMessageFromResponse(response);
+                    logger.log(Level.WARNING, "Member deletion error: {0}", errorMsg);
+
+                }
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, e.getMessage());
             }
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, e.getMessage());
-        }
 
-        return false;
+            return false;
 
+        }, ApiClient.EDT);
     }
 
     /**
      * Aggiunge un nuovo membro al team correntemente selezionato.
      *
      * @param emailUserToAdd L'email dell'utente da aggiungere.
-     * @return {@code 0} se l'aggiunta ha successo, 1 o 2 come codici di errore altrimenti.
+     * @return Il future che vale {@code 0} se l'aggiunta ha successo, 1 o 2 come codici di errore altrimenti.
      */
-    public Integer addMemberToSelectedTeam(String emailUserToAdd) {
+    public CompletableFuture<Integer> addMemberToSelectedTeam(String emailUserToAdd) {
 
-        try {
+        //Encoder to use since there cannot be spaces in search parameters of HTTP requests
+        String encodedUserEmail = URLEncoder.encode(emailUserToAdd, StandardCharsets.UTF_8);
+
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(client.getBaseUrl() + TEAMS_PATH + "add-member?teamId=" + TeamController.getInstance().getTeam().getId() + "&email=" + encodedUserEmail))
+                .POST(HttpRequest.BodyPublishers.noBody());
 
-            //Encoder to use since there cannot be spaces in search parameters of HTTP requests
-            String encodedUserEmail = URLEncoder.encode(emailUserToAdd, StandardCharsets.UTF_8);
+        return client.sendRequestAsync(requestBuilder).handleAsync((result, error) -> {
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(client.getBaseUrl() + TEAMS_PATH + "add-member?teamId=" + TeamController.getInstance().getTeam().getId() + "&email=" + encodedUserEmail))
-                    .POST(HttpRequest.BodyPublishers.noBody());
+            try {
 
-            HttpResponse<String> response = client.sendRequest(requestBuilder);
+                HttpResponse<byte[]> response = ApiClient.responseOf(result, error);
 
-            if (response.statusCode() == 200) {
+                if (response.statusCode() == 200) {
 
-                logger.log(Level.FINE, "Member added successfully: {0}", response.body());
+                    logger.log(Level.FINE, "Member added successfully: {0}", ApiClient.bodyAsText(response));
 
-                return 0;
+                    return 0;
 
-            }else if (response.statusCode() == 409) {
+                }else if (response.statusCode() == 409) {
 
-                logger.log(Level.WARNING, "Member adding error because either the team or the user were not found, or the user was already in the team. Searched ID was {0}, user email was {1}", new Object[]{team.getId(), emailUserToAdd});
+                    logger.log(Level.WARNING, "Member adding error because either the team or the user were not found, or the user was already in the team. Searched ID was {0}, user email was {1}", new Object[]{team.getId(), emailUserToAdd});
 
-            } else {
+                } else {
 
-                String errorMsg = client.getErrorMessageFromResponse(response);
-                logger.log(Level.WARNING, "Member adding error: {0}", errorMsg);
-                return 1;
+                    String errorMsg = client.getErrorMessageFromResponse(response);
+                    logger.log(Level.WARNING, "Member adding error: {0}", errorMsg);
+                    return 1;
 
+                }
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, e.getMessage());
             }
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, e.getMessage());
-        }
 
-        return 2;
+            return 2;
 
+        }, ApiClient.EDT);
     }
 
     /**
@@ -307,41 +340,44 @@ public class TeamController {
      *
      * @param month Il mese del report (stringa).
      * @param year  L'anno del report (stringa).
-     * @return {@code true} se il report viene generato correttamente.
+     * @return Il future che vale {@code true} se il report viene generato correttamente.
      */
-    public boolean createReport(String month, String year) {
-        try {
+    public CompletableFuture<Boolean> createReport(String month, String year) {
+        String encodedMonth = URLEncoder.encode(month, StandardCharsets.UTF_8);
+        String encodedYear = URLEncoder.encode(year, StandardCharsets.UTF_8);
+
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(client.getBaseUrl() + TEAMS_PATH + this.team.getId() + "/report?month=" + encodedMonth + "&year=" + encodedYear))
+                .GET();
 
-            String encodedMonth = URLEncoder.encode(month, StandardCharsets.UTF_8);
-            String encodedYear = URLEncoder.encode(year, StandardCharsets.UTF_8);
+        return reportRequest.replace(client.sendRequestAsync(requestBuilder).handleAsync((result, error) -> {
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(client.getBaseUrl() + TEAMS_PATH + this.team.getId() + "/report?month=" + encodedMonth + "&year=" + encodedYear))
-                    .GET();
+            try {
 
-            HttpResponse<String> response = client.sendRequest(requestBuilder);
+                HttpResponse<byte[]> response = ApiClient.responseOf(result, error);
 
-            if (response.statusCode() == 200) {
+                if (response.statusCode() == 200) {
 
-                this.teamReport = client.getObjectMapper().readValue(response.body(), StatisticDTO.class);
+                    this.teamReport = client.getObjectMapper(response).readValue(response.body(), StatisticDTO.class);
 
-                logger.log(Level.FINE, "Report generated successfully!");
+                    logger.log(Level.FINE, "Report generated successfully!");
 
-                return true;
+                    return true;
 
-            } else {
+                } else {
 
-                logger.log(Level.WARNING, "Error report generation. Code: {0}", response.statusCode());
+                    logger.log(Level.WARNING, "Error report generation. Code: {0}", response.statusCode());
 
-                logger.log(Level.WARNING, "Error body: {0}", response.body());
+                    logger.log(Level.WARNING, "Error body: {0}", client.getErrorMessageFromResponse(response));
 
+                }
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, e.getMessage());
             }
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, e.getMessage());
-        }
 
-        return false;
+            return false;
 
+        }, ApiClient.EDT));
     }
 
     /**
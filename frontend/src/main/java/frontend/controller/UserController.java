@@ -12,6 +12,7 @@ import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -47,15 +48,27 @@ public class UserController {
      */
     private ArrayList<UserDTO> users;
 
+    /**
+     * Ultima ricerca di utenti: una nuova ricerca (es. a ogni tasto digitato) annulla quella ancora in corso,
+     * così la lista {@code users} riflette sempre l'ultimo testo cercato.
+     */
+    private final LatestRequest searchRequest = new LatestRequest();
+
     /**
      * Costante per il path HTTP.
      */
     private static final String USERS_PATH = ApiPaths.USERS;
 
     /**
-     * Costante per il path HTTP.
+     * Numero massimo di suggerimenti richiesti al server per ogni ricerca.
      */
-    private static final String DEVELOPER_SEARCH_PATH = "developers/search?email=";
+    private static final int MAX_SUGGESTIONS = 20;
+
+    /**
+     * Costante per il path HTTP: l'autocompletamento risponde dall'indice in memoria del server
+     * e restituisce al massimo {@link #MAX_SUGGESTIONS} utenti.
+     */
+    private static final String DEVELOPER_SEARCH_PATH = "developers/autocomplete?limit=" + MAX_SUGGESTIONS + "&q=";
 
     /**
      * Costruttore privato per il Singleton.
@@ -83,9 +96,9 @@ public class UserController {
      * </p>
      *
      * @param devEmail L'email (o parte di essa) da cercare.
-     * @return {@code true} se la ricerca va a buon fine (200 o 204).
+     * @return Il future che vale {@code true} se la ricerca va a buon fine (200 o 204).
      */
-    public boolean searchDevOrAdminByEmailAndProject(String devEmail) {
+    public CompletableFuture<Boolean> searchDevOrAdminByEmailAndProject(String devEmail) {
 
         //Encoder to use since there cannot be spaces in search parameters of HTTP requests
         String encodedDevEmail = URLEncoder.encode(devEmail, StandardCharsets.UTF_8);
@@ -106,9 +119,9 @@ public class UserController {
      * </p>
      *
      * @param devEmail L'email (o parte di essa) da cercare.
-     * @return {@code true} se la ricerca va a buon fine.
+     * @return Il future che vale {@code true} se la ricerca va a buon fine.
      */
-    public boolean searchDevOrAdminByEmailAndTeam(String devEmail) {
+    public CompletableFuture<Boolean> searchDevOrAdminByEmailAndTeam(String devEmail) {
 
         //Encoder to use since there cannot be spaces in search parameters of HTTP requests
         String encodedDevEmail = URLEncoder.encode(devEmail, StandardCharsets.UTF_8);
@@ -130,9 +143,9 @@ public class UserController {
      * </p>
      *
      * @param devEmail L'email (o parte di essa) da cercare.
-     * @return {@code true} se la ricerca va a buon fine.
+     * @return Il future che vale {@code true} se la ricerca va a buon fine.
      */
-    public boolean searchDevOrAdminByEmail(String devEmail) {
+    public CompletableFuture<Boolean> searchDevOrAdminByEmail(String devEmail) {
 
 
         //Encoder to use since there cannot be spaces in search parameters of HTTP requests
@@ -156,54 +169,61 @@ public class UserController {
      * <li>**Errore**: Logga l'errore e pulisce la lista.</li>
      * </ul>
      * </p>
+     * <p>
+     * La risposta viene elaborata nel thread dell'interfaccia grafica; la ricerca precedente ancora in corso viene annullata.
+     * </p>
      *
      * @param requestBuilder Il builder della richiesta HTTP preconfigurato.
-     * @return {@code true} se l'operazione è considerata un successo (anche se non ci sono risultati).
+     * @return Il future che vale {@code true} se l'operazione è considerata un successo (anche se non ci sono risultati).
      */
-    private boolean handleHttpRequest(HttpRequest.Builder requestBuilder){
+    private CompletableFuture<Boolean> handleHttpRequest(HttpRequest.Builder requestBuilder){
 
-        try {
+        return searchRequest.replace(client.sendRequestAsync(requestBuilder).handleAsync((result, error) -> {
 
-            HttpResponse<String> response = client.sendRequest(requestBuilder);
+            try {
 
-            if (response.statusCode() == 200) {
+                HttpResponse<byte[]> response = ApiClient.responseOf(result, error);
 
-                this.users = client.getObjectMapper().readValue(response.body(), new TypeReference<>() {});
-                logger.log(Level.FINE, "Search completed successfully. Number of users founded: {0}", this.users.size());
+                if (response.statusCode() == 200) {
 
-                return true;
+                    this.users = client.getObjectMapper(response).readValue(response.body(), new TypeReference<>() {});
+                    logger.log(Level.FINE, "Search completed successfully. Number of users founded: {0}", this.users.size());
 
-            } else if (response.statusCode() == 204) {
+                    return true;
 
-                //No results, clear the cache
-                this.users = new ArrayList<>();
+                } else if (response.statusCode() == 204) {
 
-                logger.log(Level.FINE, "Search completed successfully, BUT no users were found. ");
+                    //No results, clear the cache
+                    this.users = new ArrayList<>();
 
-            } else {
+                    logger.log(Level.FINE, "Search completed successfully, BUT no users were found. ");
 
-                // Generic error
+                } else {
 
-                String errorMsg = client.getErrorMessageFromResponse(response);
+                    // Generic error
 
-                logger.log(Level.WARNING, "Users search failed. Error: {0}", errorMsg);
+                    String errorMsg = client.getErrorMessageFromResponse(response);
 
-                this.users = new ArrayList<>();
+                    logger.log(Level.WARNING, "Users search failed. Error: {0}", errorMsg);
 
-            }
+                    this.users = new ArrayList<>();
 
-        }  catch (RequestError re) {
+                }
 
-            logger.log(Level.WARNING, "Backend offline: {0}", re.getMessage());
-            this.users = new ArrayList<>();
+            }  catch (RequestError re) {
 
-        } catch (Exception e) {
+                logger.log(Level.WARNING, "Backend offline: {0}", re.getMessage());
+                this.users = new ArrayList<>();
 
-            logger.log(Level.SEVERE, e.getMessage());
-            this.users = new ArrayList<>();
-        }
+            } catch (Exception e) {
+
+                logger.log(Level.SEVERE, e.getMessage());
+                this.users = new ArrayList<>();
+            }
+
+            return false;
 
-        return false;
+        }, ApiClient.EDT));
 
     }
 
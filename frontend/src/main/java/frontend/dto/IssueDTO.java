@@ -99,6 +99,12 @@ public class IssueDTO {
      */
     private byte[] image;
 
+    /**
+     * Indica se alla segnalazione è allegata un'immagine.
+     * L'immagine non arriva con i dettagli della issue: va scaricata a parte solo quando serve.
+     */
+    private boolean hasImage;
+
     /**
      * Lo sviluppatore assegnato alla risoluzione della segnalazione (Resolver).
      * Può essere {@code null} se la issue non è ancora stata presa in carico.
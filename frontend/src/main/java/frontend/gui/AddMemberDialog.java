@@ -138,12 +138,13 @@ public class AddMemberDialog extends JDialog {
         String text = searchTextField.getText();
         String userEmail = text.equals(PLACEHOLDER) ? "" : text;
 
-        boolean success = UserController.getInstance().searchDevOrAdminByEmail(userEmail);
+        UserController.getInstance().searchDevOrAdminByEmail(userEmail).thenAccept(success -> {
 
-        if(!success)
-            return;
+            if(!success)
+                return;
 
-        updateResultsTable(UserController.getInstance().getUsersEmails());
+            updateResultsTable(UserController.getInstance().getUsersEmails());
+        });
     }
 
 
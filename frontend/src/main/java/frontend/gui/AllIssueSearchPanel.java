@@ -44,16 +44,15 @@ public class AllIssueSearchPanel extends ReportedIssueSearchPanelDeveloper {
     @Override
     protected void searchButtonActionListener(JFrame mainFrame) {
 
-        boolean success = IssueController.getInstance().searchAllIssues((titleTextField.getText().equals(TITLE_PLACEHOLDER) ? "" : titleTextField.getText()),
+        IssueController.getInstance().searchAllIssues((titleTextField.getText().equals(TITLE_PLACEHOLDER) ? "" : titleTextField.getText()),
                 formatIssueStatus(Objects.requireNonNull(statusComboBox.getSelectedItem())), tagsButton.getTags(), formatIssueType(Objects.requireNonNull(typeComboBox.getSelectedItem())),
-                (Objects.equals(priorityComboBox.getSelectedItem(), ALL_PLACEHOLDER)) ? null : (String)priorityComboBox.getSelectedItem());
+                (Objects.equals(priorityComboBox.getSelectedItem(), ALL_PLACEHOLDER)) ? null : (String)priorityComboBox.getSelectedItem(),
+                Objects.equals(orderComboBox.getSelectedItem(), "Crescente")).thenAccept(success -> {
 
-        if(!success)
-            return;
+            if(!success)
+                return;
 
-        if (Objects.equals(orderComboBox.getSelectedItem(), "Crescente"))
-            IssueController.getInstance().reOrderIssues();
-
-        new AllIssueSearchResultsPanel(mainFrame, searchPage, IssueController.getInstance().getIssuesTitles());
+            new AllIssueSearchResultsPanel(mainFrame, searchPage);
+        });
     }
 }
\ No newline at end of file
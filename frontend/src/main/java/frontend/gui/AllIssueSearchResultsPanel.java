@@ -3,7 +3,6 @@ package frontend.gui;
 import javax.swing.*;
 import javax.swing.table.JTableHeader;
 import javax.swing.table.TableColumn;
-import java.util.List;
 
 /**
  * Pannello per la visualizzazione dei risultati della ricerca globale delle segnalazioni (All Issues).
@@ -22,13 +21,12 @@ public class AllIssueSearchResultsPanel extends AssignedIssueSearchResultsPanel
      * Chiama il costruttore della superclasse per inizializzare il layout e popolare la lista.
      * </p>
      *
-     * @param mainFrame    Il frame principale dell'applicazione.
-     * @param searchPage   La pagina di ricerca che ospita questo pannello.
-     * @param issuesTitles La lista dei titoli delle issue trovate dalla ricerca.
+     * @param mainFrame  Il frame principale dell'applicazione.
+     * @param searchPage La pagina di ricerca che ospita questo pannello.
      */
-    public AllIssueSearchResultsPanel(JFrame mainFrame, SearchReportedIssuePageUser searchPage, List<String> issuesTitles) {
+    public AllIssueSearchResultsPanel(JFrame mainFrame, SearchReportedIssuePageUser searchPage) {
 
-        super(mainFrame, searchPage, issuesTitles);
+        super(mainFrame, searchPage);
     }
 
     /**
@@ -38,28 +36,27 @@ public class AllIssueSearchResultsPanel extends AssignedIssueSearchResultsPanel
      * delle issue globali:
      * </p>
      * <ul>
-     * <li>Imposta {@link IconCellRenderer} per mostrare l'icona "visualizza" nella colonna delle azioni.</li>
+     * <li>Imposta il {@link IconCellRenderer} condiviso per mostrare l'icona "visualizza" nella colonna delle azioni.</li>
      * <li>Imposta {@link IconCellEditorAllIssue} come editor, gestendo il click sull'icona per aprire i dettagli.</li>
      * <li>Configura l'aspetto grafico dell'header e delle righe.</li>
      * </ul>
      *
-     * @param mainFrame    Il frame principale, passato agli editor per gestire i dialoghi.
-     * @param issuesTitles La lista dei dati da visualizzare.
+     * @param mainFrame Il frame principale, passato agli editor per gestire i dialoghi.
      * @return L'istanza di {@link JTable} configurata.
      */
     @Override
-    protected JTable createTable(JFrame mainFrame, List<String> issuesTitles) {
+    protected JTable createTable(JFrame mainFrame) {
 
-        JTable resultsTable = new JTable(createTableModel(issuesTitles));
+        JTable resultsTable = new JTable(createTableModel());
 
         // Configurazione della colonna delle azioni (indice 1)
         TableColumn buttonColumn = resultsTable.getColumnModel().getColumn(1);
 
         // Imposta il renderer per disegnare l'icona
-        buttonColumn.setCellRenderer(new IconCellRenderer("/frontend/gui/images/showIssueIconButton.png", ICON_WIDTH, ICON_HEIGHT));
+        buttonColumn.setCellRenderer(getShowIssueRenderer());
 
         // Imposta l'editor per gestire il click sull'icona
-        buttonColumn.setCellEditor(new IconCellEditorAllIssue(mainFrame, "/frontend/gui/images/showIssueIconButton.png", ICON_WIDTH, ICON_HEIGHT, resultsTable));
+        buttonColumn.setCellEditor(new IconCellEditorAllIssue(mainFrame, SHOW_ISSUE_ICON, ICON_WIDTH, ICON_HEIGHT, resultsTable));
 
         resultsTable.setRowHeight(ICON_HEIGHT + 4);
 
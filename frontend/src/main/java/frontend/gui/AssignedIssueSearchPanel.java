@@ -43,16 +43,15 @@ public class AssignedIssueSearchPanel extends ReportedIssueSearchPanelDeveloper
     @Override
     protected void searchButtonActionListener(JFrame mainFrame) {
 
-        boolean success = IssueController.getInstance().searchAssignedIssues((titleTextField.getText().equals(TITLE_PLACEHOLDER) ? "" : titleTextField.getText()),
+        IssueController.getInstance().searchAssignedIssues((titleTextField.getText().equals(TITLE_PLACEHOLDER) ? "" : titleTextField.getText()),
                 formatIssueStatus(Objects.requireNonNull(statusComboBox.getSelectedItem())), tagsButton.getTags(), formatIssueType(Objects.requireNonNull(typeComboBox.getSelectedItem())),
-                (Objects.equals(priorityComboBox.getSelectedItem(), ALL_PLACEHOLDER)) ? null : (String)priorityComboBox.getSelectedItem());
+                (Objects.equals(priorityComboBox.getSelectedItem(), ALL_PLACEHOLDER)) ? null : (String)priorityComboBox.getSelectedItem(),
+                Objects.equals(orderComboBox.getSelectedItem(), "Crescente")).thenAccept(success -> {
 
-        if(!success)
-            return;
+            if(!success)
+                return;
 
-        if (Objects.equals(orderComboBox.getSelectedItem(), "Crescente"))
-            IssueController.getInstance().reOrderIssues();
-
-        new AssignedIssueSearchResultsPanel(mainFrame, searchPage, IssueController.getInstance().getIssuesTitles());
+            new AssignedIssueSearchResultsPanel(mainFrame, searchPage);
+        });
     }
 }
\ No newline at end of file
@@ -3,7 +3,6 @@ package frontend.gui;
 import javax.swing.*;
 import javax.swing.table.JTableHeader;
 import javax.swing.table.TableColumn;
-import java.util.List;
 
 /**
  * Pannello per la visualizzazione dei risultati della ricerca delle segnalazioni assegnate (Assigned Issues).
@@ -23,13 +22,12 @@ public class AssignedIssueSearchResultsPanel extends ReportedIssueSearchResultsP
      * Chiama il costruttore della superclasse per inizializzare il layout e popolare la lista.
      * </p>
      *
-     * @param mainFrame    Il frame principale dell'applicazione.
-     * @param searchPage   La pagina di ricerca che ospita questo pannello.
-     * @param issuesTitles La lista dei titoli delle issue trovate dalla ricerca.
+     * @param mainFrame  Il frame principale dell'applicazione.
+     * @param searchPage La pagina di ricerca che ospita questo pannello.
      */
-    public AssignedIssueSearchResultsPanel(JFrame mainFrame, SearchReportedIssuePageUser searchPage, List<String> issuesTitles) {
+    public AssignedIssueSearchResultsPanel(JFrame mainFrame, SearchReportedIssuePageUser searchPage) {
 
-        super(mainFrame, searchPage, issuesTitles);
+        super(mainFrame, searchPage);
     }
 
     /**
@@ -38,28 +36,27 @@ public class AssignedIssueSearchResultsPanel extends ReportedIssueSearchResultsP
      * Sovrascrive il metodo della superclasse per utilizzare componenti specifici per le issue assegnate:
      * </p>
      * <ul>
-     * <li>Imposta {@link IconCellRenderer} per mostrare l'icona "visualizza" (occhio) nella colonna delle azioni.</li>
+     * <li>Imposta il {@link IconCellRenderer} condiviso per mostrare l'icona "visualizza" (occhio) nella colonna delle azioni.</li>
      * <li>Imposta {@link IconCellEditorAssignedIssue} come editor, che gestisce il click sull'icona aprendo la finestra di dettaglio con permessi di modifica.</li>
      * <li>Configura l'aspetto grafico dell'header e l'altezza delle righe.</li>
      * </ul>
      *
-     * @param mainFrame    Il frame principale.
-     * @param issuesTitles La lista dei titoli da visualizzare.
+     * @param mainFrame Il frame principale.
      * @return L'istanza di {@link JTable} configurata.
      */
     @Override
-    protected JTable createTable(JFrame mainFrame, List<String> issuesTitles) {
+    protected JTable createTable(JFrame mainFrame) {
 
-        JTable resultsTable = new JTable(createTableModel(issuesTitles));
+        JTable resultsTable = new JTable(createTableModel());
 
         // Configurazione della colonna delle azioni (indice 1)
         TableColumn buttonColumn = resultsTable.getColumnModel().getColumn(1);
 
         // Imposta il renderer per visualizzare l'icona
-        buttonColumn.setCellRenderer(new IconCellRenderer("/frontend/gui/images/showIssueIconButton.png", ICON_WIDTH, ICON_HEIGHT));
+        buttonColumn.setCellRenderer(getShowIssueRenderer());
 
         // Imposta l'editor specifico per le issue assegnate
-        buttonColumn.setCellEditor(new IconCellEditorAssignedIssue(mainFrame, "/frontend/gui/images/showIssueIconButton.png", ICON_WIDTH, ICON_HEIGHT, resultsTable));
+        buttonColumn.setCellEditor(new IconCellEditorAssignedIssue(mainFrame, SHOW_ISSUE_ICON, ICON_WIDTH, ICON_HEIGHT, resultsTable));
 
         resultsTable.setRowHeight(ICON_HEIGHT + 4);
 
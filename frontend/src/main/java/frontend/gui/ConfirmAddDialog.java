@@ -81,23 +81,24 @@ public class ConfirmAddDialog extends JDialog {
 
         confirmBtn.addActionListener(e -> {
 
-            Integer success = TeamController.getInstance().addMemberToSelectedTeam(email);
+            TeamController.getInstance().addMemberToSelectedTeam(email).thenAccept(success -> {
 
-            if(success == 2)
-                return;
+                if(success == 2)
+                    return;
 
-            if(success == 1){
+                if(success == 1){
 
-                new FloatingMessage("L'utente è già nel team!", confirmBtn, FloatingMessage.ERROR_MESSAGE);
+                    new FloatingMessage("L'utente è già nel team!", confirmBtn, FloatingMessage.ERROR_MESSAGE);
 
-                return;
-            }
+                    return;
+                }
 
-            logger.log(Level.FINE, "Aggiunto utente: {0}, al team con ID: {1}", new Object[]{email, TeamController.getInstance().getTeam().getId()});
+                logger.log(Level.FINE, "Aggiunto utente: {0}, al team con ID: {1}", new Object[]{email, TeamController.getInstance().getTeam().getId()});
 
-            parentDialog.dispose();
+                parentDialog.dispose();
 
-            dispose();
+                dispose();
+            });
         });
         return confirmBtn;
     }
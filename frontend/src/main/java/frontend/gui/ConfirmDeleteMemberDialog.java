@@ -85,17 +85,18 @@ public class ConfirmDeleteMemberDialog extends JDialog {
 
         confirmBtn.addActionListener(e -> {
 
-            boolean success = TeamController.getInstance().removeMemberFromSelectedTeam(email);
+            TeamController.getInstance().removeMemberFromSelectedTeam(email).thenAccept(success -> {
 
-            if(!success)
-                return;
+                if(!success)
+                    return;
 
-            logger.log(Level.FINE, "Rimosso utente: {0}, dal team con ID: {1}", new Object[]{email, TeamController.getInstance().getTeam().getId()});
+                logger.log(Level.FINE, "Rimosso utente: {0}, dal team con ID: {1}", new Object[]{email, TeamController.getInstance().getTeam().getId()});
 
-            // Aggiorna la vista della finestra padre per riflettere la rimozione
-            parentDialog.performSearch();
+                // Aggiorna la vista della finestra padre per riflettere la rimozione
+                parentDialog.performSearch();
 
-            dispose();
+                dispose();
+            });
         });
         return confirmBtn;
     }
@@ -85,14 +85,15 @@ public class CreateProjectDialog extends JDialog {
             String projectName = nameField.getText().trim();
             if (!projectName.isEmpty()) {
 
-                boolean success = ProjectController.getInstance().createProject(projectName);
+                ProjectController.getInstance().createProject(projectName).thenAccept(success -> {
 
-                if(!success)
-                    return;
+                    if(!success)
+                        return;
 
-                JOptionPane.showMessageDialog(this, "Progetto creato con successo!", "Creazione avvenuta", JOptionPane.INFORMATION_MESSAGE);
-                logger.log(Level.FINE, "Progetto creato: {0}", projectName);
-                this.dispose();
+                    JOptionPane.showMessageDialog(this, "Progetto creato con successo!", "Creazione avvenuta", JOptionPane.INFORMATION_MESSAGE);
+                    logger.log(Level.FINE, "Progetto creato: {0}", projectName);
+                    this.dispose();
+                });
 
             } else {
                 new FloatingMessage("Il nome del progetto è obbligatorio", confirmBtn, FloatingMessage.ERROR_MESSAGE);
@@ -82,16 +82,17 @@ public class CreateTeamDialog extends JDialog {
         confirmBtn.addActionListener(e -> {
             String teamName = nameField.getText().trim();
             if (!teamName.isEmpty()) {
-                boolean success = TeamController.getInstance().createTeam(teamName);
+                TeamController.getInstance().createTeam(teamName).thenAccept(success -> {
 
-                if(!success)
-                    return;
+                    if(!success)
+                        return;
 
-                // Nota: Il messaggio "Progetto creato" potrebbe essere un refuso nel codice originale (dovrebbe essere "Team creato"),
-                // ma viene mantenuto fedele al codice sorgente fornito.
-                JOptionPane.showMessageDialog(this, "Team creato con successo!", "Creazione avvenuta", JOptionPane.INFORMATION_MESSAGE);
-                logger.log(Level.FINE, "Team creato: {0}, per Progetto con ID: {1}", new Object[]{teamName, ProjectController.getInstance().getProject().getId()});
-                this.dispose();
+                    // Nota: Il messaggio "Progetto creato" potrebbe essere un refuso nel codice originale (dovrebbe essere "Team creato"),
+                    // ma viene mantenuto fedele al codice sorgente fornito.
+                    JOptionPane.showMessageDialog(this, "Team creato con successo!", "Creazione avvenuta", JOptionPane.INFORMATION_MESSAGE);
+                    logger.log(Level.FINE, "Team creato: {0}, per Progetto con ID: {1}", new Object[]{teamName, ProjectController.getInstance().getProject().getId()});
+                    this.dispose();
+                });
 
             } else {
                 new FloatingMessage("Il nome del team è obbligatorio", confirmBtn, FloatingMessage.ERROR_MESSAGE);
@@ -9,9 +9,9 @@ import java.awt.*;
  * Finestra di dialogo per la visualizzazione della Dashboard di progetto.
  * <p>
  * Questa classe estende {@link MyDialog} e funge da contenitore principale per le statistiche
- * e i grafici del progetto. Al momento dell'inizializzazione, richiede al {@link ProjectController}
- * di recuperare i dati aggiornati dal backend. Se il recupero ha successo, predispone l'area di
- * visualizzazione (viewport) e delega a {@link ReportResults} la generazione e l'inserimento
+ * e i grafici del progetto. Al momento dell'inizializzazione predispone l'area di visualizzazione
+ * (viewport) e richiede al {@link ProjectController} di recuperare i dati aggiornati dal backend.
+ * Quando il recupero ha successo, delega a {@link ReportResults} la generazione e l'inserimento
  * dei componenti grafici specifici (tabelle, istogrammi, ecc.).
  * </p>
  */
@@ -35,10 +35,11 @@ public class DashBoard extends MyDialog {
      * </p>
      * <ol>
      * <li>Invoca il costruttore della superclasse.</li>
-     * <li>Chiama {@link ProjectController#createDashBoard()} per recuperare i dati statistici.</li>
-     * <li>Se i dati non sono disponibili (es. errore backend), interrompe l'inizializzazione.</li>
      * <li>Configura l'area di visualizzazione tramite {@link #setSearchViewResults()}.</li>
-     * <li>Istanzia {@link ReportResults} passandogli un riferimento a se stessa, avviando così la popolazione dei grafici.</li>
+     * <li>Chiama {@link ProjectController#createDashBoard()} per recuperare i dati statistici, senza attenderli:
+     * la finestra si apre subito e viene riempita all'arrivo dei dati.</li>
+     * <li>Quando i dati sono disponibili, istanzia {@link ReportResults} passandogli un riferimento a se stessa,
+     * avviando così la popolazione dei grafici. Se non lo sono (es. errore backend), l'area resta vuota.</li>
      * </ol>
      *
      * @param parent Il frame principale dell'applicazione (parent window).
@@ -47,15 +48,16 @@ public class DashBoard extends MyDialog {
 
         super(parent);
 
-        boolean success = ProjectController.getInstance().createDashBoard();
+        setSearchViewResults();
 
-        if(!success)
-            return;
+        ProjectController.getInstance().createDashBoard().thenAccept(success -> {
 
-        setSearchViewResults();
+            if(!success)
+                return;
 
-        // Avvia la generazione dei report grafici all'interno di questa dashboard
-        new ReportResults(this);
+            // Avvia la generazione dei report grafici all'interno di questa dashboard
+            new ReportResults(this);
+        });
     }
 
     /**
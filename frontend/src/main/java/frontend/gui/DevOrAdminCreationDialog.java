@@ -293,15 +293,16 @@ public class DevOrAdminCreationDialog extends JDialog {
         int role = adminCheckBox.isSelected() ? 2 : 1;
 
 
-        boolean success = AuthController.getInstance().registration(email, password, role);
-
-        if (success) {
-            JOptionPane.showMessageDialog(this,
-                    "Utente creato con successo!\nRuolo: " + (role == 2 ? "Admin" : "Developer"),
-                    "Successo", JOptionPane.INFORMATION_MESSAGE);
-            this.dispose();
-        } else {
-            JOptionPane.showMessageDialog(this, "Errore nella creazione dell'utente.", "Errore", JOptionPane.ERROR_MESSAGE);
-        }
+        AuthController.getInstance().registration(email, password, role).thenAccept(success -> {
+
+            if (success) {
+                JOptionPane.showMessageDialog(this,
+                        "Utente creato con successo!\nRuolo: " + (role == 2 ? "Admin" : "Developer"),
+                        "Successo", JOptionPane.INFORMATION_MESSAGE);
+                this.dispose();
+            } else {
+                JOptionPane.showMessageDialog(this, "Errore nella creazione dell'utente.", "Errore", JOptionPane.ERROR_MESSAGE);
+            }
+        });
     }
 }
\ No newline at end of file
@@ -4,7 +4,6 @@ import com.formdev.flatlaf.extras.FlatSVGIcon;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.net.URL;
 
 /**
  * Componente personalizzato per la creazione di pulsanti icona.
@@ -19,19 +18,15 @@ import java.net.URL;
  * </ul>
  * <p>
  * La classe gestisce autonomamente il ridimensionamento, il centraggio e l'antialiasing dell'icona.
+ * Le icone caricate e già disegnate sono condivise da tutti i pulsanti tramite {@link IconCache}.
  * </p>
  */
 public class IconButton extends JButton {
 
     /**
-     * Immagine raster (se il file non è un SVG).
+     * Percorso della risorsa immagine (SVG o raster), usato come chiave in {@link IconCache}.
      */
-    private Image originalImage;
-
-    /**
-     * Icona vettoriale (se il file è un SVG), fornita da FlatLaf.
-     */
-    private FlatSVGIcon svgIcon;
+    private final String iconPath;
 
     /**
      * Larghezza desiderata per l'icona.
@@ -47,7 +42,7 @@ public class IconButton extends JButton {
      * Costruttore del pulsante icona.
      * <p>
      * Inizializza il pulsante, rimuove i listener di default per un controllo personalizzato,
-     * carica l'immagine dal percorso specificato e applica lo stile "invisibile" al contenitore.
+     * dimensiona il pulsante in base all'icona e applica lo stile "invisibile" al contenitore.
      * </p>
      *
      * @param url    Il percorso della risorsa immagine (relativo al classpath).
@@ -58,39 +53,24 @@ public class IconButton extends JButton {
 
         super();
 
+        this.iconPath = url;
         this.targetWidth = width;
         this.targetHeight = height;
 
         removeListeners();
-        setImageIcon(url);
+        setImageIcon();
         setupStyle();
     }
 
     /**
-     * Carica l'immagine o l'icona in base all'estensione del file.
+     * Imposta le dimensioni preferite del componente in base a quelle dell'icona, aggiungendo un piccolo padding.
      * <p>
-     * Se l'URL termina con ".svg", viene creato un {@link FlatSVGIcon}.
-     * Altrimenti, viene caricata una normale {@link Image}.
-     * Imposta inoltre le dimensioni preferite del componente aggiungendo un piccolo padding.
+     * L'immagine non viene caricata qui: al primo disegno viene chiesta a {@link IconCache}, che la carica
+     * (un {@link FlatSVGIcon} se l'URL termina con ".svg", altrimenti una normale {@link Image})
+     * solo se nessun altro pulsante l'ha già usata.
      * </p>
-     *
-     * @param url Il percorso della risorsa.
      */
-    private void setImageIcon(String url) {
-
-        if (url.toLowerCase().endsWith(".svg")) {
-
-            URL res = getClass().getResource(url);
-
-            if (res != null)
-                svgIcon = new FlatSVGIcon(res);
-        } else {
-
-            URL imageURL = getClass().getResource(url);
-
-            if (imageURL != null)
-                this.originalImage = new ImageIcon(imageURL).getImage();
-        }
+    private void setImageIcon() {
 
         int padding = 2;
 
@@ -110,7 +90,7 @@ public class IconButton extends JButton {
      * <ol>
      * <li>Attivare l'antialiasing e l'interpolazione bicubica per la massima qualità visiva.</li>
      * <li>Calcolare la posizione per centrare perfettamente l'immagine nel pulsante.</li>
-     * <li>Disegnare l'SVG (ridimensionato dinamicamente) o l'immagine raster.</li>
+     * <li>Disegnare l'icona già pronta alle dimensioni finali e alla scala dello schermo, presa da {@link IconCache}.</li>
      * </ol>
      *
      * @param g Il contesto grafico utilizzato per disegnare.
@@ -135,16 +115,11 @@ public class IconButton extends JButton {
         int x = (w - finalW) / 2;
         int y = (h - finalH) / 2;
 
-        if (svgIcon != null) {
-            // Se è un SVG, deriva una nuova istanza scalata alle dimensioni finali
-            Image svgImage = svgIcon.derive(finalW, finalH).getImage();
-
-            if (svgImage != null)
-                g2.drawImage(svgImage, x, y, finalW, finalH, null);
+        // HiDPI: the cached image has one pixel per device pixel
+        Image image = IconCache.getImage(iconPath, finalW, finalH, g2.getTransform().getScaleX());
 
-        } else if (originalImage != null)
-            // Se è raster, disegna l'immagine scalata
-            g2.drawImage(originalImage, x, y, finalW, finalH, this);
+        if (image != null)
+            g2.drawImage(image, x, y, finalW, finalH, null);
 
         g2.dispose();
     }
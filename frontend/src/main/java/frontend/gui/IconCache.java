@@ -0,0 +1,159 @@
+package frontend.gui;
+
+import com.formdev.flatlaf.extras.FlatSVGIcon;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Classe di utilità che conserva le icone dei {@link IconButton}, condivise da tutta l'applicazione.
+ * <p>
+ * Ogni risorsa (SVG o immagine raster) viene caricata dal classpath una volta sola; per ogni combinazione
+ * di percorso, dimensioni e fattore di scala dello schermo (HiDPI) l'icona viene poi disegnata una volta sola
+ * in un'immagine, che i pulsanti si limitano a copiare sullo schermo. In questo modo aprire un dialog
+ * o ridisegnare una tabella piena di icone non richiede di caricare e disegnare di nuovo gli SVG.
+ * </p>
+ * <p>
+ * Le voci non vengono mai scartate: le icone dell'applicazione sono poche e di piccole dimensioni.
+ * </p>
+ */
+public class IconCache {
+
+    /**
+     * Logger per la registrazione degli eventi.
+     */
+    private static final Logger logger = Logger.getLogger(IconCache.class.getName());
+
+    /**
+     * Icone caricate, per percorso della risorsa: {@link FlatSVGIcon} per gli SVG, {@link ImageIcon} per le immagini raster.
+     */
+    private static final Map<String, Icon> sources = new ConcurrentHashMap<>();
+
+    /**
+     * Icone già disegnate alle dimensioni e alla scala richieste.
+     */
+    private static final Map<Key, BufferedImage> images = new ConcurrentHashMap<>();
+
+    /**
+     * Chiave di un'icona disegnata.
+     *
+     * @param path   Percorso della risorsa.
+     * @param width  Larghezza dell'icona, in pixel logici.
+     * @param height Altezza dell'icona, in pixel logici.
+     * @param scale  Fattore di scala dello schermo su cui viene disegnata.
+     */
+    private record Key(String path, int width, int height, double scale) {}
+
+    /**
+     * Costruttore privato.
+     */
+    private IconCache() {
+
+    }
+
+    /**
+     * Restituisce l'icona indicata disegnata alle dimensioni richieste.
+     * <p>
+     * L'immagine misura {@code width * scale} per {@code height * scale} pixel: disegnata in un rettangolo
+     * di {@code width} per {@code height} su un contesto grafico con quella scala, ogni suo pixel corrisponde
+     * a un pixel dello schermo, senza ulteriori ridimensionamenti.
+     * </p>
+     *
+     * @param path   Il percorso della risorsa (relativo al classpath).
+     * @param width  La larghezza dell'icona, in pixel logici.
+     * @param height L'altezza dell'icona, in pixel logici.
+     * @param scale  Il fattore di scala dello schermo (1 sugli schermi non HiDPI).
+     * @return L'immagine dell'icona, oppure {@code null} se la risorsa non esiste o le dimensioni non sono positive.
+     */
+    public static Image getImage(String path, int width, int height, double scale) {
+
+        if (width <= 0 || height <= 0 || getSource(path) == null)
+            return null;
+
+        return images.computeIfAbsent(new Key(path, width, height, scale), IconCache::render);
+    }
+
+    /**
+     * Carica in background le risorse indicate, così il primo pulsante che le usa non attende il caricamento.
+     *
+     * @param paths I percorsi delle risorse (relativi al classpath).
+     */
+    public static void preload(String... paths) {
+
+        CompletableFuture.runAsync(() -> {
+
+            for (String path : paths)
+                if (getSource(path) == null)
+                    logger.log(Level.WARNING, "Icon not found: {0}", path);
+        });
+    }
+
+    /**
+     * Restituisce l'icona caricata dalla risorsa indicata, caricandola al primo utilizzo.
+     * <p>
+     * Un SVG viene letto subito, prima di essere reso disponibile agli altri thread.
+     * </p>
+     *
+     * @param path Il percorso della risorsa.
+     * @return L'icona, oppure {@code null} se la risorsa non esiste.
+     */
+    private static Icon getSource(String path) {
+
+        return sources.computeIfAbsent(path, p -> {
+
+            URL url = IconCache.class.getResource(p);
+
+            if (url == null)
+                return null;
+
+            if (!p.toLowerCase().endsWith(".svg"))
+                return new ImageIcon(url);
+
+            FlatSVGIcon svgIcon = new FlatSVGIcon(url);
+
+            return svgIcon.hasFound() ? svgIcon : null;
+        });
+    }
+
+    /**
+     * Disegna un'icona alle dimensioni e alla scala della chiave.
+     * <p>
+     * Gli SVG vengono disegnati direttamente alla risoluzione finale; le immagini raster vengono ridimensionate
+     * con interpolazione bicubica.
+     * </p>
+     *
+     * @param key La chiave dell'icona da disegnare.
+     * @return L'immagine dell'icona.
+     */
+    private static BufferedImage render(Key key) {
+
+        Icon source = sources.get(key.path());
+
+        BufferedImage image = new BufferedImage(
+                (int) Math.ceil(key.width() * key.scale()),
+                (int) Math.ceil(key.height() * key.scale()),
+                BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g2 = image.createGraphics();
+
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g2.scale(key.scale(), key.scale());
+
+        if (source instanceof FlatSVGIcon svgIcon)
+            svgIcon.derive(key.width(), key.height()).paintIcon(null, g2, 0, 0);
+        else
+            g2.drawImage(((ImageIcon) source).getImage(), 0, 0, key.width(), key.height(), null);
+
+        g2.dispose();
+
+        return image;
+    }
+}
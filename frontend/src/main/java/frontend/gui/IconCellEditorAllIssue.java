@@ -1,6 +1,7 @@
 package frontend.gui;
 
 import frontend.controller.IssueController;
+import frontend.dto.IssueDTO;
 
 import javax.swing.*;
 
@@ -49,20 +50,27 @@ public class IconCellEditorAllIssue extends IconCellEditorAssignedIssue{
     @Override
     public Object getCellEditorValue() {
 
+        IssueDTO selectedIssue = IssueController.getInstance().getIssueFromIndex(parentTable.getSelectedRow());
+
+        // The row is still showing the loading placeholder
+        if (selectedIssue == null)
+            return null;
+
         // Imposta l'issue corrente nel controller basandosi sull'indice della riga selezionata
-        IssueController.getInstance().setIssue(IssueController.getInstance().getIssueFromIndex(parentTable.getSelectedRow()));
+        IssueController.getInstance().setIssue(selectedIssue);
 
         // Recupera i dettagli completi dal backend
-        boolean success = IssueController.getInstance().getIssueById();
+        IssueController.getInstance().getIssueById().thenAccept(success -> {
 
-        if(!success)
-            return null;
+            if(!success)
+                return;
 
-        // Apre la finestra di visualizzazione specifica per la vista "Admin/All Issues"
-        ShowReportedIssueUser dialog = new ShowIssueAdmin(mainFrame);
-        dialog.pack();
-        dialog.setLocationRelativeTo(mainFrame);
-        dialog.setVisible(true);
+            // Apre la finestra di visualizzazione specifica per la vista "Admin/All Issues"
+            ShowReportedIssueUser dialog = new ShowIssueAdmin(mainFrame);
+            dialog.pack();
+            dialog.setLocationRelativeTo(mainFrame);
+            dialog.setVisible(true);
+        });
 
         return null;
     }
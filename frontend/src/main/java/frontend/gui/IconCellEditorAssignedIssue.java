@@ -1,6 +1,7 @@
 package frontend.gui;
 
 import frontend.controller.IssueController;
+import frontend.dto.IssueDTO;
 
 import javax.swing.*;
 
@@ -49,16 +50,23 @@ public class IconCellEditorAssignedIssue extends IconCellEditorReportedIssueDeve
     @Override
     public Object getCellEditorValue() {
 
-        IssueController.getInstance().setIssue(IssueController.getInstance().getIssueFromIndex(parentTable.getSelectedRow()));
-        boolean success = IssueController.getInstance().getIssueById();
+        IssueDTO selectedIssue = IssueController.getInstance().getIssueFromIndex(parentTable.getSelectedRow());
 
-        if(!success)
+        // The row is still showing the loading placeholder
+        if (selectedIssue == null)
             return null;
 
-        ShowReportedIssueUser dialog = new ShowAssignedIssue(mainFrame);
-        dialog.pack();
-        dialog.setLocationRelativeTo(mainFrame);
-        dialog.setVisible(true);
+        IssueController.getInstance().setIssue(selectedIssue);
+        IssueController.getInstance().getIssueById().thenAccept(success -> {
+
+            if(!success)
+                return;
+
+            ShowReportedIssueUser dialog = new ShowAssignedIssue(mainFrame);
+            dialog.pack();
+            dialog.setLocationRelativeTo(mainFrame);
+            dialog.setVisible(true);
+        });
 
         return null;
     }
@@ -1,6 +1,7 @@
 package frontend.gui;
 
 import frontend.controller.IssueController;
+import frontend.dto.IssueDTO;
 
 import javax.swing.*;
 
@@ -48,17 +49,24 @@ public class IconCellEditorReportedIssueDeveloper extends IconCellEditorReported
     @Override
     public Object getCellEditorValue() {
 
-        IssueController.getInstance().setIssue(IssueController.getInstance().getIssueFromIndex(parentTable.getSelectedRow()));
-        boolean success = IssueController.getInstance().getIssueById();
+        IssueDTO selectedIssue = IssueController.getInstance().getIssueFromIndex(parentTable.getSelectedRow());
 
-        if(!success)
+        // The row is still showing the loading placeholder
+        if (selectedIssue == null)
             return null;
 
-        // Istanzia la dialog specifica per la visualizzazione lato Developer
-        ShowReportedIssueUser dialog = new ShowReportedIssueDeveloper(mainFrame);
-        dialog.pack();
-        dialog.setLocationRelativeTo(mainFrame);
-        dialog.setVisible(true);
+        IssueController.getInstance().setIssue(selectedIssue);
+        IssueController.getInstance().getIssueById().thenAccept(success -> {
+
+            if(!success)
+                return;
+
+            // Istanzia la dialog specifica per la visualizzazione lato Developer
+            ShowReportedIssueUser dialog = new ShowReportedIssueDeveloper(mainFrame);
+            dialog.pack();
+            dialog.setLocationRelativeTo(mainFrame);
+            dialog.setVisible(true);
+        });
 
         return null;
     }
@@ -1,43 +1,66 @@
 package frontend.gui;
 
+import frontend.controller.IssueController;
+import frontend.dto.IssueDTO;
+
 import javax.swing.table.AbstractTableModel;
 
 /**
  * Modello dati per la tabella delle segnalazioni (Issue).
  * <p>
- * Questa classe estende {@link AbstractTableModel} e funge da ponte tra i dati grezzi (una matrice bidimensionale)
- * e il componente grafico {@link javax.swing.JTable}.
+ * Questa classe estende {@link AbstractTableModel} e funge da ponte tra i risultati dell'ultima ricerca,
+ * mantenuti dall'{@link IssueController}, e il componente grafico {@link javax.swing.JTable}.
  * Definisce la struttura della tabella (nomi e tipi delle colonne) e gestisce l'accessibilità delle celle
  * (quali sono modificabili/cliccabili).
  * </p>
+ * <p>
+ * Le righe non vengono copiate nel modello: la JTable chiede i valori delle sole righe visibili nel viewport,
+ * e il modello li legge dalle pagine in memoria nel controller. Se la pagina di una riga è stata scartata,
+ * la cella mostra un segnaposto finché la pagina non viene scaricata di nuovo; quando vengono mostrate
+ * le ultime righe ricevute, viene richiesta la pagina successiva dei risultati.
+ * </p>
  */
 public class IssueTableModel extends AbstractTableModel {
 
+    /**
+     * Testo mostrato al posto del titolo di una issue la cui pagina è in caricamento.
+     */
+    private static final String LOADING_PLACEHOLDER = "Caricamento...";
+
+    /**
+     * Numero di righe dalla fine dei risultati ricevuti entro cui, se visibili, viene richiesta la pagina successiva.
+     */
+    private static final int NEXT_PAGE_THRESHOLD = 50;
+
     /**
      * Array contenente le intestazioni delle colonne.
      */
     protected String[] columnNames;
 
     /**
-     * Matrice bidimensionale contenente i dati effettivi da visualizzare.
+     * Numero di righe attualmente esposte alla tabella.
      * <p>
-     * Ogni riga rappresenta una Issue, ogni colonna un attributo o un'azione.
+     * Cresce solo notificando la JTable con {@link #fireTableRowsInserted(int, int)}, quando arriva una nuova pagina.
      * </p>
      */
-    protected final Object[][] data;
+    private int rowCount;
+
+    /**
+     * Indica se è già in corso il caricamento della pagina successiva: le righe dipinte nel frattempo
+     * non devono richiederla di nuovo.
+     */
+    private boolean loadingNextPage = false;
 
     /**
      * Costruttore del modello.
      * <p>
-     * Inizializza i nomi delle colonne e memorizza i dati passati dal controller.
+     * Inizializza i nomi delle colonne ed espone le issue già ricevute dall'ultima ricerca.
      * </p>
-     *
-     * @param data La matrice di oggetti che popolerà la tabella (es. {Titolo, Icona}).
      */
-    public IssueTableModel(Object[][] data) {
+    public IssueTableModel() {
 
         setColumnNames();
-        this.data = data;
+        this.rowCount = IssueController.getInstance().getLoadedIssuesCount();
     }
 
     /**
@@ -64,11 +87,11 @@ public class IssueTableModel extends AbstractTableModel {
     }
 
     /**
-     * Restituisce il numero totale di righe (numero di issue).
+     * Restituisce il numero di righe (numero di issue ricevute finora).
      */
     @Override
     public int getRowCount() {
-        return data.length;
+        return rowCount;
     }
 
     /**
@@ -82,10 +105,56 @@ public class IssueTableModel extends AbstractTableModel {
 
     /**
      * Restituisce il valore contenuto nella cella specificata.
+     * <p>
+     * La colonna 0 contiene il titolo della issue, oppure un segnaposto se la sua pagina non è in memoria:
+     * in quel caso la pagina viene richiesta e la riga ridisegnata al suo arrivo.
+     * La colonna 1 contiene un valore fittizio, sostituito graficamente dall'icona.
+     * </p>
      */
     @Override
     public Object getValueAt(int rowIndex, int columnIndex) {
-        return data[rowIndex][columnIndex];
+
+        if (rowIndex >= rowCount - NEXT_PAGE_THRESHOLD)
+            loadNextPage();
+
+        if (columnIndex == 1)
+            return "View";
+
+        IssueDTO issue = IssueController.getInstance().getIssueFromIndex(rowIndex);
+
+        if (issue != null)
+            return issue.getTitle();
+
+        IssueController.getInstance().loadIssuesPageOf(rowIndex).thenAccept(loaded -> {
+
+            if (Boolean.TRUE.equals(loaded) && rowIndex < rowCount)
+                fireTableRowsUpdated(rowIndex, rowIndex);
+        });
+
+        return LOADING_PLACEHOLDER;
+    }
+
+    /**
+     * Richiede la pagina successiva dei risultati e, al suo arrivo, accoda le nuove righe alla tabella.
+     */
+    private void loadNextPage() {
+
+        if (loadingNextPage || !IssueController.getInstance().hasNextIssuesPage())
+            return;
+
+        loadingNextPage = true;
+
+        IssueController.getInstance().loadNextIssuesPage().whenComplete((added, error) -> {
+
+            loadingNextPage = false;
+
+            int firstRow = rowCount;
+
+            rowCount = IssueController.getInstance().getLoadedIssuesCount();
+
+            if (rowCount > firstRow)
+                fireTableRowsInserted(firstRow, rowCount - 1);
+        });
     }
 
     /**
@@ -119,4 +188,4 @@ public class IssueTableModel extends AbstractTableModel {
     public boolean isCellEditable(int rowIndex, int columnIndex) {
         return columnIndex == 1;
     }
-}
\ No newline at end of file
+}
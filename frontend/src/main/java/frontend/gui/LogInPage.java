@@ -355,15 +355,16 @@ public class LogInPage extends JFrame {
             return;
         }
 
-        boolean success = AuthController.getInstance().login(email, password);
+        AuthController.getInstance().login(email, password).thenAccept(success -> {
 
-        if (success) {
-            HomePage homePage = new HomePage();
-            homePage.getMainFrame().setExtendedState(Frame.MAXIMIZED_BOTH); // Apre la home a schermo intero
-            this.dispose();
-        } else {
-            JOptionPane.showMessageDialog(this, "Credenziali non valide o errore di connessione.", "Errore Login", JOptionPane.ERROR_MESSAGE);
-        }
+            if (success) {
+                HomePage homePage = new HomePage();
+                homePage.getMainFrame().setExtendedState(Frame.MAXIMIZED_BOTH); // Apre la home a schermo intero
+                this.dispose();
+            } else {
+                JOptionPane.showMessageDialog(this, "Credenziali non valide o errore di connessione.", "Errore Login", JOptionPane.ERROR_MESSAGE);
+            }
+        });
     }
 
     /**
@@ -371,6 +372,7 @@ public class LogInPage extends JFrame {
      * <p>
      * Configura il Look and Feel (FlatLaf), imposta un gestore globale per le eccezioni non catturate
      * (filtrando gli errori di richiesta attesi) e avvia l'interfaccia grafica nel thread AWT.
+     * Nel frattempo carica in background le icone SVG dei pulsanti tramite {@link IconCache}.
      * </p>
      *
      * @param args Argomenti da riga di comando (non utilizzati).
@@ -378,6 +380,17 @@ public class LogInPage extends JFrame {
     public static void main(String[] args) {
 
         setFlatLaf();
+
+        IconCache.preload(
+                "/frontend/gui/images/menuIcon.svg",
+                "/frontend/gui/images/logOutButtonIcon.svg",
+                "/frontend/gui/images/searchButton.svg",
+                "/frontend/gui/images/backIconButton.svg",
+                "/frontend/gui/images/tagsButton.svg",
+                "/frontend/gui/images/imageButton.svg",
+                "/frontend/gui/images/addButtonIcon.svg",
+                "/frontend/gui/images/fileChooserIcon.svg");
+
         final Logger logger = Logger.getLogger(LogInPage.class.getName());
 
         // Gestore globale per le eccezioni non catturate
@@ -391,6 +404,12 @@ public class LogInPage extends JFrame {
             logger.log(Level.SEVERE, throwable.getMessage());
         });
 
-        SwingUtilities.invokeLater(() -> new LogInPage().setVisible(true));
+        SwingUtilities.invokeLater(() -> {
+
+            // Mostra il cursore di attesa mentre le richieste al backend sono in corso
+            PendingRequestsCursor.install();
+
+            new LogInPage().setVisible(true);
+        });
     }
 }
\ No newline at end of file
@@ -184,14 +184,15 @@ public class ManageMembersDialog extends JDialog {
         String text = searchTextField.getText();
         String userMail = text.equals(PLACEHOLDER) ? "" : text;
 
-        boolean success = UserController.getInstance().searchDevOrAdminByEmailAndTeam(userMail);
+        UserController.getInstance().searchDevOrAdminByEmailAndTeam(userMail).thenAccept(success -> {
 
-        if(!success)
-            return;
+            if(!success)
+                return;
 
-        ArrayList<String> emails = (ArrayList<String>) UserController.getInstance().getUsersEmails();
+            ArrayList<String> emails = (ArrayList<String>) UserController.getInstance().getUsersEmails();
 
-        updateTable(emails);
+            updateTable(emails);
+        });
     }
 
     /**
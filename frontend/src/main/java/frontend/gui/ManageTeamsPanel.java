@@ -203,15 +203,16 @@ public class ManageTeamsPanel extends RoundedPanel {
         String text = searchTextField.getText();
         String teamName = text.equals(PLACEHOLDER) ? "" : text;
 
-        boolean success = TeamController.getInstance().searchTeamsByNameAndProject(teamName);
+        TeamController.getInstance().searchTeamsByNameAndProject(teamName).thenAccept(success -> {
 
-        if(!success)
-            return;
+            if(!success)
+                return;
 
-        ArrayList<Integer> ids = (ArrayList<Integer>) TeamController.getInstance().getTeamsIds();
-        ArrayList<String> names = (ArrayList<String>) TeamController.getInstance().getTeamsNames();
+            ArrayList<Integer> ids = (ArrayList<Integer>) TeamController.getInstance().getTeamsIds();
+            ArrayList<String> names = (ArrayList<String>) TeamController.getInstance().getTeamsNames();
 
-        updateTable(ids, names);
+            updateTable(ids, names);
+        });
 
     }
 
@@ -0,0 +1,49 @@
+package frontend.gui;
+
+import frontend.controller.ApiClient;
+
+import java.awt.*;
+
+/**
+ * Classe di utilità che segnala all'utente le richieste al backend in corso.
+ * <p>
+ * Le richieste sono asincrone, quindi l'interfaccia resta utilizzabile mentre si attende la risposta:
+ * finché almeno una richiesta è in corso, tutte le finestre mostrano il cursore di attesa,
+ * che torna normale quando l'ultima risposta è arrivata.
+ * I componenti con un cursore proprio (es. i pulsanti con il cursore a mano) mantengono il loro.
+ * </p>
+ */
+public class PendingRequestsCursor {
+
+    /**
+     * Costruttore privato.
+     */
+    private PendingRequestsCursor() {
+
+    }
+
+    /**
+     * Collega il cursore delle finestre al numero di richieste in corso dell'{@link ApiClient}.
+     * <p>
+     * Va invocato una sola volta all'avvio dell'applicazione.
+     * </p>
+     */
+    public static void install() {
+
+        ApiClient.getInstance().addPendingRequestsListener(event -> {
+
+            boolean wasBusy = (int) event.getOldValue() > 0;
+            boolean isBusy = (int) event.getNewValue() > 0;
+
+            if (wasBusy == isBusy)
+                return;
+
+            Cursor cursor = isBusy ? Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR) : Cursor.getDefaultCursor();
+
+            for (Window window : Window.getWindows())
+                if (window.isDisplayable())
+                    window.setCursor(cursor);
+        });
+    }
+
+}
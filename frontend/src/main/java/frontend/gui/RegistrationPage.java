@@ -340,16 +340,17 @@ public class RegistrationPage extends JFrame {
         }
 
         // Il parametro '0' indica la creazione di un utente standard (USER)
-        boolean success = AuthController.getInstance().registration(email, password, 0);
+        AuthController.getInstance().registration(email, password, 0).thenAccept(success -> {
 
-        if (success) {
-            JOptionPane.showMessageDialog(this, "Registrazione avvenuta con successo!\nOra verrai reindirizzato alla pagina di login.", "Benvenuto", JOptionPane.INFORMATION_MESSAGE);
+            if (success) {
+                JOptionPane.showMessageDialog(this, "Registrazione avvenuta con successo!\nOra verrai reindirizzato alla pagina di login.", "Benvenuto", JOptionPane.INFORMATION_MESSAGE);
 
-            LogInPage logInPage = new  LogInPage();
-            logInPage.setVisible(true);
-            this.dispose();
-        }else{
-            JOptionPane.showMessageDialog(this, "Credenziali già in uso / non valide o errore di connessione.", "Errore Registrazione", JOptionPane.ERROR_MESSAGE);
-        }
+                LogInPage logInPage = new  LogInPage();
+                logInPage.setVisible(true);
+                this.dispose();
+            }else{
+                JOptionPane.showMessageDialog(this, "Credenziali già in uso / non valide o errore di connessione.", "Errore Registrazione", JOptionPane.ERROR_MESSAGE);
+            }
+        });
     }
 }
\ No newline at end of file
@@ -91,13 +91,14 @@ public class ReportIssueDeveloper extends ReportIssueUser {
         // Gestione specifica della priorità
         issue.setPriority(IssueController.getInstance().priorityStringToInt(Objects.requireNonNull(priorityComboBox.getSelectedItem()).toString()));
 
-        boolean success = IssueController.getInstance().reportIssue(issue, tagsButton.getTags(), fileChooserPanel.getSelectedFile());
+        IssueController.getInstance().reportIssue(issue, tagsButton.getTags(), fileChooserPanel.getSelectedFile()).thenAccept(success -> {
 
-        if(!success)
-            return;
+            if(!success)
+                return;
 
-        new FloatingMessage("Issue reportata con successo", reportButton, FloatingMessage.SUCCESS_MESSAGE);
-        homePanelUser.returnToDefaultContentPanel();
+            new FloatingMessage("Issue reportata con successo", reportButton, FloatingMessage.SUCCESS_MESSAGE);
+            homePanelUser.returnToDefaultContentPanel();
+        });
     }
 
     /**
@@ -265,13 +265,14 @@ public class ReportIssueUser extends RoundedPanel{
         // Default Priority per User: MEDIA
         issue.setPriority(IssueController.getInstance().priorityStringToInt("Media"));
 
-        boolean success = IssueController.getInstance().reportIssue(issue, tagsButton.getTags(), fileChooserPanel.getSelectedFile());
+        IssueController.getInstance().reportIssue(issue, tagsButton.getTags(), fileChooserPanel.getSelectedFile()).thenAccept(success -> {
 
-        if(!success)
-            return;
+            if(!success)
+                return;
 
-        new FloatingMessage("Issue reportata con successo", reportButton, FloatingMessage.SUCCESS_MESSAGE);
-        homePanelUser.returnToDefaultContentPanel();
+            new FloatingMessage("Issue reportata con successo", reportButton, FloatingMessage.SUCCESS_MESSAGE);
+            homePanelUser.returnToDefaultContentPanel();
+        });
     }
 
     /**
@@ -120,21 +120,20 @@ public class ReportedIssueSearchPanelDeveloper extends ReportedIssueSearchPanelU
     protected void searchButtonActionListener(JFrame mainFrame) {
 
         // Esegue la ricerca includendo il parametro priorità (passando null se selezionato "Tutte")
-        boolean success = IssueController.getInstance().searchReportedIssues(
+        IssueController.getInstance().searchReportedIssues(
                 (titleTextField.getText().equals(TITLE_PLACEHOLDER) ? "" : titleTextField.getText()),
                 formatIssueStatus(Objects.requireNonNull(statusComboBox.getSelectedItem())),
                 tagsButton.getTags(),
                 formatIssueType(Objects.requireNonNull(typeComboBox.getSelectedItem())),
-                (Objects.equals(priorityComboBox.getSelectedItem(), ALL_PLACEHOLDER)) ? null : (String)priorityComboBox.getSelectedItem()
-        );
+                (Objects.equals(priorityComboBox.getSelectedItem(), ALL_PLACEHOLDER)) ? null : (String)priorityComboBox.getSelectedItem(),
+                Objects.equals(orderComboBox.getSelectedItem(), "Crescente")
+        ).thenAccept(success -> {
 
-        if (Objects.equals(orderComboBox.getSelectedItem(), "Crescente"))
-            IssueController.getInstance().reOrderIssues();
+            if(!success)
+                return;
 
-        if(!success)
-            return;
-
-        // Visualizza i risultati usando il pannello specifico per sviluppatori
-        new ReportedIssueSearchResultsPanelDeveloper(mainFrame, searchPage, IssueController.getInstance().getIssuesTitles());
+            // Visualizza i risultati usando il pannello specifico per sviluppatori
+            new ReportedIssueSearchResultsPanelDeveloper(mainFrame, searchPage);
+        });
     }
 }
\ No newline at end of file
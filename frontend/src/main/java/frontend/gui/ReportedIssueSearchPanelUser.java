@@ -177,18 +177,20 @@ public class ReportedIssueSearchPanelUser extends RoundedPanel{
      */
     protected void searchButtonActionListener(JFrame mainFrame) {
 
-        boolean success = IssueController.getInstance().searchReportedIssues(
+        IssueController.getInstance().searchReportedIssues(
                 (titleTextField.getText().equals(TITLE_PLACEHOLDER) ? "" : titleTextField.getText()),
                 formatIssueStatus(Objects.requireNonNull(statusComboBox.getSelectedItem())),
                 tagsButton.getTags(),
                 formatIssueType(Objects.requireNonNull(typeComboBox.getSelectedItem())),
-                null // Priorità è null per l'utente base
-        );
+                null, // Priorità è null per l'utente base
+                false
+        ).thenAccept(success -> {
 
-        if(!success)
-            return;
+            if(!success)
+                return;
 
-        new ReportedIssueSearchResultsPanelUser(mainFrame, searchPage, IssueController.getInstance().getIssuesTitles());
+            new ReportedIssueSearchResultsPanelUser(mainFrame, searchPage);
+        });
     }
 
     /**
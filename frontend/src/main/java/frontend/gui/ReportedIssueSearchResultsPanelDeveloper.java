@@ -3,7 +3,6 @@ package frontend.gui;
 import javax.swing.*;
 import javax.swing.table.JTableHeader;
 import javax.swing.table.TableColumn;
-import java.util.List;
 
 /**
  * Pannello per la visualizzazione dei risultati di ricerca (segnalazioni) per gli Sviluppatori.
@@ -23,13 +22,12 @@ public class ReportedIssueSearchResultsPanelDeveloper extends ReportedIssueSearc
      * Passa i parametri alla superclasse per l'inizializzazione standard.
      * </p>
      *
-     * @param mainFrame    Il frame principale dell'applicazione.
-     * @param searchPage   La pagina di ricerca padre (per la navigazione indietro).
-     * @param issuesTitles La lista dei titoli delle issue trovate da visualizzare.
+     * @param mainFrame  Il frame principale dell'applicazione.
+     * @param searchPage La pagina di ricerca padre (per la navigazione indietro).
      */
-    public ReportedIssueSearchResultsPanelDeveloper(JFrame mainFrame, SearchReportedIssuePageUser searchPage, List<String> issuesTitles) {
+    public ReportedIssueSearchResultsPanelDeveloper(JFrame mainFrame, SearchReportedIssuePageUser searchPage) {
 
-        super(mainFrame, searchPage, issuesTitles);
+        super(mainFrame, searchPage);
     }
 
     /**
@@ -38,30 +36,29 @@ public class ReportedIssueSearchResultsPanelDeveloper extends ReportedIssueSearc
      * Configura la JTable con le seguenti caratteristiche:
      * </p>
      * <ul>
-     * <li>Utilizza il renderer grafico standard (icona "showIssueIconButton").</li>
+     * <li>Utilizza il renderer grafico condiviso (icona "showIssueIconButton").</li>
      * <li><b>Differenza Chiave:</b> Imposta {@link IconCellEditorReportedIssueDeveloper} come editor della cella.
      * Questo garantisce che al click venga aperta la vista di dettaglio per sviluppatori/admin
      * invece di quella in sola lettura per utenti.</li>
      * <li>Imposta l'altezza delle righe e lo stile dell'header (non ridimensionabile, colore specifico).</li>
      * </ul>
      *
-     * @param mainFrame    Il frame principale.
-     * @param issuesTitles La lista dei titoli per popolare il modello dati.
+     * @param mainFrame Il frame principale.
      * @return La {@link JTable} configurata.
      */
     @Override
-    protected JTable createTable(JFrame mainFrame, List<String> issuesTitles) {
+    protected JTable createTable(JFrame mainFrame) {
 
-        JTable resultsTable = new JTable(createTableModel(issuesTitles));
+        JTable resultsTable = new JTable(createTableModel());
 
         // Configurazione della colonna azioni (Indice 1)
         TableColumn buttonColumn = resultsTable.getColumnModel().getColumn(1);
 
         // Renderer: Disegna l'icona (Aspetto visivo uguale all'utente)
-        buttonColumn.setCellRenderer(new IconCellRenderer("/frontend/gui/images/showIssueIconButton.png", ICON_WIDTH, ICON_HEIGHT));
+        buttonColumn.setCellRenderer(getShowIssueRenderer());
 
         // Editor: Gestisce il click (Comportamento specifico per Developer)
-        buttonColumn.setCellEditor(new IconCellEditorReportedIssueDeveloper(mainFrame, "/frontend/gui/images/showIssueIconButton.png", ICON_WIDTH, ICON_HEIGHT, resultsTable));
+        buttonColumn.setCellEditor(new IconCellEditorReportedIssueDeveloper(mainFrame, SHOW_ISSUE_ICON, ICON_WIDTH, ICON_HEIGHT, resultsTable));
 
         resultsTable.setRowHeight(ICON_HEIGHT + 4);
 
@@ -5,18 +5,17 @@ import frontend.controller.IssueController;
 import javax.swing.*;
 import javax.swing.table.JTableHeader;
 import javax.swing.table.TableColumn;
-import java.util.List;
 
 /**
  * Gestore per la visualizzazione dei risultati della ricerca issue (Lato Utente).
  * <p>
  * Questa classe ha la responsabilità di costruire e configurare la {@link JTable} contenente
  * i risultati della ricerca.
- * Il suo compito principale è associare ai dati grezzi (titoli delle issue) i componenti grafici corretti:
+ * Il suo compito principale è associare ai risultati (titoli delle issue) i componenti grafici corretti:
  * </p>
  * <ul>
- * <li>Il {@link IssueTableModel} per strutturare i dati.</li>
- * <li>Il {@link IconCellRenderer} per visualizzare l'icona "Vedi Dettagli".</li>
+ * <li>Il {@link IssueTableModel} per strutturare i dati e caricarli a pagine durante lo scorrimento.</li>
+ * <li>Il {@link IconCellRenderer} condiviso per visualizzare l'icona "Vedi Dettagli".</li>
  * <li>Il {@link IconCellEditorReportedIssueUser} per gestire il click e aprire la vista di dettaglio utente.</li>
  * </ul>
  * <p>
@@ -29,21 +28,51 @@ public class ReportedIssueSearchResultsPanelUser {
     protected static final int ICON_WIDTH = 20;
     protected static final int ICON_HEIGHT = 20;
 
+    /**
+     * Percorso dell'icona "Vedi Issue" mostrata nella colonna delle azioni.
+     */
+    protected static final String SHOW_ISSUE_ICON = "/frontend/gui/images/showIssueIconButton.png";
+
+    /**
+     * Renderer della colonna delle azioni, condiviso da tutte le tabelle dei risultati.
+     * <p>
+     * Un renderer è solo un "timbro" che la JTable usa per dipingere una cella alla volta nel thread grafico,
+     * quindi una sola istanza basta per ogni riga di ogni tabella: l'icona viene caricata una volta sola
+     * invece che a ogni ricerca.
+     * </p>
+     */
+    private static IconCellRenderer showIssueRenderer;
+
     /**
      * Costruttore principale.
      * <p>
      * Al momento dell'istanziazione, genera la tabella dei risultati invocando {@link #createTable}
      * e aggiorna immediatamente la vista nella pagina di ricerca padre tramite
      * {@code searchPage.updateSearchIssueViewResults()}.
+     * Le pagine successive dei risultati vengono caricate dal modello della tabella durante lo scorrimento.
      * </p>
      *
-     * @param mainFrame    Il frame principale dell'applicazione.
-     * @param searchPage   La pagina di ricerca che ospiterà la tabella.
-     * @param issuesTitles La lista dei titoli delle issue trovate.
+     * @param mainFrame  Il frame principale dell'applicazione.
+     * @param searchPage La pagina di ricerca che ospiterà la tabella.
+     */
+    public ReportedIssueSearchResultsPanelUser(JFrame mainFrame, SearchReportedIssuePageUser searchPage) {
+
+        JTable resultsTable = createTable(mainFrame);
+
+        searchPage.updateSearchIssueViewResults(resultsTable);
+    }
+
+    /**
+     * Restituisce il renderer condiviso della colonna delle azioni, creandolo al primo utilizzo.
+     *
+     * @return Il renderer che disegna l'icona "Vedi Issue".
      */
-    public ReportedIssueSearchResultsPanelUser(JFrame mainFrame, SearchReportedIssuePageUser searchPage, List<String> issuesTitles) {
+    protected static IconCellRenderer getShowIssueRenderer() {
 
-        searchPage.updateSearchIssueViewResults(createTable(mainFrame, issuesTitles));
+        if (showIssueRenderer == null)
+            showIssueRenderer = new IconCellRenderer(SHOW_ISSUE_ICON, ICON_WIDTH, ICON_HEIGHT);
+
+        return showIssueRenderer;
     }
 
     /**
@@ -61,18 +90,17 @@ public class ReportedIssueSearchResultsPanelUser {
      * 3. Configura l'aspetto grafico (altezza righe, stile header).
      * </p>
      *
-     * @param mainFrame    Il frame principale.
-     * @param issuesTitles La lista dei dati da visualizzare.
+     * @param mainFrame Il frame principale.
      * @return La tabella configurata pronta per essere mostrata.
      */
-    protected JTable createTable(JFrame mainFrame, List<String> issuesTitles) {
+    protected JTable createTable(JFrame mainFrame) {
 
-        JTable resultsTable = new JTable(createTableModel(issuesTitles));
+        JTable resultsTable = new JTable(createTableModel());
 
         TableColumn buttonColumn = resultsTable.getColumnModel().getColumn(1);
 
-        buttonColumn.setCellRenderer(new IconCellRenderer("/frontend/gui/images/showIssueIconButton.png", ICON_WIDTH, ICON_HEIGHT));
-        buttonColumn.setCellEditor(new IconCellEditorReportedIssueUser(mainFrame, "/frontend/gui/images/showIssueIconButton.png", ICON_WIDTH, ICON_HEIGHT, resultsTable));
+        buttonColumn.setCellRenderer(getShowIssueRenderer());
+        buttonColumn.setCellEditor(new IconCellEditorReportedIssueUser(mainFrame, SHOW_ISSUE_ICON, ICON_WIDTH, ICON_HEIGHT, resultsTable));
 
         resultsTable.setRowHeight(ICON_HEIGHT + 4);
 
@@ -88,31 +116,17 @@ public class ReportedIssueSearchResultsPanelUser {
     /**
      * Genera il modello dati per la tabella.
      * <p>
-     * Converte la lista di stringhe (titoli) in una matrice bidimensionale di oggetti
-     * compatibile con {@link IssueTableModel}.
-     * <br>
-     * Struttura:
+     * Il modello legge le righe dai risultati dell'ultima ricerca mantenuti dall'{@link IssueController}:
      * </p>
      * <ul>
      * <li>Colonna 0: Titolo della issue (dal database).</li>
      * <li>Colonna 1: Stringa "View" (placeholder per il pulsante).</li>
      * </ul>
      *
-     * @param issueTitles Lista dei titoli delle issue.
-     * @return Il modello dati popolato.
+     * @return Il modello dati.
      */
-    protected IssueTableModel createTableModel(List<String> issueTitles) {
-
-        int numRows = issueTitles.size();
-        Object[][] rowData = new Object[numRows][2];
-
-        for (int i = 0; i < numRows; i++) {
-
-            rowData[i][0] = issueTitles.get(i);
-            rowData[i][1] = "View"; // Valore fittizio, verrà sovrascritto graficamente dall'icona
-        }
-
+    protected IssueTableModel createTableModel() {
 
-        return new IssueTableModel(rowData);
+        return new IssueTableModel();
     }
-}
\ No newline at end of file
+}
@@ -57,13 +57,14 @@ public class SearchProjectsButtonAdmin extends SearchProjectsButtonDeveloper {
     protected void search(JFrame mainFrame, HomePanelUser homePanel,  JTextField searchTextField, String placeholder) {
 
         // Esegue la ricerca tramite il controller
-        boolean success = ProjectController.getInstance().searchProjectsByName((searchTextField.getText().equals(placeholder) ?
-                "" : searchTextField.getText()));
+        ProjectController.getInstance().searchProjectsByName((searchTextField.getText().equals(placeholder) ?
+                "" : searchTextField.getText())).thenAccept(success -> {
 
-        if(!success)
-            return;
+            if(!success)
+                return;
 
-        // Visualizza i risultati usando il gestore specifico per Admin
-        new SearchProjectResultsAdmin(mainFrame, homePanel, ProjectController.getInstance().getProjectsIds(), ProjectController.getInstance().getProjectsNames());
+            // Visualizza i risultati usando il gestore specifico per Admin
+            new SearchProjectResultsAdmin(mainFrame, homePanel, ProjectController.getInstance().getProjectsIds(), ProjectController.getInstance().getProjectsNames());
+        });
     }
 }
\ No newline at end of file
@@ -54,13 +54,14 @@ public class SearchProjectsButtonDeveloper extends SearchProjectsButtonUser {
     protected void search(JFrame mainFrame, HomePanelUser homePanel,  JTextField searchTextField, String placeholder) {
 
         // Esegue la query al controller
-        boolean success = ProjectController.getInstance().searchProjectsByName((searchTextField.getText().equals(placeholder) ?
-                "" : searchTextField.getText()));
+        ProjectController.getInstance().searchProjectsByName((searchTextField.getText().equals(placeholder) ?
+                "" : searchTextField.getText())).thenAccept(success -> {
 
-        if(!success)
-            return;
+            if(!success)
+                return;
 
-        // Visualizza i risultati usando il gestore specifico per Developer (che include la colonna "Assigned")
-        new SearchProjectResultsDeveloper(mainFrame, homePanel, ProjectController.getInstance().getProjectsIds(), ProjectController.getInstance().getProjectsNames());
+            // Visualizza i risultati usando il gestore specifico per Developer (che include la colonna "Assigned")
+            new SearchProjectResultsDeveloper(mainFrame, homePanel, ProjectController.getInstance().getProjectsIds(), ProjectController.getInstance().getProjectsNames());
+        });
     }
 }
\ No newline at end of file
@@ -93,13 +93,14 @@ public class SearchProjectsButtonUser extends IconButton {
     protected void search(JFrame mainFrame, HomePanelUser homePanel,  JTextField searchTextField, String placeholder) {
 
         // Se il testo è il placeholder, cerca stringa vuota (""), altrimenti cerca il testo inserito
-        boolean success = ProjectController.getInstance().searchProjectsByName((searchTextField.getText().equals(placeholder) ?
-                "" : searchTextField.getText()));
+        ProjectController.getInstance().searchProjectsByName((searchTextField.getText().equals(placeholder) ?
+                "" : searchTextField.getText())).thenAccept(success -> {
 
-        if(!success)
-            return;
+            if(!success)
+                return;
 
-        // Visualizza i risultati usando il gestore base per User
-        new SearchProjectResultsUser(mainFrame, homePanel, ProjectController.getInstance().getProjectsIds(), ProjectController.getInstance().getProjectsNames());
+            // Visualizza i risultati usando il gestore base per User
+            new SearchProjectResultsUser(mainFrame, homePanel, ProjectController.getInstance().getProjectsIds(), ProjectController.getInstance().getProjectsNames());
+        });
     }
 }
\ No newline at end of file
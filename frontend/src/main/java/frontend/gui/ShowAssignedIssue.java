@@ -92,14 +92,15 @@ public class ShowAssignedIssue extends ShowReportedIssueDeveloper {
      */
     private void resolve() {
 
-        boolean success = IssueController.getInstance().setIssueAsResolved();
+        IssueController.getInstance().setIssueAsResolved().thenAccept(success -> {
 
-        if(!success)
-            return;
+            if(!success)
+                return;
 
-        statusLabel.setText("Stato: risolta");
-        resolutionDateLabel.setText("Risoluzione: " + LocalDate.now().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")));
-        new FloatingMessage("Segnalazione avvenuta con successo", resolveButton, FloatingMessage.SUCCESS_MESSAGE);
-        tmpPanel.setVisible(false);
+            statusLabel.setText("Stato: risolta");
+            resolutionDateLabel.setText("Risoluzione: " + LocalDate.now().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")));
+            new FloatingMessage("Segnalazione avvenuta con successo", resolveButton, FloatingMessage.SUCCESS_MESSAGE);
+            tmpPanel.setVisible(false);
+        });
     }
 }
\ No newline at end of file
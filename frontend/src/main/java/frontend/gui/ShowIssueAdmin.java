@@ -7,6 +7,7 @@ import javax.swing.*;
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Vista di dettaglio di un'issue specifica per il ruolo Amministratore.
@@ -92,7 +93,7 @@ public class ShowIssueAdmin extends ShowReportedIssueDeveloper {
 
         searchButton = new IconButton("/frontend/gui/images/searchButton.svg", 32, 32);
 
-        searchButton.addActionListener(e -> showPopupMenu(search()));
+        searchButton.addActionListener(e -> search().thenAccept(this::showPopupMenu));
 
         Constraints.setConstraints(0, 0, 1, 1, GridBagConstraints.NONE,
                 0, 0, GridBagConstraints.LINE_END, new Insets(5, 5, 5, 0));
@@ -106,17 +107,18 @@ public class ShowIssueAdmin extends ShowReportedIssueDeveloper {
      * corrente e la cui email corrisponde al testo inserito.
      * </p>
      *
-     * @return Una lista di stringhe contenente le email trovate.
+     * @return Il future della lista di stringhe contenente le email trovate.
      */
-    private List<String> search() {
+    private CompletableFuture<List<String>> search() {
 
-        boolean success = UserController.getInstance().searchDevOrAdminByEmailAndProject((searchField.getText().equals(SEARCHFIELD_PLACEHOLDER) ?
-                "" : searchField.getText()));
+        return UserController.getInstance().searchDevOrAdminByEmailAndProject((searchField.getText().equals(SEARCHFIELD_PLACEHOLDER) ?
+                "" : searchField.getText())).thenApply(success -> {
 
-        if(!success)
-            return new ArrayList<>();
+            if(!success)
+                return new ArrayList<>();
 
-        return UserController.getInstance().getUsersEmails();
+            return UserController.getInstance().getUsersEmails();
+        });
     }
 
     /**
@@ -147,18 +149,19 @@ public class ShowIssueAdmin extends ShowReportedIssueDeveloper {
             item.addActionListener(e -> {
 
                 // Logica di assegnazione effettiva
-                boolean success = IssueController.getInstance().assignIssueToDeveloper(developer);
+                IssueController.getInstance().assignIssueToDeveloper(developer).thenAccept(success -> {
 
-                if(!success)
-                    return;
+                    if(!success)
+                        return;
 
-                // Aggiornamento GUI immediato
-                statusLabel.setText("Stato: assegnata");
-                assignedDeveloperLabel.setText("Developer assegnato: " + developer);
-                new FloatingMessage("Assegnazione avvenuta con successo", searchButton, FloatingMessage.SUCCESS_MESSAGE);
+                    // Aggiornamento GUI immediato
+                    statusLabel.setText("Stato: assegnata");
+                    assignedDeveloperLabel.setText("Developer assegnato: " + developer);
+                    new FloatingMessage("Assegnazione avvenuta con successo", searchButton, FloatingMessage.SUCCESS_MESSAGE);
 
-                // Nasconde il pannello di assegnazione
-                tmpPanel.setVisible(false);
+                    // Nasconde il pannello di assegnazione
+                    tmpPanel.setVisible(false);
+                });
             });
 
             popupMenu.add(item);
@@ -180,7 +183,7 @@ public class ShowIssueAdmin extends ShowReportedIssueDeveloper {
         TextComponentFocusBehaviour.setTextComponentFocusBehaviour(searchField, SEARCHFIELD_PLACEHOLDER);
 
         // Permette di cercare anche premendo invio
-        searchField.addActionListener(e -> showPopupMenu(search()));
+        searchField.addActionListener(e -> search().thenAccept(this::showPopupMenu));
 
         Constraints.setConstraints(1, 0, 1, 1, GridBagConstraints.HORIZONTAL,
                 192, 0, GridBagConstraints.LINE_START, new Insets(5, 0, 5, 5));
@@ -207,16 +207,16 @@ public class ShowReportedIssueUser extends MyDialog {
 
         IconButton imageButton = new IconButton("/frontend/gui/images/imageButton.svg", 32, 32);
 
-        imageButton.addActionListener(e -> {
+        imageButton.addActionListener(e -> IssueController.getInstance().getIssueImageAsFile().thenAccept(imageFile -> {
 
             try {
-                Desktop.getDesktop().open(IssueController.getInstance().getIssueImageAsFile());
+                Desktop.getDesktop().open(imageFile);
             } catch (IOException ex) {
                 new FloatingMessage("Impossibile aprire il file.", imageButton, FloatingMessage.ERROR_MESSAGE);
             } catch (NullPointerException ex) {
                 new FloatingMessage("Nessuna immagine è stata allegata per questa issue", imageButton, FloatingMessage.WARNING_MESSAGE);
             }
-        });
+        }));
 
         Constraints.setConstraints(3, 3, 1, 1, GridBagConstraints.NONE,
                 0, 0, GridBagConstraints.CENTER, 0.1f, 0.1f,
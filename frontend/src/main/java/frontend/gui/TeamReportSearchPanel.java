@@ -136,13 +136,14 @@ public class TeamReportSearchPanel extends RoundedPanel{
                 yearTextField.getText().matches("\\d+")) {
 
             // Tenta di generare il report
-            boolean success = TeamController.getInstance().createReport(Objects.requireNonNull(monthComboBox.getSelectedItem()).toString(), yearTextField.getText());
+            TeamController.getInstance().createReport(Objects.requireNonNull(monthComboBox.getSelectedItem()).toString(), yearTextField.getText()).thenAccept(success -> {
 
-            if(!success)
-                return;
+                if(!success)
+                    return;
 
-            // Se successo, visualizza i risultati
-            new ReportResults(searchPage);
+                // Se successo, visualizza i risultati
+                new ReportResults(searchPage);
+            });
         } else
             // Errore di validazione input
             new FloatingMessage("L'anno inserito non è valido", searchButton, FloatingMessage.ERROR_MESSAGE);